@@ -0,0 +1,25 @@
+package com.sesac.fmmall.Config;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * IDENTITY 대신 {@link IdBlockAllocator} 로 ID 를 미리 받아오는 식별자 어노테이션
+ * - INSERT 전에 ID 가 정해지므로 Hibernate JDBC 배치 INSERT 가 가능해진다.
+ * - table / column 은 처음 블록을 만들 때 기존 데이터의 MAX(id) 를 읽어오는 데 사용
+ */
+@IdGeneratorType(BlockIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface BlockId {
+
+    // ID 를 발급받을 테이블 이름 (id_block 의 block_name 으로도 사용)
+    String table();
+
+    // 해당 테이블의 PK 컬럼 이름
+    String column();
+}
@@ -0,0 +1,34 @@
+package com.sesac.fmmall.Config;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.resource.beans.spi.ManagedBean;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+
+import java.lang.reflect.Member;
+
+/**
+ * {@link BlockId} 가 붙은 엔티티의 ID 를 만드는 Hibernate 생성기
+ * - Hibernate 가 직접 생성하는 객체라 생성자 주입은 안 되고, Hibernate 의 ManagedBeanRegistry 로 IdBlockAllocator 빈을 꺼낸다.
+ *   (스프링 부트가 Hibernate 빈 컨테이너로 SpringBeanContainer 를 등록하므로, 이 EntityManagerFactory 를 만든 컨텍스트의 빈)
+ */
+public class BlockIdGenerator implements IdentifierGenerator {
+
+    private final String table;
+    private final String column;
+    private final ManagedBean<IdBlockAllocator> allocator;
+
+    public BlockIdGenerator(BlockId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.table = config.table();
+        this.column = config.column();
+        this.allocator = context.getServiceRegistry()
+                .getService(ManagedBeanRegistry.class)
+                .getBean(IdBlockAllocator.class);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return allocator.getBeanInstance().nextId(table, column);
+    }
+}
@@ -0,0 +1,131 @@
+package com.sesac.fmmall.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문/결제처럼 INSERT 가 많은 엔티티의 ID 를 블록 단위로 예약해서 나눠주는 컴포넌트
+ * - id_block 테이블에서 BLOCK_SIZE 만큼 범위를 한 번에 예약하고, 그 범위 안에서는 DB 를 거치지 않고 발급
+ * - 여러 서버가 떠 있어도 예약은 행 잠금(SELECT ... FOR UPDATE)으로 직렬화되므로 범위가 겹치지 않는다.
+ * - 예약은 전용 커넥션 풀(최대 2개)에서 바로 커밋한다.
+ *   요청 트랜잭션과 같은 풀을 쓰면 풀이 꽉 찼을 때 ID 를 기다리는 스레드끼리 커넥션을 붙잡고 멈출 수 있다.
+ * - 서버가 재시작되면 쓰지 않은 범위는 버려진다. (ID 에 빈 구간이 생길 수 있음)
+ * - 엔티티 ID 는 BlockIdGenerator 가 Hibernate 빈 레지스트리로 이 빈을 받아 쓴다. (컨텍스트마다 자기 빈과 풀을 쓴다)
+ */
+@Component
+public class IdBlockAllocator {
+
+    // hibernate.jdbc.batch_size 와 맞춰서, 주문 한 건의 INSERT 가 블록 하나 안에서 끝나도록
+    public static final int BLOCK_SIZE = 50;
+
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final HikariDataSource blockDataSource;
+    private final Map<String, Range> ranges = new ConcurrentHashMap<>();
+
+    public IdBlockAllocator(DataSourceProperties dataSourceProperties) {
+        this.blockDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        this.blockDataSource.setPoolName("id-block-pool");
+        this.blockDataSource.setMaximumPoolSize(2);
+        this.blockDataSource.setMinimumIdle(0);
+    }
+
+    /**
+     * table 의 다음 ID 를 반환한다.
+     * 현재 범위를 다 쓰면 그 테이블에 대해서만 새 블록을 예약한다.
+     */
+    public int nextId(String table, String column) {
+        Range range = ranges.computeIfAbsent(table, key -> new Range());
+
+        synchronized (range) {
+            if (range.next >= range.end) {
+                int start = reserveBlock(table, column);
+                range.next = start;
+                range.end = start + BLOCK_SIZE;
+            }
+            return range.next++;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        blockDataSource.close();
+    }
+
+    // id_block 에서 [next_val, next_val + BLOCK_SIZE) 범위를 예약하고 시작값을 반환
+    private int reserveBlock(String table, String column) {
+        for (int attempt = 1; ; attempt++) {
+            try (Connection conn = blockDataSource.getConnection()) {
+                conn.setAutoCommit(false);
+                try {
+                    Integer start = selectNextValForUpdate(conn, table);
+                    if (start == null) {
+                        // 처음 쓰는 테이블: 기존 IDENTITY 로 들어간 행과 겹치지 않게 MAX(id) + 1 부터 시작
+                        seed(conn, table, column);
+                        start = selectNextValForUpdate(conn, table);
+                    }
+
+                    try (PreparedStatement ps = conn.prepareStatement(
+                            "UPDATE id_block SET next_val = next_val + ? WHERE block_name = ?")) {
+                        ps.setInt(1, BLOCK_SIZE);
+                        ps.setString(2, table);
+                        ps.executeUpdate();
+                    }
+
+                    conn.commit();
+                    return start;
+
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLIntegrityConstraintViolationException | SQLTransactionRollbackException e) {
+                // 다른 서버가 같은 테이블의 첫 블록을 동시에 만든 경우 → 다시 읽으면 된다.
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw new IllegalStateException("ID 블록을 예약하지 못했습니다. table=" + table, e);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("ID 블록을 예약하지 못했습니다. table=" + table, e);
+            }
+        }
+    }
+
+    private Integer selectNextValForUpdate(Connection conn, String table) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT next_val FROM id_block WHERE block_name = ? FOR UPDATE")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : null;
+            }
+        }
+    }
+
+    // table / column 은 엔티티 어노테이션의 상수값만 들어오므로 문자열로 붙여도 안전하다.
+    private void seed(Connection conn, String table, String column) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO id_block (block_name, next_val) "
+                        + "SELECT ?, COALESCE(MAX(" + column + "), 0) + 1 FROM " + table)) {
+            ps.setString(1, table);
+            ps.executeUpdate();
+        }
+    }
+
+    // 한 테이블에 대해 현재 메모리에 들고 있는 ID 범위 [next, end)
+    private static class Range {
+        private int next;
+        private int end;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sesac.fmmall.Config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업(@Scheduled) 사용 - 보관 기간이 지난 Idempotency-Key 정리 등
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,7 @@
+package com.sesac.fmmall.Constant;
+
+public enum CartOperationType {
+    ADD,      // 상품 담기 (productId, quantity) - 이미 담긴 상품이면 수량을 더함
+    UPDATE,   // 수량 변경 (cartItemId, quantity)
+    REMOVE    // 항목 삭제 (cartItemId)
+}
@@ -0,0 +1,8 @@
+package com.sesac.fmmall.Constant;
+
+public enum OrderRequestStatus {
+    PENDING,      // 접수됨 (처리 대기)
+    PROCESSING,   // 워커가 처리 중
+    COMPLETED,    // 주문 생성 완료
+    FAILED        // 주문 생성 실패 (재고 부족 등)
+}
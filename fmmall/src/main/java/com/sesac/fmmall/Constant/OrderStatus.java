@@ -0,0 +1,6 @@
+package com.sesac.fmmall.Constant;
+
+public enum OrderStatus {
+    ORDERED,      // 주문 완료 (결제 완료)
+    CANCELLED     // 주문 취소 (재고 복구됨, 주문/결제 기록은 남긴다)
+}
@@ -0,0 +1,7 @@
+package com.sesac.fmmall.Constant;
+
+public enum ProductSortType {
+    LATEST,       // 최신 등록순 (createdAt DESC, productId DESC)
+    PRICE_ASC,    // 낮은 가격순 (price ASC, productId ASC)
+    PRICE_DESC    // 높은 가격순 (price DESC, productId DESC)
+}
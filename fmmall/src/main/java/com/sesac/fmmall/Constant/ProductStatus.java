@@ -1,8 +1,20 @@
 package com.sesac.fmmall.Constant;
 
+import java.util.List;
+
 public enum ProductStatus {
     ACTIVE,
     ON_SALE,
     DISCOUNT,
-    LOW_STOCK
+    LOW_STOCK,
+    HIDDEN,         // 진열 중지 (검색 / 목록 / 패싯에 노출하지 않음, 상세 조회는 주문 내역 등에서 들어오므로 그대로)
+    DISCONTINUED;   // 단종 (HIDDEN 과 같음)
+
+    // 검색 / 목록 / 패싯에 노출하지 않는 상태 (목록 쿼리의 NOT IN 조건)
+    public static final List<ProductStatus> UNLISTED = List.of(HIDDEN, DISCONTINUED);
+
+    // 상품 검색 / 목록에 노출하는 상태인지
+    public boolean isSearchable() {
+        return !UNLISTED.contains(this);
+    }
 }
@@ -0,0 +1,60 @@
+package com.sesac.fmmall.Controller.AdminController;
+
+import com.sesac.fmmall.DTO.Cache.CacheStatsResponse;
+import com.sesac.fmmall.Service.CatalogCache;
+import com.sesac.fmmall.Service.ProductDetailCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "[관리자] 캐시 관리 API")
+@RestController
+@RequestMapping("/Admin/Cache")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final CatalogCache catalogCache;
+    private final ProductDetailCache productDetailCache;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 캐시 통계 조회", description = "인메모리 캐시의 크기, 적중/미스, 무효화 횟수를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponse>> adminFindCacheStats() {
+        return ResponseEntity.ok(List.of(catalogCache.stats(), productDetailCache.stats()));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 카탈로그 캐시 비우기", description = "카테고리/하위 카테고리/브랜드 목록 캐시를 모두 비웁니다. (DB 를 직접 수정한 경우 등)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "캐시 비우기 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @DeleteMapping("/catalog")
+    public ResponseEntity<Void> adminClearCatalogCache() {
+        catalogCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 상품 상세 캐시 비우기", description = "상품 상세 캐시를 모두 비웁니다. (DB 를 직접 수정한 경우 등)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "캐시 비우기 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @DeleteMapping("/product")
+    public ResponseEntity<Void> adminClearProductCache() {
+        productDetailCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.sesac.fmmall.Controller.AdminController;
+
+import com.sesac.fmmall.DTO.Order.AdminOrderSearchRequest;
+import com.sesac.fmmall.DTO.Order.AdminOrderSliceResponse;
+import com.sesac.fmmall.Service.OrderItemSnapshotBackfill;
+import com.sesac.fmmall.Service.OrderSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "[관리자] 주문 관리 API")
+@RestController
+@RequestMapping("/Admin/Order")
+@RequiredArgsConstructor
+public class AdminOrderController {
+
+    private final OrderSearchService orderSearchService;
+    private final OrderItemSnapshotBackfill orderItemSnapshotBackfill;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 주문 검색",
+            description = "주문일 기간 / 주문자 / 상품 / 수령인 연락처 / 주문 금액 / 송장 등록 여부로 주문을 최신순으로 검색합니다. " +
+                    "다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "주문 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 잘못된 커서, 기간/금액 범위 오류)"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<AdminOrderSliceResponse> adminSearchOrders(@ModelAttribute AdminOrderSearchRequest request) {
+        return ResponseEntity.ok(orderSearchService.search(request));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 주문상품 스냅샷 채우기",
+            description = "상품명 / 단가 / 카테고리 / 브랜드 스냅샷이 비어 있는 옛 주문상품을 현재 상품 정보로 채웁니다. " +
+                    "백그라운드에서 실행되며, 이미 채워진 주문상품은 건너뜁니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "채우기 시작"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "409", description = "이미 채우기가 진행 중")
+    })
+    @PostMapping("/snapshot-backfill")
+    public ResponseEntity<Void> adminBackfillOrderItemSnapshots() {
+        boolean started = orderItemSnapshotBackfill.startBackfill();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).build();
+    }
+}
@@ -2,6 +2,7 @@ package com.sesac.fmmall.Controller.AdminController;
 
 import com.sesac.fmmall.DTO.Product.ProductRequestDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.Service.ProductSearchService;
 import com.sesac.fmmall.Service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminProductController {
 
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
 
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "[관리자] 상품 등록", description = "관리자가 새로운 상품을 등록합니다.")
@@ -61,4 +63,19 @@ public class AdminProductController {
 
         return ResponseEntity.ok().build();
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 상품 검색 색인 재생성",
+            description = "product 테이블 전체로 이 서버의 상품 검색 색인과 목록 패싯을 다시 만듭니다. " +
+                    "백그라운드에서 실행되며, 다 만들 때까지 기존 색인으로 검색합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "재색인 시작"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "409", description = "이미 재색인이 진행 중")
+    })
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Void> adminRebuildSearchIndex() {
+        boolean started = productSearchService.startRebuild();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).build();
+    }
 }
@@ -0,0 +1,123 @@
+package com.sesac.fmmall.Controller.AdminController;
+
+import com.sesac.fmmall.DTO.Sales.SalesDailyResponse;
+import com.sesac.fmmall.DTO.Sales.SalesTotalsResponse;
+import com.sesac.fmmall.Service.SalesReportService;
+import com.sesac.fmmall.Service.SalesRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "[관리자] 매출 통계 API")
+@RestController
+@RequestMapping("/Admin/Sales")
+@RequiredArgsConstructor
+public class AdminSalesController {
+
+    private final SalesReportService salesReportService;
+    private final SalesRollupService salesRollupService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 일별 매출 조회", description = "기간(최대 366일)의 일별 주문/취소/환불 금액과 순매출을 주문일 기준으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일별 매출 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/daily")
+    public ResponseEntity<List<SalesDailyResponse>> adminFindDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(salesReportService.getDailySales(from, to));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 상품 일별 매출 조회", description = "상품 하나의 기간(최대 366일) 일별 매출을 주문일 기준으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 일별 매출 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/product/{productId}/daily")
+    public ResponseEntity<List<SalesDailyResponse>> adminFindProductDailySales(
+            @PathVariable int productId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(salesReportService.getProductDailySales(productId, from, to));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 상품별 매출 순위", description = "기간의 상품별 매출 합계를 순매출 많은 순으로 조회합니다. (size 기본 20, 최대 100)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품별 매출 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/products")
+    public ResponseEntity<List<SalesTotalsResponse>> adminFindTopProducts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(salesReportService.getTopProducts(from, to, size));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 카테고리별 매출 순위", description = "기간의 카테고리별 매출 합계를 순매출 많은 순으로 조회합니다. (size 기본 20, 최대 100)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "카테고리별 매출 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/categories")
+    public ResponseEntity<List<SalesTotalsResponse>> adminFindTopCategories(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(salesReportService.getTopCategories(from, to, size));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 브랜드별 매출 순위", description = "기간의 브랜드별 매출 합계를 순매출 많은 순으로 조회합니다. (size 기본 20, 최대 100)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "브랜드별 매출 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/brands")
+    public ResponseEntity<List<SalesTotalsResponse>> adminFindTopBrands(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(salesReportService.getTopBrands(from, to, size));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 매출 집계 재생성", description = "주문 이력 전체로 매출 집계 테이블을 새로 만들어 바꿔 끼웁니다. 백그라운드에서 실행되며, " +
+            "주문이 들어오는 중(비동기 주문 요청 처리 중이거나 최근 주문/취소가 있음)이면 시작하지 않습니다. " +
+            "재집계 도중 주문/취소/환불이 커밋되면 결과를 버리므로 주문을 받지 않는 시간에 실행하세요.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "재집계 시작"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "409", description = "이미 재집계가 진행 중(어느 서버든)이거나 주문이 들어오는 중")
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> adminRebuildSales() {
+        boolean started = salesRollupService.startRebuild();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).build();
+    }
+}
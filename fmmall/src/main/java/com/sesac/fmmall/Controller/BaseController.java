@@ -1,6 +1,7 @@
 package com.sesac.fmmall.Controller;
 
 import com.sesac.fmmall.Security.CustomUserDetails;
+import com.sesac.fmmall.Security.JwtUserPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -15,6 +16,11 @@ public abstract class BaseController {
 
         Object principal = auth.getPrincipal();
 
+        // 토큰 클레임 기반 인증 (jwt.stateless = true)
+        if (principal instanceof JwtUserPrincipal jwtUserPrincipal) {
+            return jwtUserPrincipal.getUserId();
+        }
+
         if (principal instanceof CustomUserDetails customUserDetails) {
             return customUserDetails.getUser().getUserId();
         }
@@ -3,12 +3,14 @@ package com.sesac.fmmall.Controller;
 import com.sesac.fmmall.DTO.BrandDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
 import com.sesac.fmmall.Service.BrandService;
+import com.sesac.fmmall.Service.CatalogCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -50,6 +52,23 @@ public class BrandController {
 //        return ResponseEntity.noContent().build();
 //    }
 
+    @Operation(summary = "전체 브랜드 조회",
+            description = "모든 브랜드 목록을 조회합니다. 응답의 ETag 를 If-None-Match 로 보내면 변경이 없을 때 304 를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "브랜드 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
+    })
+    @GetMapping("/findAll")
+    public ResponseEntity<List<BrandDTO>> findAllBrands() {
+        CatalogCache.Snapshot<BrandDTO> brands = brandService.findBrandCatalog();
+
+        // ETag 가 If-None-Match 와 같으면 Spring 이 본문 없이 304 로 응답한다.
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(brands.etag())
+                .body(brands.items());
+    }
+
     @Operation(summary = "브랜드별 상품 목록 조회", description = "특정 브랜드에 속한 모든 상품 목록을 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공"),
@@ -1,7 +1,10 @@
 package com.sesac.fmmall.Controller;
 
+import com.sesac.fmmall.DTO.CartItem.CartBatchRequestDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemCheckRequestDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemUpdateRequestDTO;
+import com.sesac.fmmall.DTO.CartChangeResponseDTO;
 import com.sesac.fmmall.DTO.CartResponseDTO;
 import com.sesac.fmmall.Service.CartService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,46 +24,74 @@ public class CartController extends BaseController {
 
     private final CartService cartService;
 
-    @Operation(summary = "장바구니 상품 추가", description = "장바구니에 상품을 추가합니다.")
+    @Operation(summary = "장바구니 상품 추가", description = "장바구니에 상품을 추가합니다. 추가된 항목과 새 합계만 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "상품 추가 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 상품 ID 또는 수량 누락)"),
             @ApiResponse(responseCode = "404", description = "사용자 또는 상품을 찾을 수 없음")
     })
     @PostMapping("/insert")
-    public ResponseEntity<CartResponseDTO> addCartItem(
+    public ResponseEntity<CartChangeResponseDTO> addCartItem(
             @RequestBody CartItemCreateRequestDTO requestDTO
     ) {
-        CartResponseDTO response = cartService.createCartItem(getCurrentUserId(), requestDTO);
+        CartChangeResponseDTO response = cartService.createCartItem(getCurrentUserId(), requestDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    @Operation(summary = "장바구니 상품 수량 변경", description = "장바구니에 상품의 수량을 변경합니다.")
+    @Operation(summary = "장바구니 상품 수량 변경", description = "장바구니에 상품의 수량을 변경합니다. 변경된 항목과 새 합계만 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "수량 변경 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 수량 누락)"),
             @ApiResponse(responseCode = "404", description = "사용자 또는 장바구니 항목을 찾을 수 없음")
     })
     @PutMapping("/modify/{cartItemId}")
-    public ResponseEntity<CartResponseDTO> modifyCartItem(
+    public ResponseEntity<CartChangeResponseDTO> modifyCartItem(
             @PathVariable int cartItemId,
             @RequestBody CartItemUpdateRequestDTO requestDTO
     ) {
-        CartResponseDTO response = cartService.updateCartItemQuantity(getCurrentUserId(), cartItemId, requestDTO);
+        CartChangeResponseDTO response = cartService.updateCartItemQuantity(getCurrentUserId(), cartItemId, requestDTO);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "장바구니 상품 삭제", description = "장바구니에서 상품을 삭제합니다.")
+    @Operation(summary = "장바구니 상품 선택", description = "장바구니 주문에 포함할 상품을 선택/해제합니다. 변경된 항목과 새 합계만 반환합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "204", description = "상품 삭제 성공"),
+            @ApiResponse(responseCode = "200", description = "선택 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (checkStatus 는 'Y' 또는 'N')"),
+            @ApiResponse(responseCode = "404", description = "장바구니 항목을 찾을 수 없음")
+    })
+    @PutMapping("/check/{cartItemId}")
+    public ResponseEntity<CartChangeResponseDTO> checkCartItem(
+            @PathVariable int cartItemId,
+            @RequestBody CartItemCheckRequestDTO requestDTO
+    ) {
+        CartChangeResponseDTO response = cartService.updateCheckStatus(getCurrentUserId(), cartItemId, requestDTO);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "장바구니 상품 삭제", description = "장바구니에서 상품을 삭제합니다. 삭제된 항목 ID 와 새 합계를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 삭제 성공"),
             @ApiResponse(responseCode = "404", description = "사용자 또는 장바구니 항목을 찾을 수 없음")
     })
     @DeleteMapping("/delete/{cartItemId}")
-    public ResponseEntity<Void> deleteCartItem(
+    public ResponseEntity<CartChangeResponseDTO> deleteCartItem(
             @PathVariable int cartItemId
     ) {
-        cartService.removeCartItem(getCurrentUserId(), cartItemId);
-        return ResponseEntity.noContent().build();
+        CartChangeResponseDTO response = cartService.removeCartItem(getCurrentUserId(), cartItemId);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "장바구니 일괄 변경", description = "담기 / 수량 변경 / 삭제 여러 건을 한 번에 적용하고 변경 후 장바구니를 반환합니다. 하나라도 실패하면 전부 취소됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일괄 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 재고 부족, 없는 상품 또는 장바구니 항목)")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<CartResponseDTO> applyCartBatch(
+            @RequestBody CartBatchRequestDTO requestDTO
+    ) {
+        CartResponseDTO response = cartService.applyCartBatch(getCurrentUserId(), requestDTO);
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "장바구니 전체 삭제", description = "장바구니의 모든 상품을 삭제합니다.")
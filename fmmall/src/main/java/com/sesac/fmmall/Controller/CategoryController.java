@@ -2,6 +2,7 @@ package com.sesac.fmmall.Controller;
 
 import com.sesac.fmmall.DTO.CategoryDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.Service.CatalogCache;
 import com.sesac.fmmall.Service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -63,14 +65,21 @@ public class CategoryController {
 //        return ResponseEntity.noContent().build();
 //    }
 
-    @Operation(summary = "전체 카테고리 조회", description = "모든 카테고리 목록을 조회합니다.")
+    @Operation(summary = "전체 카테고리 조회",
+            description = "모든 카테고리 목록을 조회합니다. 응답의 ETag 를 If-None-Match 로 보내면 변경이 없을 때 304 를 반환합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "카테고리 목록 조회 성공")
+            @ApiResponse(responseCode = "200", description = "카테고리 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping("/findAll")
     public ResponseEntity<List<CategoryDTO>> findAllCategories() {
-        List<CategoryDTO> categories = categoryService.findAllCategories();
-        return ResponseEntity.ok(categories);
+        CatalogCache.Snapshot<CategoryDTO> categories = categoryService.findCategoryCatalog();
+
+        // ETag 가 If-None-Match 와 같으면 Spring 이 본문 없이 304 로 응답한다.
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(categories.etag())
+                .body(categories.items());
     }
 
 
@@ -1,9 +1,14 @@
 package com.sesac.fmmall.Controller;
 
+import com.sesac.fmmall.DTO.Order.AsyncOrderResponse;
 import com.sesac.fmmall.DTO.Order.CartOrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.CheckoutContextResponse;
 import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
 import com.sesac.fmmall.DTO.Order.OrderResponse;
 import com.sesac.fmmall.DTO.Order.OrderSummaryResponse;
+import com.sesac.fmmall.DTO.Order.OrderSummarySliceResponse;
+import com.sesac.fmmall.Service.AsyncOrderService;
+import com.sesac.fmmall.Service.IdempotencyService;
 import com.sesac.fmmall.Service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -23,35 +28,109 @@ import java.util.List;
 public class OrderController extends BaseController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final AsyncOrderService asyncOrderService;
 
-    @Operation(summary = "상품 즉시 주문 생성", description = "단일 상품에 대한 주문을 생성하고 결제를 처리합니다.")
+    @Operation(summary = "상품 즉시 주문 생성", description = "단일 상품에 대한 주문을 생성하고 결제를 처리합니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키의 재요청에는 주문을 다시 만들지 않고 처음 응답을 돌려줍니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "주문 생성 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 재고 부족, 결제 정보 오류)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 재고 부족, 결제 정보 오류, 같은 Idempotency-Key 로 다른 요청)"),
             @ApiResponse(responseCode = "404", description = "사용자 또는 상품을 찾을 수 없음")
     })
     @PostMapping("/insert")
     public ResponseEntity<OrderResponse> insertOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody OrderCreateRequest request
     ) {
-        OrderResponse response = orderService.createOrder(getCurrentUserId(), request);
+        int userId = getCurrentUserId();
+        OrderResponse response = idempotencyService.execute(userId, IdempotencyService.SCOPE_ORDER, idempotencyKey,
+                request, OrderResponse.class, () -> orderService.createOrder(userId, request));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    @Operation(summary = "장바구니 상품 주문 생성", description = "장바구니에 담긴 상품들에 대한 주문을 생성하고 결제를 처리합니다.")
+    @Operation(summary = "장바구니 주문서 정보 조회", description = "주문할 장바구니 항목(cartItemIds, 없으면 선택된 항목), 배송지 목록, 결제수단 목록과 기본값을 한 번에 조회합니다. " +
+            "함께 받은 checkoutToken 을 주문 생성 요청에 넣으면 확인한 정보를 다시 조회하지 않습니다. (유효 시간이 지나면 일반 주문과 같음)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "주문서 정보 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 본인 장바구니에 없는 항목)")
+    })
+    @GetMapping("/checkout-context")
+    public ResponseEntity<CheckoutContextResponse> findCheckoutContext(
+            @RequestParam(required = false) List<Integer> cartItemIds
+    ) {
+        CheckoutContextResponse response = orderService.getCheckoutContext(getCurrentUserId(), cartItemIds);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "장바구니 상품 주문 생성", description = "장바구니 상품 중 cartItemIds 로 지정한 항목(없으면 선택된 항목)만 주문을 생성하고 결제를 처리합니다. 주문한 항목은 장바구니에서 삭제됩니다. " +
+            "주문서 정보 조회에서 받은 checkoutToken 을 넣으면 사용자/기본 배송지/결제수단을 다시 조회하지 않습니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키의 재요청에는 주문을 다시 만들지 않고 처음 응답을 돌려줍니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "주문 생성 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 재고 부족, 결제 정보 오류)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 재고 부족, 결제 정보 오류, 같은 Idempotency-Key 로 다른 요청)"),
             @ApiResponse(responseCode = "404", description = "사용자 또는 장바구니를 찾을 수 없음")
     })
     @PostMapping("/insertFromCart")
     public ResponseEntity<OrderResponse> insertOrderFromCart(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody CartOrderCreateRequest request
     ) {
-        OrderResponse response = orderService.createOrderFromCart(getCurrentUserId(), request);
+        int userId = getCurrentUserId();
+        OrderResponse response = idempotencyService.execute(userId, IdempotencyService.SCOPE_ORDER_FROM_CART, idempotencyKey,
+                request, OrderResponse.class, () -> orderService.createOrderFromCart(userId, request));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "상품 즉시 주문 접수 (비동기)", description = "주문 요청을 접수만 하고 token 을 바로 돌려줍니다. " +
+            "재고 차감/결제는 서버가 순서대로 처리하며, 결과는 GET /Order/async/{token} 으로 확인합니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키의 재요청에는 다시 접수하지 않고 처음 token 을 돌려줍니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "주문 접수 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 주문 상품 없음, 수량 오류, 같은 Idempotency-Key 로 다른 요청)")
+    })
+    @PostMapping("/async/insert")
+    public ResponseEntity<AsyncOrderResponse> enqueueOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OrderCreateRequest request
+    ) {
+        int userId = getCurrentUserId();
+        AsyncOrderResponse response = idempotencyService.execute(userId, IdempotencyService.SCOPE_ORDER_ASYNC, idempotencyKey,
+                request, AsyncOrderResponse.class, () -> asyncOrderService.enqueueOrder(userId, request));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @Operation(summary = "장바구니 상품 주문 접수 (비동기)", description = "장바구니 상품 중 cartItemIds 로 지정한 항목(없으면 지금 선택된 항목)의 주문을 접수만 하고 token 을 바로 돌려줍니다. " +
+            "주문이 만들어지면 해당 항목은 장바구니에서 삭제되며, 결과는 GET /Order/async/{token} 으로 확인합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "주문 접수 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 주문할 장바구니 상품 없음, 같은 Idempotency-Key 로 다른 요청)")
+    })
+    @PostMapping("/async/insertFromCart")
+    public ResponseEntity<AsyncOrderResponse> enqueueOrderFromCart(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody CartOrderCreateRequest request
+    ) {
+        int userId = getCurrentUserId();
+        AsyncOrderResponse response = idempotencyService.execute(userId, IdempotencyService.SCOPE_ORDER_FROM_CART_ASYNC, idempotencyKey,
+                request, AsyncOrderResponse.class, () -> asyncOrderService.enqueueOrderFromCart(userId, request));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @Operation(summary = "비동기 주문 처리 상태 조회", description = "접수 token 으로 처리 상태를 조회합니다. " +
+            "COMPLETED 이면 orderId 로 주문 상세를, FAILED 이면 failureMessage 로 실패 사유를 확인합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 상태 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "접수 내역을 찾을 수 없음")
+    })
+    @GetMapping("/async/{token}")
+    public ResponseEntity<AsyncOrderResponse> findAsyncStatus(
+            @PathVariable String token
+    ) {
+        AsyncOrderResponse response = asyncOrderService.getStatus(getCurrentUserId(), token);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "내 주문 목록 조회", description = "현재 로그인된 사용자의 모든 주문 내역을 요약하여 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "주문 목록 조회 성공"),
@@ -63,6 +142,22 @@ public class OrderController extends BaseController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(summary = "내 주문 내역 조회 (커서 기반)",
+            description = "현재 로그인된 사용자의 주문 내역을 최신순으로 조회합니다. " +
+                    "다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "주문 내역 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 잘못된 커서, 조회 개수 범위 오류)")
+    })
+    @GetMapping("/history")
+    public ResponseEntity<OrderSummarySliceResponse> findHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        OrderSummarySliceResponse slice = orderService.getOrderHistory(getCurrentUserId(), cursor, size);
+        return ResponseEntity.ok(slice);
+    }
+
     @Operation(summary = "특정 주문 상세 조회", description = "주문 ID로 특정 주문의 상세 내역을 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "주문 상세 조회 성공"),
@@ -1,7 +1,14 @@
 package com.sesac.fmmall.Controller;
 
+import com.sesac.fmmall.DTO.Product.ProductFacetRequestDTO;
+import com.sesac.fmmall.DTO.Product.ProductFacetResponseDTO;
 import com.sesac.fmmall.DTO.Product.ProductRequestDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchConditionDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchRequestDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductSliceResponseDTO;
+import com.sesac.fmmall.Service.ProductSearchService;
 import com.sesac.fmmall.Service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,8 +28,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
 
-    @Operation(summary = "전체 상품 조회", description = "모든 상품 목록을 조회합니다.")
+    @Operation(summary = "전체 상품 조회", description = "진열 중인 모든 상품 목록을 조회합니다. (진열 중지 / 단종 상품 제외)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공")
     })
@@ -32,6 +40,41 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @Operation(summary = "상품 목록 조회 (커서 기반)",
+            description = "카테고리/하위 카테고리/브랜드/상태/가격 범위로 필터링한 상품 목록을 커서 기반으로 조회합니다. " +
+                    "다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 잘못된 커서, 가격 범위 오류)")
+    })
+    @GetMapping("/list")
+    public ResponseEntity<ProductSliceResponseDTO> findProductSlice(@ModelAttribute ProductSearchConditionDTO condition) {
+        ProductSliceResponseDTO slice = productService.findProductSlice(condition);
+        return ResponseEntity.ok(slice);
+    }
+
+    @Operation(summary = "상품 검색", description = "상품명/모델명/상세 설명으로 검색하고 카테고리/브랜드/가격대별 상품 수를 함께 돌려줍니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 조회 개수, 가격 범위 오류)")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponseDTO> searchProducts(@ModelAttribute ProductSearchRequestDTO request) {
+        ProductSearchResponseDTO result = productSearchService.search(request);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "상품 목록 패싯 집계", description = "현재 필터 기준 브랜드/하위 카테고리/가격대별 상품 수를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "패싯 집계 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 가격 범위 오류)")
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<ProductFacetResponseDTO> countFacets(@ModelAttribute ProductFacetRequestDTO request) {
+        ProductFacetResponseDTO facets = productSearchService.countFacets(request);
+        return ResponseEntity.ok(facets);
+    }
+
     @Operation(summary = "상품 상세 조회", description = "상품 ID로 특정 상품의 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 조회 성공"),
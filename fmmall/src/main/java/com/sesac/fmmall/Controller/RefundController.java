@@ -3,6 +3,7 @@ package com.sesac.fmmall.Controller;
 import com.sesac.fmmall.DTO.Refund.RefundCreateRequest;
 import com.sesac.fmmall.DTO.Refund.RefundResponse;
 import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
+import com.sesac.fmmall.Service.IdempotencyService;
 import com.sesac.fmmall.Service.RefundService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -22,18 +23,23 @@ import java.util.List;
 public class RefundController extends BaseController {
 
     private final RefundService refundService;
+    private final IdempotencyService idempotencyService;
 
-    @Operation(summary = "환불 신청", description = "사용자가 특정 주문 항목에 대한 환불을 신청합니다.")
+    @Operation(summary = "환불 신청", description = "사용자가 특정 주문 항목에 대한 환불을 신청합니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키의 재요청에는 환불을 다시 신청하지 않고 처음 응답을 돌려줍니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "환불 신청 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 이미 환불 처리된 주문)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 이미 환불 처리된 주문, 같은 Idempotency-Key 로 다른 요청)"),
             @ApiResponse(responseCode = "404", description = "사용자 또는 주문 항목을 찾을 수 없음")
     })
     @PostMapping("/insert")
     public ResponseEntity<RefundResponse> insertRefund(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody RefundCreateRequest request
     ) {
-        RefundResponse response = refundService.createRefund(getCurrentUserId(), request);
+        int userId = getCurrentUserId();
+        RefundResponse response = idempotencyService.execute(userId, IdempotencyService.SCOPE_REFUND, idempotencyKey,
+                request, RefundResponse.class, () -> refundService.createRefund(userId, request));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
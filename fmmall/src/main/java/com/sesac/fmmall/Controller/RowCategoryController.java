@@ -2,12 +2,14 @@ package com.sesac.fmmall.Controller;
 
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
 import com.sesac.fmmall.DTO.RowCategoryDTO;
+import com.sesac.fmmall.Service.CatalogCache;
 import com.sesac.fmmall.Service.RowCategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -48,6 +50,24 @@ public class RowCategoryController {
 //        return ResponseEntity.noContent().build();
 //    }
 
+    @Operation(summary = "상위 카테고리별 하위 카테고리 조회",
+            description = "상위 카테고리 ID로 하위 카테고리 목록을 조회합니다. 응답의 ETag 를 If-None-Match 로 보내면 변경이 없을 때 304 를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "하위 카테고리 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "상위 카테고리를 찾을 수 없음")
+    })
+    @GetMapping("/findByCategoryId/{categoryId}")
+    public ResponseEntity<List<RowCategoryDTO>> findRowCategories(@PathVariable int categoryId) {
+        CatalogCache.Snapshot<RowCategoryDTO> rowCategories = rowCategoryService.findRowCategoryCatalog(categoryId);
+
+        // ETag 가 If-None-Match 와 같으면 Spring 이 본문 없이 304 로 응답한다.
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(rowCategories.etag())
+                .body(rowCategories.items());
+    }
+
     @Operation(summary = "하위 카테고리별 상품 목록 조회", description = "특정 하위 카테고리에 속한 모든 상품 목록을 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공"),
@@ -0,0 +1,37 @@
+package com.sesac.fmmall.DTO.Cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "인메모리 캐시 통계 DTO")
+public class CacheStatsResponse {
+
+    @Schema(description = "캐시 이름", example = "catalog")
+    private String name;
+
+    @Schema(description = "현재 보관 중인 항목 수", example = "12")
+    private int size;
+
+    @Schema(description = "최대 보관 항목 수", example = "1000")
+    private int maxSize;
+
+    @Schema(description = "캐시 적중 횟수", example = "9800")
+    private long hitCount;
+
+    @Schema(description = "캐시 미스(DB 조회) 횟수", example = "200")
+    private long missCount;
+
+    @Schema(description = "용량 초과로 밀려난 항목 수", example = "0")
+    private long evictionCount;
+
+    @Schema(description = "데이터 변경으로 무효화된 횟수", example = "3")
+    private long invalidationCount;
+
+    @Schema(description = "적중률 (0 ~ 1)", example = "0.98")
+    private double hitRate;
+}
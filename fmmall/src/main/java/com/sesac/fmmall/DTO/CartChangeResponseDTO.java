@@ -0,0 +1,25 @@
+package com.sesac.fmmall.DTO;
+
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 변경 응답 DTO (바뀐 항목 + 새 합계만 전달)")
+public class CartChangeResponseDTO {
+
+    @Schema(description = "장바구니 ID", example = "1")
+    private int cartId;
+    @Schema(description = "추가/수정된 장바구니 항목 (삭제면 null)")
+    private CartItemResponseDTO changedItem;
+    @Schema(description = "삭제된 장바구니 항목 ID (추가/수정이면 null)", example = "7")
+    private Integer removedCartItemId;
+    @Schema(description = "총 항목 수", example = "3")
+    private int totalItemCount;
+    @Schema(description = "총 가격", example = "30000")
+    private int totalPrice;
+}
@@ -0,0 +1,23 @@
+package com.sesac.fmmall.DTO.CartItem;
+
+import com.sesac.fmmall.Constant.CartOperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 일괄 변경 - 작업 하나")
+public class CartBatchOperationDTO {
+
+    @Schema(description = "작업 종류 (ADD / UPDATE / REMOVE)", example = "UPDATE")
+    private CartOperationType type;
+    @Schema(description = "상품 ID (ADD 일 때)", example = "101")
+    private Integer productId;
+    @Schema(description = "장바구니 항목 ID (UPDATE / REMOVE 일 때)", example = "7")
+    private Integer cartItemId;
+    @Schema(description = "수량 (ADD 는 더할 수량, UPDATE 는 바꿀 수량)", example = "2")
+    private Integer quantity;
+}
@@ -0,0 +1,18 @@
+package com.sesac.fmmall.DTO.CartItem;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 일괄 변경 요청 DTO (적힌 순서대로 적용, 하나라도 실패하면 전부 취소)")
+public class CartBatchRequestDTO {
+
+    @Schema(description = "작업 목록")
+    private List<CartBatchOperationDTO> operations;
+}
@@ -0,0 +1,13 @@
+package com.sesac.fmmall.DTO.CartItem;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "장바구니 항목 선택 요청 DTO")
+public class CartItemCheckRequestDTO {
+    @Schema(description = "선택 상태 ('Y' 면 장바구니 주문에 포함)", example = "Y")
+    private String checkStatus;
+}
@@ -1,5 +1,7 @@
 package com.sesac.fmmall.DTO.CartItem;
 
+import com.sesac.fmmall.Entity.CartItem;
+import com.sesac.fmmall.Entity.Product;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -31,4 +33,19 @@ public class CartItemResponseDTO {
     private String checkStatus;
     @Schema(description = "장바구니에 추가된 날짜")
     private LocalDateTime addDate;
+
+    public static CartItemResponseDTO from(CartItem cartItem) {
+        Product product = cartItem.getProduct();
+
+        return CartItemResponseDTO.builder()
+                .cartItemId(cartItem.getCartItemId())
+                .productId(product.getProductId())
+                .productName(product.getName())
+                .productPrice(product.getPrice())
+                .cartItemQuantity(cartItem.getCartItemQuantity())
+                .totalPrice(product.getPrice() * cartItem.getCartItemQuantity())
+                .checkStatus(cartItem.getCheckStatus())
+                .addDate(cartItem.getAddDate())
+                .build();
+    }
 }
@@ -0,0 +1,48 @@
+package com.sesac.fmmall.DTO.Order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "관리자 주문 검색 조건 DTO (모든 필터는 선택)")
+public class AdminOrderSearchRequest {
+
+    @Schema(description = "주문일 시작 (포함)", example = "2025-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @Schema(description = "주문일 종료 (포함)", example = "2025-01-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @Schema(description = "주문자 ID", example = "1")
+    private Integer userId;
+
+    @Schema(description = "포함된 상품 ID", example = "10")
+    private Integer productId;
+
+    @Schema(description = "수령인 연락처 (정확히 일치)", example = "010-1234-5678")
+    private String receiverPhone;
+
+    @Schema(description = "최소 주문 금액", example = "100000")
+    private Integer minTotalPrice;
+
+    @Schema(description = "최대 주문 금액", example = "3000000")
+    private Integer maxTotalPrice;
+
+    @Schema(description = "송장 번호 등록 여부 (true: 등록됨, false: 미등록, 비우면 전체)", example = "false")
+    private Boolean hasTrackingNumber;
+
+    @Schema(description = "이전 응답의 nextCursor (첫 페이지는 비워둠)")
+    private String cursor;
+
+    @Schema(description = "한 번에 조회할 주문 수 (최대 100)", example = "20")
+    private Integer size;
+}
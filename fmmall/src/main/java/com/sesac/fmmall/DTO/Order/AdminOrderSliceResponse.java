@@ -0,0 +1,24 @@
+package com.sesac.fmmall.DTO.Order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "커서 기반 관리자 주문 검색 응답 DTO")
+public class AdminOrderSliceResponse {
+
+    @Schema(description = "이번에 조회된 주문 목록 (최신순)")
+    private List<AdminOrderSummaryResponse> orders;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회 시 cursor 로 넘길 값 (마지막 페이지면 null)")
+    private String nextCursor;
+}
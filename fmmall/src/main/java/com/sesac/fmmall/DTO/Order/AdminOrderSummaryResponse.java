@@ -0,0 +1,40 @@
+package com.sesac.fmmall.DTO.Order;
+
+import com.sesac.fmmall.Constant.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "관리자 주문 검색 결과 항목 DTO")
+public class AdminOrderSummaryResponse {
+
+    @Schema(description = "주문 번호", example = "1001")
+    private int orderId;
+
+    @Schema(description = "주문자 ID", example = "1")
+    private int userId;
+
+    @Schema(description = "수령인", example = "홍길동")
+    private String receiverName;
+
+    @Schema(description = "수령인 연락처", example = "010-1234-5678")
+    private String receiverPhone;
+
+    @Schema(description = "주문 총 금액", example = "1500000")
+    private Integer totalPrice;
+
+    @Schema(description = "송장 번호 (미등록이면 null)", example = "123456789012")
+    private String deliveryTrackingNumber;
+
+    @Schema(description = "주문 상태", example = "ORDERED")
+    private OrderStatus orderStatus;
+
+    @Schema(description = "주문 일시", example = "2025-01-31T10:15:30")
+    private LocalDateTime createdAt;
+}
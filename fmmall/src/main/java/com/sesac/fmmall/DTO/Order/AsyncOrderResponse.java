@@ -0,0 +1,34 @@
+package com.sesac.fmmall.DTO.Order;
+
+import com.sesac.fmmall.Constant.OrderRequestStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "비동기 주문 접수/처리 상태 응답 DTO")
+public class AsyncOrderResponse {
+
+    @Schema(description = "주문 접수 토큰 (상태 조회 시 사용)", example = "6f1c2a4e-3b7d-4c59-9a0e-2d8f1b7c5e34")
+    private String token;
+
+    @Schema(description = "처리 상태 (PENDING / PROCESSING / COMPLETED / FAILED)", example = "PENDING")
+    private OrderRequestStatus status;
+
+    @Schema(description = "생성된 주문 ID (COMPLETED 일 때만)", example = "1024")
+    private Integer orderId;
+
+    @Schema(description = "실패 사유 (FAILED 일 때만)", example = "상품 재고가 부족합니다. productIds=[3]")
+    private String failureMessage;
+
+    @Schema(description = "접수 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "처리 완료 시각 (COMPLETED / FAILED 일 때만)")
+    private LocalDateTime completedAt;
+}
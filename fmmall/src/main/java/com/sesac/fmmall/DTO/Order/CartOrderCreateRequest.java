@@ -2,12 +2,16 @@ package com.sesac.fmmall.DTO.Order;
 
 import lombok.*;
 
+import java.util.List;
+
 /**
  * 장바구니에 담긴 상품을 기반으로 주문을 생성할 때 사용하는 DTO.
  * - 어떤 배송지(addressId)를 쓸지
  * - 어떤 결제수단(paymentMethodId)을 쓸지
+ * - 어떤 장바구니 항목(cartItemIds)을 주문할지 (없으면 선택(checkStatus = 'Y')된 항목)
+ * - 주문서에서 받은 checkoutToken (있으면 확인했던 값은 다시 조회하지 않음)
  * 정도만 알려주면 됨.
- * 실제 상품 목록/수량은 Cart / CartItem 에서 읽어온다.
+ * 실제 상품/수량은 Cart / CartItem 에서 읽어온다.
  */
 @Getter
 @Setter
@@ -27,4 +31,18 @@ public class CartOrderCreateRequest {
      * - null 이면 "기본 결제수단" 사용
      */
     private Integer paymentMethodId;
+
+    /**
+     * 주문할 장바구니 항목 ID 목록
+     * - null 이면 장바구니에서 선택(checkStatus = 'Y')된 항목만 주문
+     */
+    private List<Integer> cartItemIds;
+
+    /**
+     * GET /Order/checkout-context 에서 받은 체크아웃 토큰
+     * - 유효하면 사용자/기본 배송지/결제수단을 다시 조회하지 않고,
+     *   cartItemIds 가 null 이면 주문서에 보여준 항목을 주문한다.
+     * - null 이거나 만료되었으면 토큰 없이 주문한 것과 같다.
+     */
+    private String checkoutToken;
 }
@@ -0,0 +1,36 @@
+package com.sesac.fmmall.DTO.Order;
+
+import com.sesac.fmmall.DTO.Address.AddressResponseDto;
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
+import com.sesac.fmmall.DTO.Payment.PaymentMethodResponseDto;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문서(체크아웃) 화면에 필요한 정보를 한 번에 내려주는 DTO.
+ * - 주문할 장바구니 항목 + 합계
+ * - 배송지 / 결제수단 목록과 기본값
+ * - checkoutToken : 주문 제출(POST /Order/insertFromCart) 때 그대로 돌려보내면 확인했던 값을 다시 조회하지 않는다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CheckoutContextResponse {
+
+    private List<CartItemResponseDTO> items;
+    private int totalItemCount;
+    private int totalPrice;
+
+    private List<AddressResponseDto> addresses;
+    private Integer defaultAddressId;          // 기본 배송지가 없으면 null
+
+    private List<PaymentMethodResponseDto> paymentMethods;
+    private Integer defaultPaymentMethodId;    // 기본 결제수단이 없으면 null
+
+    private String checkoutToken;
+    private LocalDateTime checkoutTokenExpiresAt;
+}
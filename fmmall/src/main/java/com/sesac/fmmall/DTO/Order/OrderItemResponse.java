@@ -1,6 +1,7 @@
 package com.sesac.fmmall.DTO.Order;
 
 
+import com.sesac.fmmall.Entity.OrderItem;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -22,4 +23,17 @@ public class OrderItemResponse {
 
     private LocalDate deliveryDate;
     private LocalDate installationDate;
-}
\ No newline at end of file
+
+    public static OrderItemResponse from(OrderItem item) {
+        return OrderItemResponse.builder()
+                .orderItemId(item.getOrderItemId())
+                .productId(item.getProduct().getProductId())
+                .productName(item.resolveProductName())
+                .productPrice(item.resolveUnitPrice())
+                .quantity(item.getQuantity())
+                .lineTotalPrice(item.calculateLineTotalPrice())
+                .deliveryDate(item.getDeliveryDate())
+                .installationDate(item.getInstallationDate())
+                .build();
+    }
+}
@@ -1,10 +1,13 @@
 package com.sesac.fmmall.DTO.Order;
 
+import com.sesac.fmmall.Constant.OrderStatus;
 import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
 import com.sesac.fmmall.DTO.Settlement.PaymentSummaryResponse;
+import com.sesac.fmmall.Entity.Order;
 import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Getter
 @Setter
@@ -26,6 +29,9 @@ public class OrderResponse {
 
     private LocalDateTime createdAt;
 
+    private OrderStatus orderStatus;
+    private LocalDateTime cancelledAt;
+
     private int userId;
 
     private List<OrderItemResponse> items;
@@ -33,4 +39,28 @@ public class OrderResponse {
     private PaymentSummaryResponse payment;
 
     private List<RefundSummaryResponse> refunds;
-}
\ No newline at end of file
+
+    public static OrderResponse from(Order order) {
+        return OrderResponse.builder()
+                .orderId(order.getOrderId())
+                .receiverName(order.getReceiverName())
+                .receiverPhone(order.getReceiverPhone())
+                .zipcode(order.getZipcode())
+                .address1(order.getAddress1())
+                .address2(order.getAddress2())
+                .totalPrice(order.getTotalPrice())
+                .deliveryTrackingNumber(order.getDeliveryTrackingNumber())
+                .createdAt(order.getCreatedAt())
+                .orderStatus(order.getOrderStatus())
+                .cancelledAt(order.getCancelledAt())
+                .userId(order.getUser().getUserId())
+                .items(order.getOrderItems().stream()
+                        .map(OrderItemResponse::from)
+                        .collect(Collectors.toList()))
+                .payment(order.getPayment() != null ? PaymentSummaryResponse.from(order.getPayment()) : null)
+                .refunds(order.getRefunds().stream()
+                        .map(RefundSummaryResponse::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.sesac.fmmall.DTO.Order;
 
+import com.sesac.fmmall.Constant.OrderStatus;
 import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,6 +15,7 @@ public class OrderSummaryResponse {
     private int orderId;              // 주문 번호
     private Integer totalPrice;       // 주문 총 금액
     private LocalDateTime createdAt;  // 주문 일시
+    private OrderStatus orderStatus;  // 주문 상태 (주문 완료 / 취소)
 
     // 목록에서 간단히 보여줄 정보들
     private int totalQuantity;        // 주문 상품 전체 수량 합
@@ -0,0 +1,19 @@
+package com.sesac.fmmall.DTO.Product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "패싯 항목별 상품 수 DTO")
+public class FacetCountDTO {
+
+    @Schema(description = "카테고리 / 하위 카테고리 / 브랜드 ID", example = "2")
+    private int id;
+
+    @Schema(description = "상품 수", example = "15")
+    private int count;
+}
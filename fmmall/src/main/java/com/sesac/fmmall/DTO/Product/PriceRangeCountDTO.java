@@ -0,0 +1,22 @@
+package com.sesac.fmmall.DTO.Product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "가격대별 상품 수 DTO")
+public class PriceRangeCountDTO {
+
+    @Schema(description = "가격대 하한 (포함)", example = "100000")
+    private int minPrice;
+
+    @Schema(description = "가격대 상한 (미포함, 마지막 구간은 null)", example = "500000")
+    private Integer maxPrice;
+
+    @Schema(description = "상품 수", example = "42")
+    private int count;
+}
@@ -0,0 +1,28 @@
+package com.sesac.fmmall.DTO.Product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 목록 패싯 집계 조건 DTO (모든 필터는 선택)")
+public class ProductFacetRequestDTO {
+
+    @Schema(description = "상위 카테고리 ID", example = "1")
+    private Integer categoryId;
+
+    @Schema(description = "하위 카테고리 ID", example = "3")
+    private Integer rowCategoryId;
+
+    @Schema(description = "브랜드 ID", example = "2")
+    private Integer brandId;
+
+    @Schema(description = "최소 가격", example = "100000")
+    private Integer minPrice;
+
+    @Schema(description = "최대 가격", example = "3000000")
+    private Integer maxPrice;
+}
@@ -0,0 +1,27 @@
+package com.sesac.fmmall.DTO.Product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 목록 패싯 집계 결과 DTO")
+public class ProductFacetResponseDTO {
+
+    @Schema(description = "모든 필터에 맞는 상품 수", example = "342")
+    private int totalCount;
+
+    @Schema(description = "브랜드별 상품 수 (브랜드 필터만 빼고 집계)")
+    private List<FacetCountDTO> brands;
+
+    @Schema(description = "하위 카테고리별 상품 수 (하위 카테고리 필터만 빼고 집계)")
+    private List<FacetCountDTO> rowCategories;
+
+    @Schema(description = "가격대별 상품 수 (가격 필터만 빼고 집계)")
+    private List<PriceRangeCountDTO> priceRanges;
+}
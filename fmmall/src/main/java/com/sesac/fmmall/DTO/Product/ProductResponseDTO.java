@@ -1,5 +1,6 @@
 package com.sesac.fmmall.DTO.Product;
 
+import com.sesac.fmmall.Entity.Product;
 import com.sesac.fmmall.Constant.ProductStatus;
 import lombok.*;
 
@@ -10,7 +11,7 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ProductResponseDTO {
     private int productId;
     private String productName;
@@ -36,4 +37,23 @@ public class ProductResponseDTO {
     public String getProductName() { return productName; }
     public void setProductName(String productName) { this.productName = productName; }
 
+    // Product 엔티티 → 응답 DTO (brand / category 는 지연 로딩 프록시라도 ID 만 읽으므로 추가 조회 없음)
+    public static ProductResponseDTO from(Product product) {
+        return ProductResponseDTO.builder()
+                .productId(product.getProductId())
+                .productName(product.getName())
+                .productPrice(product.getPrice() != null ? product.getPrice() : 0)
+                .stockQuantity(product.getStockQuantity() != null ? product.getStockQuantity() : 0)
+                .capacity(product.getCapacity())
+                .sizeInch(product.getSizeInch())
+                .description(product.getDescription())
+                .productStatus(product.getProductStatus())
+                .modelName(product.getModelName())
+                .brandId(product.getBrand() != null ? product.getBrand().getBrandId() : 0)
+                .categoryId(product.getCategory() != null ? product.getCategory().getCategoryId() : 0)
+                .isInstallationRequired(product.getIsInstallationRequired())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,42 @@
+package com.sesac.fmmall.DTO.Product;
+
+import com.sesac.fmmall.Constant.ProductSortType;
+import com.sesac.fmmall.Constant.ProductStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 목록 조회 조건 DTO (모든 필터는 선택)")
+public class ProductSearchConditionDTO {
+
+    @Schema(description = "상위 카테고리 ID", example = "1")
+    private Integer categoryId;
+
+    @Schema(description = "하위 카테고리 ID", example = "3")
+    private Integer rowCategoryId;
+
+    @Schema(description = "브랜드 ID", example = "2")
+    private Integer brandId;
+
+    @Schema(description = "상품 상태", example = "ACTIVE")
+    private ProductStatus productStatus;
+
+    @Schema(description = "최소 가격", example = "100000")
+    private Integer minPrice;
+
+    @Schema(description = "최대 가격", example = "3000000")
+    private Integer maxPrice;
+
+    @Schema(description = "정렬 기준 (LATEST / PRICE_ASC / PRICE_DESC)", example = "LATEST")
+    private ProductSortType sort;
+
+    @Schema(description = "이전 응답의 nextCursor (첫 페이지는 비워둠)")
+    private String cursor;
+
+    @Schema(description = "한 번에 조회할 상품 수 (최대 100)", example = "20")
+    private Integer size;
+}
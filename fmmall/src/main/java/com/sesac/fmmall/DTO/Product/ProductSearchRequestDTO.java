@@ -0,0 +1,31 @@
+package com.sesac.fmmall.DTO.Product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 검색 조건 DTO (검색어가 없으면 필터만 적용)")
+public class ProductSearchRequestDTO {
+
+    @Schema(description = "검색어 (상품명 / 모델명 / 상세 설명)", example = "갤럭시북")
+    private String keyword;
+
+    @Schema(description = "상위 카테고리 ID", example = "1")
+    private Integer categoryId;
+
+    @Schema(description = "브랜드 ID", example = "2")
+    private Integer brandId;
+
+    @Schema(description = "최소 가격", example = "100000")
+    private Integer minPrice;
+
+    @Schema(description = "최대 가격", example = "3000000")
+    private Integer maxPrice;
+
+    @Schema(description = "조회할 상품 수 (최대 100)", example = "20")
+    private Integer size;
+}
@@ -0,0 +1,30 @@
+package com.sesac.fmmall.DTO.Product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 검색 결과 DTO")
+public class ProductSearchResponseDTO {
+
+    @Schema(description = "검색 점수 순 상품 목록")
+    private List<ProductResponseDTO> products;
+
+    @Schema(description = "조건에 맞는 전체 상품 수", example = "128")
+    private int totalHits;
+
+    @Schema(description = "카테고리별 상품 수 (카테고리 필터만 빼고 집계)")
+    private List<FacetCountDTO> categories;
+
+    @Schema(description = "브랜드별 상품 수 (브랜드 필터만 빼고 집계)")
+    private List<FacetCountDTO> brands;
+
+    @Schema(description = "가격대별 상품 수 (가격 필터만 빼고 집계)")
+    private List<PriceRangeCountDTO> priceRanges;
+}
@@ -0,0 +1,24 @@
+package com.sesac.fmmall.DTO.Product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "커서 기반 상품 목록 응답 DTO")
+public class ProductSliceResponseDTO {
+
+    @Schema(description = "이번에 조회된 상품 목록")
+    private List<ProductResponseDTO> products;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회 시 cursor 로 넘길 값 (마지막 페이지면 null)")
+    private String nextCursor;
+}
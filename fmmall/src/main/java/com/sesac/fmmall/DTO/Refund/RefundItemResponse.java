@@ -1,5 +1,6 @@
 package com.sesac.fmmall.DTO.Refund;
 
+import com.sesac.fmmall.Entity.RefundItem;
 import lombok.*;
 
 @Getter
@@ -15,4 +16,14 @@ public class RefundItemResponse {
     private Integer refundQuantity;
     private Integer refundPrice;
     private String refundStatus;
+
+    public static RefundItemResponse from(RefundItem item) {
+        return RefundItemResponse.builder()
+                .refundItemId(item.getRefundItemId())
+                .orderItemId(item.getOrderItem().getOrderItemId())
+                .refundQuantity(item.getRefundQuantity())
+                .refundPrice(item.getRefundPrice())
+                .refundStatus(item.getRefundStatus().name())
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.sesac.fmmall.DTO.Refund;
 
+import com.sesac.fmmall.Entity.Refund;
 import lombok.*;
 
 @Getter
@@ -13,4 +14,13 @@ public class RefundSummaryResponse {
     private String refundType;
     private Integer totalAmount;
     private String isTrue;
-}
\ No newline at end of file
+
+    public static RefundSummaryResponse from(Refund refund) {
+        return RefundSummaryResponse.builder()
+                .refundId(refund.getRefundId())
+                .refundType(refund.getRefundType().name())
+                .totalAmount(refund.getTotalAmount())
+                .isTrue(refund.getIsTrue().name())
+                .build();
+    }
+}
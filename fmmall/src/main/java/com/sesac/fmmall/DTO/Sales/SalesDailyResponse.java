@@ -0,0 +1,68 @@
+package com.sesac.fmmall.DTO.Sales;
+
+import com.sesac.fmmall.Entity.SalesRollupMeasures;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "일별 매출 DTO (주문일 기준)")
+public class SalesDailyResponse {
+
+    @Schema(description = "주문일", example = "2025-01-31")
+    private LocalDate salesDate;
+
+    @Schema(description = "주문 건수", example = "120")
+    private long orderCount;
+
+    @Schema(description = "주문 수량", example = "180")
+    private long quantity;
+
+    @Schema(description = "주문 금액", example = "54000000")
+    private long amount;
+
+    @Schema(description = "취소된 주문 건수", example = "3")
+    private long cancelledCount;
+
+    @Schema(description = "취소 수량", example = "4")
+    private long cancelledQuantity;
+
+    @Schema(description = "취소 금액", example = "1200000")
+    private long cancelledAmount;
+
+    @Schema(description = "환불 완료 수량", example = "2")
+    private long refundedQuantity;
+
+    @Schema(description = "환불 완료 금액", example = "600000")
+    private long refundedAmount;
+
+    @Schema(description = "순매출 (주문 금액 - 취소 금액 - 환불 금액)", example = "52200000")
+    private long netAmount;
+
+    public static SalesDailyResponse from(LocalDate salesDate, SalesRollupMeasures measures) {
+        return SalesDailyResponse.builder()
+                .salesDate(salesDate)
+                .orderCount(measures.getOrderCount())
+                .quantity(measures.getQuantity())
+                .amount(measures.getAmount())
+                .cancelledCount(measures.getCancelledCount())
+                .cancelledQuantity(measures.getCancelledQuantity())
+                .cancelledAmount(measures.getCancelledAmount())
+                .refundedQuantity(measures.getRefundedQuantity())
+                .refundedAmount(measures.getRefundedAmount())
+                .netAmount(measures.getNetAmount())
+                .build();
+    }
+
+    // 주문이 없던 날
+    public static SalesDailyResponse empty(LocalDate salesDate) {
+        return SalesDailyResponse.builder()
+                .salesDate(salesDate)
+                .build();
+    }
+}
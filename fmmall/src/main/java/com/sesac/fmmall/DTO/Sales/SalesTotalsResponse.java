@@ -0,0 +1,70 @@
+package com.sesac.fmmall.DTO.Sales;
+
+import com.sesac.fmmall.Repository.SalesDailyRepository.SalesTotalsRow;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 / 카테고리 / 브랜드별 기간 매출 합계 DTO (주문일 기준)")
+public class SalesTotalsResponse {
+
+    @Schema(description = "상품 / 카테고리 / 브랜드 ID", example = "1")
+    private int id;
+
+    @Schema(description = "상품 / 카테고리 / 브랜드 이름 (삭제되었으면 null)", example = "삼성전자")
+    private String name;
+
+    @Schema(description = "주문 건수", example = "120")
+    private long orderCount;
+
+    @Schema(description = "주문 수량", example = "180")
+    private long quantity;
+
+    @Schema(description = "주문 금액", example = "54000000")
+    private long amount;
+
+    @Schema(description = "취소된 주문 건수", example = "3")
+    private long cancelledCount;
+
+    @Schema(description = "취소 수량", example = "4")
+    private long cancelledQuantity;
+
+    @Schema(description = "취소 금액", example = "1200000")
+    private long cancelledAmount;
+
+    @Schema(description = "환불 완료 수량", example = "2")
+    private long refundedQuantity;
+
+    @Schema(description = "환불 완료 금액", example = "600000")
+    private long refundedAmount;
+
+    @Schema(description = "순매출 (주문 금액 - 취소 금액 - 환불 금액)", example = "52200000")
+    private long netAmount;
+
+    public static SalesTotalsResponse from(SalesTotalsRow row) {
+        long amount = value(row.getAmount());
+        long cancelledAmount = value(row.getCancelledAmount());
+        long refundedAmount = value(row.getRefundedAmount());
+        return SalesTotalsResponse.builder()
+                .id(row.getTargetId())
+                .name(row.getName())
+                .orderCount(value(row.getOrderCount()))
+                .quantity(value(row.getQuantity()))
+                .amount(amount)
+                .cancelledCount(value(row.getCancelledCount()))
+                .cancelledQuantity(value(row.getCancelledQuantity()))
+                .cancelledAmount(cancelledAmount)
+                .refundedQuantity(value(row.getRefundedQuantity()))
+                .refundedAmount(refundedAmount)
+                .netAmount(amount - cancelledAmount - refundedAmount)
+                .build();
+    }
+
+    private static long value(Long sum) {
+        return sum != null ? sum : 0L;
+    }
+}
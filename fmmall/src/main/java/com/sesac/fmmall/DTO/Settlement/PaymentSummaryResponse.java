@@ -1,5 +1,6 @@
 package com.sesac.fmmall.DTO.Settlement;
 
+import com.sesac.fmmall.Entity.Payment;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -14,4 +15,12 @@ public class PaymentSummaryResponse {
     private int paymentId;
     private String paymentMethodType;
     private LocalDateTime paidAt;
-}
\ No newline at end of file
+
+    public static PaymentSummaryResponse from(Payment payment) {
+        return PaymentSummaryResponse.builder()
+                .paymentId(payment.getPaymentId())
+                .paymentMethodType(payment.getPaymentMethodType())
+                .paidAt(payment.getPaidAt())
+                .build();
+    }
+}
@@ -2,13 +2,18 @@ package com.sesac.fmmall.Entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 @Entity
-@Table(name = "cart")
+@Table(name = "cart",
+        uniqueConstraints = {
+                // 사용자당 장바구니 하나 (첫 담기가 동시에 들어와도 하나만 생성)
+                @UniqueConstraint(name = "uk_cart_user", columnNames = "user_id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -29,41 +34,17 @@ public class Cart {
         this.user = user;
     }
 
-    public void addCartItem(CartItem newCartItem) {
-        if (newCartItem == null || newCartItem.getProduct() == null) {
-            throw new IllegalArgumentException("장바구니에 추가할 상품 정보가 올바르지 않습니다.");
-        }
-
-        Product product = newCartItem.getProduct();
-        int stock = product.getStockQuantity(); // 현재 상품 재고
-
-        CartItem existingItem = cartItems.stream()
-                .filter(item -> item.getProduct() != null && Objects.equals(item.getProduct().getProductId(), product.getProductId()))
-                .findFirst()
-                .orElse(null);
-
-        if (existingItem != null) {
-            int totalQuantity = existingItem.getCartItemQuantity() + newCartItem.getCartItemQuantity();
-            if (totalQuantity > stock) {
-                throw new IllegalArgumentException("상품의 재고가 부족합니다.");
-            }
-            existingItem.updateQuantity(totalQuantity, this.user.getUserId());
-        } else {
-            if (newCartItem.getCartItemQuantity() > stock) {
-                throw new IllegalArgumentException("상품의 재고가 부족합니다.");
-            }
-            cartItems.add(newCartItem);
-            newCartItem.associateWithCart(this);
-        }
+    // 양방향 연결. 로딩 안 된 항목 목록에 add 하면 Hibernate 가 로딩 없이 추가만 기억해 둔다. (cascade 도 그대로 동작)
+    public void attachCartItem(CartItem cartItem) {
+        cartItem.associateWithCart(this);
+        cartItems.add(cartItem);
     }
 
-    public void removeCartItem(int cartItemId, int requesterUserId) {
-        // 권한 검증
-        if (this.user.getUserId() != requesterUserId) {
-            throw new IllegalStateException("다른 사용자의 장바구니를 조작할 권한이 없습니다.");
+    // remove 는 목록을 로딩하므로, 이미 로딩돼 있을 때만 목록에서 뺀다.
+    public void detachCartItem(CartItem cartItem) {
+        if (Hibernate.isInitialized(cartItems)) {
+            cartItems.remove(cartItem);
         }
-
-        this.cartItems.removeIf(item -> item.getCartItemId() == cartItemId);
     }
 
     public void clearCart() {
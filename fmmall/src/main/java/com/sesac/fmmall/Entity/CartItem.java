@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Entity;
 
+import com.sesac.fmmall.Config.BlockId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -9,13 +10,18 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "cart_item")
+@Table(name = "cart_item",
+        uniqueConstraints = {
+                // 장바구니 하나에 같은 상품은 한 줄만 (동시에 담아도 upsert 로 수량만 늘어난다)
+                @UniqueConstraint(name = "uk_cart_item_cart_product", columnNames = {"cart_id", "product_id"})
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CartItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(table = "cart_item", column = "cart_item_id")
     private int cartItemId;
 
     @Column(name = "cart_item_quantity")
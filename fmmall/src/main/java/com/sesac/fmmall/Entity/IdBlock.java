@@ -0,0 +1,24 @@
+package com.sesac.fmmall.Entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 테이블별로 다음에 예약할 ID 를 저장하는 테이블
+ * - 읽고 쓰는 건 IdBlockAllocator 가 JDBC 로 직접 한다. (엔티티는 스키마 생성용)
+ */
+@Entity
+@Table(name = "id_block")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdBlock {
+
+    @Id
+    @Column(name = "block_name", length = 50)
+    private String blockName;
+
+    @Column(name = "next_val", nullable = false)
+    private int nextVal;
+}
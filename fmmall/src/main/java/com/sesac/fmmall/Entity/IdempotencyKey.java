@@ -0,0 +1,55 @@
+package com.sesac.fmmall.Entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문/환불 생성 요청의 Idempotency-Key 와 그 응답을 저장하는 테이블
+ * - (사용자, 구분, 키) 가 유니크라서 같은 키로 동시에 들어온 요청은 INSERT 에서 먼저 온 트랜잭션이 끝날 때까지 기다린다.
+ * - 읽고 쓰는 건 IdempotencyService 가 JDBC 로 직접 한다. (엔티티는 스키마 생성용)
+ * - 보관 기간(idempotency.retention-hours)이 지난 행은 IdempotencyService 가 주기적으로 지운다.
+ */
+@Entity
+@Table(name = "idempotency_key",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_idempotency_key_user_scope_key", columnNames = {"user_id", "scope", "idem_key"})
+        },
+        indexes = {
+                // 보관 기간이 지난 키를 지울 때 사용
+                @Index(name = "idx_idempotency_key_created_at", columnList = "created_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "idempotency_key_id")
+    private long idempotencyKeyId;
+
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    // 어떤 API 의 키인지 (ORDER / ORDER_FROM_CART / ORDER_ASYNC / ORDER_FROM_CART_ASYNC / REFUND)
+    @Column(name = "scope", nullable = false, length = 30)
+    private String scope;
+
+    @Column(name = "idem_key", nullable = false, length = 100)
+    private String idemKey;
+
+    // 요청 바디 JSON 의 SHA-256 (같은 키로 다른 요청을 보냈는지 확인용)
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // 처음 실행했을 때의 응답 JSON (재요청에는 이 값을 그대로 돌려준다)
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,5 +1,7 @@
 package com.sesac.fmmall.Entity;
 
+import com.sesac.fmmall.Config.BlockId;
+import com.sesac.fmmall.Constant.OrderStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -8,7 +10,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+        indexes = {
+                // 사용자별 주문 내역 커서 조회용 (user_id 필터 + 최신순 정렬키 + PK)
+                @Index(name = "idx_orders_user_created_id", columnList = "user_id, created_at, order_id"),
+                // 관리자 주문 검색 (OrderSearchService)
+                // 기간/금액/송장 조건만 있으면 이 인덱스만 최신순으로 읽고 (커버링) 페이지의 주문만 원본 행을 읽는다.
+                @Index(name = "idx_orders_created_search",
+                        columnList = "created_at, order_id, total_price, delivery_tracking_number"),
+                // 수령인 연락처로 검색
+                @Index(name = "idx_orders_phone_created_id", columnList = "receiver_phone, created_at, order_id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +30,7 @@ import java.util.List;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(table = "orders", column = "order_id")
     @Column(name = "order_id")
     private int orderId;
 
@@ -46,6 +59,16 @@ public class Order {
             columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt;
 
+    // 주문 취소는 행을 지우지 않고 상태만 바꾼다. (기존 행은 DEFAULT 로 ORDERED)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", length = 20, nullable = false,
+            columnDefinition = "VARCHAR(20) DEFAULT 'ORDERED'")
+    @Builder.Default
+    private OrderStatus orderStatus = OrderStatus.ORDERED;
+
+    @Column(name = "cancelled_at")
+    private LocalDateTime cancelledAt;
+
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Entity;
 
+import com.sesac.fmmall.Config.BlockId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -8,7 +9,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "order_item")
+@Table(name = "order_item",
+        indexes = {
+                // 주문별 주문상품 조회 + "이 주문에 특정 상품이 있는지" 확인용
+                @Index(name = "idx_order_item_order_product", columnList = "order_id, product_id"),
+                // 관리자 주문 검색 - 주문이 많지 않은 상품은 상품의 주문 ID 목록에서 출발한다. (OrderSearchService)
+                @Index(name = "idx_order_item_product_order", columnList = "product_id, order_id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,13 +25,28 @@ import java.util.List;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(table = "order_item", column = "order_item_id")
     @Column(name = "order_item_id")
     private int orderItemId;
 
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
 
+    // 주문 당시 상품명 / 단가 스냅샷 (주문 내역은 Product 를 읽지 않고 이 값으로 보여준다)
+    // 컬럼 추가 전에 만들어진 주문상품은 OrderItemSnapshotBackfill 이 채운다.
+    @Column(name = "product_name", length = 200)
+    private String productName;
+
+    @Column(name = "unit_price")
+    private Integer unitPrice;
+
+    // 주문 당시 카테고리 / 브랜드 ID (매출 집계 키. 나중에 상품의 카테고리/브랜드가 바뀌어도 취소/환불이 원래 집계 행에서 빠진다)
+    @Column(name = "category_id")
+    private Integer categoryId;
+
+    @Column(name = "brand_id")
+    private Integer brandId;
+
     @Column(name = "delivery_date")
     private LocalDate deliveryDate;
 
@@ -43,10 +66,35 @@ public class OrderItem {
     @Builder.Default
     private List<RefundItem> refundItems = new ArrayList<>();
 
+    // 🔹 주문 당시 상품 정보 저장 (주문 생성 시 한 번)
+    public void captureSnapshot(Product product) {
+        this.productName = product.getName();
+        this.unitPrice = product.getPrice();
+        this.categoryId = product.getCategory() != null ? product.getCategory().getCategoryId() : null;
+        this.brandId = product.getBrand() != null ? product.getBrand().getBrandId() : null;
+    }
+
+    // 주문 당시 단가 (스냅샷이 아직 없으면 현재 상품 가격)
+    public Integer resolveUnitPrice() {
+        if (unitPrice != null) {
+            return unitPrice;
+        }
+        return product != null ? product.getPrice() : null;
+    }
+
+    // 주문 당시 상품명 (스냅샷이 아직 없으면 현재 상품명)
+    public String resolveProductName() {
+        if (productName != null) {
+            return productName;
+        }
+        return product != null ? product.getName() : null;
+    }
+
     public int calculateLineTotalPrice() {
-        if (product == null || product.getPrice() == null || quantity == null) {
+        Integer price = resolveUnitPrice();
+        if (price == null || quantity == null) {
             throw new IllegalStateException("라인 금액을 계산할 수 없습니다. 상품/수량 정보가 없습니다.");
         }
-        return product.getPrice() * quantity;
+        return price * quantity;
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.sesac.fmmall.Entity;
+
+import com.sesac.fmmall.Constant.OrderRequestStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 주문 접수 큐 (주문 요청을 먼저 저장해 두고 워커가 나중에 주문을 만든다)
+ * - 요청 스레드는 이 테이블에 INSERT 한 번만 하고 token 을 돌려준다.
+ * - 워커는 PENDING 행을 SELECT ... FOR UPDATE SKIP LOCKED 로 나눠 가져가서 처리하므로 여러 서버가 떠 있어도 겹치지 않는다.
+ * - 읽고 쓰는 건 AsyncOrderService 가 JDBC 로 직접 한다. (엔티티는 스키마 생성용)
+ */
+@Entity
+@Table(name = "order_request",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_order_request_token", columnNames = {"token"})
+        },
+        indexes = {
+                // 워커가 접수 순서대로 대기 중인 요청을 가져갈 때 사용
+                @Index(name = "idx_order_request_status_id", columnList = "status, order_request_id"),
+                // 끝난 요청을 보관 기간이 지나면 지울 때 사용
+                @Index(name = "idx_order_request_status_completed", columnList = "status, completed_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderRequest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "order_request_id")
+    private long orderRequestId;
+
+    // 클라이언트에게 돌려주는 조회용 토큰 (UUID)
+    @Column(name = "token", nullable = false, length = 36)
+    private String token;
+
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    // 어떤 주문인지 (ORDER / ORDER_FROM_CART)
+    @Column(name = "kind", nullable = false, length = 30)
+    private String kind;
+
+    // 주문 요청 바디 JSON
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderRequestStatus status;
+
+    // 처리 시도 횟수 (워커가 가져갈 때마다 +1)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 지금 이 요청을 가진 워커의 가져가기 토큰 (다른 워커가 다시 가져갔으면 결과를 쓰지 못한다)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    // 완료 시 생성된 주문 ID
+    @Column(name = "order_id")
+    private Integer orderId;
+
+    @Column(name = "failure_message", length = 500)
+    private String failureMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Entity;
 
+import com.sesac.fmmall.Config.BlockId;
 
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(table = "payment", column = "payment_id")
     @Column(name = "payment_id")
     private int paymentId;
 
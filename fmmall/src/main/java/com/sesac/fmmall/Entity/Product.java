@@ -8,7 +8,16 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "product")
+@Table(name = "product",
+        indexes = {
+                // 커서 기반 목록 조회용 (정렬키 + PK)
+                @Index(name = "idx_product_created_id", columnList = "created_at, product_id"),
+                @Index(name = "idx_product_price_id", columnList = "product_price, product_id"),
+                // 카테고리 필터 + 정렬을 한 번에 타기 위한 복합 인덱스
+                @Index(name = "idx_product_category_created_id", columnList = "category_id, created_at, product_id"),
+                @Index(name = "idx_product_category_price_id", columnList = "category_id, product_price, product_id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -1,11 +1,17 @@
 package com.sesac.fmmall.Entity;
 
+import com.sesac.fmmall.Config.BlockId;
 import com.sesac.fmmall.Constant.RefundStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "refund_item")
+@Table(name = "refund_item",
+        indexes = {
+                // 환불별 환불상품 조회 + 상품 기준 환불 조회 시 order_item 으로 이어가기 위한 인덱스
+                @Index(name = "idx_refund_item_refund_order_item", columnList = "refund_id, order_item_id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,7 +20,7 @@ import lombok.*;
 public class RefundItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(table = "refund_item", column = "refund_item_id")
     @Column(name = "refund_item_id")
     private int refundItemId;
 
@@ -0,0 +1,24 @@
+package com.sesac.fmmall.Entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 매출 집계 (하루 한 행)
+ * - 대시보드의 기간별 합계는 이 테이블만 읽는다. (기간의 일수만큼만 읽음)
+ * - 쓰기는 SalesRollupService 가 JDBC 로 직접 한다. (엔티티는 스키마 생성 / 조회용)
+ */
+@Entity
+@Table(name = "sales_daily")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesDaily extends SalesRollupMeasures {
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+}
@@ -0,0 +1,43 @@
+package com.sesac.fmmall.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 x 브랜드별 매출 집계
+ * - PK (brand_id, sales_date) : 브랜드 하나의 기간별 추이
+ * - idx (sales_date, brand_id) : 기간 전체의 브랜드별 합계 (기간의 일수 x 브랜드 수만큼만 읽음)
+ * - 상품의 브랜드는 집계 시점 기준이다. (상품의 브랜드를 바꿔도 지난 행은 그대로, 재집계하면 현재 브랜드로 다시 나뉜다)
+ * - 쓰기는 SalesRollupService 가 JDBC 로 직접 한다. (엔티티는 스키마 생성 / 조회용)
+ */
+@Entity
+@Table(name = "sales_daily_brand",
+        indexes = {
+                @Index(name = "idx_sales_daily_brand_date", columnList = "sales_date, brand_id")
+        }
+)
+@IdClass(SalesDailyBrand.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesDailyBrand extends SalesRollupMeasures {
+
+    @Id
+    @Column(name = "brand_id")
+    private int brandId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private int brandId;
+        private LocalDate salesDate;
+    }
+}
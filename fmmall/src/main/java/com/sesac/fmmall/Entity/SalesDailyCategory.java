@@ -0,0 +1,43 @@
+package com.sesac.fmmall.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 x 카테고리별 매출 집계
+ * - PK (category_id, sales_date) : 카테고리 하나의 기간별 추이
+ * - idx (sales_date, category_id) : 기간 전체의 카테고리별 합계 (기간의 일수 x 카테고리 수만큼만 읽음)
+ * - 상품의 카테고리는 집계 시점 기준이다. (상품의 카테고리를 바꿔도 지난 행은 그대로, 재집계하면 현재 카테고리로 다시 나뉜다)
+ * - 쓰기는 SalesRollupService 가 JDBC 로 직접 한다. (엔티티는 스키마 생성 / 조회용)
+ */
+@Entity
+@Table(name = "sales_daily_category",
+        indexes = {
+                @Index(name = "idx_sales_daily_category_date", columnList = "sales_date, category_id")
+        }
+)
+@IdClass(SalesDailyCategory.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesDailyCategory extends SalesRollupMeasures {
+
+    @Id
+    @Column(name = "category_id")
+    private int categoryId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private int categoryId;
+        private LocalDate salesDate;
+    }
+}
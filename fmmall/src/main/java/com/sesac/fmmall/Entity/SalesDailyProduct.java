@@ -0,0 +1,42 @@
+package com.sesac.fmmall.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 x 상품별 매출 집계
+ * - PK (product_id, sales_date) : 상품 하나의 기간별 추이
+ * - idx (sales_date, product_id) : 기간 전체의 상품별 합계 (기간의 일수 x 상품 수만큼만 읽음)
+ * - 쓰기는 SalesRollupService 가 JDBC 로 직접 한다. (엔티티는 스키마 생성 / 조회용)
+ */
+@Entity
+@Table(name = "sales_daily_product",
+        indexes = {
+                @Index(name = "idx_sales_daily_product_date", columnList = "sales_date, product_id")
+        }
+)
+@IdClass(SalesDailyProduct.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesDailyProduct extends SalesRollupMeasures {
+
+    @Id
+    @Column(name = "product_id")
+    private int productId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private int productId;
+        private LocalDate salesDate;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sesac.fmmall.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * 매출 집계 테이블 공통 측정값
+ * - 모든 값은 "주문일" 기준이다. 취소/환불도 원래 주문일의 행에서 빠진다. (원천 데이터로 언제든 같은 값을 다시 만들 수 있도록)
+ * - 이벤트마다 해당 컬럼만 더하므로(INSERT ... ON DUPLICATE KEY UPDATE) 나머지 컬럼은 DB 기본값 0 으로 시작한다.
+ */
+@Getter
+@MappedSuperclass
+public abstract class SalesRollupMeasures {
+
+    @Column(name = "order_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long orderCount;
+
+    @Column(name = "quantity", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long quantity;
+
+    @Column(name = "amount", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long amount;
+
+    @Column(name = "cancelled_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long cancelledCount;
+
+    @Column(name = "cancelled_quantity", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long cancelledQuantity;
+
+    @Column(name = "cancelled_amount", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long cancelledAmount;
+
+    @Column(name = "refunded_quantity", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long refundedQuantity;
+
+    @Column(name = "refunded_amount", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long refundedAmount;
+
+    // 주문 금액 - 취소 금액 - 환불 금액
+    public long getNetAmount() {
+        return amount - cancelledAmount - refundedAmount;
+    }
+}
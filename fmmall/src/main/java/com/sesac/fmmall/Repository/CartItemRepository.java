@@ -1,7 +1,88 @@
 package com.sesac.fmmall.Repository;
 
 import com.sesac.fmmall.Entity.CartItem;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface CartItemRepository extends JpaRepository<CartItem,Integer> {
+
+    // 장바구니 상품 + 장바구니 + 상품을 한 번에 조회 (소유자 확인 / 재고 확인 시 지연 로딩 없음)
+    @Query("SELECT ci FROM CartItem ci " +
+            "JOIN FETCH ci.cart " +
+            "JOIN FETCH ci.product " +
+            "WHERE ci.cartItemId = :cartItemId")
+    Optional<CartItem> findWithCartAndProductById(@Param("cartItemId") int cartItemId);
+
+    // 장바구니의 특정 상품 한 줄 + 장바구니 + 상품 (uk_cart_item_cart_product 인덱스로 바로 찾는다)
+    @Query("SELECT ci FROM CartItem ci " +
+            "JOIN FETCH ci.cart " +
+            "JOIN FETCH ci.product " +
+            "WHERE ci.cart.cartId = :cartId AND ci.product.productId = :productId")
+    Optional<CartItem> findWithCartAndProductByCartIdAndProductId(@Param("cartId") int cartId,
+                                                                  @Param("productId") int productId);
+
+    // 장바구니 일괄 변경용. 항목 행만 잠근다. (상품은 따로 한 번에 조회 → 상품 행은 잠그지 않음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ci FROM CartItem ci WHERE ci.cart.cartId = :cartId ORDER BY ci.cartItemId")
+    List<CartItem> findAllByCartIdForUpdate(@Param("cartId") int cartId);
+
+    // 장바구니 주문용: 지정한 항목 + 상품 (본인 장바구니 항목만)
+    @Query("SELECT ci FROM CartItem ci " +
+            "JOIN FETCH ci.product " +
+            "WHERE ci.cart.user.userId = :userId AND ci.cartItemId IN :cartItemIds " +
+            "ORDER BY ci.cartItemId")
+    List<CartItem> findWithProductByUserIdAndIdIn(@Param("userId") int userId,
+                                                  @Param("cartItemIds") Collection<Integer> cartItemIds);
+
+    // 장바구니 주문용: 선택(checkStatus = 'Y')된 항목 + 상품
+    @Query("SELECT ci FROM CartItem ci " +
+            "JOIN FETCH ci.product " +
+            "WHERE ci.cart.user.userId = :userId AND ci.checkStatus = 'Y' " +
+            "ORDER BY ci.cartItemId")
+    List<CartItem> findCheckedWithProductByUserId(@Param("userId") int userId);
+
+    // 비동기 주문 접수용: 접수 시점에 선택된 항목 ID 만 (상품은 읽지 않음)
+    @Query("SELECT ci.cartItemId FROM CartItem ci " +
+            "WHERE ci.cart.user.userId = :userId AND ci.checkStatus = 'Y' " +
+            "ORDER BY ci.cartItemId")
+    List<Integer> findCheckedIdsByUserId(@Param("userId") int userId);
+
+    // 주문한 항목만 DELETE 한 번으로 삭제 (항목 목록을 읽어 하나씩 지우지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CartItem ci WHERE ci.cartItemId IN :cartItemIds")
+    int deleteAllByIdIn(@Param("cartItemIds") Collection<Integer> cartItemIds);
+
+    /**
+     * 상품 담기 (없으면 INSERT, 이미 있으면 수량만 더함)
+     * - (cart_id, product_id) 유니크 제약에 걸리면 UPDATE 로 바뀌므로, 같은 상품을 동시에 담아도 한 줄에 수량이 합쳐진다.
+     * - cartItemId 는 새 줄일 때만 쓰이고, 이미 있으면 버려진다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO cart_item (cart_item_id, cart_id, product_id, cart_item_quantity, check_status, add_date) " +
+            "VALUES (:cartItemId, :cartId, :productId, :quantity, 'N', NOW()) " +
+            "ON DUPLICATE KEY UPDATE cart_item_quantity = cart_item_quantity + :quantity",
+            nativeQuery = true)
+    int upsertQuantity(@Param("cartItemId") int cartItemId,
+                       @Param("cartId") int cartId,
+                       @Param("productId") int productId,
+                       @Param("quantity") int quantity);
+
+    // 장바구니 합계 (항목 수 / 총 가격) 를 DB 에서 바로 집계
+    @Query("SELECT COUNT(ci) AS itemCount, COALESCE(SUM(ci.cartItemQuantity * p.price), 0) AS totalPrice " +
+            "FROM CartItem ci JOIN ci.product p " +
+            "WHERE ci.cart.cartId = :cartId")
+    CartTotals sumTotalsByCartId(@Param("cartId") int cartId);
+
+    interface CartTotals {
+        Long getItemCount();
+        Long getTotalPrice();
+    }
 }
@@ -1,11 +1,31 @@
 package com.sesac.fmmall.Repository;
 
 import com.sesac.fmmall.Entity.Cart;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Integer> {
 
     Optional<Cart> findByUser_UserId(int userId);
+
+    // 장바구니가 없을 때만 생성 (uk_cart_user 에 걸리면 무시 → 동시에 첫 담기를 해도 하나만 생긴다)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO cart (user_id) VALUES (:userId)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") int userId);
+
+    // insertIfAbsent 직후 조회용. 잠금 읽기로 다른 트랜잭션이 먼저 만든 장바구니도 보이게 한다. (REPEATABLE READ 스냅샷 우회)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT c FROM Cart c WHERE c.user.userId = :userId")
+    Optional<Cart> findForShareByUserId(@Param("userId") int userId);
+
+    // 장바구니 + 장바구니 상품 + 상품을 한 번에 조회 (주문 생성용)
+    @EntityGraph(attributePaths = {"cartItems", "cartItems.product"})
+    Optional<Cart> findWithItemsByUser_UserId(int userId);
 }
@@ -4,8 +4,11 @@ import com.sesac.fmmall.Entity.Order;
 import com.sesac.fmmall.Entity.OrderItem;
 import com.sesac.fmmall.Entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -22,4 +25,21 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
 
 
     List<OrderItem> findByProduct_ProductId(Integer productId);
-}
\ No newline at end of file
+
+
+    // 주문 취소용 : 상품별 수량 합 + 배송 시작 여부 (배송일이 오늘이거나 지난 주문상품이 하나라도 있으면 1)
+    // 주문상품 엔티티/상품을 올리지 않고 한 번에 읽는다. productId 오름차순 = 재고 복구 락 순서
+    @Query("SELECT oi.product.productId AS productId, SUM(oi.quantity) AS quantity, " +
+            "       MAX(CASE WHEN oi.deliveryDate IS NOT NULL AND oi.deliveryDate <= :today THEN 1 ELSE 0 END) AS shipped " +
+            "FROM OrderItem oi " +
+            "WHERE oi.order.orderId = :orderId " +
+            "GROUP BY oi.product.productId " +
+            "ORDER BY oi.product.productId")
+    List<CancelLineRow> findCancelLines(@Param("orderId") int orderId, @Param("today") LocalDate today);
+
+    interface CancelLineRow {
+        int getProductId();
+        Long getQuantity();
+        Integer getShipped();
+    }
+}
@@ -1,11 +1,19 @@
 package com.sesac.fmmall.Repository;
 
+import com.sesac.fmmall.Constant.OrderStatus;
 import com.sesac.fmmall.Entity.Order;
 import com.sesac.fmmall.Entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Integer> {
@@ -18,4 +26,111 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
 
 
     //Order findByIdAndUser_UserId(Integer orderId, Integer userId);
+
+    // ===================== 조회 전용 (fetch join) ===================== //
+    // Order.payment 는 mappedBy 쪽 OneToOne 이라 LAZY 가 동작하지 않고 주문마다 따로 조회되므로 항상 같이 fetch join 한다.
+    // orderItems / refunds 는 둘 다 List(bag) 라 한 쿼리로 같이 fetch join 할 수 없어서 refunds 는 별도 쿼리로 채운다.
+    // 상품명/단가는 주문상품의 주문 당시 스냅샷을 쓰므로 product 는 조인하지 않는다.
+
+    // 주문 상세: 주문 + 결제 + 주문상품
+    @Query("SELECT DISTINCT o FROM Order o " +
+            "LEFT JOIN FETCH o.payment " +
+            "LEFT JOIN FETCH o.orderItems " +
+            "WHERE o.orderId = :orderId")
+    Optional<Order> findDetailById(@Param("orderId") int orderId);
+
+    // 주문 목록: 사용자의 주문 + 결제 + 주문상품
+    @Query("SELECT DISTINCT o FROM Order o " +
+            "LEFT JOIN FETCH o.payment " +
+            "LEFT JOIN FETCH o.orderItems " +
+            "WHERE o.user.userId = :userId " +
+            "ORDER BY o.orderId")
+    List<Order> findHistoryByUserId(@Param("userId") int userId);
+
+    // 특정 상품이 포함된 사용자의 주문 + 결제 + 주문상품(전체)
+    // 상품 조건은 EXISTS 로 걸어서 사용자 주문(idx_orders_user_created_id)에서 출발해
+    // order_item(order_id, product_id) 인덱스만 확인한다. (상품의 전체 주문상품을 읽지 않음)
+    @Query("SELECT DISTINCT o FROM Order o " +
+            "LEFT JOIN FETCH o.payment " +
+            "LEFT JOIN FETCH o.orderItems " +
+            "WHERE o.user.userId = :userId " +
+            "  AND EXISTS (SELECT 1 FROM OrderItem x " +
+            "              WHERE x.order = o AND x.product.productId = :productId) " +
+            "ORDER BY o.orderId")
+    List<Order> findDetailsByUserAndProduct(@Param("userId") int userId,
+                                            @Param("productId") int productId);
+
+    // 위에서 읽어온 주문들의 환불 목록을 한 번에 채운다. (같은 영속성 컨텍스트 안에서 호출)
+    @Query("SELECT DISTINCT o FROM Order o " +
+            "LEFT JOIN FETCH o.refunds " +
+            "WHERE o IN :orders")
+    List<Order> fetchRefunds(@Param("orders") Collection<Order> orders);
+
+    // ===================== 주문 내역 (커서 기반 projection) ===================== //
+    // 엔티티 대신 목록에 필요한 컬럼만 읽는다. 총 수량은 주문별 서브쿼리로 DB 에서 합산하므로
+    // GROUP BY 없이 idx_orders_user_created_id 를 최신순으로 읽다가 LIMIT 에서 멈춘다.
+
+    // 최신순 : (createdAt DESC, orderId DESC)
+    @Query("SELECT o.orderId AS orderId, o.totalPrice AS totalPrice, o.createdAt AS createdAt, " +
+            "       o.orderStatus AS orderStatus, " +
+            "       (SELECT COALESCE(SUM(oi.quantity), 0) FROM OrderItem oi WHERE oi.order = o) AS totalQuantity " +
+            "FROM Order o " +
+            "WHERE o.user.userId = :userId " +
+            "  AND (:cursorCreatedAt IS NULL " +
+            "     OR o.createdAt < :cursorCreatedAt " +
+            "     OR (o.createdAt = :cursorCreatedAt AND o.orderId < :cursorOrderId)) " +
+            "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<OrderHistoryRow> findHistorySlice(@Param("userId") int userId,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorOrderId") Integer cursorOrderId,
+                                           Pageable pageable);
+
+    // 위 페이지에 포함된 주문들의 상품명 (주문 당시 스냅샷, 주문별 중복 제거, 주문상품 순서 유지)
+    // 스냅샷이 아직 채워지지 않은 옛 주문상품은 현재 상품명
+    @Query("SELECT oi.order.orderId AS orderId, COALESCE(oi.productName, p.name) AS productName " +
+            "FROM OrderItem oi " +
+            "JOIN oi.product p " +
+            "WHERE oi.order.orderId IN :orderIds " +
+            "GROUP BY oi.order.orderId, COALESCE(oi.productName, p.name) " +
+            "ORDER BY MIN(oi.orderItemId)")
+    List<OrderProductNameRow> findProductNamesByOrderIds(@Param("orderIds") Collection<Integer> orderIds);
+
+    // ===================== 주문 취소 ===================== //
+    // 취소는 주문/주문상품/결제 행을 지우지 않고 상태만 바꾼다.
+    // 엔티티를 올리면 mappedBy OneToOne 인 payment 까지 따라 조회되므로, 판단에 필요한 값만 projection 으로 읽는다.
+
+    // 취소 대상 확인 : 주문자 / 상태 / 환불 건수 (한 번에)
+    @Query("SELECT o.user.userId AS userId, o.orderStatus AS orderStatus, " +
+            "       (SELECT COUNT(r) FROM Refund r WHERE r.order = o) AS refundCount " +
+            "FROM Order o " +
+            "WHERE o.orderId = :orderId")
+    Optional<OrderCancelTarget> findCancelTarget(@Param("orderId") int orderId);
+
+    // 상태 조건부 변경. 동시에 들어온 취소 중 하나만 1을 받고 나머지는 0 (재고를 두 번 복구하지 않는다)
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :to, o.cancelledAt = :cancelledAt " +
+            "WHERE o.orderId = :orderId AND o.orderStatus = :from")
+    int changeStatus(@Param("orderId") int orderId,
+                     @Param("from") OrderStatus from,
+                     @Param("to") OrderStatus to,
+                     @Param("cancelledAt") LocalDateTime cancelledAt);
+
+    interface OrderCancelTarget {
+        int getUserId();
+        OrderStatus getOrderStatus();
+        long getRefundCount();
+    }
+
+    interface OrderHistoryRow {
+        int getOrderId();
+        Integer getTotalPrice();
+        LocalDateTime getCreatedAt();
+        OrderStatus getOrderStatus();
+        Long getTotalQuantity();
+    }
+
+    interface OrderProductNameRow {
+        int getOrderId();
+        String getProductName();
+    }
 }
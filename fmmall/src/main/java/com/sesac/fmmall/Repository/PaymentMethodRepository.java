@@ -11,4 +11,7 @@ public interface PaymentMethodRepository extends JpaRepository<PaymentMethod,Int
     List<PaymentMethod> findByUser_UserId(Integer userId);
 
     Optional<PaymentMethod> findByUser_UserIdAndIsDefault(Integer userId, Boolean isDefault);
+
+    // 체크아웃 토큰의 결제수단이 아직 있고 본인 것인지 확인 (PK 조회 1번)
+    boolean existsByPaymentMethodIdAndUser_UserId(Integer paymentMethodId, Integer userId);
 }
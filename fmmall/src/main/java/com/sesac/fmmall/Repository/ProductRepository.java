@@ -1,12 +1,18 @@
 package com.sesac.fmmall.Repository;
 
+import com.sesac.fmmall.Constant.ProductStatus;
 import com.sesac.fmmall.Entity.Brand;
 import com.sesac.fmmall.Entity.Category;
 import com.sesac.fmmall.Entity.Product;
 import com.sesac.fmmall.Entity.RowCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +21,90 @@ public interface ProductRepository extends JpaRepository<Product,Integer> {
     List<Product> findByRowCategory(RowCategory rowCategory);
     List<Product> findByBrand(Brand brand);
 
+    // 고객용 목록 : 노출하지 않는 상태(ProductStatus.UNLISTED)를 뺀다.
+    List<Product> findByProductStatusNotIn(Collection<ProductStatus> unlisted);
+    List<Product> findByCategoryAndProductStatusNotIn(Category category, Collection<ProductStatus> unlisted);
+    List<Product> findByRowCategoryAndProductStatusNotIn(RowCategory rowCategory, Collection<ProductStatus> unlisted);
+    List<Product> findByBrandAndProductStatusNotIn(Brand brand, Collection<ProductStatus> unlisted);
+
+    /*
+     * 커서(keyset) 기반 상품 목록 조회.
+     * - 필터는 null 이면 무시된다.
+     * - 노출하지 않는 상태(ProductStatus.UNLISTED)의 상품은 status 필터와 상관없이 빠진다.
+     * - OFFSET 대신 "마지막으로 본 (정렬키, productId)" 다음부터 읽기 때문에
+     *   몇 번째 페이지든 인덱스에서 바로 이어서 읽는다.
+     * - 조회 개수는 Pageable(page = 0, size = n)로 제한한다.
+     */
+
+    // 최신 등록순 : (createdAt DESC, productId DESC)
+    @Query("SELECT p FROM Product p " +
+            "WHERE (:categoryId IS NULL OR p.category.categoryId = :categoryId) " +
+            "AND (:rowCategoryId IS NULL OR p.rowCategory.rowCategoryId = :rowCategoryId) " +
+            "AND (:brandId IS NULL OR p.brand.brandId = :brandId) " +
+            "AND (:status IS NULL OR p.productStatus = :status) " +
+            "AND p.productStatus NOT IN :unlisted " +
+            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
+            "AND (:cursorCreatedAt IS NULL " +
+            "     OR p.createdAt < :cursorCreatedAt " +
+            "     OR (p.createdAt = :cursorCreatedAt AND p.productId < :cursorProductId)) " +
+            "ORDER BY p.createdAt DESC, p.productId DESC")
+    List<Product> findSliceOrderByLatest(@Param("categoryId") Integer categoryId,
+                                         @Param("rowCategoryId") Integer rowCategoryId,
+                                         @Param("brandId") Integer brandId,
+                                         @Param("status") ProductStatus status,
+                                         @Param("unlisted") Collection<ProductStatus> unlisted,
+                                         @Param("minPrice") Integer minPrice,
+                                         @Param("maxPrice") Integer maxPrice,
+                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorProductId") Integer cursorProductId,
+                                         Pageable pageable);
+
+    // 낮은 가격순 : (price ASC, productId ASC)
+    @Query("SELECT p FROM Product p " +
+            "WHERE (:categoryId IS NULL OR p.category.categoryId = :categoryId) " +
+            "AND (:rowCategoryId IS NULL OR p.rowCategory.rowCategoryId = :rowCategoryId) " +
+            "AND (:brandId IS NULL OR p.brand.brandId = :brandId) " +
+            "AND (:status IS NULL OR p.productStatus = :status) " +
+            "AND p.productStatus NOT IN :unlisted " +
+            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
+            "AND (:cursorPrice IS NULL " +
+            "     OR p.price > :cursorPrice " +
+            "     OR (p.price = :cursorPrice AND p.productId > :cursorProductId)) " +
+            "ORDER BY p.price ASC, p.productId ASC")
+    List<Product> findSliceOrderByPriceAsc(@Param("categoryId") Integer categoryId,
+                                           @Param("rowCategoryId") Integer rowCategoryId,
+                                           @Param("brandId") Integer brandId,
+                                           @Param("status") ProductStatus status,
+                                           @Param("unlisted") Collection<ProductStatus> unlisted,
+                                           @Param("minPrice") Integer minPrice,
+                                           @Param("maxPrice") Integer maxPrice,
+                                           @Param("cursorPrice") Integer cursorPrice,
+                                           @Param("cursorProductId") Integer cursorProductId,
+                                           Pageable pageable);
+
+    // 높은 가격순 : (price DESC, productId DESC)
+    @Query("SELECT p FROM Product p " +
+            "WHERE (:categoryId IS NULL OR p.category.categoryId = :categoryId) " +
+            "AND (:rowCategoryId IS NULL OR p.rowCategory.rowCategoryId = :rowCategoryId) " +
+            "AND (:brandId IS NULL OR p.brand.brandId = :brandId) " +
+            "AND (:status IS NULL OR p.productStatus = :status) " +
+            "AND p.productStatus NOT IN :unlisted " +
+            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
+            "AND (:cursorPrice IS NULL " +
+            "     OR p.price < :cursorPrice " +
+            "     OR (p.price = :cursorPrice AND p.productId < :cursorProductId)) " +
+            "ORDER BY p.price DESC, p.productId DESC")
+    List<Product> findSliceOrderByPriceDesc(@Param("categoryId") Integer categoryId,
+                                            @Param("rowCategoryId") Integer rowCategoryId,
+                                            @Param("brandId") Integer brandId,
+                                            @Param("status") ProductStatus status,
+                                            @Param("unlisted") Collection<ProductStatus> unlisted,
+                                            @Param("minPrice") Integer minPrice,
+                                            @Param("maxPrice") Integer maxPrice,
+                                            @Param("cursorPrice") Integer cursorPrice,
+                                            @Param("cursorProductId") Integer cursorProductId,
+                                            Pageable pageable);
 }
@@ -1,9 +1,13 @@
 package com.sesac.fmmall.Repository;
 
+import com.sesac.fmmall.Constant.YesNo;
 import com.sesac.fmmall.Entity.Order;
 import com.sesac.fmmall.Entity.Payment;
 import com.sesac.fmmall.Entity.Refund;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +23,23 @@ public interface RefundRepository extends JpaRepository<Refund, Integer> {
 
     List<Refund> findByPayment(Payment payment);
     //List<Refund> findByPayment_Id(Integer paymentId);
-}
\ No newline at end of file
+
+
+    // 특정 상품이 포함된 사용자의 환불 + 환불상품
+    // 사용자 주문에서 출발해 refund(order_id) → refund_item(refund_id, order_item_id) → order_item 순으로 좁힌다.
+    @Query("SELECT DISTINCT r FROM Refund r " +
+            "LEFT JOIN FETCH r.refundItems " +
+            "WHERE r.order.user.userId = :userId " +
+            "  AND EXISTS (SELECT 1 FROM RefundItem ri " +
+            "              WHERE ri.refund = r AND ri.orderItem.product.productId = :productId) " +
+            "ORDER BY r.refundId")
+    List<Refund> findDetailsByUserAndProduct(@Param("userId") int userId,
+                                             @Param("productId") int productId);
+
+    // 환불 완료 표시 조건부 변경. 동시에 들어온 완료 처리 중 하나만 1을 받고 나머지는 0 (매출 집계에 두 번 더하지 않는다)
+    @Modifying
+    @Query("UPDATE Refund r SET r.isTrue = :completed " +
+            "WHERE r.refundId = :refundId AND r.isTrue <> :completed")
+    int markCompleted(@Param("refundId") int refundId,
+                      @Param("completed") YesNo completed);
+}
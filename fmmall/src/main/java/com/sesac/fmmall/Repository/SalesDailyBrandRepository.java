@@ -0,0 +1,31 @@
+package com.sesac.fmmall.Repository;
+
+import com.sesac.fmmall.Entity.SalesDailyBrand;
+import com.sesac.fmmall.Repository.SalesDailyRepository.SalesTotalsRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesDailyBrandRepository extends JpaRepository<SalesDailyBrand, SalesDailyBrand.Key> {
+
+    // 기간의 브랜드별 합계, 순매출 많은 순 (idx_sales_daily_brand_date 범위 → 기간 일수 x 브랜드 수만큼만 읽음)
+    @Query("SELECT s.brandId AS targetId, x.name AS name, " +
+            "       SUM(s.orderCount) AS orderCount, SUM(s.quantity) AS quantity, SUM(s.amount) AS amount, " +
+            "       SUM(s.cancelledCount) AS cancelledCount, SUM(s.cancelledQuantity) AS cancelledQuantity, " +
+            "       SUM(s.cancelledAmount) AS cancelledAmount, " +
+            "       SUM(s.refundedQuantity) AS refundedQuantity, SUM(s.refundedAmount) AS refundedAmount " +
+            "FROM SalesDailyBrand s " +
+            "LEFT JOIN Brand x ON x.brandId = s.brandId " +
+            "WHERE s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.brandId, x.name " +
+            "ORDER BY SUM(s.amount - s.cancelledAmount - s.refundedAmount) DESC, s.brandId")
+    List<SalesTotalsRow> findTotals(@Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.sesac.fmmall.Repository;
+
+import com.sesac.fmmall.Entity.SalesDailyCategory;
+import com.sesac.fmmall.Repository.SalesDailyRepository.SalesTotalsRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesDailyCategoryRepository extends JpaRepository<SalesDailyCategory, SalesDailyCategory.Key> {
+
+    // 기간의 카테고리별 합계, 순매출 많은 순 (idx_sales_daily_category_date 범위 → 기간 일수 x 카테고리 수만큼만 읽음)
+    @Query("SELECT s.categoryId AS targetId, x.name AS name, " +
+            "       SUM(s.orderCount) AS orderCount, SUM(s.quantity) AS quantity, SUM(s.amount) AS amount, " +
+            "       SUM(s.cancelledCount) AS cancelledCount, SUM(s.cancelledQuantity) AS cancelledQuantity, " +
+            "       SUM(s.cancelledAmount) AS cancelledAmount, " +
+            "       SUM(s.refundedQuantity) AS refundedQuantity, SUM(s.refundedAmount) AS refundedAmount " +
+            "FROM SalesDailyCategory s " +
+            "LEFT JOIN Category x ON x.categoryId = s.categoryId " +
+            "WHERE s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.categoryId, x.name " +
+            "ORDER BY SUM(s.amount - s.cancelledAmount - s.refundedAmount) DESC, s.categoryId")
+    List<SalesTotalsRow> findTotals(@Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    Pageable pageable);
+}
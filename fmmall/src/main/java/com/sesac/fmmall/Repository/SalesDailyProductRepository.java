@@ -0,0 +1,34 @@
+package com.sesac.fmmall.Repository;
+
+import com.sesac.fmmall.Entity.SalesDailyProduct;
+import com.sesac.fmmall.Repository.SalesDailyRepository.SalesTotalsRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesDailyProductRepository extends JpaRepository<SalesDailyProduct, SalesDailyProduct.Key> {
+
+    // 상품 하나의 일별 매출 (PK (product_id, sales_date) 범위)
+    List<SalesDailyProduct> findByProductIdAndSalesDateBetweenOrderBySalesDate(int productId, LocalDate from, LocalDate to);
+
+    // 기간의 상품별 합계, 순매출 많은 순 (idx_sales_daily_product_date 범위 → 기간 일수 x 상품 수만큼만 읽음)
+    @Query("SELECT s.productId AS targetId, x.name AS name, " +
+            "       SUM(s.orderCount) AS orderCount, SUM(s.quantity) AS quantity, SUM(s.amount) AS amount, " +
+            "       SUM(s.cancelledCount) AS cancelledCount, SUM(s.cancelledQuantity) AS cancelledQuantity, " +
+            "       SUM(s.cancelledAmount) AS cancelledAmount, " +
+            "       SUM(s.refundedQuantity) AS refundedQuantity, SUM(s.refundedAmount) AS refundedAmount " +
+            "FROM SalesDailyProduct s " +
+            "LEFT JOIN Product x ON x.productId = s.productId " +
+            "WHERE s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.productId, x.name " +
+            "ORDER BY SUM(s.amount - s.cancelledAmount - s.refundedAmount) DESC, s.productId")
+    List<SalesTotalsRow> findTotals(@Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    Pageable pageable);
+}
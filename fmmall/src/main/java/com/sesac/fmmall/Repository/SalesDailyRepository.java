@@ -0,0 +1,32 @@
+package com.sesac.fmmall.Repository;
+
+import com.sesac.fmmall.Entity.SalesDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesDailyRepository extends JpaRepository<SalesDaily, LocalDate> {
+
+    // 기간의 일별 매출 (PK sales_date 범위, 하루 한 행)
+    List<SalesDaily> findBySalesDateBetweenOrderBySalesDate(LocalDate from, LocalDate to);
+
+    /**
+     * 상품 / 카테고리 / 브랜드별 기간 합계 projection
+     * - targetId : 상품 / 카테고리 / 브랜드 ID, name : 그 이름 (삭제되어 없으면 null)
+     */
+    interface SalesTotalsRow {
+        Integer getTargetId();
+        String getName();
+        Long getOrderCount();
+        Long getQuantity();
+        Long getAmount();
+        Long getCancelledCount();
+        Long getCancelledQuantity();
+        Long getCancelledAmount();
+        Long getRefundedQuantity();
+        Long getRefundedAmount();
+    }
+}
@@ -0,0 +1,91 @@
+package com.sesac.fmmall.Security;
+
+import com.sesac.fmmall.Entity.User;
+import com.sesac.fmmall.Repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증된 사용자(User) 조회 캐시
+ * - 최대 maxSize 명까지 보관 (가장 오래 안 쓴 사용자부터 제거), 저장 후 ttlSeconds 가 지나면 다시 조회
+ * - 회원 정보 수정/탈퇴 시 UserService 에서 evict 해준다.
+ * - maxSize 가 0 이면 캐시 없이 매번 DB 조회
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // accessOrder = true → 조회할 때마다 맨 뒤로 이동 (LRU)
+    private final Map<Integer, CachedUser> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public AuthenticatedUserCache(UserRepository userRepository,
+                                  @Value("${jwt.user-cache.max-size:10000}") int maxSize,
+                                  @Value("${jwt.user-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedUser> eldest) {
+                return size() > AuthenticatedUserCache.this.maxSize;
+            }
+        };
+    }
+
+    public Optional<User> get(int userId) {
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            CachedUser cached = cache.get(userId);
+            if (cached != null && cached.expiresAt > now) {
+                hitCount.incrementAndGet();
+                return Optional.of(cached.user);
+            }
+        }
+
+        // DB 조회는 락 밖에서 (동시에 같은 사용자를 조회하면 두 번 읽을 수 있지만 결과는 같다)
+        missCount.incrementAndGet();
+        Optional<User> user = userRepository.findById(userId);
+
+        if (user.isPresent() && maxSize > 0) {
+            synchronized (cache) {
+                cache.put(userId, new CachedUser(user.get(), now + ttlMillis));
+            }
+        }
+        return user;
+    }
+
+    public void evict(int userId) {
+        synchronized (cache) {
+            cache.remove(userId);
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private record CachedUser(User user, long expiresAt) {
+    }
+}
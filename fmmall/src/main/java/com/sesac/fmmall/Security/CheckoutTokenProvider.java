@@ -0,0 +1,123 @@
+package com.sesac.fmmall.Security;
+
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.*;
+
+/**
+ * 체크아웃 토큰 발급 / 검증
+ * - 주문서 화면을 열 때 확인한 값(주문할 장바구니 항목, 기본 배송지 ID, 본인 결제수단 ID 와 카드사)을 서명해서 짧게 내려준다.
+ * - 주문 제출 때 이 토큰이 유효하면 사용자/기본 배송지/결제수단을 다시 조회하지 않는다.
+ * - 로그인 토큰과 같은 비밀값에서 다른 키를 만들어 쓰므로, 체크아웃 토큰을 로그인 토큰으로 쓸 수 없다.
+ */
+@Component
+public class CheckoutTokenProvider {
+
+    private static final String TYPE = "checkout";
+
+    @Value("${jwt.secret:change-this-secret-key}")
+    private String secretKeyPlain;
+
+    @Value("${order.checkout.token-validity-in-seconds:300}")
+    private long tokenValidityInSeconds;
+
+    private Key secretKey;
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        this.secretKey = Keys.hmacShaKeyFor((TYPE + ":" + secretKeyPlain).getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+    }
+
+    public long getTokenValidityInSeconds() {
+        return tokenValidityInSeconds;
+    }
+
+    public String createToken(CheckoutContext context, Date expiresAt) {
+        Map<String, String> cardCompanies = new LinkedHashMap<>();
+        context.cardCompanyByPaymentMethodId()
+                .forEach((paymentMethodId, cardCompany) -> cardCompanies.put(String.valueOf(paymentMethodId), cardCompany));
+
+        JwtBuilder builder = Jwts.builder()
+                .claim("typ", TYPE)
+                .claim("userId", context.userId())
+                .claim("items", context.cartItemIds())
+                .claim("pm", cardCompanies)
+                .setIssuedAt(new Date())
+                .setExpiration(expiresAt);
+        if (context.defaultAddressId() != null) {
+            builder.claim("defAddr", context.defaultAddressId());
+        }
+        if (context.defaultPaymentMethodId() != null) {
+            builder.claim("defPm", context.defaultPaymentMethodId());
+        }
+        return builder.signWith(secretKey, SignatureAlgorithm.HS256).compact();
+    }
+
+    /**
+     * 서명/만료/사용자를 확인한 체크아웃 정보, 토큰이 없거나 하나라도 맞지 않으면 null
+     * - 토큰을 보냈는데 null 이면 호출한 쪽은 주문서를 다시 불러오라고 거절한다. (다른 항목이 주문되지 않도록)
+     */
+    public CheckoutContext parse(String token, int userId) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (!TYPE.equals(claims.get("typ", String.class))
+                    || !Objects.equals(claims.get("userId", Integer.class), userId)) {
+                return null;
+            }
+
+            Map<Integer, String> cardCompanies = new LinkedHashMap<>();
+            Map<?, ?> rawCardCompanies = claims.get("pm", Map.class);
+            if (rawCardCompanies != null) {
+                rawCardCompanies.forEach((id, cardCompany) ->
+                        cardCompanies.put(Integer.valueOf(String.valueOf(id)), String.valueOf(cardCompany)));
+            }
+
+            return new CheckoutContext(
+                    userId,
+                    toIds(claims.get("items", List.class)),
+                    claims.get("defAddr", Integer.class),
+                    claims.get("defPm", Integer.class),
+                    cardCompanies);
+        } catch (JwtException | IllegalArgumentException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private List<Integer> toIds(List<?> raw) {
+        if (raw == null) {
+            return List.of();
+        }
+        List<Integer> ids = new ArrayList<>(raw.size());
+        for (Object id : raw) {
+            ids.add(((Number) id).intValue());
+        }
+        return ids;
+    }
+
+    /**
+     * @param cartItemIds                   주문서에 보여준 장바구니 항목
+     * @param defaultAddressId              기본 배송지 (없으면 null)
+     * @param defaultPaymentMethodId        기본 결제수단 (없으면 null)
+     * @param cardCompanyByPaymentMethodId  본인 결제수단 ID → 카드사 (결제 생성에 필요한 값)
+     */
+    public record CheckoutContext(int userId,
+                                  List<Integer> cartItemIds,
+                                  Integer defaultAddressId,
+                                  Integer defaultPaymentMethodId,
+                                  Map<Integer, String> cardCompanyByPaymentMethodId) {
+    }
+}
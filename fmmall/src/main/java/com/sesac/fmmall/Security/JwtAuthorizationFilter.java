@@ -1,14 +1,13 @@
 package com.sesac.fmmall.Security;
 
-import com.sesac.fmmall.Entity.User;
-import com.sesac.fmmall.Repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -16,12 +15,26 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authorization 헤더의 JWT 로 SecurityContext 를 채우는 필터
+ * - jwt.stateless = true  : 검증된 클레임만으로 JwtUserPrincipal 생성 (요청마다 DB 조회 없음)
+ *                           권한 변경/탈퇴는 토큰이 만료될 때 반영된다.
+ * - jwt.stateless = false : AuthenticatedUserCache 로 User 를 조회해서 CustomUserDetails 생성
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final boolean stateless;
+
+    public JwtAuthorizationFilter(JwtTokenProvider jwtTokenProvider,
+                                  AuthenticatedUserCache authenticatedUserCache,
+                                  @Value("${jwt.stateless:true}") boolean stateless) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.stateless = stateless;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -33,17 +46,13 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
             String token = bearer.substring(7);
 
-            // 토큰 유효성 검사
-            if (jwtTokenProvider.validateToken(token)) {
-                int userId = jwtTokenProvider.getUserId(token);
-
-                // DB에서 유저 조회
-                User user = userRepository.findById(userId).orElse(null);
+            // 토큰 유효성 검사 (서명/만료) + 클레임 추출을 한 번에
+            TokenClaims claims = jwtTokenProvider.getValidClaims(token);
 
-                if (user != null) {
-                    // ✅ CustomUserDetails 사용
-                    CustomUserDetails userDetails = new CustomUserDetails(user);
+            if (claims != null) {
+                UserDetails userDetails = stateless ? fromClaims(claims) : fromUserCache(claims);
 
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,                 // principal
@@ -62,4 +71,23 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails fromClaims(TokenClaims claims) {
+        try {
+            return JwtUserPrincipal.from(claims);
+        } catch (IllegalArgumentException e) {
+            // userId / role 클레임이 없거나 잘못된 토큰 → 인증하지 않음
+            return null;
+        }
+    }
+
+    private UserDetails fromUserCache(TokenClaims claims) {
+        Integer userId = claims.userId();
+        if (userId == null) {
+            return null;
+        }
+        return authenticatedUserCache.get(userId)
+                .map(CustomUserDetails::new)
+                .orElse(null);
+    }
 }
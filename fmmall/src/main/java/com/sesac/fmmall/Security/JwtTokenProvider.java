@@ -7,8 +7,16 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 public class JwtTokenProvider {
@@ -19,11 +27,26 @@ public class JwtTokenProvider {
     @Value("${jwt.token-validity-in-seconds:3600}")
     private long tokenValidityInSeconds;
 
+    // 검증이 끝난 토큰의 클레임을 만료 시각까지 보관할 최대 개수 (0 이면 캐시 사용 안 함)
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
     private Key secretKey;
 
+    // 파서는 thread-safe 라서 한 번만 만들어서 재사용
+    private JwtParser jwtParser;
+
+    // key: 토큰의 SHA-256 해시 (토큰 원문은 메모리에 보관하지 않음), value: 불변 TokenClaims
+    // 요청마다 거치므로 전역 락 없이 ConcurrentHashMap. 크기 제한은 대략적으로 (넣을 때 가득 찼으면 한 스레드만 정리)
+    private final Map<String, TokenClaims> verifiedClaimsCache = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretKeyPlain.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     public String createToken(User user) {
@@ -41,33 +64,89 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return getValidClaims(token) != null;
+    }
+
+    // 유효한 토큰이면 클레임, 아니면 null (검증과 클레임 추출을 한 번의 파싱으로)
+    public TokenClaims getValidClaims(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return parseClaims(token);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 서명/만료 검증 후 클레임 반환
+     * - 같은 토큰이 다시 들어오면 캐시된 클레임을 쓰고 서명 검증/JSON 파싱을 건너뛴다.
+     * - 캐시에 있어도 만료 시각이 지났으면 버리고 다시 파싱 (→ ExpiredJwtException)
+     */
+    private TokenClaims parseClaims(String token) {
+        if (claimsCacheMaxSize <= 0) {
+            return TokenClaims.from(jwtParser.parseClaimsJws(token).getBody());
+        }
+
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        TokenClaims cached = verifiedClaimsCache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedClaimsCache.remove(key, cached);
+        }
+
+        // 만료된 토큰은 캐시에 넣지 않고 여기서 예외
+        TokenClaims claims = TokenClaims.from(jwtParser.parseClaimsJws(token).getBody());
+        if (verifiedClaimsCache.size() >= claimsCacheMaxSize) {
+            sweep(now);
+        }
+        verifiedClaimsCache.put(key, claims);
+        return claims;
+    }
+
+    /*
+     * 가득 찼을 때 정리 (다른 스레드가 정리 중이면 그냥 넣는다 → 잠깐 max-size 를 조금 넘을 수 있음)
+     * - 만료된 토큰부터 지우고, 그래도 가득 차 있으면 순회 순서대로 1/4 를 지운다. (어느 토큰이 빠질지는 정하지 않음)
+     */
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            verifiedClaimsCache.values().removeIf(claims -> claims.isExpired(now));
+            int excess = verifiedClaimsCache.size() - claimsCacheMaxSize * 3 / 4;
+            Iterator<String> keys = verifiedClaimsCache.keySet().iterator();
+            while (excess-- > 0 && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 
 
     public String getLoginId(String token) {
-        return parseClaims(token).getSubject();
+        return parseClaims(token).loginId();
     }
 
 
     public int getUserId(String token) {
-        return parseClaims(token).get("userId", Integer.class);
+        return parseClaims(token).userId();
     }
 
     public String getRole(String token) {
-        return parseClaims(token).get("role", String.class);
+        return parseClaims(token).role();
     }
 }
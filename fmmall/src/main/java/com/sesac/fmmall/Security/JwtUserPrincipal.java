@@ -0,0 +1,55 @@
+package com.sesac.fmmall.Security;
+
+import com.sesac.fmmall.Constant.UserRole;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 토큰 클레임(userId / sub / role)만으로 만든 인증 정보
+ * - DB 조회 없이 만들어지므로 비밀번호 등 User 엔티티 정보는 없다.
+ * - 전체 User 가 필요하면 AuthenticatedUserCache 로 조회
+ */
+@Getter
+public class JwtUserPrincipal implements UserDetails {
+
+    private final int userId;
+    private final String loginId;
+    private final UserRole role;
+
+    public JwtUserPrincipal(int userId, String loginId, UserRole role) {
+        this.userId = userId;
+        this.loginId = loginId;
+        this.role = role;
+    }
+
+    // 서명 검증이 끝난 클레임으로 생성 (필수 클레임이 없으면 IllegalArgumentException)
+    public static JwtUserPrincipal from(TokenClaims claims) {
+        Integer userId = claims.userId();
+        String role = claims.role();
+
+        if (userId == null || role == null) {
+            throw new IllegalArgumentException("토큰에 사용자 정보가 없습니다.");
+        }
+        return new JwtUserPrincipal(userId, claims.loginId(), UserRole.valueOf(role));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(() -> "ROLE_" + role.name());
+    }
+
+    @Override
+    public String getPassword() { return null; }
+
+    @Override
+    public String getUsername() { return loginId; }
+
+    @Override public boolean isAccountNonExpired() { return true; }
+    @Override public boolean isAccountNonLocked() { return true; }
+    @Override public boolean isCredentialsNonExpired() { return true; }
+    @Override public boolean isEnabled() { return true; }
+}
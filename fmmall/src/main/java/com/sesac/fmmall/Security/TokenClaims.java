@@ -0,0 +1,27 @@
+package com.sesac.fmmall.Security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 토큰에서 인증에 쓰는 클레임(sub / userId / role / exp)만 꺼낸 값
+ * - 불변이라 JwtTokenProvider 의 검증 캐시에 그대로 두고 여러 요청이 같이 써도 된다.
+ * - userId / role 클레임이 없는 토큰이면 해당 값이 null
+ */
+public record TokenClaims(String loginId, Integer userId, String role, long expiresAtMillis) {
+
+    // 클레임 타입이 다르면 RequiredTypeException (JwtException)
+    static TokenClaims from(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new TokenClaims(
+                claims.getSubject(),
+                claims.get("userId", Integer.class),
+                claims.get("role", String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    boolean isExpired(long now) {
+        return expiresAtMillis <= now;
+    }
+}
@@ -0,0 +1,437 @@
+package com.sesac.fmmall.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sesac.fmmall.Constant.OrderRequestStatus;
+import com.sesac.fmmall.DTO.Order.AsyncOrderResponse;
+import com.sesac.fmmall.DTO.Order.CartOrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.Repository.CartItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 주문 접수 / 처리
+ * - 접수: 요청을 order_request 테이블에 INSERT 한 번만 하고 token 을 바로 돌려준다.
+ *   (사용자/배송지/재고/결제 처리를 요청 트랜잭션에서 하지 않으므로 주문이 몰려도 응답 시간이 일정하다)
+ * - 처리: 워커 스레드 workers 개가 PENDING 요청을 batchSize 개씩 가져가서 OrderService 로 주문을 만든다.
+ *   · 가져가기(claim)만 묶음으로 하고, 주문은 한 건씩 각자 트랜잭션으로 만든다.
+ *     (여러 주문을 한 트랜잭션에 넣으면 상품 락이 상품 ID 순서로 잡히지 않아 워커끼리 교착상태가 나고,
+ *      묶음이 끝날 때까지 인기 상품의 재고 행을 잡고 있게 된다. 실패한 요청만 FAILED)
+ *   · 주문 생성과 요청 상태(COMPLETED) 변경은 같은 트랜잭션이라, 서버가 죽어도 주문만 생기고 상태가 안 바뀌는 일은 없다.
+ *   · 가져간 채로 stuckSeconds 가 지난 요청(처리하던 서버가 죽은 경우)은 다시 PENDING 으로 돌린다.
+ *   · 끝난(COMPLETED / FAILED) 요청은 retentionDays 가 지나면 지운다. (상태 조회는 그 기간 안에만 가능)
+ * - 상태 조회: token 으로 PENDING / PROCESSING / COMPLETED(주문 ID) / FAILED(사유) 를 확인한다.
+ *   실패 사유는 주문 검증 메시지(IllegalArgumentException / IllegalStateException)만 그대로 보여주고,
+ *   그 밖의 오류(SQL 등)는 로그에만 남기고 정해진 문구로 저장한다.
+ * - order.async.enabled 가 true 인 서버에서만 접수/워커가 동작한다. (기본 false)
+ */
+@Slf4j
+@Service
+public class AsyncOrderService {
+
+    public static final String KIND_ORDER = "ORDER";
+    public static final String KIND_ORDER_FROM_CART = "ORDER_FROM_CART";
+
+    private static final int MAX_FAILURE_MESSAGE_LENGTH = 500;
+    private static final String UNEXPECTED_FAILURE_MESSAGE = "주문 처리 중 오류가 발생했습니다. 다시 주문해주세요.";
+
+    // 끝난 요청 정리 주기 / 한 번에 지우는 행 수 (큰 DELETE 로 테이블을 오래 잠그지 않도록 나눠서)
+    private static final long PURGE_INTERVAL_MILLIS = 60 * 60 * 1000L;
+    private static final int PURGE_CHUNK_SIZE = 1_000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_request (token, user_id, kind, payload, status, attempts, created_at) " +
+            "VALUES (?, ?, ?, ?, 'PENDING', 0, ?)";
+
+    // 다른 워커(서버)가 잠근 행은 건너뛰고 접수 순서대로 가져간다.
+    private static final String CLAIM_SQL =
+            "SELECT order_request_id, user_id, kind, payload, attempts FROM order_request " +
+            "WHERE status = 'PENDING' ORDER BY order_request_id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String MARK_PROCESSING_SQL =
+            "UPDATE order_request SET status = 'PROCESSING', claim_token = ?, claimed_at = NOW(), attempts = attempts + 1 " +
+            "WHERE order_request_id = ?";
+
+    // 결과 기록은 가져간 워커만 할 수 있다. (0 행이면 다른 워커가 다시 가져간 것)
+    private static final String COMPLETE_SQL =
+            "UPDATE order_request SET status = 'COMPLETED', order_id = ?, completed_at = NOW() " +
+            "WHERE order_request_id = ? AND claim_token = ? AND status = 'PROCESSING'";
+    private static final String FAIL_SQL =
+            "UPDATE order_request SET status = 'FAILED', failure_message = ?, completed_at = NOW() " +
+            "WHERE order_request_id = ? AND claim_token = ? AND status = 'PROCESSING'";
+    private static final String RELEASE_SQL =
+            "UPDATE order_request SET status = 'PENDING', claim_token = NULL, claimed_at = NULL " +
+            "WHERE order_request_id = ? AND claim_token = ? AND status = 'PROCESSING'";
+    private static final String RECOVER_STUCK_SQL =
+            "UPDATE order_request SET status = 'PENDING', claim_token = NULL, claimed_at = NULL " +
+            "WHERE status = 'PROCESSING' AND claimed_at < NOW() - INTERVAL ? SECOND";
+    private static final String PURGE_FINISHED_SQL =
+            "DELETE FROM order_request " +
+            "WHERE status IN ('COMPLETED', 'FAILED') AND completed_at < NOW() - INTERVAL ? DAY LIMIT ?";
+
+    private static final String FIND_SQL =
+            "SELECT token, status, order_id, failure_message, created_at, completed_at FROM order_request " +
+            "WHERE token = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OrderService orderService;
+    private final CartItemRepository cartItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long stuckMillis;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    // 새 요청이 접수되면 쉬고 있는 워커를 깨운다. (다른 서버에서 접수된 요청은 pollIntervalMillis 마다 확인)
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final AtomicLong lastRecoveryAt = new AtomicLong();
+    private final AtomicLong lastPurgeAt = new AtomicLong();
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean running;
+
+    public AsyncOrderService(JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             OrderService orderService,
+                             CartItemRepository cartItemRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${order.async.enabled:false}") boolean enabled,
+                             @Value("${order.async.workers:4}") int workers,
+                             @Value("${order.async.batch-size:20}") int batchSize,
+                             @Value("${order.async.poll-interval-millis:200}") long pollIntervalMillis,
+                             @Value("${order.async.stuck-seconds:60}") long stuckSeconds,
+                             @Value("${order.async.max-attempts:3}") int maxAttempts,
+                             @Value("${order.async.retention-days:7}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.orderService = orderService;
+        this.cartItemRepository = cartItemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.stuckMillis = stuckSeconds * 1000;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+    }
+
+    // =========================================================
+    // 1. 접수
+    // =========================================================
+
+    /**
+     * 상품 즉시 주문 접수
+     * - 요청 바디만 확인하고 저장한다. (상품/재고/배송지/결제수단 확인은 워커가 주문을 만들 때)
+     */
+    public AsyncOrderResponse enqueueOrder(int userId, OrderCreateRequest request) {
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("주문 상품이 없습니다.");
+        }
+        for (OrderItemCreateRequest itemReq : request.getItems()) {
+            if (itemReq.getQuantity() == null || itemReq.getQuantity() < 1) {
+                throw new IllegalArgumentException("상품 수량은 1개 이상이어야 합니다.");
+            }
+        }
+        return enqueue(userId, KIND_ORDER, request);
+    }
+
+    /**
+     * 장바구니 주문 접수
+     * - cartItemIds 가 없으면 접수 시점에 선택된 항목 ID 를 담아서 저장한다.
+     *   (처리 전에 선택을 바꿔도 접수한 항목만 주문된다)
+     */
+    public AsyncOrderResponse enqueueOrderFromCart(int userId, CartOrderCreateRequest request) {
+        List<Integer> cartItemIds = request.getCartItemIds() != null
+                ? request.getCartItemIds()
+                : cartItemRepository.findCheckedIdsByUserId(userId);
+
+        if (cartItemIds.isEmpty()) {
+            throw new IllegalArgumentException("주문할 장바구니 상품이 없습니다.");
+        }
+
+        CartOrderCreateRequest fixed = CartOrderCreateRequest.builder()
+                .addressId(request.getAddressId())
+                .paymentMethodId(request.getPaymentMethodId())
+                .cartItemIds(List.copyOf(cartItemIds))
+                .build();
+        return enqueue(userId, KIND_ORDER_FROM_CART, fixed);
+    }
+
+    /**
+     * 접수한 주문의 처리 상태 조회 (본인 요청만)
+     */
+    public AsyncOrderResponse getStatus(int userId, String token) {
+        List<AsyncOrderResponse> rows = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> {
+            Timestamp completedAt = rs.getTimestamp("completed_at");
+            return AsyncOrderResponse.builder()
+                    .token(rs.getString("token"))
+                    .status(OrderRequestStatus.valueOf(rs.getString("status")))
+                    .orderId(rs.getObject("order_id", Integer.class))
+                    .failureMessage(rs.getString("failure_message"))
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .completedAt(completedAt != null ? completedAt.toLocalDateTime() : null)
+                    .build();
+        }, token, userId);
+
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("주문 접수 내역이 존재하지 않습니다. token=" + token);
+        }
+        return rows.get(0);
+    }
+
+    private AsyncOrderResponse enqueue(int userId, String kind, Object request) {
+        if (!enabled) {
+            throw new IllegalStateException("비동기 주문 접수를 사용하지 않는 서버입니다. 일반 주문 API 를 이용해주세요.");
+        }
+
+        String token = UUID.randomUUID().toString();
+        LocalDateTime createdAt = LocalDateTime.now();
+        jdbcTemplate.update(INSERT_SQL, token, userId, kind, toJson(request), Timestamp.valueOf(createdAt));
+
+        // Idempotency-Key 처리처럼 바깥 트랜잭션 안이면 커밋된 뒤에 깨운다. (커밋 전이면 워커 눈에 안 보임)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp.release();
+                }
+            });
+        } else {
+            wakeUp.release();
+        }
+
+        return AsyncOrderResponse.builder()
+                .token(token)
+                .status(OrderRequestStatus.PENDING)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    // =========================================================
+    // 2. 워커
+    // =========================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void startWorkers() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            Thread worker = new Thread(this::runWorker, "order-async-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workerThreads.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stopWorkers() {
+        running = false;
+        for (Thread worker : workerThreads) {
+            worker.interrupt();
+        }
+        for (Thread worker : workerThreads) {
+            try {
+                worker.join(pollIntervalMillis * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workerThreads.clear();
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                recoverStuckIfDue();
+                purgeFinishedIfDue();
+
+                List<Claimed> batch = claim();
+                if (batch.isEmpty()) {
+                    // 대기 중인 요청이 없으면 새 접수가 들어오거나 pollIntervalMillis 가 지날 때까지 쉰다.
+                    if (wakeUp.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS)) {
+                        wakeUp.drainPermits();
+                    }
+                    continue;
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // DB 연결 오류 등. 가져간 요청은 stuckSeconds 뒤에 다시 PENDING 으로 돌아온다.
+                log.warn("비동기 주문 처리 중 오류", e);
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // PENDING 요청을 최대 batchSize 개 가져가서 PROCESSING 으로 바꾼다. (짧은 트랜잭션 하나)
+    private List<Claimed> claim() {
+        String claimToken = UUID.randomUUID().toString();
+        return transactionTemplate.execute(status -> {
+            List<Claimed> rows = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new Claimed(
+                    rs.getLong("order_request_id"),
+                    claimToken,
+                    rs.getInt("user_id"),
+                    rs.getString("kind"),
+                    rs.getString("payload"),
+                    rs.getInt("attempts") + 1
+            ), batchSize);
+
+            if (!rows.isEmpty()) {
+                List<Object[]> batchArgs = new ArrayList<>();
+                for (Claimed row : rows) {
+                    batchArgs.add(new Object[]{claimToken, row.orderRequestId()});
+                }
+                jdbcTemplate.batchUpdate(MARK_PROCESSING_SQL, batchArgs);
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * 가져간 요청 묶음 처리
+     * - 주문 하나 = 트랜잭션 하나. 재고 락은 주문마다 상품 ID 순서로 잡았다가 그 주문의 커밋에서 바로 풀린다.
+     */
+    private void process(List<Claimed> batch) {
+        for (Claimed claimed : batch) {
+            if (claimed.attempts() > maxAttempts) {
+                fail(claimed, "주문 처리 시도 횟수를 초과했습니다. 다시 주문해주세요.");
+            } else {
+                processOne(claimed);
+            }
+        }
+    }
+
+    private void processOne(Claimed claimed) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> place(claimed));
+        } catch (ClaimLostException e) {
+            // 다른 워커가 다시 가져간 요청 → 그쪽 결과를 따른다.
+        } catch (TransientDataAccessException e) {
+            // 락 대기 시간 초과/교착상태 등 일시적인 오류는 다시 대기열로 (시도 횟수 안에서)
+            if (claimed.attempts() < maxAttempts) {
+                jdbcTemplate.update(RELEASE_SQL, claimed.orderRequestId(), claimed.claimToken());
+            } else {
+                fail(claimed, "주문 처리 중 일시적인 오류가 반복되었습니다. 다시 주문해주세요.");
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // 재고 부족/배송지 없음 등 주문 검증 실패 → 사용자에게 보여줄 메시지
+            fail(claimed, e.getMessage() != null ? e.getMessage() : UNEXPECTED_FAILURE_MESSAGE);
+        } catch (RuntimeException e) {
+            // SQL/Hibernate 메시지는 사용자에게 보여주지 않는다.
+            log.warn("비동기 주문 처리 실패 orderRequestId={}", claimed.orderRequestId(), e);
+            fail(claimed, UNEXPECTED_FAILURE_MESSAGE);
+        }
+    }
+
+    // 주문 생성 + 요청 상태 COMPLETED (processOne 의 트랜잭션 안에서)
+    private void place(Claimed claimed) {
+        OrderResponse order = switch (claimed.kind()) {
+            case KIND_ORDER -> orderService.createOrder(claimed.userId(),
+                    fromJson(claimed.payload(), OrderCreateRequest.class));
+            case KIND_ORDER_FROM_CART -> orderService.createOrderFromCart(claimed.userId(),
+                    fromJson(claimed.payload(), CartOrderCreateRequest.class));
+            default -> throw new IllegalStateException("알 수 없는 주문 접수 구분입니다. kind=" + claimed.kind());
+        };
+
+        int updated = jdbcTemplate.update(COMPLETE_SQL, order.getOrderId(), claimed.orderRequestId(), claimed.claimToken());
+        if (updated == 0) {
+            // 롤백해서 주문이 두 번 생기지 않게 한다.
+            throw new ClaimLostException();
+        }
+    }
+
+    private void fail(Claimed claimed, String message) {
+        String trimmed = message.length() > MAX_FAILURE_MESSAGE_LENGTH
+                ? message.substring(0, MAX_FAILURE_MESSAGE_LENGTH)
+                : message;
+        jdbcTemplate.update(FAIL_SQL, trimmed, claimed.orderRequestId(), claimed.claimToken());
+    }
+
+    // 처리하던 서버가 죽어서 PROCESSING 에 멈춘 요청을 되살린다. (여러 워커 중 하나만, stuckSeconds 의 절반마다)
+    private void recoverStuckIfDue() {
+        long now = System.currentTimeMillis();
+        long last = lastRecoveryAt.get();
+        if (now - last < stuckMillis / 2 || !lastRecoveryAt.compareAndSet(last, now)) {
+            return;
+        }
+        jdbcTemplate.update(RECOVER_STUCK_SQL, stuckMillis / 1000);
+    }
+
+    // 끝난 지 retentionDays 가 지난 요청을 지운다. (여러 워커 중 하나만, PURGE_INTERVAL_MILLIS 마다 / PURGE_CHUNK_SIZE 행씩)
+    private void purgeFinishedIfDue() {
+        long now = System.currentTimeMillis();
+        long last = lastPurgeAt.get();
+        if (now - last < PURGE_INTERVAL_MILLIS || !lastPurgeAt.compareAndSet(last, now)) {
+            return;
+        }
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_FINISHED_SQL, retentionDays, PURGE_CHUNK_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE && running);
+        if (purged > 0) {
+            log.info("끝난 비동기 주문 요청 {}건을 정리했습니다.", purged);
+        }
+    }
+
+    private String toJson(Object request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 요청을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private <T> T fromJson(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 주문 요청을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private record Claimed(long orderRequestId, String claimToken, int userId, String kind, String payload, int attempts) {
+    }
+
+    private static class ClaimLostException extends RuntimeException {
+        ClaimLostException() {
+            super("다른 워커가 처리 중인 주문 요청입니다.", null, false, false);
+        }
+    }
+}
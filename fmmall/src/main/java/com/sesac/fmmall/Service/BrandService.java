@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.ProductStatus;
 import com.sesac.fmmall.DTO.BrandDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
 import com.sesac.fmmall.Entity.Brand;
@@ -20,6 +21,7 @@ public class BrandService {
     private final BrandRepository brandRepository;
     private final ProductRepository productRepository;
     private final ModelMapper modelMapper;
+    private final CatalogCache catalogCache;
 
     /* 브랜드 정보를 입력 후 브랜드 정보 등록/추가 진행. */
     @Transactional
@@ -30,6 +32,7 @@ public class BrandService {
                 .build();
 
         Brand savedBrand = brandRepository.save(newBrand);
+        catalogCache.invalidateBrands();
 
         return modelMapper.map(savedBrand, BrandDTO.class);
     }
@@ -42,6 +45,7 @@ public class BrandService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 브랜드입니다."));
 
         foundBrand.setName(brandDTO.getName());
+        catalogCache.invalidateBrands();
 
         return modelMapper.map(foundBrand, BrandDTO.class);
     }
@@ -55,6 +59,7 @@ public class BrandService {
         }
 
         brandRepository.deleteById(brandId);
+        catalogCache.invalidateBrands();
     }
 
     /* brandId 값을 넘겨, 해당 브랜드 상품 목록 조회 진행. */
@@ -64,22 +69,27 @@ public class BrandService {
         Brand foundBrand = brandRepository.findById(brandId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 브랜드입니다."));
 
-        List<Product> products = productRepository.findByBrand(foundBrand);
+        List<Product> products = productRepository.findByBrandAndProductStatusNotIn(foundBrand, ProductStatus.UNLISTED);
 
         return products.stream()
-                .map(product -> modelMapper.map(product, ProductResponseDTO.class))
+                .map(ProductResponseDTO::from)
                 .toList();
     }
 
-    /* ✅ 브랜드 전체 목록 조회 (ADMIN용) */
-    @Transactional
+    /* ✅ 브랜드 전체 목록 조회 */
     public List<BrandDTO> findAllBrands() {
-        return brandRepository.findAll()
+        return findBrandCatalog().items();
+    }
+
+    /* 브랜드 전체 목록 + ETag (캐시, 관리자 변경 시 무효화) */
+    @Transactional
+    public CatalogCache.Snapshot<BrandDTO> findBrandCatalog() {
+        return catalogCache.brands(() -> brandRepository.findAll()
                 .stream()
                 .map(brand -> BrandDTO.builder()
                         .brandId(brand.getBrandId())
                         .name(brand.getName())
                         .build())
-                .toList();
+                .toList(), brand -> brand.toBuilder().build());
     }
 }
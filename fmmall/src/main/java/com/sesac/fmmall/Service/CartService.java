@@ -1,25 +1,27 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Config.IdBlockAllocator;
+import com.sesac.fmmall.DTO.CartItem.CartBatchOperationDTO;
+import com.sesac.fmmall.DTO.CartItem.CartBatchRequestDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemCheckRequestDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemUpdateRequestDTO;
+import com.sesac.fmmall.DTO.CartChangeResponseDTO;
 import com.sesac.fmmall.DTO.CartResponseDTO;
 import com.sesac.fmmall.Entity.Cart;
 import com.sesac.fmmall.Entity.CartItem;
 import com.sesac.fmmall.Entity.Product;
-import com.sesac.fmmall.Entity.User;
 import com.sesac.fmmall.Repository.CartItemRepository;
 import com.sesac.fmmall.Repository.CartRepository;
 import com.sesac.fmmall.Repository.ProductRepository;
 import com.sesac.fmmall.Repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,47 +29,182 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CartService {
 
+    private static final int MAX_BATCH_OPERATIONS = 200;
+
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
-    private final ModelMapper modelMapper;
+    private final IdBlockAllocator idBlockAllocator;
 
+    /*
+     * 상품 추가 (이미 담긴 상품이면 수량만 늘림). 바뀐 항목과 새 합계만 돌려준다.
+     * 장바구니 목록을 읽지 않고 upsert 한 번으로 담으므로, 같은 상품을 연달아 눌러도 한 줄에 수량이 합쳐진다.
+     * 합친 수량이 재고를 넘으면 예외 → 트랜잭션 롤백으로 upsert 도 취소된다.
+     */
     @Transactional
-    public CartResponseDTO createCartItem(int userId, CartItemCreateRequestDTO requestDTO) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    public CartChangeResponseDTO createCartItem(int userId, CartItemCreateRequestDTO requestDTO) {
+        if (requestDTO.getQuantity() < 1) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
+        }
         Product product = productRepository.findById(requestDTO.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
-        Cart cart = cartRepository.findByUser_UserId(userId)
-                .orElseGet(() -> cartRepository.save(new Cart(user)));
+        int cartId = findOrCreateCart(userId).getCartId();
 
-        CartItem newCartItem = CartItem.createCartItem(product, requestDTO.getQuantity());
-        cart.addCartItem(newCartItem);
+        cartItemRepository.upsertQuantity(
+                idBlockAllocator.nextId("cart_item", "cart_item_id"),
+                cartId, product.getProductId(), requestDTO.getQuantity());
 
-        // 수정: cart 저장 추가
-        cartRepository.save(cart);
+        CartItem cartItem = cartItemRepository.findWithCartAndProductByCartIdAndProductId(cartId, product.getProductId())
+                .orElseThrow(() -> new IllegalStateException("장바구니 상품을 저장하지 못했습니다."));
+        if (cartItem.getCartItemQuantity() > cartItem.getProduct().getStockQuantity()) {
+            throw new IllegalArgumentException("상품의 재고가 부족합니다.");
+        }
 
-        return findAllCartItems(userId);
+        return changed(cartId, cartItem);
     }
 
     @Transactional
-    public CartResponseDTO updateCartItemQuantity(int userId, int cartItemId, CartItemUpdateRequestDTO requestDTO) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
+    public CartChangeResponseDTO updateCartItemQuantity(int userId, int cartItemId, CartItemUpdateRequestDTO requestDTO) {
+        CartItem cartItem = cartItemRepository.findWithCartAndProductById(cartItemId)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다."));
 
         cartItem.updateQuantity(requestDTO.getQuantity(), userId);
 
-        return findAllCartItems(userId);
+        return changed(cartItem.getCart().getCartId(), cartItem);
     }
 
+    // 장바구니 주문에 포함할지 선택 (cartItemIds 없이 주문하면 'Y' 인 항목만 주문된다)
     @Transactional
-    public void removeCartItem(int userId, int cartItemId) {
-        Cart cart = cartRepository.findByUser_UserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자의 장바구니를 찾을 수 없습니다."));
+    public CartChangeResponseDTO updateCheckStatus(int userId, int cartItemId, CartItemCheckRequestDTO requestDTO) {
+        CartItem cartItem = cartItemRepository.findWithCartAndProductById(cartItemId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다."));
+
+        cartItem.updateCheckStatus(requestDTO.getCheckStatus(), userId);
+
+        return changed(cartItem.getCart().getCartId(), cartItem);
+    }
+
+    @Transactional
+    public CartChangeResponseDTO removeCartItem(int userId, int cartItemId) {
+        CartItem cartItem = cartItemRepository.findWithCartAndProductById(cartItemId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다."));
 
-        cart.removeCartItem(cartItemId, userId);
+        // 권한 검증
+        Cart cart = cartItem.getCart();
+        if (cart.getUser().getUserId() != userId) {
+            throw new IllegalStateException("다른 사용자의 장바구니를 조작할 권한이 없습니다.");
+        }
+
+        cart.detachCartItem(cartItem);
+        cartItemRepository.delete(cartItem);
+
+        return totals(cart.getCartId())
+                .removedCartItemId(cartItemId)
+                .build();
+    }
+
+    /*
+     * 장바구니 일괄 변경 (담기 / 수량 변경 / 삭제 여러 건을 한 트랜잭션으로)
+     * - 장바구니 항목은 잠금 조회 1번, 관련 상품은 findAllById 1번으로 읽는다.
+     * - 작업을 적힌 순서대로 적용해 상품별 최종 수량을 정하고, 재고는 마지막에 한 번에 확인한다.
+     *   확인 대상은 새로 담거나 수량이 늘어난 상품만. (그대로 두거나 줄이거나 삭제한 항목은 품절/판매 중지여도 막지 않는다)
+     * - 하나라도 잘못되면 예외 → 전부 롤백. 응답은 변경 후 장바구니 전체. (다시 조회하지 않고 메모리에서 만든다)
+     */
+    @Transactional
+    public CartResponseDTO applyCartBatch(int userId, CartBatchRequestDTO requestDTO) {
+        List<CartBatchOperationDTO> operations = requestDTO.getOperations();
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("변경할 작업이 없습니다.");
+        }
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 작업은 최대 " + MAX_BATCH_OPERATIONS + "개입니다.");
+        }
+
+        Cart cart = findOrCreateCart(userId);
+        // 다른 요청(단건 담기 upsert 등)이 같은 항목을 동시에 바꾸지 못하도록 잠금 조회
+        List<CartItem> cartItems = cartItemRepository.findAllByCartIdForUpdate(cart.getCartId());
+
+        Map<Integer, CartItem> itemsById = new HashMap<>();
+        Map<Integer, CartItem> itemsByProductId = new HashMap<>();
+        // 상품 ID → 최종 수량 (0 이면 삭제), 기존 항목 순서 뒤에 새로 담은 상품 순서
+        Map<Integer, Integer> quantities = new LinkedHashMap<>();
+        for (CartItem item : cartItems) {
+            int productId = item.getProduct().getProductId();
+            itemsById.put(item.getCartItemId(), item);
+            itemsByProductId.put(productId, item);
+            quantities.put(productId, item.getCartItemQuantity());
+        }
+
+        for (CartBatchOperationDTO operation : operations) {
+            if (operation.getType() == null) {
+                throw new IllegalArgumentException("작업 종류가 없습니다.");
+            }
+            switch (operation.getType()) {
+                case ADD -> {
+                    if (operation.getProductId() == null) {
+                        throw new IllegalArgumentException("담을 상품 ID 가 없습니다.");
+                    }
+                    quantities.merge(operation.getProductId(), positiveQuantity(operation), Integer::sum);
+                }
+                case UPDATE -> {
+                    int productId = productIdOf(itemsById, operation);
+                    if (quantities.get(productId) == 0) {
+                        throw new IllegalArgumentException("이미 삭제한 장바구니 상품입니다. (ID: " + operation.getCartItemId() + ")");
+                    }
+                    quantities.put(productId, positiveQuantity(operation));
+                }
+                case REMOVE -> quantities.put(productIdOf(itemsById, operation), 0);
+            }
+        }
+
+        // 기존 항목의 상품 + 새로 담을 상품을 한 번에 조회
+        Map<Integer, Product> productsById = productRepository.findAllById(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+        // 재고 확인 (늘어난 상품만 최종 수량 기준으로 한 번에, 부족한 상품을 모아서 알려준다)
+        List<Integer> outOfStock = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : quantities.entrySet()) {
+            CartItem existing = itemsByProductId.get(entry.getKey());
+            int before = existing != null ? existing.getCartItemQuantity() : 0;
+            if (entry.getValue() <= before) {
+                continue;
+            }
+            Product product = productsById.get(entry.getKey());
+            if (product == null) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다. (상품 ID: " + entry.getKey() + ")");
+            }
+            if (entry.getValue() > product.getStockQuantity()) {
+                outOfStock.add(entry.getKey());
+            }
+        }
+        if (!outOfStock.isEmpty()) {
+            throw new IllegalArgumentException("상품의 재고가 부족합니다. (상품 ID: " + outOfStock + ")");
+        }
+
+        List<CartItem> result = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : quantities.entrySet()) {
+            CartItem item = itemsByProductId.get(entry.getKey());
+            int quantity = entry.getValue();
+            if (quantity == 0) {
+                cart.detachCartItem(item);
+                cartItemRepository.delete(item);
+                continue;
+            }
+            if (item == null) {
+                item = CartItem.createCartItem(productsById.get(entry.getKey()), quantity);
+                cart.attachCartItem(item);
+                cartItemRepository.save(item);
+            } else if (item.getCartItemQuantity() != quantity) {
+                item.updateQuantity(quantity, userId);
+            }
+            result.add(item);
+        }
+        // INSERT / UPDATE / DELETE 를 여기서 내보내 새 항목의 등록일까지 채운 뒤 응답
+        cartItemRepository.flush();
+
+        return toCartResponse(cart.getCartId(), result);
     }
 
     @Transactional
@@ -77,8 +214,9 @@ public class CartService {
         cart.clearCart();
     }
 
+    /* 장바구니 전체 조회 (장바구니 + 항목 + 상품을 쿼리 1번으로) */
     public CartResponseDTO findAllCartItems(int userId) {
-        Optional<Cart> optCart = cartRepository.findByUser_UserId(userId);
+        Optional<Cart> optCart = cartRepository.findWithItemsByUser_UserId(userId);
 
         if (optCart.isEmpty()) {
             return CartResponseDTO.builder()
@@ -90,18 +228,12 @@ public class CartService {
         }
 
         Cart cart = optCart.get();
-        List<CartItemResponseDTO> cartItemList = cart.getCartItems().stream()
-                .map(cartItem -> {
-                    CartItemResponseDTO cartItemResponseDTO = modelMapper.map(cartItem, CartItemResponseDTO.class);
-                    Product product = cartItem.getProduct();
-
-                    cartItemResponseDTO.setProductId(product.getProductId());
-                    cartItemResponseDTO.setProductName(product.getName());
-                    cartItemResponseDTO.setProductPrice(product.getPrice());
-                    cartItemResponseDTO.setTotalPrice(product.getPrice() * cartItem.getCartItemQuantity());
-
-                    return cartItemResponseDTO;
-                })
+        return toCartResponse(cart.getCartId(), cart.getCartItems());
+    }
+
+    private CartResponseDTO toCartResponse(int cartId, List<CartItem> cartItems) {
+        List<CartItemResponseDTO> cartItemList = cartItems.stream()
+                .map(CartItemResponseDTO::from)
                 .collect(Collectors.toList());
 
         int totalPrice = cartItemList.stream()
@@ -109,10 +241,54 @@ public class CartService {
                 .sum();
 
         return CartResponseDTO.builder()
-                .cartId(cart.getCartId())
+                .cartId(cartId)
                 .itemList(cartItemList)
                 .totalItemCount(cartItemList.size())
                 .totalPrice(totalPrice)
                 .build();
     }
-}
\ No newline at end of file
+
+    private Cart findOrCreateCart(int userId) {
+        Optional<Cart> cart = cartRepository.findByUser_UserId(userId);
+        if (cart.isPresent()) {
+            return cart.get();
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        cartRepository.insertIfAbsent(userId);
+        return cartRepository.findForShareByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("장바구니를 만들지 못했습니다."));
+    }
+
+    private int positiveQuantity(CartBatchOperationDTO operation) {
+        if (operation.getQuantity() == null || operation.getQuantity() < 1) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
+        }
+        return operation.getQuantity();
+    }
+
+    // 이 장바구니의 항목이 아니면 (다른 사용자 항목 포함) 찾을 수 없음으로 처리
+    private int productIdOf(Map<Integer, CartItem> itemsById, CartBatchOperationDTO operation) {
+        CartItem item = operation.getCartItemId() != null ? itemsById.get(operation.getCartItemId()) : null;
+        if (item == null) {
+            throw new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다. (ID: " + operation.getCartItemId() + ")");
+        }
+        return item.getProduct().getProductId();
+    }
+
+    private CartChangeResponseDTO changed(int cartId, CartItem cartItem) {
+        return totals(cartId)
+                .changedItem(CartItemResponseDTO.from(cartItem))
+                .build();
+    }
+
+    // 합계는 항목을 다시 읽지 않고 DB 에서 집계 (변경 내용은 집계 쿼리 전에 flush 된다)
+    private CartChangeResponseDTO.CartChangeResponseDTOBuilder totals(int cartId) {
+        CartItemRepository.CartTotals totals = cartItemRepository.sumTotalsByCartId(cartId);
+        return CartChangeResponseDTO.builder()
+                .cartId(cartId)
+                .totalItemCount(totals.getItemCount().intValue())
+                .totalPrice(totals.getTotalPrice().intValue());
+    }
+}
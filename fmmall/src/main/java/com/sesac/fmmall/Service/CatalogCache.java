@@ -0,0 +1,219 @@
+package com.sesac.fmmall.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sesac.fmmall.DTO.Cache.CacheStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 카테고리 / 하위 카테고리 / 브랜드 목록 캐시 (메뉴용 기준 데이터)
+ * - 관리자가 등록/수정/삭제할 때만 바뀌므로, 조회는 캐시에서 하고 변경 시 각 Service 에서 invalidate 해준다.
+ * - 무효화는 트랜잭션 커밋 후에 한다. (커밋 전에 지우면 다른 요청이 이전 값을 다시 채울 수 있음)
+ * - 최대 maxEntries 개까지 보관 (가장 오래 안 쓴 목록부터 제거), 다른 서버에서 바뀐 경우를 위해 ttlSeconds 후 다시 조회
+ * - 목록마다 내용 기반 ETag 를 같이 보관해서 컨트롤러가 조건부 GET(304)에 쓴다.
+ * - DTO 는 setter 가 있어서, 넣을 때와 꺼낼 때 모두 원소를 copier 로 복사한다. (호출한 쪽이 고쳐도 캐시된 값은 그대로)
+ */
+@Component
+public class CatalogCache {
+
+    private static final String CATEGORIES = "categories";
+    private static final String BRANDS = "brands";
+    private static final String ROW_CATEGORIES = "rowCategories:";
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    // accessOrder = true → 조회할 때마다 맨 뒤로 이동 (LRU)
+    private final Map<String, Entry> cache;
+
+    // 무효화할 때마다 증가. 조회 도중에 무효화됐으면 읽어온 (이전) 값을 캐시에 넣지 않는다.
+    private long generation;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public CatalogCache(ObjectMapper objectMapper,
+                        @Value("${catalog.cache.max-entries:1000}") int maxEntries,
+                        @Value("${catalog.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > CatalogCache.this.maxEntries) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // ===================== 조회 ===================== //
+
+    public <T> Snapshot<T> categories(Supplier<List<T>> loader, UnaryOperator<T> copier) {
+        return get(CATEGORIES, loader, copier);
+    }
+
+    public <T> Snapshot<T> brands(Supplier<List<T>> loader, UnaryOperator<T> copier) {
+        return get(BRANDS, loader, copier);
+    }
+
+    public <T> Snapshot<T> rowCategories(int categoryId, Supplier<List<T>> loader, UnaryOperator<T> copier) {
+        return get(ROW_CATEGORIES + categoryId, loader, copier);
+    }
+
+    // ===================== 무효화 (커밋 후) ===================== //
+
+    // 상위 카테고리가 바뀌면 (삭제 포함) 하위 카테고리 목록도 같이 비운다.
+    public void invalidateCategories() {
+        afterCommit(() -> {
+            synchronized (cache) {
+                cache.remove(CATEGORIES);
+                cache.keySet().removeIf(key -> key.startsWith(ROW_CATEGORIES));
+                generation++;
+            }
+        });
+    }
+
+    public void invalidateRowCategories(int categoryId) {
+        afterCommit(() -> {
+            synchronized (cache) {
+                cache.remove(ROW_CATEGORIES + categoryId);
+                generation++;
+            }
+        });
+    }
+
+    public void invalidateBrands() {
+        afterCommit(() -> {
+            synchronized (cache) {
+                cache.remove(BRANDS);
+                generation++;
+            }
+        });
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            generation++;
+        }
+        invalidationCount.incrementAndGet();
+    }
+
+    public CacheStatsResponse stats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return CacheStatsResponse.builder()
+                .name("catalog")
+                .size(size)
+                .maxSize(maxEntries)
+                .hitCount(hits)
+                .missCount(misses)
+                .evictionCount(evictionCount.get())
+                .invalidationCount(invalidationCount.get())
+                .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .build();
+    }
+
+    // ===================== 내부 ===================== //
+
+    @SuppressWarnings("unchecked")
+    private <T> Snapshot<T> get(String key, Supplier<List<T>> loader, UnaryOperator<T> copier) {
+        long now = System.currentTimeMillis();
+        long loadedGeneration;
+        Snapshot<T> cachedSnapshot = null;
+
+        synchronized (cache) {
+            Entry cached = cache.get(key);
+            if (cached != null && cached.expiresAt > now) {
+                cachedSnapshot = (Snapshot<T>) cached.snapshot;
+            }
+            loadedGeneration = generation;
+        }
+
+        // 복사는 락 밖에서
+        if (cachedSnapshot != null) {
+            hitCount.incrementAndGet();
+            return copy(cachedSnapshot, copier);
+        }
+
+        // DB 조회는 락 밖에서 (동시에 같은 목록을 조회하면 두 번 읽을 수 있지만 결과는 같다)
+        missCount.incrementAndGet();
+        List<T> items = List.copyOf(loader.get());
+        Snapshot<T> snapshot = new Snapshot<>(items, etagOf(items));
+
+        if (maxEntries > 0) {
+            synchronized (cache) {
+                if (generation == loadedGeneration) {
+                    cache.put(key, new Entry(copy(snapshot, copier), now + ttlMillis));
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private static <T> Snapshot<T> copy(Snapshot<T> snapshot, UnaryOperator<T> copier) {
+        return new Snapshot<>(snapshot.items().stream().map(copier).toList(), snapshot.etag());
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        Runnable counted = () -> {
+            invalidation.run();
+            invalidationCount.incrementAndGet();
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counted.run();
+                }
+            });
+        } else {
+            counted.run();
+        }
+    }
+
+    // 응답 JSON 과 같은 직렬화 결과로 해시 → 내용이 같으면 서버가 달라도 같은 ETag
+    private String etagOf(List<?> items) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(items));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("카탈로그 ETag 를 계산할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 목록 (변경 불가, 원소는 캐시에 보관된 값의 복사본) + ETag
+     */
+    public record Snapshot<T>(List<T> items, String etag) {
+    }
+
+    private record Entry(Snapshot<?> snapshot, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.ProductStatus;
 import com.sesac.fmmall.DTO.CategoryDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
 import com.sesac.fmmall.Entity.Category;
@@ -10,7 +11,6 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
-import org.springframework.web.bind.annotation.PutMapping;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,6 +21,7 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
     private final ModelMapper modelMapper;
+    private final CatalogCache catalogCache;
 
     /* 추가할 상위 카테고리를 입력 후 , 상위 카테고리를 추가/등록 */
     @Transactional
@@ -33,6 +34,7 @@ public class CategoryService {
 
         // 내부적으로 EntityManager.persist( ) 호출되어 영속성 컨텍스트로 들어간다.
         Category savedCategory = categoryRepository.save(newCategory);
+        catalogCache.invalidateCategories();
 
         // 저장 후 생성된 Entity를 다시 DTO로 변환하여 반환.
         return modelMapper.map(savedCategory, CategoryDTO.class);
@@ -47,6 +49,7 @@ public class CategoryService {
         foundCategory.modify(
                 categoryDTO.getCategoryName()
         );
+        catalogCache.invalidateCategories();
 
         return modelMapper.map(foundCategory, CategoryDTO.class);
     }
@@ -59,6 +62,7 @@ public class CategoryService {
             throw new IllegalArgumentException("삭제할 상위 카테고리가 존재하지 않습니다.");
         }
         categoryRepository.deleteById(categoryId);
+        catalogCache.invalidateCategories();
     }
 
     /* categoryId값을 넘겨 해당 상위카테고리의 전체 상품 목록 조회. */
@@ -69,18 +73,22 @@ public class CategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상위 카테고리 입니다."));
 
         // 2. 해당 상위 카테고리에 속한 상품들 조회.
-        List<Product> products = productRepository.findByCategory(foundCategory);
+        List<Product> products = productRepository.findByCategoryAndProductStatusNotIn(foundCategory, ProductStatus.UNLISTED);
 
         // 3. Product를 ProductResponseDTO로 변환.
         return products.stream()
-                .map(product -> modelMapper.map(product, ProductResponseDTO.class))
+                .map(ProductResponseDTO::from)
                 .toList();
     }
 
     public List<CategoryDTO> findAllCategories() {
-        List<Category> categories = categoryRepository.findAll();
-        return categories.stream()
+        return findCategoryCatalog().items();
+    }
+
+    /* 전체 상위 카테고리 목록 + ETag (캐시, 관리자 변경 시 무효화) */
+    public CatalogCache.Snapshot<CategoryDTO> findCategoryCatalog() {
+        return catalogCache.categories(() -> categoryRepository.findAll().stream()
                 .map(category -> modelMapper.map(category, CategoryDTO.class))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), category -> category.toBuilder().build());
     }
 }
@@ -0,0 +1,268 @@
+package com.sesac.fmmall.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 주문/환불 생성 API 의 Idempotency-Key 처리
+ * - 클라이언트가 타임아웃 후 같은 키로 다시 보내면 저장해 둔 첫 응답을 그대로 돌려준다. (주문/재고 차감을 다시 하지 않음)
+ * - 키 저장소는 idempotency_key 테이블 (사용자 + 구분 + 키 유니크)
+ *   1) 키 행을 먼저 INSERT → 2) 주문/환불 실행 → 3) 응답 JSON 저장 을 한 트랜잭션으로 묶는다.
+ *   실행이 실패하면 키 행도 같이 롤백되므로 같은 키로 다시 시도할 수 있다.
+ * - 같은 키가 동시에 들어오면
+ *   · 같은 서버: 먼저 온 요청의 실행이 끝날 때까지 기다렸다가 그 결과를 받는다.
+ *   · 다른 서버: 키 행 INSERT 가 유니크 인덱스 잠금에서 기다리다가, 먼저 온 쪽이 커밋하면 중복 키로 실패 → 저장된 응답을 읽는다.
+ * - 저장된 응답은 서버 메모리에도 ttlSeconds 동안 보관해서 재요청은 DB 를 거치지 않는다. (최대 maxEntries 개, 오래 안 쓴 것부터 제거)
+ * - 키 행은 retentionHours 동안만 보관한다. 그보다 오래된 행은 주기적으로 created_at 기준으로 나눠서 지운다.
+ *   (지워진 키로 다시 보내면 새 요청으로 처리된다)
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String SCOPE_ORDER = "ORDER";
+    public static final String SCOPE_ORDER_FROM_CART = "ORDER_FROM_CART";
+    public static final String SCOPE_REFUND = "REFUND";
+    public static final String SCOPE_ORDER_ASYNC = "ORDER_ASYNC";
+    public static final String SCOPE_ORDER_FROM_CART_ASYNC = "ORDER_FROM_CART_ASYNC";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    // 먼저 온 요청을 기다리는 최대 시간 (주문 트랜잭션이 이보다 오래 걸리면 다시 시도하도록 안내)
+    private static final long IN_FLIGHT_WAIT_SECONDS = 30;
+
+    private static final String INSERT_KEY_SQL =
+            "INSERT INTO idempotency_key (user_id, scope, idem_key, request_hash, created_at) VALUES (?, ?, ?, ?, NOW())";
+    private static final String SAVE_RESPONSE_SQL =
+            "UPDATE idempotency_key SET response_body = ? WHERE user_id = ? AND scope = ? AND idem_key = ?";
+    private static final String FIND_KEY_SQL =
+            "SELECT request_hash, response_body FROM idempotency_key WHERE user_id = ? AND scope = ? AND idem_key = ?";
+    private static final String PURGE_EXPIRED_SQL =
+            "DELETE FROM idempotency_key WHERE created_at < NOW() - INTERVAL ? HOUR LIMIT ?";
+
+    // 한 번에 지우는 행 수 (큰 DELETE 로 테이블을 오래 잠그지 않도록 나눠서)
+    private static final int PURGE_CHUNK_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readTemplate;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final long retentionHours;
+
+    // 저장된 응답 (accessOrder = true → 조회할 때마다 맨 뒤로 이동)
+    private final Map<String, Entry> cache;
+
+    // 이 서버에서 실행 중인 키 → 실행 결과
+    private final Map<String, CompletableFuture<Stored>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${idempotency.cache.max-entries:10000}") int maxEntries,
+                              @Value("${idempotency.cache.ttl-seconds:600}") long ttlSeconds,
+                              @Value("${idempotency.retention-hours:24}") long retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTemplate.setReadOnly(true);
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.retentionHours = retentionHours;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > IdempotencyService.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * key 가 없으면 action 을 그대로 실행하고,
+     * 있으면 (userId, scope, key) 당 action 을 한 번만 실행해서 그 응답을 재요청에도 돌려준다.
+     * action 은 이 메서드가 연 트랜잭션에 참여해야 한다. (@Transactional 기본 전파)
+     */
+    public <T> T execute(int userId, String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1 ~ " + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        String cacheKey = userId + ":" + scope + ":" + key;
+        String requestHash = hash(request);
+
+        Stored cached = cached(cacheKey);
+        if (cached != null) {
+            return replay(cached, requestHash, responseType);
+        }
+
+        CompletableFuture<Stored> mine = new CompletableFuture<>();
+        CompletableFuture<Stored> running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            // 같은 서버에서 같은 키를 처리 중 → 그 결과를 기다린다.
+            return replay(await(running), requestHash, responseType);
+        }
+
+        try {
+            Stored stored = runOnce(userId, scope, key, requestHash, responseType, action);
+            remember(cacheKey, stored);
+            mine.complete(stored);
+            return replay(stored, requestHash, responseType);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    /**
+     * 보관 기간(retentionHours)이 지난 키 행을 지우고, 지운 행 수를 반환한다.
+     * - idx_idempotency_key_created_at 으로 오래된 행만 PURGE_CHUNK_SIZE 개씩 지운다. (문장 하나 = 트랜잭션 하나)
+     */
+    @Scheduled(initialDelayString = "${idempotency.purge-interval-millis:3600000}",
+            fixedDelayString = "${idempotency.purge-interval-millis:3600000}")
+    public int purgeExpired() {
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_EXPIRED_SQL, retentionHours, PURGE_CHUNK_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE);
+        if (purged > 0) {
+            log.info("보관 기간이 지난 Idempotency-Key {}건을 정리했습니다.", purged);
+        }
+        return purged;
+    }
+
+    // ===================== 내부 ===================== //
+
+    private <T> Stored runOnce(int userId, String scope, String key, String requestHash,
+                               Class<T> responseType, Supplier<T> action) {
+        try {
+            return transactionTemplate.execute(status -> {
+                // 다른 서버에서 같은 키를 처리 중이면 여기서 그 트랜잭션이 끝날 때까지 기다린다.
+                jdbcTemplate.update(INSERT_KEY_SQL, userId, scope, key, requestHash);
+
+                String responseBody = toJson(action.get());
+                jdbcTemplate.update(SAVE_RESPONSE_SQL, responseBody, userId, scope, key);
+                return new Stored(requestHash, responseBody);
+            });
+        } catch (DuplicateKeyException e) {
+            // 이미 커밋된 키 → 저장된 응답을 돌려준다.
+            Stored stored = readTemplate.execute(status -> {
+                List<Stored> rows = jdbcTemplate.query(FIND_KEY_SQL,
+                        (rs, rowNum) -> new Stored(rs.getString("request_hash"), rs.getString("response_body")),
+                        userId, scope, key);
+                return rows.isEmpty() ? null : rows.get(0);
+            });
+            if (stored == null || stored.responseBody() == null) {
+                throw new IllegalStateException("같은 Idempotency-Key 의 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+            }
+            return stored;
+        }
+    }
+
+    private Stored await(CompletableFuture<Stored> running) {
+        try {
+            return running.get(IN_FLIGHT_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            // 먼저 온 요청이 실패했으면 같은 이유로 실패시킨다. (아무것도 저장되지 않았으므로 다시 시도 가능)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("같은 Idempotency-Key 의 요청 처리에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 Idempotency-Key 의 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("같은 Idempotency-Key 의 요청을 기다리는 중 중단되었습니다.");
+        }
+    }
+
+    private <T> T replay(Stored stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+        try {
+            return objectMapper.readValue(stored.responseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private Stored cached(String cacheKey) {
+        synchronized (cache) {
+            Entry entry = cache.get(cacheKey);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                cache.remove(cacheKey);
+                return null;
+            }
+            return entry.stored();
+        }
+    }
+
+    private void remember(String cacheKey, Stored stored) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        synchronized (cache) {
+            cache.put(cacheKey, new Entry(stored, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    // 요청 바디 JSON 의 SHA-256
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(request));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청을 해시할 수 없습니다.", e);
+        }
+    }
+
+    private record Stored(String requestHash, String responseBody) {
+    }
+
+    private record Entry(Stored stored, long expiresAt) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.sesac.fmmall.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 다음 페이지 커서 = Base64URL("정렬키|id")
+ * - 주문 내역 / 관리자 주문 검색 (createdAt, orderId), 상품 목록 (createdAt 또는 가격, productId) 이 같이 쓴다.
+ * - 정렬키는 화면마다 달라서 문자열로 들고 있다가 꺼낼 때 타입을 정한다.
+ */
+record KeysetCursor(String sortKey, int id) {
+
+    static final String INVALID_CURSOR = "잘못된 커서 값입니다.";
+
+    static String encode(Object sortKey, int id) {
+        String raw = sortKey + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 null (첫 페이지)
+    static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(INVALID_CURSOR);
+            }
+            return new KeysetCursor(parts[0], Integer.parseInt(parts[1]));
+        } catch (IllegalArgumentException e) {   // NumberFormatException 포함
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+    }
+
+    LocalDateTime dateTimeKey() {
+        return dateTimeKey(INVALID_CURSOR);
+    }
+
+    LocalDateTime dateTimeKey(String errorMessage) {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+
+    int intKey(String errorMessage) {
+        try {
+            return Integer.parseInt(sortKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+}
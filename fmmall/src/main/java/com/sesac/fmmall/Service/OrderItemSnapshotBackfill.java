@@ -0,0 +1,97 @@
+package com.sesac.fmmall.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문상품 스냅샷(상품명 / 단가 / 카테고리 / 브랜드) 컬럼이 생기기 전에 만들어진 주문상품을 채우는 작업
+ * - order_item_id 범위를 CHUNK_SIZE 씩 끊어서 UPDATE 한다. (한 문장 = 한 트랜잭션, 잠금은 그 범위의 행만 짧게)
+ * - 이미 채워진 행은 건너뛰므로 여러 번 실행해도 안전하다.
+ * - 주문 당시 가격은 남아 있지 않아서 채우는 시점의 상품 가격/이름을 쓴다.
+ * - order_item 전체를 훑으므로 기동할 때마다 돌리지 않는다. 관리자 API(POST /Admin/Order/snapshot-backfill)로 한 번 실행하고,
+ *   필요하면 order.snapshot-backfill.on-startup=true 로 기동 시 실행한다. (기본 false)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderItemSnapshotBackfill {
+
+    private static final int CHUNK_SIZE = 5_000;
+
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(order_item_id), 0) FROM order_item";
+
+    private static final String BACKFILL_SQL =
+            "UPDATE order_item oi JOIN product p ON p.product_id = oi.product_id " +
+            "SET oi.product_name = COALESCE(oi.product_name, p.product_name), " +
+            "    oi.unit_price = COALESCE(oi.unit_price, p.product_price), " +
+            "    oi.category_id = COALESCE(oi.category_id, p.category_id), " +
+            "    oi.brand_id = COALESCE(oi.brand_id, p.brand_id) " +
+            "WHERE oi.order_item_id > ? AND oi.order_item_id <= ? " +
+            "  AND (oi.product_name IS NULL OR oi.unit_price IS NULL OR oi.category_id IS NULL OR oi.brand_id IS NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${order.snapshot-backfill.on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            startBackfill();
+        }
+    }
+
+    /* 백그라운드 스레드에서 채우기를 시작한다. 이미 진행 중이면 false */
+    public boolean startBackfill() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread backfillThread = new Thread(() -> {
+            try {
+                int updated = runBackfill();
+                log.info("주문상품 스냅샷 채우기 완료 - {}건", updated);
+            } catch (RuntimeException e) {
+                log.error("주문상품 스냅샷 채우기에 실패했습니다.", e);
+            }
+        }, "order-item-snapshot-backfill");
+        backfillThread.setDaemon(true);
+        backfillThread.start();
+        return true;
+    }
+
+    /* 스냅샷이 비어 있는 주문상품을 모두 채우고, 채운 행 수를 반환한다. */
+    public int backfill() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 주문상품 스냅샷 채우기가 진행 중입니다.");
+        }
+        return runBackfill();
+    }
+
+    private int runBackfill() {
+        try {
+            return backfillChunks();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int backfillChunks() {
+        Integer maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Integer.class);
+        int lastId = maxId != null ? maxId : 0;
+
+        int updated = 0;
+        for (int from = 0; from < lastId; from += CHUNK_SIZE) {
+            updated += jdbcTemplate.update(BACKFILL_SQL, from, Math.min(from + CHUNK_SIZE, lastId));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,226 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.OrderStatus;
+import com.sesac.fmmall.DTO.Order.AdminOrderSearchRequest;
+import com.sesac.fmmall.DTO.Order.AdminOrderSliceResponse;
+import com.sesac.fmmall.DTO.Order.AdminOrderSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 주문 검색 (기간 / 주문자 / 상품 / 수령인 연락처 / 주문 금액 / 송장 등록 여부, 최신순 커서)
+ *
+ * - 조건에 따라 어느 인덱스에서 출발할지 직접 고른다. (FORCE INDEX / STRAIGHT_JOIN)
+ *   주문자    → idx_orders_user_created_id   (user_id 범위, 최신순)
+ *   연락처    → idx_orders_phone_created_id  (receiver_phone 범위, 최신순)
+ *   상품      → 주문상품이 PRODUCT_DRIVE_MAX_ORDERS 건 이하면 idx_order_item_product_order 에서 출발해서 그 주문만 정렬
+ *              (건수는 같은 인덱스를 PRODUCT_DRIVE_MAX_ORDERS + 1 건까지만 세서 확인한다)
+ *   그 외     → idx_orders_created_search    (created_at, order_id, total_price, delivery_tracking_number 커버링, 최신순)
+ *   나머지 조건은 출발한 인덱스를 읽으면서 거르고, 상품 조건은 order_item 인덱스로 주문마다 확인한다.
+ * - 페이지의 주문 ID 만 인덱스로 먼저 고른 뒤(LIMIT) 그 주문들만 원본 행을 읽는다. (deferred join)
+ *   그래서 주문 수가 늘어도 한 페이지 비용은 "조건에 맞는 주문을 size 개 찾을 때까지 읽은 인덱스 항목 수" 에 비례한다.
+ * - 다음 페이지는 (created_at, order_id) 커서로 이어 읽는다. (OFFSET 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderSearchService {
+
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    // 이 건수 이하로 팔린 상품은 상품의 주문 목록에서 출발해서 정렬하는 편이 최신순 인덱스를 훑는 것보다 싸다.
+    private static final long PRODUCT_DRIVE_MAX_ORDERS = 20_000;
+
+    // 상품의 주문상품 건수 - idx_order_item_product_order 를 기준 건수 + 1 까지만 읽고 멈춘다.
+    private static final String PRODUCT_ORDER_COUNT_SQL =
+            "SELECT COUNT(*) FROM (SELECT 1 FROM order_item WHERE product_id = ? LIMIT ?) t";
+
+    private static final String SELECT_PAGE_SQL =
+            "SELECT o.order_id, o.user_id, o.receiver_name, o.receiver_phone, o.total_price, " +
+            "       o.delivery_tracking_number, o.order_status, o.created_at " +
+            "FROM (%s) page " +
+            "JOIN orders o ON o.order_id = page.order_id " +
+            "ORDER BY page.created_at DESC, page.order_id DESC";
+
+    private static final RowMapper<AdminOrderSummaryResponse> ROW_MAPPER = (rs, rowNum) ->
+            AdminOrderSummaryResponse.builder()
+                    .orderId(rs.getInt("order_id"))
+                    .userId(rs.getInt("user_id"))
+                    .receiverName(rs.getString("receiver_name"))
+                    .receiverPhone(rs.getString("receiver_phone"))
+                    .totalPrice(rs.getInt("total_price"))
+                    .deliveryTrackingNumber(rs.getString("delivery_tracking_number"))
+                    .orderStatus(OrderStatus.valueOf(rs.getString("order_status")))
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 관리자 주문 검색
+     * - URL: GET /Admin/Order/search
+     * - 상품 조건이 있으면 상품 주문상품 건수 1번 + 검색 1번, 없으면 검색 1번
+     */
+    public AdminOrderSliceResponse search(AdminOrderSearchRequest request) {
+        int size = request.getSize() != null ? request.getSize() : DEFAULT_SEARCH_SIZE;
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 ~ " + MAX_SEARCH_SIZE + " 사이여야 합니다.");
+        }
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (request.getMinTotalPrice() != null && request.getMaxTotalPrice() != null
+                && request.getMinTotalPrice() > request.getMaxTotalPrice()) {
+            throw new IllegalArgumentException("최소 금액이 최대 금액보다 클 수 없습니다.");
+        }
+
+        KeysetCursor cursor = KeysetCursor.decode(request.getCursor());
+        LocalDateTime cursorCreatedAt = cursor != null ? cursor.dateTimeKey() : null;
+        Integer cursorOrderId = cursor != null ? cursor.id() : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        SearchQuery query = buildQuery(request, choosePath(request), cursorCreatedAt, cursorOrderId, size + 1);
+        List<AdminOrderSummaryResponse> orders = jdbcTemplate.query(query.sql(), ROW_MAPPER, query.args().toArray());
+
+        boolean hasNext = orders.size() > size;
+        if (hasNext) {
+            orders = orders.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            AdminOrderSummaryResponse last = orders.get(orders.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getOrderId());
+        }
+
+        return AdminOrderSliceResponse.builder()
+                .orders(orders)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // ===================== 실행 계획 선택 / SQL 조립 ===================== //
+
+    /* 검색을 시작할 인덱스 */
+    enum Path {
+        USER("idx_orders_user_created_id"),
+        PHONE("idx_orders_phone_created_id"),
+        PRODUCT("idx_order_item_product_order"),
+        CREATED("idx_orders_created_search");
+
+        final String index;
+
+        Path(String index) {
+            this.index = index;
+        }
+    }
+
+    record SearchQuery(String sql, List<Object> args) {
+    }
+
+    // 가장 좁혀지는 조건의 인덱스에서 출발한다.
+    Path choosePath(AdminOrderSearchRequest request) {
+        if (request.getUserId() != null) {
+            return Path.USER;
+        }
+        if (hasText(request.getReceiverPhone())) {
+            return Path.PHONE;
+        }
+        if (request.getProductId() != null && countProductOrders(request) <= PRODUCT_DRIVE_MAX_ORDERS) {
+            return Path.PRODUCT;
+        }
+        return Path.CREATED;
+    }
+
+    private long countProductOrders(AdminOrderSearchRequest request) {
+        Long count = jdbcTemplate.queryForObject(PRODUCT_ORDER_COUNT_SQL, Long.class,
+                request.getProductId(), PRODUCT_DRIVE_MAX_ORDERS + 1);
+        return count != null ? count : 0;
+    }
+
+    /*
+     * SELECT ... FROM (페이지 주문 ID 고르기 - 인덱스만, LIMIT) page JOIN orders o ... ORDER BY ...
+     */
+    SearchQuery buildQuery(AdminOrderSearchRequest request, Path path,
+                           LocalDateTime cursorCreatedAt, Integer cursorOrderId, int limit) {
+        List<String> where = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+
+        StringBuilder inner = new StringBuilder();
+        if (path == Path.PRODUCT) {
+            // 상품의 주문 ID 목록에서 출발 (한 주문에 같은 상품이 여러 줄일 수 있어 DISTINCT)
+            inner.append("SELECT DISTINCT o.order_id, o.created_at ")
+                    .append("FROM order_item oi FORCE INDEX (").append(path.index).append(") ")
+                    .append("STRAIGHT_JOIN orders o ON o.order_id = oi.order_id ");
+            where.add("oi.product_id = ?");
+            args.add(request.getProductId());
+        } else {
+            inner.append("SELECT o.order_id, o.created_at ")
+                    .append("FROM orders o FORCE INDEX (").append(path.index).append(") ");
+        }
+
+        if (request.getUserId() != null) {
+            where.add("o.user_id = ?");
+            args.add(request.getUserId());
+        }
+        if (hasText(request.getReceiverPhone())) {
+            where.add("o.receiver_phone = ?");
+            args.add(request.getReceiverPhone().trim());
+        }
+        if (request.getFrom() != null) {
+            where.add("o.created_at >= ?");
+            args.add(Timestamp.valueOf(request.getFrom().atStartOfDay()));
+        }
+        if (request.getTo() != null) {
+            where.add("o.created_at < ?");
+            args.add(Timestamp.valueOf(request.getTo().plusDays(1).atStartOfDay()));
+        }
+        if (request.getMinTotalPrice() != null) {
+            where.add("o.total_price >= ?");
+            args.add(request.getMinTotalPrice());
+        }
+        if (request.getMaxTotalPrice() != null) {
+            where.add("o.total_price <= ?");
+            args.add(request.getMaxTotalPrice());
+        }
+        if (request.getHasTrackingNumber() != null) {
+            where.add(request.getHasTrackingNumber()
+                    ? "o.delivery_tracking_number IS NOT NULL"
+                    : "o.delivery_tracking_number IS NULL");
+        }
+        if (request.getProductId() != null && path != Path.PRODUCT) {
+            // 세미조인으로 바뀌면 order_item 쪽에서 출발해 정렬할 수 있으므로, 읽은 주문마다 확인하도록 고정한다.
+            where.add("EXISTS (SELECT /*+ NO_SEMIJOIN() */ 1 FROM order_item oi " +
+                    "WHERE oi.order_id = o.order_id AND oi.product_id = ?)");
+            args.add(request.getProductId());
+        }
+        if (cursorCreatedAt != null) {
+            where.add("(o.created_at < ? OR (o.created_at = ? AND o.order_id < ?))");
+            args.add(Timestamp.valueOf(cursorCreatedAt));
+            args.add(Timestamp.valueOf(cursorCreatedAt));
+            args.add(cursorOrderId);
+        }
+
+        if (!where.isEmpty()) {
+            inner.append("WHERE ").append(String.join(" AND ", where)).append(' ');
+        }
+        inner.append("ORDER BY o.created_at DESC, o.order_id DESC LIMIT ?");
+        args.add(limit);
+
+        return new SearchQuery(String.format(SELECT_PAGE_SQL, inner), args);
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -1,22 +1,32 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.OrderStatus;
+import com.sesac.fmmall.DTO.Address.AddressResponseDto;
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
 import com.sesac.fmmall.DTO.Order.CartOrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.CheckoutContextResponse;
 import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
 import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
-import com.sesac.fmmall.DTO.Order.OrderItemResponse;
 import com.sesac.fmmall.DTO.Order.OrderResponse;
 import com.sesac.fmmall.DTO.Order.OrderSummaryResponse;
-import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
-import com.sesac.fmmall.DTO.Settlement.PaymentSummaryResponse;
+import com.sesac.fmmall.DTO.Order.OrderSummarySliceResponse;
+import com.sesac.fmmall.DTO.Payment.PaymentMethodResponseDto;
 import com.sesac.fmmall.Entity.*;
 import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Repository.OrderItemRepository.CancelLineRow;
+import com.sesac.fmmall.Repository.OrderRepository.OrderCancelTarget;
+import com.sesac.fmmall.Repository.OrderRepository.OrderHistoryRow;
+import com.sesac.fmmall.Repository.OrderRepository.OrderProductNameRow;
+import com.sesac.fmmall.Security.CheckoutTokenProvider;
+import com.sesac.fmmall.Security.CheckoutTokenProvider.CheckoutContext;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,16 +41,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int DEFAULT_HISTORY_SIZE = 20;
+    private static final int MAX_HISTORY_SIZE = 100;
+
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
+    private final OrderItemRepository orderItemRepository;    // 주문 취소 시 상품별 수량 조회용
     private final PaymentRepository paymentRepository;
     private final AddressRepository addressRepository;
     private final PaymentMethodRepository paymentMethodRepository;
-    private final CartRepository cartRepository;        // ✅ 장바구니 조회용
+    private final CartItemRepository cartItemRepository;    // 장바구니 주문 항목 조회/삭제용
+    private final StockReservationService stockReservationService;   // 재고 차감/복구
+    private final CheckoutTokenProvider checkoutTokenProvider;       // 주문서 확인 값 서명/검증
+    private final SalesRollupService salesRollupService;             // 매출 집계 반영 (커밋 후)
 
-    private final ModelMapper modelMapper;
 
     // =========================================================
     // 1. 주문 생성 (사용자가 상품/수량을 직접 넘기는 방식)
@@ -52,8 +67,8 @@ public class OrderService {
      * - 요청 바디: OrderCreateRequest
      * - 흐름:
      *   1) userId로 User 조회
-     *   2) OrderCreateRequest 안의 items 를 돌면서 상품/수량 검증 + 재고 차감
-     *   3) Order & OrderItem 생성/저장
+     *   2) OrderCreateRequest 안의 items 수량 검증 + 상품 일괄 조회 (findAllById)
+     *   3) 상품별 수량을 모아 재고 차감 (StockReservationService) + Order & OrderItem 생성/저장
      *   4) 결제수단(PaymentMethod) 선택 + Payment 생성
      */
     @Transactional
@@ -67,6 +82,11 @@ public class OrderService {
         if (request.getItems() == null || request.getItems().isEmpty()) {
             throw new IllegalArgumentException("주문 상품이 없습니다.");
         }
+        for (OrderItemCreateRequest itemReq : request.getItems()) {
+            if (itemReq.getQuantity() == null || itemReq.getQuantity() < 1) {
+                throw new IllegalArgumentException("상품 수량은 1개 이상이어야 합니다.");
+            }
+        }
 
         // 3. 배송지 선택 (addressId 있으면 해당 주소, 없으면 기본 배송지 사용)
         Address shippingAddress;
@@ -101,49 +121,38 @@ public class OrderService {
                 .user(user)
                 .build();
 
-        // 5. 주문상품 생성 + 재고 체크/차감
-        for (OrderItemCreateRequest itemReq : request.getItems()) {
+        // 5. 주문 상품 일괄 조회 (상품 수와 관계없이 IN 쿼리 1번)
+        Map<Integer, Product> productById = findProductsById(request.getItems());
 
-            Product product = productRepository.findById(itemReq.getProductId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "존재하지 않는 상품입니다. productId=" + itemReq.getProductId()));
+        // 6. 주문상품 생성
+        for (OrderItemCreateRequest itemReq : request.getItems()) {
 
+            Product product = productById.get(itemReq.getProductId());
             Integer qty = itemReq.getQuantity();
-            if (qty == null || qty < 1) {
-                throw new IllegalArgumentException("상품 수량은 1개 이상이어야 합니다.");
-            }
 
-            // 재고 부족 체크
-            if (product.getStockQuantity() < qty) {
-                throw new IllegalArgumentException(
-                        "상품 재고가 부족합니다. productId=" + product.getProductId()
-                                + ", stock=" + product.getStockQuantity()
-                                + ", requested=" + qty
-                );
-            }
-
-            // 재고 차감
-            product.setStockQuantity(product.getStockQuantity() - qty);
-
-            // OrderItem 생성
+            // OrderItem 생성 (주문 당시 상품명/단가 스냅샷 포함)
             OrderItem orderItem = OrderItem.builder()
                     .product(product)
                     .quantity(qty)
                     .deliveryDate(null)
                     .installationDate(null)
                     .build();
+            orderItem.captureSnapshot(product);
 
             // 양방향 연관 관계 설정 (order <-> orderItem)
             order.addOrderItem(orderItem);
         }
 
-        // 6. 주문 총 금액 계산
+        // 7. 주문 총 금액 계산
         order.setTotalPrice(order.calculateTotalPrice());
 
-        // 7. 주문 저장
+        // 재고 차감 (상품별 조건부 UPDATE, 하나라도 부족하면 예외 → 전체 롤백)
+        stockReservationService.reserve(order.getOrderItems());
+
+        // 8. 주문 저장
         Order savedOrder = orderRepository.save(order);
 
-        // 8. 결제수단 선택 (paymentMethodId 있으면 그 카드, 없으면 기본 카드)
+        // 9. 결제수단 선택 (paymentMethodId 있으면 그 카드, 없으면 기본 카드)
         PaymentMethod paymentMethod;
         if (request.getPaymentMethodId() != null) {
             paymentMethod = paymentMethodRepository.findById(request.getPaymentMethodId())
@@ -161,7 +170,7 @@ public class OrderService {
                             "기본 결제수단이 설정되어 있지 않습니다. paymentMethodId를 지정하거나 기본 결제수단을 등록해주세요."));
         }
 
-        // 9. 결제 생성 (결제 성공 가정)
+        // 10. 결제 생성 (결제 성공 가정)
         Payment payment = Payment.builder()
                 .paymentMethodType(paymentMethod.getCardCompany())  // 예: "HyundaiCard"
                 .paidAt(LocalDateTime.now())
@@ -170,8 +179,9 @@ public class OrderService {
 
         Payment savedPayment = paymentRepository.save(payment);
         savedOrder.setPayment(savedPayment);
+        salesRollupService.recordOrdered(savedOrder.getOrderId());
 
-        // 10. DTO 변환 후 반환
+        // 11. DTO 변환 후 반환
         return mapToOrderResponse(savedOrder);
     }
 
@@ -184,39 +194,70 @@ public class OrderService {
      * - URL: POST /Order/insertFromCart
      * - 요청 바디: CartOrderCreateRequest
      * - 흐름:
-     *   1) userId로 User + Cart 조회
-     *   2) Cart 안의 CartItem 중 checkStatus = 'Y' 인 것만 주문에 포함
+     *   1) userId로 User 조회
+     *   2) 요청의 cartItemIds 항목 (없으면 checkStatus = 'Y' 인 항목) 만 주문에 포함 + 재고 사전 확인
      *   3) 배송지/결제수단 선택
      *   4) Order & OrderItem 생성 + 재고 차감
      *   5) Payment 생성
-     *   6) 주문에 사용된 CartItem 은 장바구니에서 제거
+     *   6) 주문에 사용된 CartItem 만 장바구니에서 제거
+     * - checkoutToken (GET /Order/checkout-context 에서 받은 값) 이 유효하면
+     *   사용자 조회 / 기본 배송지 검색을 건너뛰고, 주문서에 보여준 항목을 주문한다. (결제수단은 존재/소유만 PK 로 확인)
+     *   만료/위조/다른 사용자의 토큰이면 주문서에 보여준 것과 다른 항목이 주문되지 않도록 거절한다. (주문서를 다시 불러와야 함)
      */
     @Transactional
     public OrderResponse createOrderFromCart(Integer userId, CartOrderCreateRequest request) {
 
-        // 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. userId=" + userId));
+        CheckoutContext checkout = checkoutTokenProvider.parse(request.getCheckoutToken(), userId);
+        if (checkout == null && request.getCheckoutToken() != null && !request.getCheckoutToken().isBlank()) {
+            throw new IllegalArgumentException("주문서 정보가 만료되었거나 올바르지 않습니다. 주문서를 다시 불러와주세요.");
+        }
 
-        // 2. 장바구니 조회
-        Cart cart = cartRepository.findByUser_UserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니가 존재하지 않습니다. userId=" + userId));
+        // 1. 사용자 조회 (체크아웃 토큰이 있으면 주문서를 열 때 확인했으므로 참조만)
+        User user = checkout != null
+                ? userRepository.getReferenceById(userId)
+                : userRepository.findById(userId)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. userId=" + userId));
+
+        // 2~3. 주문할 장바구니 항목 선택 (CartItem + Product 를 한 번에 조회, 장바구니 전체는 읽지 않음)
+        //    - cartItemIds 가 있으면 그 항목만, 없으면 주문서에 보여준 항목, 그것도 없으면 checkStatus = 'Y' 인 항목만
+        List<Integer> cartItemIds = request.getCartItemIds();
+        if (cartItemIds == null && checkout != null) {
+            cartItemIds = checkout.cartItemIds();
+        }
+        List<CartItem> selectedItems = findCartItemsToOrder(userId, cartItemIds);
 
-        // 3. 주문에 사용할 CartItem 선택
-        //    - checkStatus = 'Y' 인 것만 주문에 포함
-        //    - 만약 "장바구니 전체 주문"으로 바꾸고 싶으면 이 filter 제거 후 cart.getCartItems() 전체 사용
-        List<CartItem> selectedItems = cart.getCartItems().stream()
+        if (selectedItems.isEmpty()) {
+            throw new IllegalArgumentException("주문할 장바구니 상품이 없습니다.");
+        }
 
+        // 재고 사전 확인 (방금 읽은 재고 기준으로 부족한 상품을 한 번에 모아서 알려준다)
+        //  - 실제 차감은 아래 조건부 UPDATE 가 판단하므로, 여기서 통과해도 동시 주문에 밀리면 그때 실패한다.
+        Map<Integer, Integer> quantityByProductId = new TreeMap<>();
+        Map<Integer, Product> productById = new HashMap<>();
+        for (CartItem cartItem : selectedItems) {
+            quantityByProductId.merge(cartItem.getProduct().getProductId(), cartItem.getCartItemQuantity(), Integer::sum);
+            productById.put(cartItem.getProduct().getProductId(), cartItem.getProduct());
+        }
+        List<Integer> shortProductIds = quantityByProductId.entrySet().stream()
+                .filter(entry -> entry.getValue() > productById.get(entry.getKey()).getStockQuantity())
+                .map(Map.Entry::getKey)
                 .collect(Collectors.toList());
-
-
+        if (!shortProductIds.isEmpty()) {
+            throw new IllegalArgumentException("상품 재고가 부족합니다. productIds=" + shortProductIds);
+        }
 
         // 4. 배송지 선택 (addressId 있으면 해당 주소, 없으면 기본 배송지 사용)
+        //    - 체크아웃 토큰에 기본 배송지 ID 가 있으면 기본 배송지 검색 대신 PK 로 바로 읽는다.
+        Integer addressId = request.getAddressId();
+        if (addressId == null && checkout != null) {
+            addressId = checkout.defaultAddressId();
+        }
         Address shippingAddress;
-        if (request.getAddressId() != null) {
-            shippingAddress = addressRepository.findById(request.getAddressId())
+        if (addressId != null) {
+            Integer targetAddressId = addressId;
+            shippingAddress = addressRepository.findById(targetAddressId)
                     .orElseThrow(() -> new IllegalArgumentException(
-                            "배송지 정보가 존재하지 않습니다. addressId=" + request.getAddressId()));
+                            "배송지 정보가 존재하지 않습니다. addressId=" + targetAddressId));
 
             if (shippingAddress.getUser().getUserId() != userId) {
                 throw new IllegalArgumentException("본인의 배송지 정보만 사용할 수 있습니다.");
@@ -241,7 +282,7 @@ public class OrderService {
                 .user(user)
                 .build();
 
-        // 6. CartItem -> OrderItem 변환 + 재고 체크/차감
+        // 6. CartItem -> OrderItem 변환
         for (CartItem cartItem : selectedItems) {
 
             Product product = cartItem.getProduct();
@@ -255,24 +296,14 @@ public class OrderService {
                 throw new IllegalArgumentException("상품 수량은 1개 이상이어야 합니다.");
             }
 
-            if (product.getStockQuantity() < qty) {
-                throw new IllegalArgumentException(
-                        "상품 재고가 부족합니다. productId=" + product.getProductId()
-                                + ", stock=" + product.getStockQuantity()
-                                + ", requested=" + qty
-                );
-            }
-
-            // 재고 차감
-            product.setStockQuantity(product.getStockQuantity() - qty);
-
-            // OrderItem 생성
+            // OrderItem 생성 (주문 당시 상품명/단가 스냅샷 포함)
             OrderItem orderItem = OrderItem.builder()
                     .product(product)
                     .quantity(qty)
                     .deliveryDate(null)
                     .installationDate(null)
                     .build();
+            orderItem.captureSnapshot(product);
 
             // 주문과 양방향 연관관계 설정
             order.addOrderItem(orderItem);
@@ -281,45 +312,91 @@ public class OrderService {
         // 7. 주문 총 금액 계산
         order.setTotalPrice(order.calculateTotalPrice());
 
+        // 재고 차감 (상품별 조건부 UPDATE, 하나라도 부족하면 예외 → 전체 롤백)
+        stockReservationService.reserve(order.getOrderItems());
+
         // 8. 주문 저장
         Order savedOrder = orderRepository.save(order);
 
         // 9. 결제수단 선택 (paymentMethodId 있으면 그것, 없으면 기본 결제수단)
-        PaymentMethod paymentMethod;
-        if (request.getPaymentMethodId() != null) {
-            paymentMethod = paymentMethodRepository.findById(request.getPaymentMethodId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "결제수단 정보가 존재하지 않습니다. paymentMethodId=" + request.getPaymentMethodId()));
-
-            if (paymentMethod.getUser().getUserId() != userId) {
-                throw new IllegalArgumentException("본인의 결제수단만 사용할 수 있습니다.");
-            }
-        } else {
-            paymentMethod = paymentMethodRepository
-                    .findByUser_UserIdAndIsDefault(userId, true)
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "기본 결제수단이 설정되어 있지 않습니다. paymentMethodId를 지정하거나 기본 결제수단을 등록해주세요."));
-        }
+        //    - 체크아웃 토큰에 있는 본인 결제수단이면 서명된 카드사를 그대로 쓴다. (조회 없음)
+        String cardCompany = resolveCardCompany(userId, request.getPaymentMethodId(), checkout);
 
         // 10. 결제 생성 (결제 성공 가정)
         Payment payment = Payment.builder()
-                .paymentMethodType(paymentMethod.getCardCompany())
+                .paymentMethodType(cardCompany)
                 .paidAt(LocalDateTime.now())
                 .order(savedOrder)
                 .build();
 
         Payment savedPayment = paymentRepository.save(payment);
         savedOrder.setPayment(savedPayment);
+        salesRollupService.recordOrdered(savedOrder.getOrderId());
 
-        // 11. 주문에 사용된 CartItem 들을 장바구니에서 제거
-        //     Cart.cartItems는 orphanRemoval = true 이므로
-        //     리스트에서 제거하면 DB에서도 자동 삭제된다.
-        cart.getCartItems().removeAll(selectedItems);
+        // 11. 주문에 사용된 CartItem 만 장바구니에서 제거 (DELETE 한 번)
+        cartItemRepository.deleteAllByIdIn(selectedItems.stream()
+                .map(CartItem::getCartItemId)
+                .collect(Collectors.toList()));
 
         // 12. DTO 변환 후 반환
         return mapToOrderResponse(savedOrder);
     }
 
+    /**
+     * 장바구니 주문서(체크아웃) 정보
+     * - URL: GET /Order/checkout-context
+     * - 주문할 장바구니 항목(+상품) 1번, 배송지 목록 1번, 결제수단 목록 1번 → 장바구니/주소/카드 수와 관계없이 SQL 3번
+     * - 확인한 값은 checkoutToken 에 서명해서 내려주고, 주문 제출 때 다시 조회하지 않는다.
+     */
+    @Transactional
+    public CheckoutContextResponse getCheckoutContext(Integer userId, List<Integer> cartItemIds) {
+
+        List<CartItem> items = findCartItemsToOrder(userId, cartItemIds);
+        List<Address> addresses = addressRepository.findByUser_UserId(userId);
+        List<PaymentMethod> paymentMethods = paymentMethodRepository.findByUser_UserId(userId);
+
+        Integer defaultAddressId = addresses.stream()
+                .filter(address -> "Y".equals(address.getIsDefault()))
+                .map(Address::getAddressId)
+                .findFirst()
+                .orElse(null);
+        Integer defaultPaymentMethodId = paymentMethods.stream()
+                .filter(paymentMethod -> Boolean.TRUE.equals(paymentMethod.getIsDefault()))
+                .map(PaymentMethod::getPaymentMethodId)
+                .findFirst()
+                .orElse(null);
+
+        Map<Integer, String> cardCompanyByPaymentMethodId = new LinkedHashMap<>();
+        for (PaymentMethod paymentMethod : paymentMethods) {
+            cardCompanyByPaymentMethodId.put(paymentMethod.getPaymentMethodId(), paymentMethod.getCardCompany());
+        }
+
+        CheckoutContext checkout = new CheckoutContext(
+                userId,
+                items.stream().map(CartItem::getCartItemId).toList(),
+                defaultAddressId,
+                defaultPaymentMethodId,
+                cardCompanyByPaymentMethodId);
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(checkoutTokenProvider.getTokenValidityInSeconds());
+
+        List<CartItemResponseDTO> itemResponses = items.stream()
+                .map(CartItemResponseDTO::from)
+                .toList();
+
+        return CheckoutContextResponse.builder()
+                .items(itemResponses)
+                .totalItemCount(itemResponses.size())
+                .totalPrice(itemResponses.stream().mapToInt(CartItemResponseDTO::getTotalPrice).sum())
+                .addresses(addresses.stream().map(AddressResponseDto::new).toList())
+                .defaultAddressId(defaultAddressId)
+                .paymentMethods(paymentMethods.stream().map(PaymentMethodResponseDto::new).toList())
+                .defaultPaymentMethodId(defaultPaymentMethodId)
+                .checkoutToken(checkoutTokenProvider.createToken(checkout,
+                        Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant())))
+                .checkoutTokenExpiresAt(expiresAt)
+                .build();
+    }
+
     // =========================================================
     // 3. 주문 조회 (전체 / 단건 / 상품 기준)
     // =========================================================
@@ -331,13 +408,77 @@ public class OrderService {
     @Transactional
     public List<OrderSummaryResponse> getOrdersByUser(Integer userId) {
 
-        List<Order> orders = orderRepository.findByUser_UserId(userId);
+        // 주문 + 결제 + 주문상품을 한 번에 조회 (주문 수와 관계없이 쿼리 1번, 상품명은 주문상품 스냅샷)
+        List<Order> orders = orderRepository.findHistoryByUserId(userId);
 
         return orders.stream()
                 .map(this::mapToOrderSummaryResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 특정 사용자의 주문 내역 (커서 기반, 최신순)
+     * - URL: GET /Order/history?cursor=&size=
+     * - 주문 목록(총 수량 포함) 1번 + 그 페이지의 상품명 1번 → 주문 건수와 관계없이 쿼리 2번
+     * - 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다.
+     */
+    @Transactional
+    public OrderSummarySliceResponse getOrderHistory(Integer userId, String cursor, Integer size) {
+
+        int pageSize = size != null ? size : DEFAULT_HISTORY_SIZE;
+        if (pageSize < 1 || pageSize > MAX_HISTORY_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 ~ " + MAX_HISTORY_SIZE + " 사이여야 합니다.");
+        }
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+        LocalDateTime cursorCreatedAt = decoded != null ? decoded.dateTimeKey() : null;
+        Integer cursorOrderId = decoded != null ? decoded.id() : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<OrderHistoryRow> rows = orderRepository.findHistorySlice(
+                userId, cursorCreatedAt, cursorOrderId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        // 주문별 상품명 (이미 DB 에서 중복 제거 + 주문상품 순서로 정렬됨)
+        Map<Integer, List<String>> productNamesByOrder = new HashMap<>();
+        if (!rows.isEmpty()) {
+            List<Integer> orderIds = rows.stream()
+                    .map(OrderHistoryRow::getOrderId)
+                    .collect(Collectors.toList());
+            for (OrderProductNameRow row : orderRepository.findProductNamesByOrderIds(orderIds)) {
+                productNamesByOrder.computeIfAbsent(row.getOrderId(), id -> new ArrayList<>())
+                        .add(row.getProductName());
+            }
+        }
+
+        List<OrderSummaryResponse> orders = rows.stream()
+                .map(row -> OrderSummaryResponse.builder()
+                        .orderId(row.getOrderId())
+                        .totalPrice(row.getTotalPrice())
+                        .createdAt(row.getCreatedAt())
+                        .orderStatus(row.getOrderStatus())
+                        .totalQuantity(row.getTotalQuantity().intValue())
+                        .productNames(productNamesByOrder.getOrDefault(row.getOrderId(), List.of()))
+                        .build())
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderHistoryRow last = rows.get(rows.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getOrderId());
+        }
+
+        return OrderSummarySliceResponse.builder()
+                .orders(orders)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * 특정 사용자의 특정 주문 상세 조회
      * - URL: GET /Order/findOne/{orderId}
@@ -345,7 +486,8 @@ public class OrderService {
     @Transactional
     public OrderResponse getOrderDetail(Integer orderId, Integer userId) {
 
-        Order order = orderRepository.findById(orderId)
+        // 주문 + 결제 + 주문상품 (1번) → 환불 목록 (1번)
+        Order order = orderRepository.findDetailById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문이 존재하지 않습니다. orderId=" + orderId));
 
         // 다른 사람 주문 접근 방지
@@ -353,6 +495,8 @@ public class OrderService {
             throw new IllegalArgumentException("본인의 주문만 조회할 수 있습니다.");
         }
 
+        orderRepository.fetchRefunds(List.of(order));
+
         return mapToOrderResponse(order);
     }
 
@@ -363,20 +507,13 @@ public class OrderService {
     @Transactional
     public List<OrderResponse> getOrdersByUserAndProduct(Integer userId, Integer productId) {
 
-        // productId 기준으로 주문상품 조회
-        List<OrderItem> orderItems = orderItemRepository.findByProduct_ProductId(productId);
-
-        // userId로 필터링 + 주문 중복 제거
-        Map<Integer, Order> uniqueOrders = new LinkedHashMap<>();
-
-        for (OrderItem item : orderItems) {
-            Order order = item.getOrder();
-            if (order.getUser().getUserId() == userId) {
-                uniqueOrders.putIfAbsent(order.getOrderId(), order);
-            }
+        // 사용자 + 상품 조건을 SQL 에서 같이 걸어 해당 주문만 조회 (1번) → 환불 목록 (1번)
+        List<Order> orders = orderRepository.findDetailsByUserAndProduct(userId, productId);
+        if (!orders.isEmpty()) {
+            orderRepository.fetchRefunds(orders);
         }
 
-        return uniqueOrders.values().stream()
+        return orders.stream()
                 .map(this::mapToOrderResponse)
                 .collect(Collectors.toList());
     }
@@ -390,92 +527,152 @@ public class OrderService {
      * - URL: PUT /Order/cancel/{orderId}
      * - 조건:
      *   1) 본인 주문만 취소 가능
-     *   2) 환불 이력이 있는 주문은 취소 불가
+     *   2) 이미 취소된 주문, 환불 이력이 있는 주문은 취소 불가
      *   3) 배송일이 null 이거나 "오늘 이후"인 경우만 취소 가능
      *   => 이미 배송이 시작되었으면 환불로 처리해야 한다.
+     * - 주문/주문상품/결제 행은 지우지 않고 주문 상태만 CANCELLED 로 바꾼다.
+     * - 엔티티를 올리지 않는다: 취소 대상 확인 1번 + 상품별 수량 1번 + 상태 변경 1번 + 재고 복구 배치 1번
      */
     @Transactional
     public void cancelOrder(Integer orderId, Integer userId) {
 
-        Order order = orderRepository.findById(orderId)
+        OrderCancelTarget target = orderRepository.findCancelTarget(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문이 존재하지 않습니다. orderId=" + orderId));
 
-        if (order.getUser().getUserId() != userId) {
+        if (target.getUserId() != userId) {
             throw new IllegalArgumentException("본인의 주문만 취소할 수 있습니다.");
         }
 
+        if (target.getOrderStatus() == OrderStatus.CANCELLED) {
+            throw new IllegalStateException("이미 취소된 주문입니다.");
+        }
+
         // 환불 이력이 있으면 취소 불가
-        if (!order.getRefunds().isEmpty()) {
+        if (target.getRefundCount() > 0) {
             throw new IllegalStateException("환불 이력이 있는 주문은 취소할 수 없습니다.");
         }
 
-        LocalDate today = LocalDate.now();
-
-        // 배송일 기준 취소 가능 여부 판단 (배송일이 null이거나 오늘 이후인 경우만 취소 가능)
-        boolean canCancel = order.getOrderItems().stream()
-                .allMatch(item ->
-                        item.getDeliveryDate() == null ||
-                                item.getDeliveryDate().isAfter(today)
-                );
-
-        if (!canCancel) {
+        // 배송일 기준 취소 가능 여부 판단 (배송일이 오늘이거나 지난 주문상품이 하나라도 있으면 불가)
+        List<CancelLineRow> lines = orderItemRepository.findCancelLines(orderId, LocalDate.now());
+        if (lines.stream().anyMatch(line -> line.getShipped() == 1)) {
             throw new IllegalStateException("이미 배송이 시작되었거나 완료된 상품이 있어 주문 취소가 불가능합니다. 환불을 이용해주세요.");
         }
 
-        // 재고 복구
-        for (OrderItem item : order.getOrderItems()) {
-            Product product = item.getProduct();
-            product.setStockQuantity(product.getStockQuantity() + item.getQuantity());
+        // 상태 조건부 변경 - 그 사이 다른 요청이 먼저 취소했다면 0건이고, 재고는 복구하지 않는다.
+        int changed = orderRepository.changeStatus(orderId, OrderStatus.ORDERED, OrderStatus.CANCELLED, LocalDateTime.now());
+        if (changed == 0) {
+            throw new IllegalStateException("이미 취소된 주문입니다.");
         }
 
-        // 결제 삭제
-        Payment payment = order.getPayment();
-        if (payment != null) {
-            paymentRepository.delete(payment);
-            order.setPayment(null);
+        // 재고 복구 (주문 생성 때와 같은 productId 오름차순, 배치 한 번)
+        if (!lines.isEmpty()) {
+            Map<Integer, Integer> quantityByProductId = new TreeMap<>();
+            for (CancelLineRow line : lines) {
+                quantityByProductId.put(line.getProductId(), line.getQuantity().intValue());
+            }
+            stockReservationService.restock(quantityByProductId);
         }
 
-        // 주문 삭제 (OrderItem, Refund는 cascade + orphanRemoval로 함께 삭제)
-        orderRepository.delete(order);
+        salesRollupService.recordCancelled(orderId);
     }
 
-    // =========================================================
-    // 5. 엔티티 → DTO 매핑 메서드
-    // =========================================================
+    /**
+     * 주문 요청에 들어있는 상품들을 IN 쿼리 한 번으로 조회한다.
+     * - 같은 상품이 여러 줄에 있어도 한 번만 조회
+     * - 존재하지 않는 상품이 있으면 누락된 ID 를 모두 담아 바로 예외
+     */
+    private Map<Integer, Product> findProductsById(List<OrderItemCreateRequest> items) {
+
+        Set<Integer> productIds = items.stream()
+                .map(OrderItemCreateRequest::getProductId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Integer, Product> productById = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, product -> product));
+
+        List<Integer> missingIds = productIds.stream()
+                .filter(id -> !productById.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다. productId=" + missingIds);
+        }
+
+        return productById;
+    }
 
     /**
-     * 상세 조회용 DTO 매핑
+     * 장바구니 주문에 넣을 항목을 상품과 함께 한 번에 조회한다.
+     * - cartItemIds 가 있으면 그 항목 (본인 장바구니가 아니거나 없는 ID 가 있으면 모두 담아 예외)
+     * - 없으면 선택(checkStatus = 'Y')된 항목
      */
-    private OrderResponse mapToOrderResponse(Order order) {
+    private List<CartItem> findCartItemsToOrder(int userId, List<Integer> cartItemIds) {
+        if (cartItemIds == null) {
+            return cartItemRepository.findCheckedWithProductByUserId(userId);
+        }
 
-        // 기본 필드는 ModelMapper로 매핑
-        OrderResponse dto = modelMapper.map(order, OrderResponse.class);
+        Set<Integer> requestedIds = new LinkedHashSet<>(cartItemIds);
+        if (requestedIds.isEmpty()) {
+            return List.of();
+        }
+        List<CartItem> cartItems = cartItemRepository.findWithProductByUserIdAndIdIn(userId, requestedIds);
+
+        if (cartItems.size() != requestedIds.size()) {
+            Set<Integer> foundIds = cartItems.stream()
+                    .map(CartItem::getCartItemId)
+                    .collect(Collectors.toSet());
+            List<Integer> missingIds = requestedIds.stream()
+                    .filter(id -> !foundIds.contains(id))
+                    .toList();
+            throw new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다. cartItemId=" + missingIds);
+        }
+        return cartItems;
+    }
 
-        // 이름이 다른 필드 수동 보정
-        dto.setOrderId(order.getOrderId());
-        dto.setUserId(order.getUser().getUserId());
+    /**
+     * 장바구니 주문의 결제 카드사
+     * - 체크아웃 토큰에 들어 있는 결제수단이면 토큰의 카드사
+     *   (주문서를 연 뒤에 삭제되었을 수 있으므로 아직 있고 본인 것인지만 PK 로 한 번 확인)
+     * - 아니면 paymentMethodId 의 결제수단 (본인 것만), 없으면 기본 결제수단을 조회한다.
+     */
+    private String resolveCardCompany(int userId, Integer paymentMethodId, CheckoutContext checkout) {
+        if (checkout != null) {
+            Integer targetId = paymentMethodId != null ? paymentMethodId : checkout.defaultPaymentMethodId();
+            if (targetId != null && checkout.cardCompanyByPaymentMethodId().containsKey(targetId)) {
+                if (!paymentMethodRepository.existsByPaymentMethodIdAndUser_UserId(targetId, userId)) {
+                    throw new IllegalArgumentException("결제수단 정보가 존재하지 않습니다. paymentMethodId=" + targetId);
+                }
+                return checkout.cardCompanyByPaymentMethodId().get(targetId);
+            }
+        }
 
-        // 주문상품 리스트 매핑
-        List<OrderItemResponse> itemDtos = order.getOrderItems().stream()
-                .map(this::mapToOrderItemResponse)
-                .collect(Collectors.toList());
-        dto.setItems(itemDtos);
+        PaymentMethod paymentMethod;
+        if (paymentMethodId != null) {
+            paymentMethod = paymentMethodRepository.findById(paymentMethodId)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "결제수단 정보가 존재하지 않습니다. paymentMethodId=" + paymentMethodId));
 
-        // 결제 요약 매핑
-        PaymentSummaryResponse paymentDto = null;
-        if (order.getPayment() != null) {
-            paymentDto = modelMapper.map(order.getPayment(), PaymentSummaryResponse.class);
-            paymentDto.setPaymentId(order.getPayment().getPaymentId());
+            if (paymentMethod.getUser().getUserId() != userId) {
+                throw new IllegalArgumentException("본인의 결제수단만 사용할 수 있습니다.");
+            }
+        } else {
+            paymentMethod = paymentMethodRepository
+                    .findByUser_UserIdAndIsDefault(userId, true)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "기본 결제수단이 설정되어 있지 않습니다. paymentMethodId를 지정하거나 기본 결제수단을 등록해주세요."));
         }
-        dto.setPayment(paymentDto);
+        return paymentMethod.getCardCompany();
+    }
 
-        // 환불 요약 리스트 매핑
-        List<RefundSummaryResponse> refundDtos = order.getRefunds().stream()
-                .map(this::mapToRefundSummaryResponse)
-                .collect(Collectors.toList());
-        dto.setRefunds(refundDtos);
+    // =========================================================
+    // 5. 엔티티 → DTO 매핑 메서드
+    // =========================================================
 
-        return dto;
+    /**
+     * 상세 조회용 DTO 매핑
+     */
+    private OrderResponse mapToOrderResponse(Order order) {
+        return OrderResponse.from(order);
     }
 
     /**
@@ -490,7 +687,7 @@ public class OrderService {
 
         // 주문에 포함된 상품명 목록 (중복 제거)
         List<String> productNames = order.getOrderItems().stream()
-                .map(oi -> oi.getProduct().getName())   // ⚠ Product 엔티티 필드명에 맞게 수정
+                .map(OrderItem::resolveProductName)
                 .distinct()
                 .collect(Collectors.toList());
 
@@ -498,37 +695,9 @@ public class OrderService {
                 .orderId(order.getOrderId())
                 .totalPrice(order.getTotalPrice())
                 .createdAt(order.getCreatedAt())
+                .orderStatus(order.getOrderStatus())
                 .totalQuantity(totalQuantity)
                 .productNames(productNames)
                 .build();
     }
-
-    /**
-     * 주문상품 상세 DTO 매핑
-     */
-    private OrderItemResponse mapToOrderItemResponse(OrderItem item) {
-
-        OrderItemResponse dto = modelMapper.map(item, OrderItemResponse.class);
-
-        dto.setOrderItemId(item.getOrderItemId());
-        dto.setProductId(item.getProduct().getProductId());
-        dto.setProductName(item.getProduct().getName());   // ⚠ Product 엔티티 필드명에 맞게
-        dto.setProductPrice(item.getProduct().getPrice()); // ⚠ Product 엔티티 필드명에 맞게
-        dto.setLineTotalPrice(item.calculateLineTotalPrice());
-
-        return dto;
-    }
-
-    /**
-     * 환불 요약 DTO 매핑
-     */
-    private RefundSummaryResponse mapToRefundSummaryResponse(Refund refund) {
-
-        return RefundSummaryResponse.builder()
-                .refundId(refund.getRefundId())
-                .refundType(refund.getRefundType().name())
-                .totalAmount(refund.getTotalAmount())
-                .isTrue(refund.getIsTrue().name())
-                .build();
-    }
 }
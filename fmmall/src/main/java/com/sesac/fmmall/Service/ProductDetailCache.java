@@ -0,0 +1,160 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.Cache.CacheStatsResponse;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 캐시
+ * - 최대 maxSize 개까지 보관 (가장 오래 안 쓴 상품부터 제거), 저장 후 ttlSeconds 가 지나면 다시 조회
+ * - 상품 수정/삭제(ProductService)와 재고 차감/복구(StockReservationService)가 커밋되면 해당 상품을 비운다.
+ *   → 같은 서버에서는 재고가 바뀐 뒤 처음 조회할 때 다시 읽으므로 재고가 항상 최신이다.
+ * - DTO 는 setter 가 있어서, 넣을 때와 꺼낼 때 모두 복사본을 쓴다. (호출한 쪽이 고쳐도 캐시된 값은 그대로)
+ * - maxSize 가 0 이면 캐시 없이 매번 DB 조회
+ */
+@Component
+public class ProductDetailCache {
+
+    // 조회 도중 무효화 감지용 세대 번호. 상품 ID 로 나눠서 다른 상품의 재고 변경에는 영향받지 않게 한다.
+    private static final int STRIPES = 64;
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // accessOrder = true → 조회할 때마다 맨 뒤로 이동 (LRU)
+    private final Map<Integer, Entry> cache;
+    private final long[] generations = new long[STRIPES];
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public ProductDetailCache(@Value("${product.cache.max-size:10000}") int maxSize,
+                              @Value("${product.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                if (size() > ProductDetailCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public ProductResponseDTO get(int productId, Supplier<ProductResponseDTO> loader) {
+        long now = System.currentTimeMillis();
+        long loadedGeneration;
+
+        synchronized (cache) {
+            Entry cached = cache.get(productId);
+            if (cached != null && cached.expiresAt > now) {
+                hitCount.incrementAndGet();
+                return copy(cached.product);
+            }
+            loadedGeneration = generations[stripe(productId)];
+        }
+
+        // DB 조회는 락 밖에서 (없는 상품이면 예외가 그대로 전달되고 캐시하지 않는다)
+        missCount.incrementAndGet();
+        ProductResponseDTO product = loader.get();
+
+        if (maxSize > 0) {
+            synchronized (cache) {
+                // 읽는 도중에 이 상품이 무효화됐으면 옛 값일 수 있으므로 넣지 않는다.
+                if (generations[stripe(productId)] == loadedGeneration) {
+                    cache.put(productId, new Entry(copy(product), now + ttlMillis));
+                }
+            }
+        }
+        return product;
+    }
+
+    // 커밋 후 무효화 (트랜잭션 밖이면 바로)
+    public void invalidate(int productId) {
+        invalidateAll(List.of(productId));
+    }
+
+    public void invalidateAll(Collection<Integer> productIds) {
+        List<Integer> ids = List.copyOf(productIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(ids);
+                }
+            });
+        } else {
+            evict(ids);
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            for (int i = 0; i < STRIPES; i++) {
+                generations[i]++;
+            }
+        }
+        invalidationCount.incrementAndGet();
+    }
+
+    public CacheStatsResponse stats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return CacheStatsResponse.builder()
+                .name("productDetail")
+                .size(size)
+                .maxSize(maxSize)
+                .hitCount(hits)
+                .missCount(misses)
+                .evictionCount(evictionCount.get())
+                .invalidationCount(invalidationCount.get())
+                .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .build();
+    }
+
+    private void evict(List<Integer> productIds) {
+        synchronized (cache) {
+            for (int productId : productIds) {
+                cache.remove(productId);
+                generations[stripe(productId)]++;
+            }
+        }
+        invalidationCount.addAndGet(productIds.size());
+    }
+
+    // 필드가 모두 불변 타입 (String / BigDecimal / LocalDateTime / enum) 이라 얕은 복사로 충분하다.
+    private static ProductResponseDTO copy(ProductResponseDTO product) {
+        return product.toBuilder().build();
+    }
+
+    private int stripe(int productId) {
+        return Math.floorMod(productId, STRIPES);
+    }
+
+    private record Entry(ProductResponseDTO product, long expiresAt) {
+    }
+}
@@ -0,0 +1,247 @@
+package com.sesac.fmmall.Service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 상품 목록 사이드바용 패싯 집계 스냅샷 (서버 메모리)
+ * - 상품마다 카테고리 / 하위 카테고리 / 브랜드 / 가격만 int 배열로 들고 있다. (상품 ID 가 곧 배열 위치)
+ *   → 집계할 때 엔티티나 DTO 를 만들지 않고 배열만 한 번 훑는다.
+ * - 브랜드 / 하위 카테고리 / 가격대 패싯은 각자 자기 필터만 빼고 센다. (ProductSearchIndex 와 같은 방식)
+ * - 상품 등록/수정/삭제는 put / remove 로 바로 반영하고, 전체 재적재는 rebuild 로 만든 뒤 교체한다.
+ */
+@Component
+public class ProductFacetSnapshot {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+
+    private Columns columns = new Columns();
+    private boolean ready;
+
+    // rebuild 도중 들어온 변경 (새 스냅샷에 다시 적용)
+    private boolean rebuilding;
+    private final List<Row> pendingChanges = new ArrayList<>();
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* 전체 재적재. 다 만들 때까지 기존 스냅샷으로 집계하고, 도중에 들어온 변경은 교체 직전에 다시 적용한다. */
+    public void rebuild(Consumer<Consumer<Row>> loader) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                rebuilding = true;
+                pendingChanges.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Columns rebuilt = new Columns();
+            boolean completed = false;
+            try {
+                loader.accept(rebuilt::apply);
+                completed = true;
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (completed) {
+                        pendingChanges.forEach(rebuilt::apply);
+                        columns = rebuilt;
+                        ready = true;
+                    }
+                    pendingChanges.clear();
+                    rebuilding = false;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void put(Row row) {
+        change(row);
+    }
+
+    public void remove(int productId) {
+        change(Row.removed(productId));
+    }
+
+    public Counts count(Filter filter) {
+        lock.readLock().lock();
+        try {
+            return columns.count(filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void change(Row row) {
+        lock.writeLock().lock();
+        try {
+            columns.apply(row);
+            if (rebuilding) {
+                pendingChanges.add(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 열 단위 배열 (index = productId, 없는 상품은 live 에서 빠져 있음)
+    private static final class Columns {
+        private int[] categoryIds = new int[1_024];
+        private int[] rowCategoryIds = new int[1_024];
+        private int[] brandIds = new int[1_024];
+        private int[] prices = new int[1_024];
+        private final BitSet live = new BitSet();
+
+        private int maxRowCategoryId;
+        private int maxBrandId;
+
+        void apply(Row row) {
+            int productId = row.productId();
+            if (row.isRemoved()) {
+                if (productId >= 0) {
+                    live.clear(productId);
+                }
+                return;
+            }
+            if (productId < 0) {
+                throw new IllegalArgumentException("상품 ID 가 올바르지 않습니다.");
+            }
+            ensureCapacity(productId + 1);
+            categoryIds[productId] = row.categoryId();
+            rowCategoryIds[productId] = row.rowCategoryId();
+            brandIds[productId] = row.brandId();
+            prices[productId] = row.price();
+            live.set(productId);
+            maxRowCategoryId = Math.max(maxRowCategoryId, row.rowCategoryId());
+            maxBrandId = Math.max(maxBrandId, row.brandId());
+        }
+
+        Counts count(Filter filter) {
+            int[] bounds = ProductSearchIndex.PRICE_RANGE_BOUNDS;
+            int[] rowCategoryCounts = new int[maxRowCategoryId + 1];
+            int[] brandCounts = new int[maxBrandId + 1];
+            int[] priceRangeCounts = new int[bounds.length];
+            int total = 0;
+
+            // null 비교를 반복문 밖으로 빼기 위해 "조건 없음" 은 범위 밖 값으로 바꿔 둔다.
+            int categoryId = filter.categoryId() != null ? filter.categoryId() : -1;
+            int rowCategoryId = filter.rowCategoryId() != null ? filter.rowCategoryId() : -1;
+            int brandId = filter.brandId() != null ? filter.brandId() : -1;
+            int minPrice = filter.minPrice() != null ? filter.minPrice() : Integer.MIN_VALUE;
+            int maxPrice = filter.maxPrice() != null ? filter.maxPrice() : Integer.MAX_VALUE;
+
+            for (int productId = live.nextSetBit(0); productId >= 0; productId = live.nextSetBit(productId + 1)) {
+                // 상위 카테고리는 모든 패싯에 공통 조건
+                if (categoryId >= 0 && categoryIds[productId] != categoryId) {
+                    continue;
+                }
+                int price = prices[productId];
+                boolean rowCategoryOk = rowCategoryId < 0 || rowCategoryIds[productId] == rowCategoryId;
+                boolean brandOk = brandId < 0 || brandIds[productId] == brandId;
+                boolean priceOk = price >= minPrice && price <= maxPrice;
+
+                if (brandOk && priceOk) {
+                    rowCategoryCounts[rowCategoryIds[productId]]++;
+                }
+                if (rowCategoryOk && priceOk) {
+                    brandCounts[brandIds[productId]]++;
+                }
+                if (rowCategoryOk && brandOk) {
+                    priceRangeCounts[priceRange(bounds, price)]++;
+                }
+                if (rowCategoryOk && brandOk && priceOk) {
+                    total++;
+                }
+            }
+
+            // 하위 카테고리가 없는 상품(0)은 패싯 항목에서 뺀다.
+            rowCategoryCounts[0] = 0;
+            return new Counts(total, counts(rowCategoryCounts), counts(brandCounts), priceRangeCounts);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= categoryIds.length) {
+                return;
+            }
+            int newLength = Math.max(capacity, categoryIds.length * 2);
+            categoryIds = Arrays.copyOf(categoryIds, newLength);
+            rowCategoryIds = Arrays.copyOf(rowCategoryIds, newLength);
+            brandIds = Arrays.copyOf(brandIds, newLength);
+            prices = Arrays.copyOf(prices, newLength);
+        }
+
+        private static int priceRange(int[] bounds, int price) {
+            for (int i = bounds.length - 1; i > 0; i--) {
+                if (price >= bounds[i]) {
+                    return i;
+                }
+            }
+            return 0;
+        }
+
+        // 0 이 아닌 값만 상품 수 내림차순 (같으면 ID 오름차순)
+        private static Map<Integer, Integer> counts(int[] countsById) {
+            List<Integer> ids = new ArrayList<>();
+            for (int id = 0; id < countsById.length; id++) {
+                if (countsById[id] > 0) {
+                    ids.add(id);
+                }
+            }
+            ids.sort(Comparator.comparingInt((Integer id) -> -countsById[id]).thenComparingInt(id -> id));
+
+            Map<Integer, Integer> result = new LinkedHashMap<>();
+            for (int id : ids) {
+                result.put(id, countsById[id]);
+            }
+            return result;
+        }
+    }
+
+    // rowCategoryId 는 하위 카테고리가 없으면 0
+    public record Row(int productId, int categoryId, int rowCategoryId, int brandId, int price, boolean isRemoved) {
+
+        public Row(int productId, int categoryId, int rowCategoryId, int brandId, int price) {
+            this(productId, categoryId, rowCategoryId, brandId, price, false);
+        }
+
+        static Row removed(int productId) {
+            return new Row(productId, 0, 0, 0, 0, true);
+        }
+    }
+
+    public record Filter(Integer categoryId, Integer rowCategoryId, Integer brandId, Integer minPrice, Integer maxPrice) {
+    }
+
+    // rowCategoryCounts / brandCounts: ID → 상품 수 (많은 순), priceRangeCounts: PRICE_RANGE_BOUNDS 구간별 상품 수
+    public record Counts(int total, Map<Integer, Integer> rowCategoryCounts,
+                         Map<Integer, Integer> brandCounts, int[] priceRangeCounts) {
+    }
+}
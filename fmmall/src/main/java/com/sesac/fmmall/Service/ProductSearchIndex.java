@@ -0,0 +1,666 @@
+package com.sesac.fmmall.Service;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 상품 검색용 역색인 (외부 검색 서버 없이 서버 메모리에서 동작)
+ * - 색인 대상: 상품명(가중치 3) / 모델명(2) / 상세 설명(1)
+ * - 토큰: NFKC 정규화 + 소문자 → 글자/숫자가 아닌 문자로 단어 분리 → 2글자 n-gram (한 글자 단어는 그대로)
+ *   → 형태소 분석 없이도 "갤럭시북" 으로 "삼성 갤럭시북4" 를 찾을 수 있다.
+ * - 검색: 모든 검색어 토큰을 포함한 상품만 (AND), BM25 점수 순 상위 size 개
+ *   한 글자 검색어는 글자 → 토큰 목록으로 그 글자가 들어간 토큰만 찾는다. (사전 전체를 훑지 않음)
+ * - 패싯: 카테고리 / 브랜드 / 가격대별 상품 수. 각 패싯은 자기 필터만 빼고 센다. (다른 값을 골랐을 때 몇 개인지 보여주기 위함)
+ * - 상품 등록/수정/삭제는 upsert / remove 로 바로 반영하고, 전체 재색인은 rebuild 로 한 번에 만든 뒤 교체한다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    // 가격대 패싯 경계 (마지막 구간은 상한 없음)
+    public static final int[] PRICE_RANGE_BOUNDS = {0, 100_000, 500_000, 1_000_000, 3_000_000};
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int MODEL_NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MAX_TERM_FREQUENCY = 255;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 삭제/수정으로 죽은 문서가 이만큼 쌓이면 포스팅을 정리한다.
+    private static final int MIN_DEAD_DOCS_TO_COMPACT = 1_024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+
+    private IndexData data = new IndexData();
+    private boolean ready;
+
+    // rebuild 도중 들어온 변경 (새 색인에 다시 적용)
+    private boolean rebuilding;
+    private final List<Document> pendingChanges = new ArrayList<>();
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return data.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인
+     * - loader 가 넘겨주는 문서로 새 색인을 락 밖에서 만들고, 다 만들면 한 번에 교체한다. (그동안 검색은 기존 색인으로)
+     * - 만드는 동안 들어온 upsert / remove 는 모아뒀다가 교체 직전에 새 색인에도 적용한다.
+     */
+    public void rebuild(Consumer<Consumer<Document>> loader) {
+        // 재색인이 동시에 요청되면 앞의 것이 끝난 뒤 차례로 실행
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                rebuilding = true;
+                pendingChanges.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            IndexData rebuilt = new IndexData();
+            boolean completed = false;
+            try {
+                loader.accept(rebuilt::add);
+                completed = true;
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (completed) {
+                        for (Document change : pendingChanges) {
+                            rebuilt.apply(change);
+                        }
+                        data = rebuilt;
+                        ready = true;
+                    }
+                    pendingChanges.clear();
+                    rebuilding = false;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 상품 등록/수정 반영 (기존 문서는 지우고 새로 추가)
+    public void upsert(Document document) {
+        change(document);
+    }
+
+    public void remove(int productId) {
+        change(Document.removed(productId));
+    }
+
+    public Result search(Query query) {
+        List<String[]> clauses = queryClauses(query.keyword());
+
+        lock.readLock().lock();
+        try {
+            return data.search(query, clauses);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void change(Document document) {
+        lock.writeLock().lock();
+        try {
+            data.apply(document);
+            if (rebuilding) {
+                pendingChanges.add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===================== 토큰화 ===================== //
+
+    // 색인/검색 공통 토큰화 (중복 포함, 등장 순서대로)
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            words.add(normalized.substring(start));
+        }
+        return words;
+    }
+
+    /*
+     * 검색어 → AND 로 묶을 절 목록
+     * - 두 글자 이상 단어: 2-gram 하나가 한 절
+     * - 한 글자 단어: 그 글자가 들어간 모든 토큰 중 하나라도 있으면 일치 (색인에는 한 글자 토큰이 거의 없으므로)
+     *   → 한 글자 절은 { "*", 글자 } 로 표시하고 실제 토큰 목록은 검색할 때 tokensByChar 에서 찾는다.
+     */
+    private static List<String[]> queryClauses(String keyword) {
+        Set<String> seen = new LinkedHashSet<>();
+        List<String[]> clauses = new ArrayList<>();
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                if (seen.add("*" + word)) {
+                    clauses.add(new String[]{"*", word});
+                }
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                String token = word.substring(i, i + 2);
+                if (seen.add(token)) {
+                    clauses.add(new String[]{token});
+                }
+            }
+        }
+        return clauses;
+    }
+
+    // ===================== 색인 데이터 ===================== //
+
+    /*
+     * 문서 번호(docId)는 추가 순서대로 0, 1, 2 ... 로 붙인다.
+     * - 포스팅은 docId 오름차순이므로 (docId 차이, 가중 빈도) 를 가변 길이 정수로 압축해서 저장
+     * - 수정/삭제된 문서는 live 에서만 빼고, 죽은 문서가 쌓이면 compact 로 포스팅과 docId 를 한 번에 정리
+     */
+    private static final class IndexData {
+        private final Map<String, Postings> postings = new HashMap<>();
+        // 글자 → 그 글자가 들어간 토큰 (한 글자 검색어용, 토큰이 사전에 처음 생길 때 / 없어질 때 갱신)
+        private final Map<Character, Set<String>> tokensByChar = new HashMap<>();
+
+        private int[] productIds = new int[1_024];
+        private int[] categoryIds = new int[1_024];
+        private int[] brandIds = new int[1_024];
+        private int[] prices = new int[1_024];
+        private int[] lengths = new int[1_024];
+        private int docCount;
+
+        private final BitSet live = new BitSet();
+        private int liveCount;
+        private long liveLength;
+
+        // productId → docId (상품 ID 는 auto increment 라 배열로 충분, 없으면 -1)
+        private int[] docByProductId = newDocByProductId(1_024);
+
+        private int maxCategoryId;
+        private int maxBrandId;
+
+        void apply(Document change) {
+            if (change.isRemoved()) {
+                remove(change.productId());
+            } else {
+                add(change);
+            }
+        }
+
+        void add(Document document) {
+            remove(document.productId());
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = countTokens(frequencies, document.name(), NAME_WEIGHT)
+                    + countTokens(frequencies, document.modelName(), MODEL_NAME_WEIGHT)
+                    + countTokens(frequencies, document.description(), DESCRIPTION_WEIGHT);
+
+            int docId = docCount++;
+            ensureDocCapacity(docCount);
+            productIds[docId] = document.productId();
+            categoryIds[docId] = document.categoryId();
+            brandIds[docId] = document.brandId();
+            prices[docId] = document.price();
+            lengths[docId] = length;
+
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), this::newPostings)
+                        .add(docId, Math.min(entry.getValue(), MAX_TERM_FREQUENCY));
+            }
+
+            live.set(docId);
+            liveCount++;
+            liveLength += length;
+            ensureProductCapacity(document.productId());
+            docByProductId[document.productId()] = docId;
+            maxCategoryId = Math.max(maxCategoryId, document.categoryId());
+            maxBrandId = Math.max(maxBrandId, document.brandId());
+        }
+
+        void remove(int productId) {
+            if (productId < 0 || productId >= docByProductId.length) {
+                return;
+            }
+            int docId = docByProductId[productId];
+            if (docId < 0) {
+                return;
+            }
+            docByProductId[productId] = -1;
+            live.clear(docId);
+            liveCount--;
+            liveLength -= lengths[docId];
+
+            int deadCount = docCount - liveCount;
+            if (deadCount >= MIN_DEAD_DOCS_TO_COMPACT && deadCount > liveCount / 4) {
+                compact();
+            }
+        }
+
+        Result search(Query query, List<String[]> clauses) {
+            // 1. 검색어 일치 문서 (docId 오름차순) + BM25 점수
+            int[] matched;
+            double[] scores;
+            if (clauses.isEmpty()) {
+                matched = live.stream().toArray();
+                scores = new double[matched.length];
+            } else {
+                Postings[] lists = new Postings[clauses.size()];
+                for (int i = 0; i < lists.length; i++) {
+                    lists[i] = resolve(clauses.get(i));
+                    if (lists[i] == null) {
+                        return Result.empty();
+                    }
+                }
+                // 가장 짧은 포스팅부터 교집합 → 후보가 빨리 줄어든다.
+                Arrays.sort(lists, Comparator.comparingInt(list -> list.docFrequency));
+
+                matched = null;
+                scores = null;
+                for (Postings list : lists) {
+                    double idf = idf(list.docFrequency);
+                    int[][] decoded = list.decode();
+                    if (matched == null) {
+                        matched = decoded[0];
+                        scores = new double[matched.length];
+                        for (int i = 0; i < matched.length; i++) {
+                            scores[i] = bm25(idf, decoded[1][i], matched[i]);
+                        }
+                    } else {
+                        int[] candidates = matched;
+                        double[] candidateScores = scores;
+                        int[] docs = decoded[0];
+                        int[] frequencies = decoded[1];
+                        int size = 0;
+                        for (int c = 0, d = 0; c < candidates.length && d < docs.length; ) {
+                            if (candidates[c] < docs[d]) {
+                                c++;
+                            } else if (candidates[c] > docs[d]) {
+                                d++;
+                            } else {
+                                candidates[size] = candidates[c];
+                                candidateScores[size] = candidateScores[c] + bm25(idf, frequencies[d], candidates[c]);
+                                size++;
+                                c++;
+                                d++;
+                            }
+                        }
+                        matched = Arrays.copyOf(candidates, size);
+                        scores = Arrays.copyOf(candidateScores, size);
+                    }
+                    if (matched.length == 0) {
+                        break;
+                    }
+                }
+            }
+
+            // 2. 필터 + 패싯 + 상위 size 개
+            int[] categoryCounts = new int[maxCategoryId + 1];
+            int[] brandCounts = new int[maxBrandId + 1];
+            int[] priceRangeCounts = new int[PRICE_RANGE_BOUNDS.length];
+            PriorityQueue<Hit> top = new PriorityQueue<>(Hit.WORST_FIRST);
+            int totalHits = 0;
+
+            for (int i = 0; i < matched.length; i++) {
+                int docId = matched[i];
+                if (!live.get(docId)) {
+                    continue;
+                }
+                boolean categoryOk = query.categoryId() == null || categoryIds[docId] == query.categoryId();
+                boolean brandOk = query.brandId() == null || brandIds[docId] == query.brandId();
+                boolean priceOk = (query.minPrice() == null || prices[docId] >= query.minPrice())
+                        && (query.maxPrice() == null || prices[docId] <= query.maxPrice());
+
+                if (brandOk && priceOk) {
+                    categoryCounts[categoryIds[docId]]++;
+                }
+                if (categoryOk && priceOk) {
+                    brandCounts[brandIds[docId]]++;
+                }
+                if (categoryOk && brandOk) {
+                    priceRangeCounts[priceRange(prices[docId])]++;
+                }
+                if (!(categoryOk && brandOk && priceOk)) {
+                    continue;
+                }
+
+                totalHits++;
+                Hit hit = new Hit(productIds[docId], scores[i]);
+                if (top.size() < query.size()) {
+                    top.add(hit);
+                } else if (Hit.WORST_FIRST.compare(hit, top.peek()) > 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Hit.WORST_FIRST.reversed());
+            return new Result(hits, totalHits, counts(categoryCounts), counts(brandCounts), priceRangeCounts);
+        }
+
+        // 절 → 포스팅 (한 글자 절은 그 글자가 들어간 토큰 포스팅을 합친다)
+        private Postings resolve(String[] clause) {
+            if (clause.length == 1) {
+                return postings.get(clause[0]);
+            }
+
+            int[] frequencies = null;
+            for (String token : tokensByChar.getOrDefault(clause[1].charAt(0), Set.of())) {
+                if (frequencies == null) {
+                    frequencies = new int[docCount];
+                }
+                int[][] decoded = postings.get(token).decode();
+                for (int i = 0; i < decoded[0].length; i++) {
+                    frequencies[decoded[0][i]] += decoded[1][i];
+                }
+            }
+            if (frequencies == null) {
+                return null;
+            }
+            Postings merged = new Postings();
+            for (int docId = 0; docId < frequencies.length; docId++) {
+                if (frequencies[docId] > 0) {
+                    merged.add(docId, Math.min(frequencies[docId], MAX_TERM_FREQUENCY));
+                }
+            }
+            return merged;
+        }
+
+        private double idf(int docFrequency) {
+            int documents = Math.max(liveCount, docFrequency);
+            return Math.log(1 + (documents - docFrequency + 0.5) / (docFrequency + 0.5));
+        }
+
+        private double bm25(double idf, int frequency, int docId) {
+            double averageLength = liveCount == 0 ? 1 : Math.max(1.0, (double) liveLength / liveCount);
+            double norm = K1 * (1 - B + B * lengths[docId] / averageLength);
+            return idf * frequency * (K1 + 1) / (frequency + norm);
+        }
+
+        // 죽은 문서를 빼고 docId 를 0 부터 다시 붙인다. (순서는 유지되므로 포스팅은 다시 정렬할 필요 없음)
+        private void compact() {
+            int[] remap = new int[docCount];
+            int next = 0;
+            for (int docId = 0; docId < docCount; docId++) {
+                remap[docId] = live.get(docId) ? next++ : -1;
+            }
+
+            Iterator<Map.Entry<String, Postings>> iterator = postings.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Postings> entry = iterator.next();
+                Postings list = entry.getValue();
+                int[][] decoded = list.decode();
+                list.clear();
+                for (int i = 0; i < decoded[0].length; i++) {
+                    int newDocId = remap[decoded[0][i]];
+                    if (newDocId >= 0) {
+                        list.add(newDocId, decoded[1][i]);
+                    }
+                }
+                if (list.docFrequency == 0) {
+                    iterator.remove();
+                    forEachChar(entry.getKey(), character -> {
+                        Set<String> tokens = tokensByChar.get(character);
+                        tokens.remove(entry.getKey());
+                        if (tokens.isEmpty()) {
+                            tokensByChar.remove(character);
+                        }
+                    });
+                }
+            }
+
+            for (int docId = 0; docId < docCount; docId++) {
+                int newDocId = remap[docId];
+                if (newDocId < 0) {
+                    continue;
+                }
+                productIds[newDocId] = productIds[docId];
+                categoryIds[newDocId] = categoryIds[docId];
+                brandIds[newDocId] = brandIds[docId];
+                prices[newDocId] = prices[docId];
+                lengths[newDocId] = lengths[docId];
+                docByProductId[productIds[newDocId]] = newDocId;
+            }
+            docCount = next;
+            live.clear();
+            live.set(0, next);
+        }
+
+        private Postings newPostings(String token) {
+            forEachChar(token, character -> tokensByChar.computeIfAbsent(character, key -> new HashSet<>()).add(token));
+            return new Postings();
+        }
+
+        // 토큰의 서로 다른 글자마다 (2-gram 이 "aa" 처럼 같은 글자면 한 번)
+        private static void forEachChar(String token, Consumer<Character> action) {
+            action.accept(token.charAt(0));
+            if (token.length() > 1 && token.charAt(1) != token.charAt(0)) {
+                action.accept(token.charAt(1));
+            }
+        }
+
+        private int countTokens(Map<String, Integer> frequencies, String text, int weight) {
+            List<String> tokens = tokenize(text);
+            for (String token : tokens) {
+                frequencies.merge(token, weight, Integer::sum);
+            }
+            return tokens.size() * weight;
+        }
+
+        private void ensureDocCapacity(int capacity) {
+            if (capacity <= productIds.length) {
+                return;
+            }
+            int newLength = Math.max(capacity, productIds.length * 2);
+            productIds = Arrays.copyOf(productIds, newLength);
+            categoryIds = Arrays.copyOf(categoryIds, newLength);
+            brandIds = Arrays.copyOf(brandIds, newLength);
+            prices = Arrays.copyOf(prices, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+        }
+
+        private void ensureProductCapacity(int productId) {
+            if (productId < 0) {
+                throw new IllegalArgumentException("상품 ID 가 올바르지 않습니다.");
+            }
+            if (productId < docByProductId.length) {
+                return;
+            }
+            int oldLength = docByProductId.length;
+            docByProductId = Arrays.copyOf(docByProductId, Math.max(productId + 1, oldLength * 2));
+            Arrays.fill(docByProductId, oldLength, docByProductId.length, -1);
+        }
+
+        private static int[] newDocByProductId(int length) {
+            int[] array = new int[length];
+            Arrays.fill(array, -1);
+            return array;
+        }
+
+        // 0 이 아닌 값만 상품 수 내림차순 (같으면 ID 오름차순)
+        private static Map<Integer, Integer> counts(int[] countsById) {
+            List<Integer> ids = new ArrayList<>();
+            for (int id = 0; id < countsById.length; id++) {
+                if (countsById[id] > 0) {
+                    ids.add(id);
+                }
+            }
+            ids.sort(Comparator.comparingInt((Integer id) -> -countsById[id]).thenComparingInt(id -> id));
+
+            Map<Integer, Integer> result = new LinkedHashMap<>();
+            for (int id : ids) {
+                result.put(id, countsById[id]);
+            }
+            return result;
+        }
+
+        private static int priceRange(int price) {
+            for (int i = PRICE_RANGE_BOUNDS.length - 1; i > 0; i--) {
+                if (price >= PRICE_RANGE_BOUNDS[i]) {
+                    return i;
+                }
+            }
+            return 0;
+        }
+    }
+
+    // 한 토큰의 포스팅: (docId 차이, 빈도) 를 7비트씩 가변 길이로 이어 붙인 바이트 배열
+    private static final class Postings {
+        private byte[] bytes = new byte[8];
+        private int length;
+        private int docFrequency;
+        private int lastDocId = -1;
+
+        void add(int docId, int frequency) {
+            ensureCapacity(length + 10);
+            writeVarInt(docId - lastDocId);
+            writeVarInt(frequency);
+            lastDocId = docId;
+            docFrequency++;
+        }
+
+        // [0] = docId 오름차순, [1] = 빈도
+        int[][] decode() {
+            int[] docIds = new int[docFrequency];
+            int[] frequencies = new int[docFrequency];
+            int position = 0;
+            int docId = -1;
+            for (int i = 0; i < docFrequency; i++) {
+                int delta = 0;
+                for (int shift = 0; ; shift += 7) {
+                    byte b = bytes[position++];
+                    delta |= (b & 0x7F) << shift;
+                    if (b >= 0) {
+                        break;
+                    }
+                }
+                int frequency = 0;
+                for (int shift = 0; ; shift += 7) {
+                    byte b = bytes[position++];
+                    frequency |= (b & 0x7F) << shift;
+                    if (b >= 0) {
+                        break;
+                    }
+                }
+                docId += delta;
+                docIds[i] = docId;
+                frequencies[i] = frequency;
+            }
+            return new int[][]{docIds, frequencies};
+        }
+
+        void clear() {
+            length = 0;
+            docFrequency = 0;
+            lastDocId = -1;
+        }
+
+        private void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length + (bytes.length >> 1)));
+            }
+        }
+    }
+
+    // ===================== 입출력 ===================== //
+
+    // 색인할 상품 한 건 (removed 는 rebuild 도중 들어온 삭제를 기록하는 용도)
+    public record Document(int productId, int categoryId, int brandId, int price,
+                           String name, String modelName, String description, boolean isRemoved) {
+
+        public Document(int productId, int categoryId, int brandId, int price,
+                        String name, String modelName, String description) {
+            this(productId, categoryId, brandId, price, name, modelName, description, false);
+        }
+
+        static Document removed(int productId) {
+            return new Document(productId, 0, 0, 0, null, null, null, true);
+        }
+    }
+
+    // keyword 가 비어 있으면 필터만 적용 (점수가 모두 0 이므로 최신 상품 순)
+    public record Query(String keyword, Integer categoryId, Integer brandId,
+                        Integer minPrice, Integer maxPrice, int size) {
+    }
+
+    public record Hit(int productId, double score) {
+        // 점수 낮은 것 → 같은 점수면 오래된 상품(ID 작은 것)이 먼저
+        static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::score)
+                .thenComparingInt(Hit::productId);
+    }
+
+    // categoryCounts / brandCounts: ID → 상품 수 (많은 순), priceRangeCounts: PRICE_RANGE_BOUNDS 구간별 상품 수
+    public record Result(List<Hit> hits, int totalHits, Map<Integer, Integer> categoryCounts,
+                         Map<Integer, Integer> brandCounts, int[] priceRangeCounts) {
+
+        static Result empty() {
+            return new Result(List.of(), 0, Map.of(), Map.of(), new int[PRICE_RANGE_BOUNDS.length]);
+        }
+    }
+}
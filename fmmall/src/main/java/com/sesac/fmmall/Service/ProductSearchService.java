@@ -0,0 +1,277 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.DTO.Product.*;
+import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색 (ProductSearchIndex) / 목록 패싯 집계 (ProductFacetSnapshot)
+ * - 서버가 뜨면 백그라운드에서 product 테이블을 한 번 훑어 색인과 패싯 스냅샷을 같이 만든다.
+ *   (다 만들기 전 요청은 IllegalStateException, 실패하면 간격을 늘려 가며 다시 시도)
+ * - 상품 등록/수정/삭제는 ProductService 가 커밋 후 둘 다에 반영한다.
+ * - 진열 중지 / 단종 상품 (ProductStatus.isSearchable() == false) 은 색인과 패싯 스냅샷에서 모두 뺀다.
+ *   (ProductRepository 의 고객용 목록 쿼리도 같은 상태를 빼므로 목록 / 패싯 / 검색의 상품 수가 맞는다)
+ * - 다른 서버에서 바뀐 상품은 재기동(또는 관리자 API POST /Admin/Product/search-index/rebuild) 전까지 반영되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int REBUILD_CHUNK_SIZE = 5_000;
+
+    // 색인이 아직 없을 때 재색인 실패 후 다시 시도하는 간격 (실패할 때마다 두 배, 최대 5분)
+    private static final long RETRY_INITIAL_DELAY_MILLIS = 5_000;
+    private static final long RETRY_MAX_DELAY_MILLIS = 300_000;
+
+    // product_id 순으로 끊어 읽기 (전체를 한 번에 메모리에 올리지 않음)
+    private static final String REBUILD_SQL =
+            "SELECT product_id, category_id, row_category_id, brand_id, product_price, product_status, " +
+            "product_name, model_name, description " +
+            "FROM product WHERE product_id > ? ORDER BY product_id LIMIT ?";
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetSnapshot productFacetSnapshot;
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    @Value("${search.index.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            startRebuild();
+        }
+    }
+
+    /**
+     * 백그라운드 스레드에서 전체 재색인을 시작한다. 이미 진행 중이면 false
+     * - 색인이 아직 없으면(검색 불가) 성공할 때까지 간격을 늘려 가며 다시 시도한다.
+     * - 색인이 이미 있으면 실패를 로그로만 남기고 기존 색인으로 계속 검색한다.
+     */
+    public boolean startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread rebuildThread = new Thread(this::rebuildWithRetry, "product-search-rebuild");
+        rebuildThread.setDaemon(true);
+        rebuildThread.start();
+        return true;
+    }
+
+    private void rebuildWithRetry() {
+        try {
+            long delayMillis = RETRY_INITIAL_DELAY_MILLIS;
+            while (true) {
+                try {
+                    rebuildIndex();
+                    log.info("상품 검색 색인 완료 - {}건", productSearchIndex.size());
+                    return;
+                } catch (RuntimeException e) {
+                    if (productSearchIndex.isReady()) {
+                        log.error("상품 검색 재색인에 실패했습니다. 기존 색인으로 계속 검색합니다.", e);
+                        return;
+                    }
+                    log.error("상품 검색 색인에 실패했습니다. {}ms 뒤에 다시 시도합니다.", delayMillis, e);
+                }
+                Thread.sleep(delayMillis);
+                delayMillis = Math.min(delayMillis * 2, RETRY_MAX_DELAY_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /* 전체 재색인. 끝날 때까지 기존 색인/스냅샷을 쓰고, 끝나면 한 번에 교체한다. */
+    public void rebuildIndex() {
+        productSearchIndex.rebuild(documents -> productFacetSnapshot.rebuild(rows -> {
+            int lastProductId = 0;
+            while (true) {
+                List<ProductSearchIndex.Document> searchable = new ArrayList<>();
+                List<ProductSearchIndex.Document> chunk = jdbcTemplate.query(REBUILD_SQL, (rs, rowNum) -> {
+                    ProductSearchIndex.Document document = new ProductSearchIndex.Document(
+                            rs.getInt("product_id"),
+                            rs.getInt("category_id"),
+                            rs.getInt("brand_id"),
+                            rs.getInt("product_price"),
+                            rs.getString("product_name"),
+                            rs.getString("model_name"),
+                            rs.getString("description"));
+                    if (ProductStatus.valueOf(rs.getString("product_status")).isSearchable()) {
+                        // row_category_id 가 NULL 이면 getInt 는 0
+                        rows.accept(new ProductFacetSnapshot.Row(document.productId(), document.categoryId(),
+                                rs.getInt("row_category_id"), document.brandId(), document.price()));
+                        searchable.add(document);
+                    }
+                    return document;
+                }, lastProductId, REBUILD_CHUNK_SIZE);
+
+                searchable.forEach(documents);
+                if (chunk.size() < REBUILD_CHUNK_SIZE) {
+                    return;
+                }
+                lastProductId = chunk.get(chunk.size() - 1).productId();
+            }
+        }));
+    }
+
+    /* 검색어 + 카테고리/브랜드/가격 필터로 상위 size 개 상품과 패싯을 돌려준다. */
+    @Transactional(readOnly = true)
+    public ProductSearchResponseDTO search(ProductSearchRequestDTO request) {
+        int size = request.getSize() != null ? request.getSize() : DEFAULT_SEARCH_SIZE;
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 ~ " + MAX_SEARCH_SIZE + " 사이여야 합니다.");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice() > request.getMaxPrice()) {
+            throw new IllegalArgumentException("최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+        if (!productSearchIndex.isReady()) {
+            throw new IllegalStateException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        ProductSearchIndex.Result result = productSearchIndex.search(new ProductSearchIndex.Query(
+                request.getKeyword(), request.getCategoryId(), request.getBrandId(),
+                request.getMinPrice(), request.getMaxPrice(), size));
+
+        // 상세 정보는 한 번에 조회한 뒤 검색 점수 순서로 다시 정렬
+        List<Integer> productIds = result.hits().stream()
+                .map(ProductSearchIndex.Hit::productId)
+                .collect(Collectors.toList());
+        Map<Integer, Product> productsById = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+        List<ProductResponseDTO> products = new ArrayList<>();
+        for (int productId : productIds) {
+            Product product = productsById.get(productId);
+            // 색인 반영 전에 다른 서버에서 삭제 / 진열 중지된 상품은 건너뛴다.
+            if (product != null && product.getProductStatus().isSearchable()) {
+                products.add(ProductResponseDTO.from(product));
+            }
+        }
+
+        return ProductSearchResponseDTO.builder()
+                .products(products)
+                .totalHits(result.totalHits())
+                .categories(facetCounts(result.categoryCounts()))
+                .brands(facetCounts(result.brandCounts()))
+                .priceRanges(priceRangeCounts(result.priceRangeCounts()))
+                .build();
+    }
+
+    /* 현재 필터 기준 브랜드 / 하위 카테고리 / 가격대별 상품 수 (DB 조회 없이 스냅샷에서 집계) */
+    public ProductFacetResponseDTO countFacets(ProductFacetRequestDTO request) {
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice() > request.getMaxPrice()) {
+            throw new IllegalArgumentException("최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+        if (!productFacetSnapshot.isReady()) {
+            throw new IllegalStateException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        ProductFacetSnapshot.Counts counts = productFacetSnapshot.count(new ProductFacetSnapshot.Filter(
+                request.getCategoryId(), request.getRowCategoryId(), request.getBrandId(),
+                request.getMinPrice(), request.getMaxPrice()));
+
+        return ProductFacetResponseDTO.builder()
+                .totalCount(counts.total())
+                .brands(facetCounts(counts.brandCounts()))
+                .rowCategories(facetCounts(counts.rowCategoryCounts()))
+                .priceRanges(priceRangeCounts(counts.priceRangeCounts()))
+                .build();
+    }
+
+    // 커밋 후 색인/패싯 반영 (롤백되면 반영하지 않음, 트랜잭션 밖이면 바로). 노출하지 않는 상태면 둘 다에서 뺀다.
+    public void indexAfterCommit(Product product) {
+        ProductSearchIndex.Document document = new ProductSearchIndex.Document(
+                product.getProductId(),
+                product.getCategory().getCategoryId(),
+                product.getBrand().getBrandId(),
+                product.getPrice(),
+                product.getName(),
+                product.getModelName(),
+                product.getDescription());
+        ProductFacetSnapshot.Row row = new ProductFacetSnapshot.Row(
+                product.getProductId(),
+                product.getCategory().getCategoryId(),
+                product.getRowCategory() != null ? product.getRowCategory().getRowCategoryId() : 0,
+                product.getBrand().getBrandId(),
+                product.getPrice());
+        boolean searchable = product.getProductStatus().isSearchable();
+        afterCommit(() -> {
+            if (searchable) {
+                productSearchIndex.upsert(document);
+                productFacetSnapshot.put(row);
+            } else {
+                productSearchIndex.remove(document.productId());
+                productFacetSnapshot.remove(document.productId());
+            }
+        });
+    }
+
+    public void removeAfterCommit(int productId) {
+        afterCommit(() -> {
+            productSearchIndex.remove(productId);
+            productFacetSnapshot.remove(productId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private List<FacetCountDTO> facetCounts(Map<Integer, Integer> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> FacetCountDTO.builder()
+                        .id(entry.getKey())
+                        .count(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<PriceRangeCountDTO> priceRangeCounts(int[] counts) {
+        int[] bounds = ProductSearchIndex.PRICE_RANGE_BOUNDS;
+        List<PriceRangeCountDTO> ranges = new ArrayList<>();
+        for (int i = 0; i < bounds.length; i++) {
+            ranges.add(PriceRangeCountDTO.builder()
+                    .minPrice(bounds[i])
+                    .maxPrice(i + 1 < bounds.length ? bounds[i + 1] : null)
+                    .count(counts[i])
+                    .build());
+        }
+        return ranges;
+    }
+}
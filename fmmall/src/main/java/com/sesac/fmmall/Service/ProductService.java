@@ -1,7 +1,11 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.ProductSortType;
+import com.sesac.fmmall.Constant.ProductStatus;
 import com.sesac.fmmall.DTO.Product.ProductRequestDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchConditionDTO;
+import com.sesac.fmmall.DTO.Product.ProductSliceResponseDTO;
 import com.sesac.fmmall.Entity.Brand;
 import com.sesac.fmmall.Entity.Category;
 import com.sesac.fmmall.Entity.Product;
@@ -11,7 +15,7 @@ import com.sesac.fmmall.Repository.CategoryRepository;
 import com.sesac.fmmall.Repository.ProductRepository;
 import com.sesac.fmmall.Repository.RowCategoryRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,18 +25,25 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class ProductService {
+    private static final int DEFAULT_SLICE_SIZE = 20;
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final String CURSOR_SORT_MISMATCH = "정렬 기준과 커서가 일치하지 않습니다.";
+
     private final ProductRepository productRepository;
-    private final ModelMapper modelMapper;
     private final CategoryRepository categoryRepository;
     private final RowCategoryRepository rowCategoryRepository;
     private final BrandRepository brandRepository;
+    private final ProductDetailCache productDetailCache;
+    private final ProductSearchService productSearchService;
 
-    /* 상품 id로 상세 조회. */
+    /* 상품 id로 상세 조회. (캐시, 수정/삭제/재고 변경 시 무효화) */
     public ProductResponseDTO findProductByProductId(int productId) {
-        Product foundProduct = productRepository.findById(productId).orElseThrow(
-                () -> new IllegalArgumentException("해당 상품은 존재하지 않습니다."));
+        return productDetailCache.get(productId, () -> {
+            Product foundProduct = productRepository.findById(productId).orElseThrow(
+                    () -> new IllegalArgumentException("해당 상품은 존재하지 않습니다."));
 
-        return modelMapper.map(foundProduct, ProductResponseDTO.class);
+            return ProductResponseDTO.from(foundProduct);
+        });
     }
 
     @Transactional
@@ -54,14 +65,19 @@ public class ProductService {
                 .brand(brand)
                 .name(productRequestDTO.getProductName())
                 .price(productRequestDTO.getProductPrice())
+                .stockQuantity(productRequestDTO.getStockQuantity())
+                .capacity(productRequestDTO.getCapacity())
+                .sizeInch(productRequestDTO.getSizeInch())
+                .modelName(productRequestDTO.getModelName())
                 .description(productRequestDTO.getDescription())
                 .isInstallationRequired(productRequestDTO.getIsInstallationRequired())
                 .productStatus(productRequestDTO.getProductStatus())
                 .build();
 
         Product savedProduct = productRepository.save(newProduct);
+        productSearchService.indexAfterCommit(savedProduct);
 
-        return modelMapper.map(savedProduct, ProductResponseDTO.class);
+        return ProductResponseDTO.from(savedProduct);
     }
 
     @Transactional
@@ -89,7 +105,9 @@ public class ProductService {
                 productRequestDTO.getIsInstallationRequired(),
                 productRequestDTO.getProductStatus()
         );
-        return modelMapper.map(foundProduct, ProductResponseDTO.class);
+        productDetailCache.invalidate(productId);
+        productSearchService.indexAfterCommit(foundProduct);
+        return ProductResponseDTO.from(foundProduct);
     }
 
     @Transactional
@@ -98,12 +116,74 @@ public class ProductService {
             throw new IllegalArgumentException("삭제할 상품이 존재하지 않습니다.");
         }
         productRepository.deleteById(productId);
+        productDetailCache.invalidate(productId);
+        productSearchService.removeAfterCommit(productId);
     }
 
     public List<ProductResponseDTO> findAllProducts() {
-        List<Product> products = productRepository.findAll();
+        List<Product> products = productRepository.findByProductStatusNotIn(ProductStatus.UNLISTED);
         return products.stream()
-                .map(product -> modelMapper.map(product, ProductResponseDTO.class))
+                .map(ProductResponseDTO::from)
                 .collect(Collectors.toList());
     }
+
+    /* 커서 기반 상품 목록 조회. 필터/정렬/개수 제한을 모두 DB 에서 처리한다. */
+    @Transactional(readOnly = true)
+    public ProductSliceResponseDTO findProductSlice(ProductSearchConditionDTO condition) {
+        ProductSortType sort = condition.getSort() != null ? condition.getSort() : ProductSortType.LATEST;
+
+        int size = condition.getSize() != null ? condition.getSize() : DEFAULT_SLICE_SIZE;
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 ~ " + MAX_SLICE_SIZE + " 사이여야 합니다.");
+        }
+
+        if (condition.getMinPrice() != null && condition.getMaxPrice() != null
+                && condition.getMinPrice() > condition.getMaxPrice()) {
+            throw new IllegalArgumentException("최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        KeysetCursor cursor = KeysetCursor.decode(condition.getCursor());
+        Integer cursorProductId = cursor != null ? cursor.id() : null;
+
+        List<Product> products;
+        switch (sort) {
+            case PRICE_ASC -> products = productRepository.findSliceOrderByPriceAsc(
+                    condition.getCategoryId(), condition.getRowCategoryId(), condition.getBrandId(),
+                    condition.getProductStatus(), ProductStatus.UNLISTED, condition.getMinPrice(), condition.getMaxPrice(),
+                    cursor != null ? cursor.intKey(CURSOR_SORT_MISMATCH) : null, cursorProductId, limit);
+            case PRICE_DESC -> products = productRepository.findSliceOrderByPriceDesc(
+                    condition.getCategoryId(), condition.getRowCategoryId(), condition.getBrandId(),
+                    condition.getProductStatus(), ProductStatus.UNLISTED, condition.getMinPrice(), condition.getMaxPrice(),
+                    cursor != null ? cursor.intKey(CURSOR_SORT_MISMATCH) : null, cursorProductId, limit);
+            default -> products = productRepository.findSliceOrderByLatest(
+                    condition.getCategoryId(), condition.getRowCategoryId(), condition.getBrandId(),
+                    condition.getProductStatus(), ProductStatus.UNLISTED, condition.getMinPrice(), condition.getMaxPrice(),
+                    cursor != null ? cursor.dateTimeKey(CURSOR_SORT_MISMATCH) : null, cursorProductId, limit);
+        }
+
+        boolean hasNext = products.size() > size;
+        if (hasNext) {
+            products = products.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Product last = products.get(products.size() - 1);
+            Object sortKey = sort == ProductSortType.LATEST ? last.getCreatedAt() : last.getPrice();
+            nextCursor = KeysetCursor.encode(sortKey, last.getProductId());
+        }
+
+        List<ProductResponseDTO> productList = products.stream()
+                .map(ProductResponseDTO::from)
+                .collect(Collectors.toList());
+
+        return ProductSliceResponseDTO.builder()
+                .products(productList)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
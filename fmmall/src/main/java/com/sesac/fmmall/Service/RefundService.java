@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.OrderStatus;
 import com.sesac.fmmall.Constant.RefundReasonCode;
 import com.sesac.fmmall.Constant.RefundStatus;
 import com.sesac.fmmall.Constant.RefundType;
@@ -7,14 +8,12 @@ import com.sesac.fmmall.Constant.UserRole;
 import com.sesac.fmmall.Constant.YesNo;
 import com.sesac.fmmall.DTO.Refund.RefundCreateRequest;
 import com.sesac.fmmall.DTO.Refund.RefundItemCreateRequest;
-import com.sesac.fmmall.DTO.Refund.RefundItemResponse;
 import com.sesac.fmmall.DTO.Refund.RefundResponse;
 import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
 import com.sesac.fmmall.Entity.*;
 import com.sesac.fmmall.Repository.*;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -30,8 +29,8 @@ public class RefundService {
     private final RefundRepository refundRepository;
     private final RefundItemRepository refundItemRepository;
     private final UserRepository userRepository;   // 관리자 권한 체크용
+    private final SalesRollupService salesRollupService;   // 환불 완료 매출 집계 반영
 
-    private final ModelMapper modelMapper;
 
     @Transactional
     public RefundResponse createRefund(Integer userId, RefundCreateRequest request) {
@@ -44,6 +43,11 @@ public class RefundService {
             throw new IllegalArgumentException("본인의 주문에 대해서만 환불을 요청할 수 있습니다.");
         }
 
+        // 취소된 주문은 이미 재고가 복구되었으므로 환불 대상이 아니다.
+        if (order.getOrderStatus() == OrderStatus.CANCELLED) {
+            throw new IllegalStateException("취소된 주문은 환불을 요청할 수 없습니다.");
+        }
+
         // 2. 결제 검증
         Payment payment = paymentRepository.findById(request.getPaymentId())
                 .orElseThrow(() -> new IllegalArgumentException("결제 정보가 존재하지 않습니다. paymentId=" + request.getPaymentId()));
@@ -127,7 +131,8 @@ public class RefundService {
                         "환불 수량이 주문 수량을 초과합니다. orderItemId=" + orderItemId);
             }
 
-            int productPrice = orderItem.getProduct().getPrice();
+            // 주문 당시 단가 기준으로 환불 (이후 상품 가격이 바뀌어도 결제한 금액만큼)
+            int productPrice = orderItem.resolveUnitPrice();
             int refundPrice = productPrice * refundQuantity;
 
             RefundItem refundItem = RefundItem.builder()
@@ -216,30 +221,10 @@ public class RefundService {
     @Transactional
     public List<RefundResponse> getRefundsByUserAndProduct(Integer userId, Integer productId) {
 
-        // productId 기준으로 주문상품 조회
-        List<OrderItem> orderItems = orderItemRepository.findByProduct_ProductId(productId);
-
-        Set<Integer> refundIdSet = new LinkedHashSet<>();
-        List<Refund> resultRefunds = new ArrayList<>();
-
-        for (OrderItem orderItem : orderItems) {
-
-            // 다른 사람 주문이면 스킵
-            if (orderItem.getOrder().getUser().getUserId() != userId) {
-                continue;
-            }
-
-            // 해당 OrderItem에 연결된 RefundItem들 조회
-            List<RefundItem> refundItems = refundItemRepository.findByOrderItem(orderItem);
-            for (RefundItem refundItem : refundItems) {
-                Refund refund = refundItem.getRefund();
-                if (refundIdSet.add(refund.getRefundId())) {
-                    resultRefunds.add(refund);
-                }
-            }
-        }
+        // 사용자 + 상품 조건을 SQL 에서 같이 걸어 해당 환불만 환불상품과 함께 조회 (1번)
+        List<Refund> refunds = refundRepository.findDetailsByUserAndProduct(userId, productId);
 
-        return resultRefunds.stream()
+        return refunds.stream()
                 .map(this::mapToRefundResponse)
                 .collect(Collectors.toList());
     }
@@ -329,8 +314,15 @@ public class RefundService {
             item.changeStatus(RefundStatus.COMPLETED);
         }
 
+        // 완료 표시를 조건부 UPDATE 로 바꾼다. 이미 완료됐거나 동시에 들어온 다른 완료 처리가 먼저 바꿨으면 0
+        // → 매출 집계에는 1을 받은 요청만 한 번 반영한다.
+        int completed = refundRepository.markCompleted(refundId, YesNo.Y);
         refund.setIsTrue(YesNo.Y);
 
+        if (completed == 1) {
+            salesRollupService.recordRefunded(refund.getOrder().getOrderId(), refund.getRefundId());
+        }
+
         return mapToRefundResponse(refund);
     }
 
@@ -338,47 +330,11 @@ public class RefundService {
 
     /** 상세 조회용 매핑 */
     private RefundResponse mapToRefundResponse(Refund refund) {
-
-        RefundResponse dto = modelMapper.map(refund, RefundResponse.class);
-
-        dto.setRefundId(refund.getRefundId());
-        dto.setReasonCode(refund.getReasonCode());
-        dto.setReasonDetail(refund.getReasonDetail());
-        dto.setTotalAmount(refund.getTotalAmount());
-        dto.setRefundType(refund.getRefundType().name());
-        dto.setIsTrue(refund.getIsTrue().name());
-        dto.setOrderId(refund.getOrder().getOrderId());
-        dto.setPaymentId(refund.getPayment().getPaymentId());
-
-        List<RefundItemResponse> itemDtos = refund.getRefundItems().stream()
-                .map(this::mapToRefundItemResponse)
-                .collect(Collectors.toList());
-        dto.setItems(itemDtos);
-
-        return dto;
+        return RefundResponse.from(refund);
     }
 
     /** 목록(요약) 조회용 매핑 */
     private RefundSummaryResponse mapToRefundSummaryResponse(Refund refund) {
-
-        return RefundSummaryResponse.builder()
-                .refundId(refund.getRefundId())
-                .refundType(refund.getRefundType().name())
-                .totalAmount(refund.getTotalAmount())
-                .isTrue(refund.getIsTrue().name())
-                .build();
-    }
-
-    private RefundItemResponse mapToRefundItemResponse(RefundItem item) {
-
-        RefundItemResponse dto = modelMapper.map(item, RefundItemResponse.class);
-
-        dto.setRefundItemId(item.getRefundItemId());
-        dto.setOrderItemId(item.getOrderItem().getOrderItemId());
-        dto.setRefundQuantity(item.getRefundQuantity());
-        dto.setRefundPrice(item.getRefundPrice());
-        dto.setRefundStatus(item.getRefundStatus().name());
-
-        return dto;
+        return RefundSummaryResponse.from(refund);
     }
 }
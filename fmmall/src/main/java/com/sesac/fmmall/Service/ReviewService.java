@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.OrderStatus;
 import com.sesac.fmmall.DTO.Review.ReviewModifyRequestDTO;
 import com.sesac.fmmall.DTO.Review.ReviewRequestDTO;
 import com.sesac.fmmall.DTO.Review.ReviewResponseDTO;
@@ -81,6 +82,9 @@ public class ReviewService {
         if (order == null || order.getUser().getUserId() != writerId) {
             throw new IllegalArgumentException("본인이 주문한 상품에 대해서만 리뷰를 작성할 수 있습니다.");
         }
+        if (order.getOrderStatus() == OrderStatus.CANCELLED) {
+            throw new IllegalStateException("취소된 주문 상품에는 리뷰를 작성할 수 없습니다.");
+        }
 
         // DTO -> Entity 변환 (builder 패턴 사용)
         Review newReview = Review.builder()
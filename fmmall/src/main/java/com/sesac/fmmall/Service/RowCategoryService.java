@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.ProductStatus;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
 import com.sesac.fmmall.DTO.RowCategoryDTO;
 import com.sesac.fmmall.Entity.Category;
@@ -22,6 +23,7 @@ public class RowCategoryService {
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
     private final ModelMapper modelMapper;
+    private final CatalogCache catalogCache;
 
     /* 하위 카테고리 추가 */
     @Transactional
@@ -37,6 +39,7 @@ public class RowCategoryService {
                 .build();
 
         RowCategory savedRowCategory = rowCategoryRepository.save(newRowCategory);
+        catalogCache.invalidateRowCategories(category.getCategoryId());
 
         // Entity -> DTO 변환
         return modelMapper.map(savedRowCategory, RowCategoryDTO.class);
@@ -50,6 +53,7 @@ public class RowCategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 하위 카테고리 입니다."));
 
         foundRowCategory.setName(rowCategoryDTO.getName());
+        catalogCache.invalidateRowCategories(foundRowCategory.getCategory().getCategoryId());
 
         return modelMapper.map(foundRowCategory, RowCategoryDTO.class);
     }
@@ -57,10 +61,12 @@ public class RowCategoryService {
     /* 하위 카테고리 삭제 */
     @Transactional
     public void deleteRowCategory(int rowCategoryId) {
-        if (!rowCategoryRepository.existsById(rowCategoryId)) {
-            throw new IllegalArgumentException("삭제할 하위 카테고리 존재하지 않습니다.");
-        }
-        rowCategoryRepository.deleteById(rowCategoryId);
+        // 어느 상위 카테고리의 목록을 비울지 알아야 해서 existsById 대신 조회
+        RowCategory foundRowCategory = rowCategoryRepository.findById(rowCategoryId)
+                .orElseThrow(() -> new IllegalArgumentException("삭제할 하위 카테고리 존재하지 않습니다."));
+
+        rowCategoryRepository.delete(foundRowCategory);
+        catalogCache.invalidateRowCategories(foundRowCategory.getCategory().getCategoryId());
     }
 
     /* 하위 카테고리 상품 전체 조회 */
@@ -71,29 +77,35 @@ public class RowCategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 하위 카테고리 입니다."));
 
         // 해당 하위 카테고리에 속한 상품들 조회.
-        List<Product> products = productRepository.findByRowCategory(foundRowCategory);
+        List<Product> products = productRepository.findByRowCategoryAndProductStatusNotIn(foundRowCategory, ProductStatus.UNLISTED);
 
         // Product -> ProductResponseDTO 변환
         return products.stream()
-                .map(product -> modelMapper.map(product, ProductResponseDTO.class))
+                .map(ProductResponseDTO::from)
                 .toList();
     }
 
-    /* ✅ 상위 카테고리 ID로 하위 카테고리 목록 조회 (ADMIN용) */
-    @Transactional
+    /* ✅ 상위 카테고리 ID로 하위 카테고리 목록 조회 */
     public List<RowCategoryDTO> findAllByCategoryId(int categoryId) {
+        return findRowCategoryCatalog(categoryId).items();
+    }
 
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상위 카테고리 입니다."));
-
-        List<RowCategory> rowCategories = rowCategoryRepository.findByCategory(category);
-
-        return rowCategories.stream()
-                .map(rc -> RowCategoryDTO.builder()
-                        .rowCategoryId(rc.getRowCategoryId())
-                        .name(rc.getName())
-                        .categoryId(rc.getCategory().getCategoryId())
-                        .build())
-                .toList();
+    /* 상위 카테고리별 하위 카테고리 목록 + ETag (캐시, 관리자 변경 시 무효화) */
+    @Transactional
+    public CatalogCache.Snapshot<RowCategoryDTO> findRowCategoryCatalog(int categoryId) {
+        return catalogCache.rowCategories(categoryId, () -> {
+            Category category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상위 카테고리 입니다."));
+
+            List<RowCategory> rowCategories = rowCategoryRepository.findByCategory(category);
+
+            return rowCategories.stream()
+                    .map(rc -> RowCategoryDTO.builder()
+                            .rowCategoryId(rc.getRowCategoryId())
+                            .name(rc.getName())
+                            .categoryId(rc.getCategory().getCategoryId())
+                            .build())
+                    .toList();
+        }, rowCategory -> rowCategory.toBuilder().build());
     }
 }
@@ -0,0 +1,123 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.Sales.SalesDailyResponse;
+import com.sesac.fmmall.DTO.Sales.SalesTotalsResponse;
+import com.sesac.fmmall.Entity.SalesDaily;
+import com.sesac.fmmall.Entity.SalesDailyProduct;
+import com.sesac.fmmall.Repository.SalesDailyBrandRepository;
+import com.sesac.fmmall.Repository.SalesDailyCategoryRepository;
+import com.sesac.fmmall.Repository.SalesDailyProductRepository;
+import com.sesac.fmmall.Repository.SalesDailyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 매출 조회
+ * - 주문/주문상품 원본을 스캔하지 않고 SalesRollupService 가 갱신하는 집계 테이블만 읽는다.
+ *   일별 매출은 기간 일수만큼, 상품/카테고리/브랜드별 합계는 기간 일수 x 대상 수만큼만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SalesReportService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    private final SalesDailyRepository salesDailyRepository;
+    private final SalesDailyProductRepository salesDailyProductRepository;
+    private final SalesDailyCategoryRepository salesDailyCategoryRepository;
+    private final SalesDailyBrandRepository salesDailyBrandRepository;
+
+    /** 기간의 일별 매출 (주문이 없던 날은 0 으로 채운다) */
+    public List<SalesDailyResponse> getDailySales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        Map<LocalDate, SalesDaily> byDate = salesDailyRepository.findBySalesDateBetweenOrderBySalesDate(from, to)
+                .stream()
+                .collect(Collectors.toMap(SalesDaily::getSalesDate, Function.identity()));
+        return fill(from, to, date -> {
+            SalesDaily row = byDate.get(date);
+            return row != null ? SalesDailyResponse.from(date, row) : SalesDailyResponse.empty(date);
+        });
+    }
+
+    /** 상품 하나의 일별 매출 (주문이 없던 날은 0 으로 채운다) */
+    public List<SalesDailyResponse> getProductDailySales(int productId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        Map<LocalDate, SalesDailyProduct> byDate = salesDailyProductRepository
+                .findByProductIdAndSalesDateBetweenOrderBySalesDate(productId, from, to)
+                .stream()
+                .collect(Collectors.toMap(SalesDailyProduct::getSalesDate, Function.identity()));
+        return fill(from, to, date -> {
+            SalesDailyProduct row = byDate.get(date);
+            return row != null ? SalesDailyResponse.from(date, row) : SalesDailyResponse.empty(date);
+        });
+    }
+
+    /** 기간의 상품별 합계 (순매출 많은 순 size 개) */
+    public List<SalesTotalsResponse> getTopProducts(LocalDate from, LocalDate to, Integer size) {
+        validateRange(from, to);
+        return salesDailyProductRepository.findTotals(from, to, PageRequest.of(0, normalizeSize(size)))
+                .stream()
+                .map(SalesTotalsResponse::from)
+                .toList();
+    }
+
+    /** 기간의 카테고리별 합계 (순매출 많은 순 size 개) */
+    public List<SalesTotalsResponse> getTopCategories(LocalDate from, LocalDate to, Integer size) {
+        validateRange(from, to);
+        return salesDailyCategoryRepository.findTotals(from, to, PageRequest.of(0, normalizeSize(size)))
+                .stream()
+                .map(SalesTotalsResponse::from)
+                .toList();
+    }
+
+    /** 기간의 브랜드별 합계 (순매출 많은 순 size 개) */
+    public List<SalesTotalsResponse> getTopBrands(LocalDate from, LocalDate to, Integer size) {
+        validateRange(from, to);
+        return salesDailyBrandRepository.findTotals(from, to, PageRequest.of(0, normalizeSize(size)))
+                .stream()
+                .map(SalesTotalsResponse::from)
+                .toList();
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 시작일과 종료일을 입력해주세요.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다. from=" + from + ", to=" + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("매출 조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+    }
+
+    private int normalizeSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    private List<SalesDailyResponse> fill(LocalDate from, LocalDate to, Function<LocalDate, SalesDailyResponse> mapper) {
+        List<SalesDailyResponse> responses = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            responses.add(mapper.apply(date));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,364 @@
+package com.sesac.fmmall.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 매출 집계 테이블(sales_daily / sales_daily_product / sales_daily_category / sales_daily_brand) 갱신
+ *
+ * - 주문 생성 / 주문 취소 / 환불 완료가 커밋되면 그 주문(환불)의 행만 모아서 집계 테이블에 더한다.
+ *   집계 테이블마다 "INSERT ... SELECT ... GROUP BY ... ON DUPLICATE KEY UPDATE 컬럼 = 컬럼 + 증분" 한 문장.
+ * - 커밋 후에 별도 트랜잭션으로 더하므로, 주문 트랜잭션이 인기 카테고리/브랜드의 집계 행을 잠근 채 기다리지 않는다.
+ *   (반영에 실패하면 로그만 남기고 주문은 그대로 성공, 어긋난 값은 재집계로 바로잡는다.)
+ * - 재집계(rebuild)는 같은 문장을 order_id 구간 조건으로 CHUNK_SIZE 씩 실행한다.
+ *   증분과 재집계가 같은 SQL 이라 두 결과가 같다.
+ * - 재집계는 새 테이블(<집계 테이블>_rebuild)에 만들고 RENAME TABLE 한 문장으로 바꿔 끼운다.
+ *   서버가 여러 대여도 안전하도록 재집계 여부는 DB 이름 잠금(GET_LOCK)으로 알리고,
+ *   재집계 도중에 주문/취소/환불이 커밋되었으면 만든 결과를 버린다. → 주문이 없는 시간에만 실행할 수 있다.
+ * - 모든 값은 주문일 기준이다. 취소/환불도 원래 주문일의 행에서 빠진다.
+ * - 카테고리/브랜드는 주문상품에 저장된 주문 당시 값을 쓴다. (상품의 현재 값을 쓰면 분류가 바뀐 뒤의 취소/환불이 다른 행에서 빠진다)
+ *   단가/카테고리/브랜드 스냅샷이 아직 없는 옛 주문상품만 상품의 현재 값을 쓴다.
+ */
+@Slf4j
+@Service
+public class SalesRollupService {
+
+    private static final int CHUNK_SIZE = 5_000;
+
+    // 주문상품 금액 합계 (단가 스냅샷이 아직 채워지지 않은 옛 주문상품은 현재 상품 가격)
+    private static final String LINE_AMOUNT = "COALESCE(SUM(oi.quantity * COALESCE(oi.unit_price, p.product_price)), 0)";
+
+    // 서버 여러 대가 같이 보는 재집계 표시 (MySQL 이름 잠금, 잡은 커넥션이 끊기면 자동으로 풀린다)
+    private static final String REBUILD_LOCK = "sales_rollup_rebuild";
+
+    private static final String SHADOW_SUFFIX = "_rebuild";
+    private static final String OLD_SUFFIX = "_old";
+
+    /*
+     * 집계에 들어가는 원본의 변화 표시. 재집계 시작 때와 바꿔 끼우기 직전이 다르면 그 사이에 주문/취소/환불이 커밋된 것이다.
+     * - 주문 ID 는 서버별 블록에서 나오므로 커밋 순서와 크기 순서가 다르다. 그래서 최대값과 건수를 같이 본다.
+     * - 주문은 지우지 않고 취소/환불 완료는 되돌리지 않으므로 건수는 늘기만 한다.
+     */
+    private static final String SOURCE_STATE_SQL =
+            "SELECT (SELECT COALESCE(MAX(order_id), 0) FROM orders) AS max_order_id, " +
+            "       (SELECT COUNT(*) FROM orders) AS order_count, " +
+            "       (SELECT COUNT(*) FROM orders WHERE order_status = 'CANCELLED') AS cancelled_count, " +
+            "       (SELECT COUNT(*) FROM refund_item WHERE refund_status = 'COMPLETED') AS refunded_count";
+
+    // 처리 중인 비동기 주문 요청이 있거나, 최근 quietSeconds 안에 주문/취소가 있었으면 주문이 들어오는 중으로 본다.
+    private static final String LIVE_ORDER_TRAFFIC_SQL =
+            "SELECT EXISTS (SELECT 1 FROM order_request WHERE status IN ('PENDING', 'PROCESSING')) " +
+            "    OR EXISTS (SELECT 1 FROM orders WHERE created_at >= ?) " +
+            "    OR EXISTS (SELECT 1 FROM orders WHERE cancelled_at >= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 커밋 후 콜백에서는 원래 트랜잭션의 커넥션이 아직 묶여 있으므로 새 트랜잭션을 열어서 쓴다.
+    private final TransactionTemplate writeTemplate;
+
+    // 이 서버에서 재집계 스레드를 이미 띄웠는지 (다른 서버의 재집계는 REBUILD_LOCK 으로 확인)
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // 관리자 재집계 요청 전에 주문/취소가 없어야 하는 시간
+    private final long quietSeconds;
+
+    public SalesRollupService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              @Value("${sales.rebuild.quiet-seconds:300}") long quietSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.quietSeconds = quietSeconds;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ===================== 증분 (커밋 후) ===================== //
+
+    /** 주문 생성 - 주문 건수 / 수량 / 금액 */
+    public void recordOrdered(int orderId) {
+        afterCommit(orderId, () -> apply(Event.ORDERED, null, "o.order_id = ?", orderId));
+    }
+
+    /** 주문 취소 - 취소 건수 / 수량 / 금액 */
+    public void recordCancelled(int orderId) {
+        afterCommit(orderId, () -> apply(Event.CANCELLED, null, "o.order_id = ?", orderId));
+    }
+
+    /** 환불 완료 - 환불 수량 / 금액 (환불 상품 기준) */
+    public void recordRefunded(int orderId, int refundId) {
+        afterCommit(orderId, () -> apply(Event.REFUNDED, null, "r.refund_id = ? AND ri.refund_status = 'COMPLETED'", refundId));
+    }
+
+    private void afterCommit(int orderId, Runnable action) {
+        Runnable guarded = () -> {
+            try {
+                writeTemplate.executeWithoutResult(status -> action.run());
+            } catch (DataAccessException e) {
+                log.warn("매출 집계 반영에 실패했습니다. 재집계로 바로잡아야 합니다. orderId={}", orderId, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    // ===================== 재집계 ===================== //
+
+    /**
+     * 주문 이력 전체로 집계 테이블을 다시 만든다. 반영한 주문 구간(chunk) 수를 반환한다.
+     * - 새 테이블(<집계 테이블>_rebuild)에 order_id 범위를 CHUNK_SIZE 씩 끊어서 주문 / 취소 / 환불 완료를 차례로 더한다. (구간 하나 = 트랜잭션 하나)
+     * - 그동안 증분은 지금 집계 테이블에 계속 더해지므로 조회는 끊기지 않는다.
+     * - 다 만들었을 때 원본(주문/취소/환불 완료)이 시작 때와 같으면 RENAME TABLE 한 문장으로 바꿔 끼운다.
+     *   다르면 그 사이의 증분이 새 테이블에 빠졌을 수 있으므로 새 테이블을 버리고 IllegalStateException
+     * - 마지막 검사와 RENAME 사이에 커밋된 주문의 증분은 옛 테이블에 더해져 사라질 수 있다. 그래서 주문이 없는 시간에만 실행한다.
+     * - 다른 서버에서 재집계 중이면 IllegalStateException
+     */
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 매출 재집계가 진행 중입니다.");
+        }
+        try {
+            return runRebuild();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 재집계를 백그라운드 스레드에서 시작한다. 시작하지 못하면 false
+     * - 주문 수에 비례해서 오래 걸리므로 관리자 요청은 시작만 하고 바로 돌아간다.
+     * - 이미 재집계 중이거나(어느 서버든), 비동기 주문 요청이 처리 중이거나, 최근 quietSeconds 안에 주문/취소가 있었으면 시작하지 않는다.
+     *   (주문이 계속 들어오면 어차피 바꿔 끼우기 직전 검사에서 결과를 버리게 된다.)
+     */
+    public boolean startRebuild() {
+        if (isRebuilding() || isOrderTrafficLive()) {
+            return false;
+        }
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                runRebuild();
+            } catch (RuntimeException e) {
+                log.error("매출 재집계에 실패했습니다.", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        }, "sales-rollup-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /** 이 서버 또는 다른 서버에서 재집계 중인지 */
+    public boolean isRebuilding() {
+        if (rebuilding.get()) {
+            return true;
+        }
+        Integer free = jdbcTemplate.queryForObject("SELECT IS_FREE_LOCK(?)", Integer.class, REBUILD_LOCK);
+        return free == null || free != 1;
+    }
+
+    private boolean isOrderTrafficLive() {
+        LocalDateTime since = LocalDateTime.now().minusSeconds(quietSeconds);
+        Boolean live = jdbcTemplate.queryForObject(LIVE_ORDER_TRAFFIC_SQL, Boolean.class, since, since);
+        return Boolean.TRUE.equals(live);
+    }
+
+    // 재집계 내내 이름 잠금을 잡은 커넥션 하나를 들고 있는다. (구간 반영은 writeTemplate 의 다른 커넥션에서)
+    private int runRebuild() {
+        Integer chunks = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            if (!namedLock(connection, "SELECT GET_LOCK(?, 0)")) {
+                throw new IllegalStateException("다른 서버에서 매출 재집계가 진행 중입니다.");
+            }
+            try {
+                return rebuildAndSwap();
+            } finally {
+                namedLock(connection, "SELECT RELEASE_LOCK(?)");
+            }
+        });
+        return chunks != null ? chunks : 0;
+    }
+
+    private boolean namedLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, REBUILD_LOCK);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private int rebuildAndSwap() {
+        // 지난 재집계가 중간에 끊겨 남은 새 테이블이 있으면 지우고 빈 테이블로 다시 만든다.
+        for (Dimension dimension : Dimension.values()) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + dimension.table + SHADOW_SUFFIX);
+            jdbcTemplate.execute("CREATE TABLE " + dimension.table + SHADOW_SUFFIX + " LIKE " + dimension.table);
+        }
+
+        Map<String, Object> sourceState = jdbcTemplate.queryForMap(SOURCE_STATE_SQL);
+        long lastId = ((Number) sourceState.get("max_order_id")).longValue();
+
+        int chunks = 0;
+        for (long from = 0; from < lastId; from += CHUNK_SIZE) {
+            long lower = from;
+            long to = Math.min(from + CHUNK_SIZE, lastId);
+            writeTemplate.executeWithoutResult(status -> {
+                apply(Event.ORDERED, SHADOW_SUFFIX, "o.order_id > ? AND o.order_id <= ?", lower, to);
+                apply(Event.CANCELLED, SHADOW_SUFFIX, "o.order_id > ? AND o.order_id <= ? AND o.order_status = 'CANCELLED'", lower, to);
+                apply(Event.REFUNDED, SHADOW_SUFFIX, "o.order_id > ? AND o.order_id <= ? AND ri.refund_status = 'COMPLETED'", lower, to);
+            });
+            chunks++;
+        }
+
+        if (!sourceState.equals(jdbcTemplate.queryForMap(SOURCE_STATE_SQL))) {
+            for (Dimension dimension : Dimension.values()) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + dimension.table + SHADOW_SUFFIX);
+            }
+            throw new IllegalStateException("재집계 중에 주문/취소/환불이 발생해 재집계 결과를 버렸습니다. 주문이 없는 시간에 다시 실행하세요.");
+        }
+
+        // 네 테이블을 한 문장으로 바꿔 끼운다. (그 사이 증분은 잠깐 기다렸다가 새 테이블에 더해진다)
+        StringJoiner renames = new StringJoiner(", ", "RENAME TABLE ", "");
+        for (Dimension dimension : Dimension.values()) {
+            renames.add(dimension.table + " TO " + dimension.table + OLD_SUFFIX);
+            renames.add(dimension.table + SHADOW_SUFFIX + " TO " + dimension.table);
+        }
+        for (Dimension dimension : Dimension.values()) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + dimension.table + OLD_SUFFIX);
+        }
+        jdbcTemplate.execute(renames.toString());
+        for (Dimension dimension : Dimension.values()) {
+            jdbcTemplate.execute("DROP TABLE " + dimension.table + OLD_SUFFIX);
+        }
+
+        log.info("매출 재집계 완료 - 주문 {} 까지, 구간 {}개", lastId, chunks);
+        return chunks;
+    }
+
+    // ===================== SQL ===================== //
+
+    // tableSuffix 가 있으면 재집계용 새 테이블(<집계 테이블><suffix>)에 더한다.
+    private void apply(Event event, String tableSuffix, String predicate, Object... args) {
+        for (Dimension dimension : Dimension.values()) {
+            String table = tableSuffix != null ? dimension.table + tableSuffix : dimension.table;
+            jdbcTemplate.update(event.sql(dimension, table, predicate), args);
+        }
+    }
+
+    /*
+     * 집계 단위. key 가 없으면 하루 한 행(sales_daily)
+     */
+    private enum Dimension {
+        DAILY("sales_daily", null, null),
+        PRODUCT("sales_daily_product", "product_id", "oi.product_id"),
+        CATEGORY("sales_daily_category", "category_id", "COALESCE(oi.category_id, p.category_id)"),
+        BRAND("sales_daily_brand", "brand_id", "COALESCE(oi.brand_id, p.brand_id)");
+
+        private final String table;
+        private final String keyColumn;
+        private final String keyExpression;
+
+        Dimension(String table, String keyColumn, String keyExpression) {
+            this.table = table;
+            this.keyColumn = keyColumn;
+            this.keyExpression = keyExpression;
+        }
+    }
+
+    /*
+     * 이벤트별로 더할 컬럼과 그 값을 읽을 FROM 절.
+     * - 주문/취소 : 주문 → 주문상품 (주문상품의 주문 당시 단가 기준 금액, 스냅샷이 없으면 현재 상품 가격)
+     * - 환불 완료 : 환불 → 환불상품 → 주문상품 → 주문 (환불상품의 환불 금액)
+     */
+    private enum Event {
+        ORDERED(List.of("order_count", "quantity", "amount"),
+                List.of("COUNT(DISTINCT o.order_id)", "SUM(oi.quantity)", LINE_AMOUNT),
+                "FROM orders o " +
+                "JOIN order_item oi ON oi.order_id = o.order_id " +
+                "JOIN product p ON p.product_id = oi.product_id "),
+        CANCELLED(List.of("cancelled_count", "cancelled_quantity", "cancelled_amount"),
+                List.of("COUNT(DISTINCT o.order_id)", "SUM(oi.quantity)", LINE_AMOUNT),
+                ORDERED.from),
+        REFUNDED(List.of("refunded_quantity", "refunded_amount"),
+                List.of("SUM(ri.refund_quantity)", "SUM(ri.refund_price)"),
+                "FROM refund r " +
+                "JOIN refund_item ri ON ri.refund_id = r.refund_id " +
+                "JOIN order_item oi ON oi.order_item_id = ri.order_item_id " +
+                "JOIN orders o ON o.order_id = r.order_id " +
+                "JOIN product p ON p.product_id = oi.product_id ");
+
+        private final List<String> columns;
+        private final List<String> aggregates;
+        private final String from;
+
+        Event(List<String> columns, List<String> aggregates, String from) {
+            this.columns = columns;
+            this.aggregates = aggregates;
+            this.from = from;
+        }
+
+        /*
+         * INSERT INTO t (sales_date, key, c1, c2) SELECT * FROM (SELECT DATE(o.created_at), key, agg1 AS d_c1, ... GROUP BY ...) d
+         * ON DUPLICATE KEY UPDATE t.c1 = t.c1 + d.d_c1, ...
+         * (GROUP BY 결과를 파생 테이블로 한 번 감싸야 ON DUPLICATE KEY UPDATE 에서 증분 값을 참조할 수 있다.)
+         */
+        String sql(Dimension dimension, String table, String predicate) {
+            StringBuilder insertColumns = new StringBuilder("sales_date");
+            StringBuilder select = new StringBuilder("DATE(o.created_at) AS d_sales_date");
+            String groupBy = "DATE(o.created_at)";
+            if (dimension.keyColumn != null) {
+                insertColumns.append(", ").append(dimension.keyColumn);
+                select.append(", ").append(dimension.keyExpression).append(" AS d_key");
+                groupBy += ", " + dimension.keyExpression;
+            }
+
+            StringBuilder updates = new StringBuilder();
+            for (int i = 0; i < columns.size(); i++) {
+                String column = columns.get(i);
+                insertColumns.append(", ").append(column);
+                select.append(", ").append(aggregates.get(i)).append(" AS d_").append(column);
+                if (i > 0) {
+                    updates.append(", ");
+                }
+                updates.append(table).append('.').append(column)
+                        .append(" = ").append(table).append('.').append(column)
+                        .append(" + d.d_").append(column);
+            }
+
+            return "INSERT INTO " + table + " (" + insertColumns + ") " +
+                    "SELECT * FROM (" +
+                    "SELECT " + select + " " + from +
+                    "WHERE " + predicate + " " +
+                    "GROUP BY " + groupBy +
+                    ") d " +
+                    "ON DUPLICATE KEY UPDATE " + updates;
+        }
+    }
+}
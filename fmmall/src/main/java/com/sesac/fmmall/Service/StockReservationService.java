@@ -0,0 +1,148 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Entity.OrderItem;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 재고 예약(차감) / 복구 담당 Service
+ * - 재고 확인과 차감을 "UPDATE ... WHERE stock >= ?" 한 문장으로 처리한다.
+ *   여러 상품이면 JDBC 배치 한 번으로 보내고, 상품별 갱신 행 수로 부족한 상품을 모두 찾는다.
+ * - 한 주문의 모든 상품을 productId 오름차순으로 차감해서,
+ *   여러 주문이 같은 상품들을 동시에 잡더라도 락 획득 순서가 같아 교착상태가 생기지 않는다.
+ * - 호출한 쪽(주문 생성/취소)의 트랜잭션 안에서만 동작한다.
+ *   중간에 재고 부족이 나면 예외 → 앞서 차감한 상품까지 전부 롤백된다.
+ * - 재고가 바뀐 상품은 커밋 후 상품 상세 캐시에서 비운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    /*
+     * 재고 조건부 차감 (원자적).
+     * - 재고가 충분할 때만 차감되고, 갱신된 행 수(0 또는 1)로 성공 여부를 안다.
+     * - 조회 후 자바에서 비교/차감하지 않으므로 동시 주문에도 초과 판매가 발생하지 않는다.
+     * - 배치 안의 문장은 넘긴 순서(productId 오름차순)대로 실행되므로 락 획득 순서도 그대로다.
+     */
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity - ? WHERE product_id = ? AND stock_quantity >= ?";
+
+    // 재고 복구 - 차감과 같은 순서(productId 오름차순)로 배치 한 번에 보낸다.
+    private static final String INCREASE_STOCK_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity + ? WHERE product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ProductDetailCache productDetailCache;
+
+    /**
+     * 주문상품 목록 기준 재고 차감
+     * - 같은 상품이 여러 줄이면 합산해서 한 번만 차감한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(List<OrderItem> orderItems) {
+        reserve(sumQuantityByProductId(orderItems));
+        detachProducts(orderItems);
+    }
+
+    /**
+     * 상품ID → 수량 기준 재고 차감
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Map<Integer, Integer> quantityByProductId) {
+        if (quantityByProductId == null || quantityByProductId.isEmpty()) {
+            throw new IllegalArgumentException("재고를 차감할 상품이 없습니다.");
+        }
+
+        List<Integer> productIds = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : inLockOrder(quantityByProductId).entrySet()) {
+            int productId = entry.getKey();
+            int quantity = entry.getValue();
+
+            if (quantity < 1) {
+                throw new IllegalArgumentException("상품 수량은 1개 이상이어야 합니다.");
+            }
+            productIds.add(productId);
+            batchArgs.add(new Object[]{quantity, productId, quantity});
+        }
+
+        // JPQL 벌크 UPDATE 의 flushAutomatically 처럼, 대기 중인 변경을 먼저 내보낸다.
+        entityManager.flush();
+        int[] updated = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, batchArgs);
+
+        List<Integer> shortProductIds = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                shortProductIds.add(productIds.get(i));
+            }
+        }
+        if (!shortProductIds.isEmpty()) {
+            throw new IllegalArgumentException("상품 재고가 부족합니다. productIds=" + shortProductIds);
+        }
+        productDetailCache.invalidateAll(quantityByProductId.keySet());
+    }
+
+    /**
+     * 주문상품 목록 기준 재고 복구 (주문 취소)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restock(List<OrderItem> orderItems) {
+        restock(sumQuantityByProductId(orderItems));
+        detachProducts(orderItems);
+    }
+
+    /**
+     * 상품ID → 수량 기준 재고 복구
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restock(Map<Integer, Integer> quantityByProductId) {
+        if (quantityByProductId == null || quantityByProductId.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : inLockOrder(quantityByProductId).entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), entry.getKey()});
+        }
+
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(INCREASE_STOCK_SQL, batchArgs);
+        productDetailCache.invalidateAll(quantityByProductId.keySet());
+    }
+
+    private Map<Integer, Integer> sumQuantityByProductId(List<OrderItem> orderItems) {
+        Map<Integer, Integer> quantityByProductId = new TreeMap<>();
+        for (OrderItem item : orderItems) {
+            quantityByProductId.merge(item.getProduct().getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantityByProductId;
+    }
+
+    // productId 오름차순 = 락 획득 순서
+    private Map<Integer, Integer> inLockOrder(Map<Integer, Integer> quantityByProductId) {
+        return new TreeMap<>(quantityByProductId);
+    }
+
+    /*
+     * UPDATE 문으로 재고를 바꿨기 때문에 영속성 컨텍스트에 남은 Product 의 stockQuantity 는 옛 값이다.
+     * 분리(detach)해 두면 같은 트랜잭션에서 다시 조회할 때 DB 의 최신 재고를 읽는다.
+     * (setStockQuantity 로 맞추면 더티체킹이 옛 값 기준 UPDATE 를 한 번 더 날려 동시성이 깨진다.)
+     */
+    private void detachProducts(List<OrderItem> orderItems) {
+        for (OrderItem item : orderItems) {
+            if (entityManager.contains(item.getProduct())) {
+                entityManager.detach(item.getProduct());
+            }
+        }
+    }
+}
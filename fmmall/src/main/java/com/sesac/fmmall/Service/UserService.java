@@ -5,6 +5,7 @@ import com.sesac.fmmall.DTO.User.UserSaveRequestDto;
 import com.sesac.fmmall.DTO.User.UserUpdateRequestDto;
 import com.sesac.fmmall.Entity.User;
 import com.sesac.fmmall.Repository.UserRepository;
+import com.sesac.fmmall.Security.AuthenticatedUserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     public UserResponseDto signup(UserSaveRequestDto dto) {
         if (userRepository.existsByLoginId(dto.getLoginId())) {
@@ -77,6 +79,7 @@ public class UserService {
             user.encodePassword(passwordEncoder.encode(dto.getPassword()));
         }
 
+        authenticatedUserCache.evict(userId);
         return new UserResponseDto(userRepository.save(user));
     }
 
@@ -95,6 +98,7 @@ public class UserService {
         }*/
 
         userRepository.delete(user);
+        authenticatedUserCache.evict(userId);
     }
 
     @Transactional
@@ -103,5 +107,6 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         userRepository.delete(user);
+        authenticatedUserCache.evict(userId);
     }
 }
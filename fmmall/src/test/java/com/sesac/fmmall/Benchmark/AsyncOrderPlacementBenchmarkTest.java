@@ -0,0 +1,243 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Service.AsyncOrderService;
+import com.sesac.fmmall.Service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 폭주 부하 테스트 - 동기 주문 vs 비동기 주문 접수
+ * - CLIENTS 개 스레드가 동시에 ORDERS_PER_CLIENT 건씩 주문한다. (같은 인기 상품 3개를 모두가 주문 → 재고 행 경합)
+ * - 동기: 요청 스레드가 사용자/배송지/재고/주문/결제를 한 트랜잭션에서 처리 → 응답 시간 = 주문 처리 시간 (경합이 길어질수록 늘어남)
+ * - 비동기: 요청 스레드는 order_request INSERT 한 번 → 응답 시간이 일정하고, 워커 수만큼만 동시에 재고 락을 잡는다.
+ * - 응답 시간(p50 / p99 / max)과 초당 주문 처리량(비동기는 마지막 주문이 완료될 때까지)을 출력한다.
+ * - 실행: ./gradlew test -Pbenchmark --tests "*AsyncOrderPlacementBenchmarkTest"
+ */
+@SpringBootTest(properties = "order.async.enabled=true")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AsyncOrderPlacementBenchmarkTest {
+
+    private static final int CLIENTS = 64;
+    private static final int ORDERS_PER_CLIENT = 20;
+    private static final int TOTAL_ORDERS = CLIENTS * ORDERS_PER_CLIENT;
+    private static final int PRODUCTS = 3;
+    private static final long DRAIN_TIMEOUT_MILLIS = 120_000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private AsyncOrderService asyncOrderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+    private OrderCreateRequest request;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .loginId("bench-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("encoded-password")
+                .userName("BENCH 사용자")
+                .userPhone("010-0000-0000")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        brand = brandRepository.save(Brand.builder().name("BENCH 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("BENCH 카테고리").build());
+
+        addressRepository.save(Address.builder()
+                .receiverName("BENCH 수령인")
+                .receiverPhone("010-0000-0000")
+                .zipcode("12345")
+                .address1("서울시 벤치구")
+                .address2("1층")
+                .isDefault("Y")
+                .user(user)
+                .build());
+
+        paymentMethodRepository.save(PaymentMethod.builder()
+                .cardCompany("BENCH")
+                .maskedCardNumber("****-****-****-0000")
+                .isDefault(true)
+                .user(user)
+                .build());
+
+        List<OrderItemCreateRequest> items = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = productRepository.save(Product.builder()
+                    .name("BENCH 인기 상품 " + i)
+                    .price(10_000)
+                    .stockQuantity(1_000_000)
+                    .isInstallationRequired("N")
+                    .productStatus(ProductStatus.ACTIVE)
+                    .modelName("BENCH-ASYNC-" + i)
+                    .brand(brand)
+                    .category(category)
+                    .build());
+            items.add(OrderItemCreateRequest.builder()
+                    .productId(product.getProductId())
+                    .quantity(1)
+                    .build());
+        }
+        request = OrderCreateRequest.builder().items(items).build();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        int userId = user.getUserId();
+        jdbcTemplate.update("DELETE FROM order_request WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM payment WHERE order_id IN (SELECT order_id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id IN (SELECT order_id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM address WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM payment_method WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM product WHERE brand_id = ?", brand.getBrandId());
+        jdbcTemplate.update("DELETE FROM brand WHERE brand_id = ?", brand.getBrandId());
+        jdbcTemplate.update("DELETE FROM category WHERE category_id = ?", category.getCategoryId());
+        jdbcTemplate.update("DELETE FROM `user` WHERE user_id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("주문 폭주 - 동기 주문과 비동기 접수의 응답 시간 / 초당 주문 처리량")
+    void orderSpike() throws InterruptedException {
+        int userId = user.getUserId();
+
+        long[] syncLatencies = new long[TOTAL_ORDERS];
+        long syncBegin = System.nanoTime();
+        runSpike(syncLatencies, () -> orderService.createOrder(userId, request));
+        long syncElapsed = System.nanoTime() - syncBegin;
+
+        long[] asyncLatencies = new long[TOTAL_ORDERS];
+        long asyncBegin = System.nanoTime();
+        runSpike(asyncLatencies, () -> asyncOrderService.enqueueOrder(userId, request));
+        awaitDrained(userId);
+        long asyncElapsed = System.nanoTime() - asyncBegin;
+
+        System.out.println("=== 주문 폭주 (" + CLIENTS + " 동시 클라이언트 x " + ORDERS_PER_CLIENT + " 건) ===");
+        System.out.printf("%6s | %10s | %10s | %10s | %12s%n", "방식", "p50 ms", "p99 ms", "max ms", "주문/초");
+        print("동기", syncLatencies, syncElapsed);
+        print("비동기", asyncLatencies, asyncElapsed);
+
+        assertThat(countRequests(userId, "COMPLETED")).isEqualTo(TOTAL_ORDERS);
+        assertThat(countOrders(userId)).isEqualTo(TOTAL_ORDERS * 2);
+    }
+
+    // 모든 클라이언트를 동시에 출발시키고, 각 요청의 응답 시간을 기록한다.
+    private void runSpike(long[] latencies, Runnable placeOrder) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        AtomicInteger slot = new AtomicInteger();
+
+        for (int c = 0; c < CLIENTS; c++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ORDERS_PER_CLIENT; i++) {
+                        long begin = System.nanoTime();
+                        placeOrder.run();
+                        latencies[slot.getAndIncrement()] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+    }
+
+    private void awaitDrained(int userId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+        while (countRequests(userId, "COMPLETED") + countRequests(userId, "FAILED") < TOTAL_ORDERS) {
+            assertThat(System.currentTimeMillis()).as("비동기 주문 처리 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private void print(String label, long[] latencies, long elapsedNanos) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%6s | %10.2f | %10.2f | %10.2f | %12.1f%n",
+                label,
+                sorted[sorted.length / 2] / 1_000_000.0,
+                sorted[(int) (sorted.length * 0.99)] / 1_000_000.0,
+                sorted[sorted.length - 1] / 1_000_000.0,
+                TOTAL_ORDERS / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private int countRequests(int userId, String status) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_request WHERE user_id = ? AND status = ?", Integer.class, userId, status);
+        return count != null ? count : 0;
+    }
+
+    private int countOrders(int userId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ?",
+                Integer.class, userId);
+        return count != null ? count : 0;
+    }
+}
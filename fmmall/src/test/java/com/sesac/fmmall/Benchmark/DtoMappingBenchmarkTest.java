@@ -0,0 +1,95 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
+import com.sesac.fmmall.DTO.DtoMappingFixtures;
+import com.sesac.fmmall.DTO.Order.OrderItemResponse;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Refund.RefundItemResponse;
+import com.sesac.fmmall.DTO.Refund.RefundResponse;
+import com.sesac.fmmall.Entity.CartItem;
+import com.sesac.fmmall.Entity.Order;
+import com.sesac.fmmall.Entity.OrderItem;
+import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Entity.Refund;
+import com.sesac.fmmall.Entity.RefundItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+import static com.sesac.fmmall.DTO.DtoMappingFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DTO 매핑 처리량 / 할당량 벤치마크 (ModelMapper vs 직접 작성한 from())
+ * - 할당량은 현재 스레드가 할당한 바이트(com.sun.management.ThreadMXBean) 기준
+ * - 실행: ./gradlew test -Pbenchmark --tests "*DtoMappingBenchmarkTest"
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DtoMappingBenchmarkTest {
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 100_000;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("DTO 매핑 - ModelMapper vs from() (DTO 타입별 처리량 / 호출당 할당 바이트)")
+    void mappingThroughputAndAllocation() {
+        Product product = product(11);
+        CartItem cartItem = cartItem(31, product, 2);
+        Order order = order(5);
+        OrderItem orderItem = order.getOrderItems().get(0);
+        Refund refund = order.getRefunds().get(0);
+        RefundItem refundItem = refund.getRefundItems().get(0);
+
+        System.out.println("=== DTO 매핑 " + MEASURED_CALLS + "회 ===");
+        System.out.printf("%-22s | %14s | %14s | %12s | %12s%n",
+                "DTO", "ModelMapper/s", "from()/s", "MM B/op", "from() B/op");
+
+        compare("ProductResponseDTO", product, DtoMappingFixtures::legacyProduct, ProductResponseDTO::from);
+        compare("CartItemResponseDTO", cartItem, DtoMappingFixtures::legacyCartItem, CartItemResponseDTO::from);
+        compare("OrderItemResponse", orderItem, DtoMappingFixtures::legacyOrderItem, OrderItemResponse::from);
+        compare("OrderResponse(5건)", order, DtoMappingFixtures::legacyOrder, OrderResponse::from);
+        compare("RefundItemResponse", refundItem, DtoMappingFixtures::legacyRefundItem, RefundItemResponse::from);
+        compare("RefundResponse", refund, DtoMappingFixtures::legacyRefund, RefundResponse::from);
+    }
+
+    private <T> void compare(String label, T source, Function<T, ?> legacy, Function<T, ?> mapped) {
+        Result before = measure(source, legacy);
+        Result after = measure(source, mapped);
+
+        System.out.printf("%-22s | %,14.0f | %,14.0f | %,12.0f | %,12.0f%n",
+                label, before.opsPerSecond, after.opsPerSecond, before.bytesPerOp, after.bytesPerOp);
+
+        assertThat(after.opsPerSecond).isGreaterThan(before.opsPerSecond);
+        assertThat(after.bytesPerOp).isLessThan(before.bytesPerOp);
+    }
+
+    private <T> Result measure(T source, Function<T, ?> mapping) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink += mapping.apply(source).hashCode();
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long begin = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            sink += mapping.apply(source).hashCode();
+        }
+        long elapsed = System.nanoTime() - begin;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        // 결과를 사용해서 JIT 가 매핑 호출을 없애지 못하게
+        assertThat(sink).isNotEqualTo(Long.MIN_VALUE);
+        return new Result(MEASURED_CALLS / (elapsed / 1_000_000_000.0), (double) allocated / MEASURED_CALLS);
+    }
+
+    private record Result(double opsPerSecond, double bytesPerOp) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.Entity.User;
+import com.sesac.fmmall.Repository.UserRepository;
+import com.sesac.fmmall.Security.AuthenticatedUserCache;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Security.JwtTokenProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtAuthorizationFilter 인증 방식별 필터 지연시간 / 요청당 DB 쿼리 수 벤치마크
+ * - DB 조회 (캐시 없음)  : 기존 방식, 요청마다 findById
+ * - DB 조회 + 사용자 캐시 : jwt.stateless = false
+ * - 클레임 기반          : jwt.stateless = true (기본값)
+ * - 실행: ./gradlew test -Pbenchmark --tests "*JwtFilterBenchmarkTest"
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtFilterBenchmarkTest {
+
+    private static final int USERS = 100;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SecurityConfig 때문에 필요한 MockBean
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private final List<User> users = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("JWT 필터 - DB 조회 vs DB 조회 + 캐시 vs 클레임 기반")
+    void filterLatency_byPrincipalMode() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = userRepository.save(User.builder()
+                    .loginId("bench-jwt-" + i + "-" + System.nanoTime())
+                    .password("encoded-password")
+                    .userName("BENCH 사용자")
+                    .userPhone("010-0000-0000")
+                    .role(UserRole.USER)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            users.add(user);
+            tokens.add(jwtTokenProvider.createToken(user));
+        }
+
+        System.out.println("=== JWT 필터 " + MEASURED_REQUESTS + "회 (사용자 " + USERS + "명) ===");
+        System.out.printf("%-18s | %10s | %10s | %12s%n", "방식", "평균 us", "p99 us", "요청당 쿼리");
+
+        double noCache = measure("DB 조회", new JwtAuthorizationFilter(jwtTokenProvider,
+                new AuthenticatedUserCache(userRepository, 0, 60), false), tokens);
+        double cached = measure("DB 조회 + 캐시", new JwtAuthorizationFilter(jwtTokenProvider,
+                new AuthenticatedUserCache(userRepository, 10_000, 60), false), tokens);
+        double stateless = measure("클레임 기반", new JwtAuthorizationFilter(jwtTokenProvider,
+                new AuthenticatedUserCache(userRepository, 0, 60), true), tokens);
+
+        assertThat(noCache).isEqualTo(1.0);
+        assertThat(cached).isLessThan(0.1);
+        assertThat(stateless).isZero();
+    }
+
+    // 결과 출력 후 요청당 쿼리 수 반환
+    private double measure(String label, JwtAuthorizationFilter filter, List<String> tokens) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            runFilter(filter, tokens.get(i % tokens.size()));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long[] nanos = new long[MEASURED_REQUESTS];
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            long begin = System.nanoTime();
+            runFilter(filter, tokens.get(i % tokens.size()));
+            nanos[i] = System.nanoTime() - begin;
+        }
+
+        double queriesPerRequest = (double) statistics.getPrepareStatementCount() / MEASURED_REQUESTS;
+        Arrays.sort(nanos);
+        System.out.printf("%-18s | %10.1f | %10.1f | %12.3f%n",
+                label,
+                Arrays.stream(nanos).average().orElse(0) / 1_000.0,
+                nanos[(int) (MEASURED_REQUESTS * 0.99)] / 1_000.0,
+                queriesPerRequest);
+        return queriesPerRequest;
+    }
+
+    private void runFilter(JwtAuthorizationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/Order/findAll");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+    }
+}
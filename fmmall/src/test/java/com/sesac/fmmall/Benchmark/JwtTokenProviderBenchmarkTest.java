@@ -0,0 +1,98 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.Entity.User;
+import com.sesac.fmmall.Security.JwtTokenProvider;
+import com.sesac.fmmall.Security.TokenClaims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtTokenProvider 처리량 벤치마크 (스프링 컨텍스트 없이 실행)
+ * - 이전 방식 : validateToken + getUserId, 호출마다 parserBuilder().build() → 요청당 2번 파싱/서명 검증
+ * - 파싱 1회  : 싱글톤 파서 + getValidClaims (클레임 캐시 끔)
+ * - 캐시      : 싱글톤 파서 + 검증된 클레임 캐시 (같은 토큰 재사용)
+ * - 실행: ./gradlew test -Pbenchmark --tests "*JwtTokenProviderBenchmarkTest"
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtTokenProviderBenchmarkTest {
+
+    private static final String SECRET = "c3c1bb17a4e44793b49f8230dd9e2c93cbf02a0137b045fb";
+    private static final int TOKENS = 1_000;
+    private static final int WARMUP_CALLS = 10_000;
+    private static final int MEASURED_CALLS = 50_000;
+
+    @Test
+    @DisplayName("JWT 검증 처리량 - 이전 방식 vs 파싱 1회 vs 검증 캐시")
+    void tokenValidationThroughput() {
+        JwtTokenProvider uncached = provider(0);
+        JwtTokenProvider cached = provider(TOKENS);
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+        List<String> tokens = new ArrayList<>();
+        for (int i = 1; i <= TOKENS; i++) {
+            tokens.add(uncached.createToken(User.builder()
+                    .userId(i)
+                    .loginId("bench" + i)
+                    .role(UserRole.USER)
+                    .build()));
+        }
+
+        System.out.println("=== JWT 검증 " + MEASURED_CALLS + "회 (서로 다른 토큰 " + TOKENS + "개) ===");
+
+        double legacy = measure("이전 방식", tokens, token -> {
+            // 기존 validateToken() + getUserId() : 매번 파서를 새로 만들고 두 번 파싱
+            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return Jwts.parserBuilder().setSigningKey(key).build()
+                    .parseClaimsJws(token).getBody().get("userId", Integer.class);
+        });
+        double parseOnce = measure("파싱 1회", tokens, token -> userId(uncached.getValidClaims(token)));
+        double cache = measure("검증 캐시", tokens, token -> userId(cached.getValidClaims(token)));
+
+        assertThat(parseOnce).isGreaterThan(legacy);
+        assertThat(cache).isGreaterThan(parseOnce);
+    }
+
+    // 처리량(ops/s) 출력 후 반환
+    private double measure(String label, List<String> tokens, ToIntFunction<String> call) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink += call.applyAsInt(tokens.get(i % tokens.size()));
+        }
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            sink += call.applyAsInt(tokens.get(i % tokens.size()));
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        double opsPerSecond = MEASURED_CALLS / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-10s | %,12.0f ops/s | %8.2f us/op | (sink %d)%n",
+                label, opsPerSecond, elapsed / 1_000.0 / MEASURED_CALLS, sink);
+        return opsPerSecond;
+    }
+
+    private int userId(TokenClaims claims) {
+        return claims.userId();
+    }
+
+    private JwtTokenProvider provider(int cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKeyPlain", SECRET);
+        ReflectionTestUtils.setField(provider, "tokenValidityInSeconds", 3600L);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", cacheSize);
+        provider.init();
+        return provider;
+    }
+}
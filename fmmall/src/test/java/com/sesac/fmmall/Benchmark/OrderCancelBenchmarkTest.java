@@ -0,0 +1,285 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.CategoryRepository;
+import com.sesac.fmmall.Repository.UserRepository;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Service.OrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 취소 벤치마크 - 삭제 방식 vs 상태 변경 방식
+ * - 이전: 주문 엔티티 조회 → 환불/주문상품 지연 로딩 → 상품마다 재고 UPDATE → 결제 DELETE → 주문상품/주문 cascade DELETE
+ *   → 주문상품 수만큼 UPDATE / DELETE 가 늘어난다.
+ * - 현재: 취소 대상 확인 1번 + 상품별 수량 1번 + 주문 상태 UPDATE 1번 + 재고 복구 JDBC 배치 1번 (주문상품 수와 무관)
+ * - 주문상품 1 / 10 / 100 개짜리 주문의 취소 응답 시간 (평균 / p50 / p99) 과 Hibernate SQL 수를 출력한다.
+ *   (현재 방식의 재고 복구 배치는 JdbcTemplate 으로 나가므로 SQL 수에는 빠져 있다.)
+ * - 실행: ./gradlew test -Pbenchmark --tests "*OrderCancelBenchmarkTest"
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderCancelBenchmarkTest {
+
+    private static final int[] LINE_COUNTS = {1, 10, 100};
+    private static final int WARMUP = 5;
+    private static final int CANCELS = 30;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .loginId("bench-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("encoded-password")
+                .userName("BENCH 사용자")
+                .userPhone("010-0000-0000")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+        brand = brandRepository.save(Brand.builder().name("BENCH 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("BENCH 카테고리").build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        int userId = user.getUserId();
+        jdbcTemplate.update("DELETE FROM payment WHERE order_id IN (SELECT order_id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id IN (SELECT order_id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM product WHERE brand_id = ?", brand.getBrandId());
+        jdbcTemplate.update("DELETE FROM brand WHERE brand_id = ?", brand.getBrandId());
+        jdbcTemplate.update("DELETE FROM category WHERE category_id = ?", category.getCategoryId());
+        jdbcTemplate.update("DELETE FROM `user` WHERE user_id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("주문 취소 응답 시간 - 주문상품 1 / 10 / 100 개")
+    void cancelLatency() {
+        int userId = user.getUserId();
+
+        System.out.println("=== 주문 취소 (주문상품 수별 " + CANCELS + "건) ===");
+        System.out.printf("%6s | %-12s | %10s | %10s | %10s | %10s%n", "주문상품", "방식", "평균 ms", "p50 ms", "p99 ms", "SQL 수");
+
+        for (int lines : LINE_COUNTS) {
+            List<Integer> productIds = saveProducts(lines);
+            List<Integer> legacyOrders = saveOrders(productIds, WARMUP + CANCELS);
+            List<Integer> softOrders = saveOrders(productIds, WARMUP + CANCELS);
+
+            Measure legacy = measure(legacyOrders, this::legacyCancel);
+            Measure soft = measure(softOrders, orderId -> orderService.cancelOrder(orderId, userId));
+
+            print(lines, "이전 - 삭제", legacy);
+            print(lines, "현재 - 상태", soft);
+
+            // 현재 방식은 주문상품 수와 관계없이 같은 SQL 수, 이전 방식은 상품 수만큼 재고 UPDATE 가 나간다.
+            assertThat(soft.statements()).isLessThanOrEqualTo(3);
+            assertThat(legacy.statements()).isGreaterThanOrEqualTo(lines);
+            assertThat(countOrders(softOrders, "CANCELLED")).isEqualTo(softOrders.size());
+            assertThat(countOrders(legacyOrders, null)).isZero();
+        }
+    }
+
+    // ===================== 이전 구현 (비교용) ===================== //
+
+    private static final String LEGACY_INCREASE_STOCK_JPQL =
+            "UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity WHERE p.productId = :productId";
+
+    // 엔티티를 올려서 검사하고, 상품마다 재고를 복구한 뒤 결제/주문을 지우던 방식
+    private void legacyCancel(int orderId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = entityManager.find(Order.class, orderId);
+
+            if (!order.getRefunds().isEmpty()) {
+                throw new IllegalStateException("환불 이력이 있는 주문은 취소할 수 없습니다.");
+            }
+            LocalDate today = LocalDate.now();
+            boolean canCancel = order.getOrderItems().stream()
+                    .allMatch(item -> item.getDeliveryDate() == null || item.getDeliveryDate().isAfter(today));
+            if (!canCancel) {
+                throw new IllegalStateException("배송이 시작된 주문입니다.");
+            }
+
+            Map<Integer, Integer> quantityByProductId = new TreeMap<>();
+            for (OrderItem item : order.getOrderItems()) {
+                quantityByProductId.merge(item.getProduct().getProductId(), item.getQuantity(), Integer::sum);
+            }
+            entityManager.flush();
+            for (Map.Entry<Integer, Integer> entry : quantityByProductId.entrySet()) {
+                entityManager.createQuery(LEGACY_INCREASE_STOCK_JPQL)
+                        .setParameter("quantity", entry.getValue())
+                        .setParameter("productId", entry.getKey())
+                        .executeUpdate();
+            }
+
+            Payment payment = order.getPayment();
+            if (payment != null) {
+                entityManager.remove(payment);
+                order.setPayment(null);
+            }
+            entityManager.remove(order);
+        });
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private List<Integer> saveProducts(int count) {
+        List<Integer> productIds = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                Product product = Product.builder()
+                        .name("BENCH 취소 상품 " + count + "-" + i)
+                        .price(10_000)
+                        .stockQuantity(1_000_000)
+                        .isInstallationRequired("N")
+                        .productStatus(ProductStatus.ACTIVE)
+                        .modelName("BENCH-CANCEL-" + count + "-" + i)
+                        .brand(brand)
+                        .category(category)
+                        .build();
+                entityManager.persist(product);
+                productIds.add(product.getProductId());
+            }
+        });
+        return productIds;
+    }
+
+    // 상품마다 한 줄씩 담은 주문 count 개 (결제 포함)
+    private List<Integer> saveOrders(List<Integer> productIds, int count) {
+        List<Integer> orderIds = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int o = 0; o < count; o++) {
+                Order order = Order.builder()
+                        .receiverName("BENCH 수령인")
+                        .receiverPhone("010-0000-0000")
+                        .zipcode("12345")
+                        .address1("서울시 벤치구")
+                        .address2("1층")
+                        .totalPrice(0)
+                        .createdAt(LocalDateTime.now())
+                        .user(entityManager.getReference(User.class, user.getUserId()))
+                        .build();
+                for (int productId : productIds) {
+                    Product product = entityManager.getReference(Product.class, productId);
+                    OrderItem item = OrderItem.builder()
+                            .product(product)
+                            .productName("BENCH 취소 상품")
+                            .unitPrice(10_000)
+                            .quantity(1)
+                            .build();
+                    order.addOrderItem(item);
+                }
+                order.setTotalPrice(order.calculateTotalPrice());
+                entityManager.persist(order);
+                entityManager.persist(Payment.builder()
+                        .paymentMethodType("BENCH")
+                        .paidAt(LocalDateTime.now())
+                        .order(order)
+                        .build());
+                orderIds.add(order.getOrderId());
+            }
+        });
+        entityManager.clear();
+        return orderIds;
+    }
+
+    private Measure measure(List<Integer> orderIds, IntConsumer cancel) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < WARMUP; i++) {
+            cancel.accept(orderIds.get(i));
+        }
+
+        long[] latencies = new long[CANCELS];
+        statistics.clear();
+        for (int i = 0; i < CANCELS; i++) {
+            long begin = System.nanoTime();
+            cancel.accept(orderIds.get(WARMUP + i));
+            latencies[i] = System.nanoTime() - begin;
+        }
+        long statements = statistics.getPrepareStatementCount() / CANCELS;
+
+        Arrays.sort(latencies);
+        return new Measure(Arrays.stream(latencies).average().orElse(0) / 1_000_000.0,
+                latencies[CANCELS / 2] / 1_000_000.0,
+                latencies[(int) (CANCELS * 0.99)] / 1_000_000.0,
+                statements);
+    }
+
+    private int countOrders(List<Integer> orderIds, String status) {
+        String placeholders = String.join(",", orderIds.stream().map(id -> "?").toList());
+        String sql = "SELECT COUNT(*) FROM orders WHERE order_id IN (" + placeholders + ")"
+                + (status != null ? " AND order_status = '" + status + "'" : "");
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, orderIds.toArray());
+        return count != null ? count : 0;
+    }
+
+    private void print(int lines, String label, Measure measure) {
+        System.out.printf("%6d | %-12s | %10.3f | %10.3f | %10.3f | %10d%n",
+                lines, label, measure.avgMillis(), measure.p50Millis(), measure.p99Millis(), measure.statements());
+    }
+
+    private record Measure(double avgMillis, double p50Millis, double p99Millis, long statements) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.CategoryRepository;
+import com.sesac.fmmall.Repository.ProductRepository;
+import com.sesac.fmmall.Repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 1건을 저장할 때 나가는 INSERT 문 수 벤치마크
+ * - IDENTITY 였을 때는 행마다 INSERT 를 따로 보내야 해서 주문상품 N개 주문 = N + 2 문장이었다.
+ * - BlockId + hibernate.jdbc.batch_size 적용 후에는 테이블마다 배치 1번 (orders / order_item / payment = 3 문장)
+ * - 실행: ./gradlew test -Pbenchmark --tests "*OrderInsertBatchBenchmarkTest"
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderInsertBatchBenchmarkTest {
+
+    private static final int[] ITEM_COUNTS = {1, 10, 50};
+    private static final int WARMUP_ORDERS = 20;
+    private static final int MEASURED_ORDERS = 200;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .loginId("bench-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("encoded-password")
+                .userName("BENCH 사용자")
+                .userPhone("010-0000-0000")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        brand = brandRepository.save(Brand.builder().name("BENCH 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("BENCH 카테고리").build());
+        product = productRepository.save(Product.builder()
+                .name("BENCH 상품")
+                .price(10_000)
+                .stockQuantity(1_000_000)
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .modelName("BENCH-ORDER")
+                .brand(brand)
+                .category(category)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        int userId = user.getUserId();
+        jdbcTemplate.update("DELETE FROM payment WHERE order_id IN (SELECT order_id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id IN (SELECT order_id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", product.getProductId());
+        jdbcTemplate.update("DELETE FROM brand WHERE brand_id = ?", brand.getBrandId());
+        jdbcTemplate.update("DELETE FROM category WHERE category_id = ?", category.getCategoryId());
+        jdbcTemplate.update("DELETE FROM `user` WHERE user_id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("주문 저장 - 주문상품 수(1 / 10 / 50)별 INSERT 문 수와 주문당 저장 시간")
+    void insertStatementsPerOrder() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        System.out.println("=== 주문 1건 저장 시 INSERT 문 수 ===");
+        System.out.printf("%8s | %14s | %14s | %12s%n", "주문상품", "IDENTITY(이전)", "배치(현재)", "주문당 ms");
+
+        for (int itemCount : ITEM_COUNTS) {
+            for (int i = 0; i < WARMUP_ORDERS; i++) {
+                saveOrder(itemCount);
+            }
+
+            statistics.clear();
+            long begin = System.nanoTime();
+            for (int i = 0; i < MEASURED_ORDERS; i++) {
+                saveOrder(itemCount);
+            }
+            long elapsed = System.nanoTime() - begin;
+
+            double statementsPerOrder = (double) statistics.getPrepareStatementCount() / MEASURED_ORDERS;
+            System.out.printf("%8d | %14d | %14.1f | %12.3f%n",
+                    itemCount, itemCount + 2, statementsPerOrder, elapsed / 1_000_000.0 / MEASURED_ORDERS);
+
+            // 주문상품 수와 관계없이 테이블당 한 문장
+            assertThat(statementsPerOrder).isLessThanOrEqualTo(3.0);
+        }
+    }
+
+    // 주문 + 주문상품 N개 + 결제를 한 트랜잭션에서 저장 (조회/재고 UPDATE 없이 INSERT 만 측정)
+    private void saveOrder(int itemCount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = Order.builder()
+                    .receiverName("BENCH 수령인")
+                    .receiverPhone("010-0000-0000")
+                    .zipcode("12345")
+                    .address1("서울시 벤치구")
+                    .address2("1층")
+                    .totalPrice(product.getPrice() * itemCount)
+                    .createdAt(LocalDateTime.now())
+                    .user(entityManager.getReference(User.class, user.getUserId()))
+                    .build();
+
+            Product productRef = entityManager.getReference(Product.class, product.getProductId());
+            for (int i = 0; i < itemCount; i++) {
+                order.addOrderItem(OrderItem.builder()
+                        .product(productRef)
+                        .quantity(1)
+                        .build());
+            }
+            entityManager.persist(order);
+
+            entityManager.persist(Payment.builder()
+                    .paymentMethodType("BENCH")
+                    .paidAt(LocalDateTime.now())
+                    .order(order)
+                    .build());
+        });
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,246 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.Order.OrderSummaryResponse;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.CategoryRepository;
+import com.sesac.fmmall.Repository.UserRepository;
+import com.sesac.fmmall.Service.OrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 내역 화면 조회 벤치마크 - 상품을 읽어서 그리기 vs 주문상품 스냅샷으로 그리기
+ * - 이전 (지연 로딩): 주문 + 주문상품을 읽고 상품명/가격은 Product 에서 → 상품 수만큼 SQL 이 더 나간다.
+ * - 이전 (fetch join): 주문 + 주문상품 + 상품을 한 쿼리로 → SQL 은 1번이지만 product 를 조인하고 상품 엔티티를 모두 올린다.
+ * - 현재: 주문 + 주문상품만 읽고 주문상품의 상품명/단가 스냅샷을 쓴다. (product 조인 없음)
+ * - 커서 기반 주문 내역 한 페이지 (주문 목록 1번 + 상품명 1번) 도 함께 측정
+ * - 실행: ./gradlew test -Pbenchmark --tests "*OrderItemSnapshotBenchmarkTest"
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderItemSnapshotBenchmarkTest {
+
+    private static final int ORDERS = 50;
+    private static final int LINES_PER_ORDER = 5;
+    private static final int PAGE_SIZE = 20;
+    private static final int CALLS = 50;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .loginId("bench-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("encoded-password")
+                .userName("BENCH 사용자")
+                .userPhone("010-0000-0000")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+        brand = brandRepository.save(Brand.builder().name("BENCH 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("BENCH 카테고리").build());
+
+        // 주문마다 서로 다른 상품 LINES_PER_ORDER 개 (주문상품 스냅샷 포함)
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int o = 0; o < ORDERS; o++) {
+                Order order = Order.builder()
+                        .receiverName("BENCH 수령인")
+                        .receiverPhone("010-0000-0000")
+                        .zipcode("12345")
+                        .address1("서울시 벤치구")
+                        .address2("1층")
+                        .totalPrice(0)
+                        .createdAt(LocalDateTime.now())
+                        .user(entityManager.getReference(User.class, user.getUserId()))
+                        .build();
+                for (int l = 0; l < LINES_PER_ORDER; l++) {
+                    Product product = Product.builder()
+                            .name("BENCH 상품 " + o + "-" + l)
+                            .price(10_000 + l)
+                            .stockQuantity(100)
+                            .isInstallationRequired("N")
+                            .productStatus(ProductStatus.ACTIVE)
+                            .modelName("BENCH-SNAP-" + o + "-" + l)
+                            .brand(brand)
+                            .category(category)
+                            .build();
+                    entityManager.persist(product);
+
+                    OrderItem item = OrderItem.builder()
+                            .product(product)
+                            .quantity(1)
+                            .build();
+                    item.captureSnapshot(product);
+                    order.addOrderItem(item);
+                }
+                order.setTotalPrice(order.calculateTotalPrice());
+                entityManager.persist(order);
+                entityManager.persist(Payment.builder()
+                        .paymentMethodType("BENCH")
+                        .paidAt(LocalDateTime.now())
+                        .order(order)
+                        .build());
+            }
+        });
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        int userId = user.getUserId();
+        jdbcTemplate.update("DELETE FROM payment WHERE order_id IN (SELECT order_id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id IN (SELECT order_id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM product WHERE brand_id = ?", brand.getBrandId());
+        jdbcTemplate.update("DELETE FROM brand WHERE brand_id = ?", brand.getBrandId());
+        jdbcTemplate.update("DELETE FROM category WHERE category_id = ?", category.getCategoryId());
+        jdbcTemplate.update("DELETE FROM `user` WHERE user_id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 - 상품을 읽어서 그리기 vs 주문상품 스냅샷")
+    void orderHistoryRendering() {
+        int userId = user.getUserId();
+
+        List<OrderSummaryResponse> snapshot = orderService.getOrdersByUser(userId);
+        assertThat(snapshot).hasSize(ORDERS);
+        assertThat(snapshot).allSatisfy(summary -> assertThat(summary.getProductNames()).hasSize(LINES_PER_ORDER));
+
+        Measure lazy = measure(() -> transactionTemplate.execute(status -> renderFromProduct(LEGACY_LAZY_SQL, userId)));
+        Measure fetchJoin = measure(() -> transactionTemplate.execute(status -> renderFromProduct(LEGACY_FETCH_JOIN_SQL, userId)));
+        Measure current = measure(() -> orderService.getOrdersByUser(userId));
+        Measure page = measure(() -> orderService.getOrderHistory(userId, null, PAGE_SIZE));
+
+        System.out.printf("=== 주문 내역 조회 (주문 %d건 x 주문상품 %d개) ===%n", ORDERS, LINES_PER_ORDER);
+        System.out.printf("%-20s | %12s | %10s | %12s%n", "방식", "호출당 ms", "SQL 수", "로딩 엔티티");
+        print("이전 - 상품 지연 로딩", lazy);
+        print("이전 - 상품 fetch join", fetchJoin);
+        print("스냅샷 - 전체 목록", current);
+        print("스냅샷 - 커서 한 페이지", page);
+
+        // 스냅샷은 상품 수와 관계없이 고정된 SQL 수, 상품 엔티티를 올리지 않는다.
+        assertThat(lazy.statements()).isGreaterThanOrEqualTo(1 + ORDERS * LINES_PER_ORDER);
+        assertThat(current.statements()).isEqualTo(1);
+        assertThat(page.statements()).isEqualTo(2);
+        assertThat(current.entities()).isLessThan(fetchJoin.entities());
+    }
+
+    // ===================== 이전 구현 (비교용) ===================== //
+
+    private static final String LEGACY_LAZY_SQL =
+            "SELECT DISTINCT o FROM Order o " +
+            "LEFT JOIN FETCH o.payment " +
+            "LEFT JOIN FETCH o.orderItems " +
+            "WHERE o.user.userId = :userId ORDER BY o.orderId";
+
+    private static final String LEGACY_FETCH_JOIN_SQL =
+            "SELECT DISTINCT o FROM Order o " +
+            "LEFT JOIN FETCH o.payment " +
+            "LEFT JOIN FETCH o.orderItems oi " +
+            "LEFT JOIN FETCH oi.product " +
+            "WHERE o.user.userId = :userId ORDER BY o.orderId";
+
+    // 상품명/가격을 Product 에서 읽던 방식
+    private List<OrderSummaryResponse> renderFromProduct(String jpql, int userId) {
+        List<Order> orders = entityManager.createQuery(jpql, Order.class)
+                .setParameter("userId", userId)
+                .getResultList();
+
+        List<OrderSummaryResponse> summaries = new ArrayList<>();
+        for (Order order : orders) {
+            int totalPrice = 0;
+            List<String> names = new ArrayList<>();
+            for (OrderItem item : order.getOrderItems()) {
+                names.add(item.getProduct().getName());
+                totalPrice += item.getProduct().getPrice() * item.getQuantity();
+            }
+            summaries.add(OrderSummaryResponse.builder()
+                    .orderId(order.getOrderId())
+                    .totalPrice(totalPrice)
+                    .createdAt(order.getCreatedAt())
+                    .productNames(names)
+                    .build());
+        }
+        return summaries;
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private Measure measure(Supplier<?> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        call.get();   // 워밍업
+        statistics.clear();
+        long begin = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            call.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        return new Measure(elapsed / 1_000_000.0 / CALLS,
+                statistics.getPrepareStatementCount() / CALLS,
+                statistics.getEntityLoadCount() / CALLS);
+    }
+
+    private void print(String label, Measure measure) {
+        System.out.printf("%-20s | %12.3f | %10d | %12d%n",
+                label, measure.millis(), measure.statements(), measure.entities());
+    }
+
+    private record Measure(double millis, long statements, long entities) {
+    }
+}
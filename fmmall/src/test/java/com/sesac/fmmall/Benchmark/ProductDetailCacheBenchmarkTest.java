@@ -0,0 +1,213 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.DTO.Cache.CacheStatsResponse;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.Entity.Brand;
+import com.sesac.fmmall.Entity.Category;
+import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.CategoryRepository;
+import com.sesac.fmmall.Repository.ProductRepository;
+import com.sesac.fmmall.Service.ProductDetailCache;
+import com.sesac.fmmall.Service.ProductService;
+import com.sesac.fmmall.Service.StockReservationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 상세 조회 부하 테스트 (캐시 전 / 후 지연 시간 분포)
+ * - READERS 개 스레드가 상품 상세를 계속 조회 (80% 는 상위 20% 인기 상품)
+ * - 그동안 주문 스레드 1개가 인기 상품 재고를 계속 차감 → 캐시 무효화가 섞인 상태에서 측정
+ * - 이전: 매번 productRepository.findById + DTO 변환 / 현재: ProductService (ProductDetailCache)
+ * - 실행: ./gradlew test -Pbenchmark --tests "*ProductDetailCacheBenchmarkTest"
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductDetailCacheBenchmarkTest {
+
+    private static final int PRODUCTS = 200;
+    private static final int READERS = 8;
+    private static final int WARMUP_CALLS = 2_000;
+    private static final int CALLS_PER_READER = 10_000;
+    private static final long ORDER_INTERVAL_MILLIS = 2;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductDetailCache productDetailCache;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private Brand brand;
+    private Category category;
+    private final List<Integer> productIds = new ArrayList<>();
+    private volatile int orderCount;
+
+    @BeforeEach
+    void setUp() {
+        brand = brandRepository.save(Brand.builder().name("BENCH 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("BENCH 카테고리").build());
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(Product.builder()
+                    .name("BENCH 상세 상품 " + i)
+                    .price(10_000 + i)
+                    .stockQuantity(10_000_000)
+                    .isInstallationRequired("N")
+                    .productStatus(ProductStatus.ACTIVE)
+                    .modelName("BENCH-DETAIL-" + i)
+                    .brand(brand)
+                    .category(category)
+                    .build());
+        }
+        productRepository.saveAll(products).forEach(p -> productIds.add(p.getProductId()));
+        productDetailCache.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAllById(productIds);
+        categoryRepository.deleteById(category.getCategoryId());
+        brandRepository.deleteById(brand.getBrandId());
+        productDetailCache.clear();
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 p50 / p99 - DB 직접 조회 vs 상세 캐시 (재고 차감 동시 진행)")
+    void productDetailLatency() throws Exception {
+        IntFunction<ProductResponseDTO> direct = productId -> ProductResponseDTO.from(
+                productRepository.findById(productId).orElseThrow());
+        IntFunction<ProductResponseDTO> cached = productService::findProductByProductId;
+
+        Result before = run(direct);
+        Result after = run(cached);
+        CacheStatsResponse stats = productDetailCache.stats();
+
+        System.out.printf("=== 상품 상세 조회 (스레드 %d개 x %d회, 재고 차감 %dms 간격) ===%n",
+                READERS, CALLS_PER_READER, ORDER_INTERVAL_MILLIS);
+        System.out.printf("%-10s | %10s | %10s | %10s | %12s | %8s%n", "방식", "p50 us", "p99 us", "max us", "처리량 ops/s", "재고차감");
+        print("DB 직접", before);
+        print("상세 캐시", after);
+        System.out.printf("캐시 적중률 %.3f (hit %d / miss %d), 무효화 %d, 용량 초과 제거 %d%n",
+                stats.getHitRate(), stats.getHitCount(), stats.getMissCount(),
+                stats.getInvalidationCount(), stats.getEvictionCount());
+
+        assertThat(after.percentile(99)).isLessThan(before.percentile(99));
+        assertThat(stats.getHitRate()).isGreaterThan(0.5);
+    }
+
+    private Result run(IntFunction<ProductResponseDTO> lookup) throws Exception {
+        // 워밍업 (JIT / 커넥션 풀 / 캐시 채우기)
+        Random warmupRandom = new Random(1);
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            lookup.apply(pick(warmupRandom));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread orderThread = new Thread(() -> {
+            Random random = new Random(2);
+            int orders = 0;
+            while (running.get()) {
+                int productId = pick(random);
+                transactionTemplate.executeWithoutResult(status ->
+                        stockReservationService.reserve(Map.of(productId, 1)));
+                orders++;
+                try {
+                    Thread.sleep(ORDER_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            orderCount = orders;
+        });
+
+        ExecutorService readers = Executors.newFixedThreadPool(READERS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        orderThread.start();
+        long begin = System.nanoTime();
+        for (int r = 0; r < READERS; r++) {
+            int seed = 100 + r;
+            futures.add(readers.submit(() -> {
+                Random random = new Random(seed);
+                long[] latencies = new long[CALLS_PER_READER];
+                for (int i = 0; i < CALLS_PER_READER; i++) {
+                    int productId = pick(random);
+                    long start = System.nanoTime();
+                    lookup.apply(productId);
+                    latencies[i] = System.nanoTime() - start;
+                }
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[READERS * CALLS_PER_READER];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        long elapsed = System.nanoTime() - begin;
+        readers.shutdown();
+        running.set(false);
+        orderThread.join();
+
+        Arrays.sort(all);
+        return new Result(all, all.length * 1_000_000_000.0 / elapsed, orderCount);
+    }
+
+    // 80% 는 상위 20% 상품, 나머지는 전체에서 고르게
+    private int pick(Random random) {
+        int hot = PRODUCTS / 5;
+        int index = random.nextInt(10) < 8 ? random.nextInt(hot) : random.nextInt(PRODUCTS);
+        return productIds.get(index);
+    }
+
+    private void print(String label, Result result) {
+        System.out.printf("%-10s | %10.1f | %10.1f | %10.1f | %12.0f | %8d%n", label,
+                result.percentile(50) / 1_000.0, result.percentile(99) / 1_000.0,
+                result.sorted()[result.sorted().length - 1] / 1_000.0, result.throughput(), result.orders());
+    }
+
+    private record Result(long[] sorted, double throughput, int orders) {
+        long percentile(int p) {
+            int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
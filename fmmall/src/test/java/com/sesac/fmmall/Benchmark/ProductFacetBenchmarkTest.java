@@ -0,0 +1,238 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.DTO.Product.ProductFacetRequestDTO;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.Entity.Brand;
+import com.sesac.fmmall.Entity.Category;
+import com.sesac.fmmall.Entity.RowCategory;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.CategoryRepository;
+import com.sesac.fmmall.Repository.RowCategoryRepository;
+import com.sesac.fmmall.Service.ProductSearchIndex;
+import com.sesac.fmmall.Service.ProductSearchService;
+import com.sesac.fmmall.Service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 사이드바 패싯 집계 벤치마크 (브랜드 / 하위 카테고리 / 가격대별 상품 수)
+ * - 기존: /Product/findAll 로 전체 상품을 받아 프론트에서 세는 방식 (여기서는 같은 일을 자바로)
+ * - GROUP BY: 패싯마다 집계 SQL 1번 (총 4번)
+ * - 스냅샷: ProductFacetSnapshot 의 int 배열만 훑기 (DB 조회 없음)
+ * - BENCH- 접두어 상품을 100k → 250k 까지 누적으로 넣어가며 측정한다.
+ * - 실행: ./gradlew test -Pbenchmark --tests "*ProductFacetBenchmarkTest"
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductFacetBenchmarkTest {
+
+    private static final int[] PRODUCT_COUNTS = {100_000, 250_000};
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final int BRANDS = 8;
+    private static final int ROW_CATEGORIES = 6;
+    private static final int FIND_ALL_ROUNDS = 3;
+    private static final int GROUP_BY_ROUNDS = 10;
+    private static final int SNAPSHOT_ROUNDS = 200;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void cleanUp() {
+        // 한 번에 지우면 undo 로그가 커지므로 나눠서 삭제
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM product WHERE model_name LIKE 'BENCH-%' LIMIT " + INSERT_BATCH_SIZE);
+        } while (deleted > 0);
+        jdbcTemplate.update("DELETE FROM row_category WHERE row_category_name LIKE 'BENCH %'");
+        jdbcTemplate.update("DELETE FROM category WHERE category_name LIKE 'BENCH %'");
+        jdbcTemplate.update("DELETE FROM brand WHERE brand_name LIKE 'BENCH %'");
+        productSearchService.rebuildIndex();
+    }
+
+    @Test
+    @DisplayName("목록 패싯 집계 - findAll 후 세기 vs GROUP BY vs 메모리 스냅샷 (100k / 250k)")
+    void facetCounts() {
+        Category category = categoryRepository.save(Category.builder().name("BENCH 카테고리").build());
+        List<Integer> brandIds = new ArrayList<>();
+        for (int i = 0; i < BRANDS; i++) {
+            brandIds.add(brandRepository.save(Brand.builder().name("BENCH 브랜드 " + i).build()).getBrandId());
+        }
+        List<Integer> rowCategoryIds = new ArrayList<>();
+        for (int i = 0; i < ROW_CATEGORIES; i++) {
+            rowCategoryIds.add(rowCategoryRepository.save(RowCategory.builder()
+                    .name("BENCH 하위 카테고리 " + i).category(category).build()).getRowCategoryId());
+        }
+
+        // 사이드바에서 브랜드 하나 + 가격 상한을 고른 상태
+        ProductFacetRequestDTO request = ProductFacetRequestDTO.builder()
+                .categoryId(category.getCategoryId())
+                .brandId(brandIds.get(0))
+                .maxPrice(1_000_000)
+                .build();
+
+        int seeded = 0;
+        for (int target : PRODUCT_COUNTS) {
+            seedProducts(seeded, target, category, brandIds, rowCategoryIds);
+            seeded = target;
+
+            long rebuildStart = System.nanoTime();
+            productSearchService.rebuildIndex();
+            long rebuildMillis = (System.nanoTime() - rebuildStart) / 1_000_000;
+
+            Measured findAll = measure(FIND_ALL_ROUNDS, round -> countFromFindAll(withMaxPrice(request, round)));
+            Measured groupBy = measure(GROUP_BY_ROUNDS, round -> countWithGroupBy(withMaxPrice(request, round)));
+            Measured snapshot = measure(SNAPSHOT_ROUNDS, round ->
+                    productSearchService.countFacets(withMaxPrice(request, round)).getTotalCount());
+
+            System.out.printf("=== 상품 %,d 개 (재색인 %,d ms) ===%n", target, rebuildMillis);
+            System.out.printf("%-20s | %10s | %10s | %10s%n", "방식", "p50 ms", "max ms", "일치 상품");
+            print("findAll 후 세기", findAll);
+            print("GROUP BY 4회", groupBy);
+            print("메모리 스냅샷", snapshot);
+
+            assertThat(snapshot.total()).isEqualTo(groupBy.total()).isEqualTo(findAll.total());
+            assertThat(snapshot.percentile(50)).isLessThan(findAll.percentile(50));
+        }
+    }
+
+    // 기존 방식: 전체 상품 DTO 를 받아 필터 + 브랜드 / 가격대 집계 (응답 DTO 에 하위 카테고리가 없어 그건 못 센다)
+    private int countFromFindAll(ProductFacetRequestDTO request) {
+        int[] bounds = ProductSearchIndex.PRICE_RANGE_BOUNDS;
+        Map<Integer, Integer> brandCounts = new HashMap<>();
+        int[] priceRangeCounts = new int[bounds.length];
+        int total = 0;
+        for (ProductResponseDTO product : productService.findAllProducts()) {
+            if (product.getCategoryId() != request.getCategoryId()) {
+                continue;
+            }
+            boolean brandOk = product.getBrandId() == request.getBrandId();
+            boolean priceOk = product.getProductPrice() <= request.getMaxPrice();
+            if (priceOk) {
+                brandCounts.merge(product.getBrandId(), 1, Integer::sum);
+            }
+            if (brandOk) {
+                int range = 0;
+                while (range + 1 < bounds.length && product.getProductPrice() >= bounds[range + 1]) {
+                    range++;
+                }
+                priceRangeCounts[range]++;
+            }
+            if (brandOk && priceOk) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    // 패싯마다 자기 필터만 빼고 GROUP BY
+    private int countWithGroupBy(ProductFacetRequestDTO request) {
+        int categoryId = request.getCategoryId();
+        int brandId = request.getBrandId();
+        int maxPrice = request.getMaxPrice();
+
+        jdbcTemplate.queryForList("SELECT brand_id, COUNT(*) FROM product " +
+                "WHERE category_id = ? AND product_price <= ? GROUP BY brand_id", categoryId, maxPrice);
+        jdbcTemplate.queryForList("SELECT row_category_id, COUNT(*) FROM product " +
+                "WHERE category_id = ? AND brand_id = ? AND product_price <= ? GROUP BY row_category_id",
+                categoryId, brandId, maxPrice);
+        jdbcTemplate.queryForList("SELECT CASE WHEN product_price >= 3000000 THEN 4 WHEN product_price >= 1000000 THEN 3 " +
+                "WHEN product_price >= 500000 THEN 2 WHEN product_price >= 100000 THEN 1 ELSE 0 END AS price_range, " +
+                "COUNT(*) FROM product WHERE category_id = ? AND brand_id = ? GROUP BY price_range", categoryId, brandId);
+        Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product " +
+                "WHERE category_id = ? AND brand_id = ? AND product_price <= ?", Integer.class, categoryId, brandId, maxPrice);
+        return total != null ? total : 0;
+    }
+
+    // 회차마다 가격 상한을 조금씩 바꾼다. (같은 SQL 결과를 DB 가 재사용하지 않도록)
+    private ProductFacetRequestDTO withMaxPrice(ProductFacetRequestDTO request, int round) {
+        return ProductFacetRequestDTO.builder()
+                .categoryId(request.getCategoryId())
+                .brandId(request.getBrandId())
+                .maxPrice(request.getMaxPrice() - round * 1_000)
+                .build();
+    }
+
+    private Measured measure(int rounds, IntFunction<Integer> action) {
+        int total = action.apply(0);   // 워밍업 (원래 조건의 결과 수를 표에 찍는다)
+        long[] latencies = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            action.apply(i + 1);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return new Measured(latencies, total);
+    }
+
+    private void print(String label, Measured measured) {
+        System.out.printf("%-20s | %10.3f | %10.3f | %,10d%n", label,
+                measured.percentile(50) / 1_000_000.0,
+                measured.sorted()[measured.sorted().length - 1] / 1_000_000.0, measured.total());
+    }
+
+    private void seedProducts(int from, int to, Category category, List<Integer> brandIds, List<Integer> rowCategoryIds) {
+        String sql = "INSERT INTO product (product_name, product_price, stock_quantity, description, " +
+                "is_installation_required, product_status, model_name, brand_id, category_id, row_category_id) " +
+                "VALUES (?, ?, ?, ?, 'N', 'ACTIVE', ?, ?, ?, ?)";
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = from; i < to; i++) {
+            batch.add(new Object[]{
+                    "BENCH 패싯 상품 " + i,
+                    10_000 + (i * 7919 % 3_000_000),
+                    100,
+                    "벤치마크용 상품입니다.",
+                    "BENCH-" + i,
+                    brandIds.get(i % brandIds.size()),
+                    category.getCategoryId(),
+                    rowCategoryIds.get(i % rowCategoryIds.size())
+            });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private record Measured(long[] sorted, int total) {
+        long percentile(int p) {
+            int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
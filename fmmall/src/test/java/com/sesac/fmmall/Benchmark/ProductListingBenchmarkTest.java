@@ -0,0 +1,159 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Constant.ProductSortType;
+import com.sesac.fmmall.DTO.Product.ProductSearchConditionDTO;
+import com.sesac.fmmall.DTO.Product.ProductSliceResponseDTO;
+import com.sesac.fmmall.Entity.Brand;
+import com.sesac.fmmall.Entity.Category;
+import com.sesac.fmmall.Entity.RowCategory;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.CategoryRepository;
+import com.sesac.fmmall.Repository.RowCategoryRepository;
+import com.sesac.fmmall.Service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 /Product/findAll(전체 로딩) 과 커서 기반 /Product/list 비교 벤치마크.
+ * - 실제 MySQL 에 BENCH- 접두어 상품을 10k → 100k → 1M 까지 누적으로 넣어가며 측정한다.
+ * - 실행: ./gradlew test -Pbenchmark --tests "*ProductListingBenchmarkTest"
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductListingBenchmarkTest {
+
+    private static final int[] PRODUCT_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGES = 50;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM product WHERE model_name LIKE 'BENCH-%'");
+        jdbcTemplate.update("DELETE FROM row_category WHERE row_category_name LIKE 'BENCH %'");
+        jdbcTemplate.update("DELETE FROM category WHERE category_name LIKE 'BENCH %'");
+        jdbcTemplate.update("DELETE FROM brand WHERE brand_name LIKE 'BENCH %'");
+    }
+
+    @Test
+    @DisplayName("상품 목록 - findAll 전체 로딩 vs 커서 기반 목록 조회 (10k / 100k / 1M)")
+    void findAll_vs_keysetSlice() {
+        Brand brand = brandRepository.save(Brand.builder().name("BENCH 브랜드").build());
+        Category category = categoryRepository.save(Category.builder().name("BENCH 카테고리").build());
+        RowCategory rowCategory = rowCategoryRepository.save(
+                RowCategory.builder().name("BENCH 하위 카테고리").category(category).build());
+
+        int seeded = 0;
+        for (int target : PRODUCT_COUNTS) {
+            seedProducts(seeded, target, brand, category, rowCategory);
+            seeded = target;
+
+            // 1) 기존 방식: 전체 상품을 읽어서 DTO 로 변환
+            long findAllNanos;
+            try {
+                long start = System.nanoTime();
+                int size = productService.findAllProducts().size();
+                findAllNanos = System.nanoTime() - start;
+                assertThat(size).isGreaterThanOrEqualTo(target);
+            } catch (OutOfMemoryError e) {
+                findAllNanos = -1;
+            }
+
+            // 2) 커서 방식: 첫 페이지
+            ProductSearchConditionDTO firstPage = ProductSearchConditionDTO.builder()
+                    .categoryId(category.getCategoryId())
+                    .sort(ProductSortType.LATEST)
+                    .size(PAGE_SIZE)
+                    .build();
+
+            long start = System.nanoTime();
+            ProductSliceResponseDTO slice = productService.findProductSlice(firstPage);
+            long firstPageNanos = System.nanoTime() - start;
+            assertThat(slice.getProducts()).hasSize(PAGE_SIZE);
+
+            // 3) 커서 방식: 50페이지 연속 (OFFSET 이었다면 뒤로 갈수록 느려지는 구간)
+            start = System.nanoTime();
+            for (int i = 0; i < DEEP_PAGES && slice.isHasNext(); i++) {
+                slice = productService.findProductSlice(ProductSearchConditionDTO.builder()
+                        .categoryId(category.getCategoryId())
+                        .sort(ProductSortType.PRICE_ASC)
+                        .minPrice(100_000)
+                        .size(PAGE_SIZE)
+                        .cursor(i == 0 ? null : slice.getNextCursor())
+                        .build());
+            }
+            long deepPagesNanos = System.nanoTime() - start;
+
+            System.out.printf("=== 상품 %,d 개 ===%n", target);
+            System.out.printf("findAll (전체 로딩)          : %s%n",
+                    findAllNanos < 0 ? "OutOfMemoryError" : (findAllNanos / 1_000_000) + " ms");
+            System.out.printf("list 첫 페이지 (%d개)        : %.2f ms%n", PAGE_SIZE, firstPageNanos / 1_000_000.0);
+            System.out.printf("list 가격순 %d페이지 연속 평균 : %.2f ms%n",
+                    DEEP_PAGES, deepPagesNanos / 1_000_000.0 / DEEP_PAGES);
+        }
+    }
+
+    private void seedProducts(int from, int to, Brand brand, Category category, RowCategory rowCategory) {
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+        String sql = "INSERT INTO product (product_name, product_price, stock_quantity, description, " +
+                "is_installation_required, product_status, model_name, created_at, updated_at, " +
+                "brand_id, category_id, row_category_id) VALUES (?, ?, ?, ?, 'N', 'ACTIVE', ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = from; i < to; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i * 30L));
+            batch.add(new Object[]{
+                    "BENCH 상품 " + i,
+                    10_000 + (i * 7919 % 3_000_000),
+                    100,
+                    "벤치마크용 상품입니다.",
+                    "BENCH-" + i,
+                    createdAt,
+                    createdAt,
+                    brand.getBrandId(),
+                    category.getCategoryId(),
+                    rowCategory.getRowCategoryId()
+            });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+}
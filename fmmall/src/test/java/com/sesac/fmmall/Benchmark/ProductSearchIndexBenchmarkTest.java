@@ -0,0 +1,204 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Service.ProductSearchIndex;
+import com.sesac.fmmall.Service.ProductSearchIndex.Document;
+import com.sesac.fmmall.Service.ProductSearchIndex.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 검색 색인 벤치마크 (상품 100만 개, 스프링/DB 없이 색인만)
+ * - 색인 생성 시간 / 색인 메모리 / 검색 p50·p99 를 잰다.
+ * - 비교 대상: 지금 프론트에서 하는 것처럼 전체 상품 문자열을 contains 로 훑는 방식 (필터 + 패싯 포함)
+ * - 실행: ./gradlew test -Pbenchmark --tests "*ProductSearchIndexBenchmarkTest"
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductSearchIndexBenchmarkTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int CATEGORIES = 12;
+    private static final int BRANDS = 40;
+    private static final int INDEX_ROUNDS = 30;
+    private static final int SCAN_ROUNDS = 2;
+    private static final int UPDATES = 20_000;
+
+    private static final String[] MAKERS = {"삼성", "LG", "위니아", "쿠쿠", "캐리어", "다이슨", "필립스", "샤오미"};
+    private static final String[] SERIES = {"비스포크", "오브제", "그램", "갤럭시북", "트롬", "휘센", "디오스", "제트", "퓨리케어", "그랑데"};
+    private static final String[] TYPES = {"냉장고", "세탁기", "건조기", "에어컨", "노트북", "모니터", "청소기", "공기청정기",
+            "전자레인지", "식기세척기", "TV", "제습기"};
+    private static final String[] FEATURES = {"대용량", "초슬림", "저소음", "인버터", "스마트", "프리미엄", "미니", "올인원",
+            "무선", "고효율", "듀얼", "살균", "자동세척", "AI", "블루투스"};
+
+    private static final List<Query> QUERIES = List.of(
+            new Query("냉장고", null, null, null, null, 20),
+            new Query("비스포크 냉장고", null, null, null, null, 20),
+            new Query("갤럭시북 노트북", null, 3, null, null, 20),
+            new Query("저소음 인버터 에어컨", null, null, 500_000, 2_000_000, 20),
+            new Query("무선 청소기", 6, null, null, null, 20),
+            new Query("휘센 제습기 살균", null, null, null, null, 20),
+            new Query("자동세척 식기세척기", null, null, null, 1_000_000, 20),
+            new Query("ai 공기청정기", null, null, null, null, 20),
+            new Query("트롬 건조기 듀얼", null, 1, null, null, 20),
+            new Query("ab-12", null, null, null, null, 20),
+            new Query("없는상품명", null, null, null, null, 20),
+            new Query("", 2, 5, null, null, 20));
+
+    @Test
+    @DisplayName("상품 100만 개 - 색인 생성 시간 / 메모리, 검색 p50·p99 (전체 contains 스캔 vs 역색인)")
+    void searchLatency() {
+        // 비교용 전체 스캔 데이터 (소문자로 합친 문자열 + 필터 컬럼)
+        String[] texts = new String[PRODUCTS];
+        int[] categoryIds = new int[PRODUCTS];
+        int[] brandIds = new int[PRODUCTS];
+        int[] prices = new int[PRODUCTS];
+        Random random = new Random(42);
+        for (int i = 0; i < PRODUCTS; i++) {
+            Document document = document(i + 1, random);
+            texts[i] = (document.name() + " " + document.modelName() + " " + document.description()).toLowerCase(Locale.ROOT);
+            categoryIds[i] = document.categoryId();
+            brandIds[i] = document.brandId();
+            prices[i] = document.price();
+        }
+
+        ProductSearchIndex index = new ProductSearchIndex();
+        long memoryBefore = usedMemory();
+        long buildStart = System.nanoTime();
+        index.rebuild(sink -> {
+            Random documents = new Random(42);
+            for (int i = 0; i < PRODUCTS; i++) {
+                sink.accept(document(i + 1, documents));
+            }
+        });
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        long indexBytes = usedMemory() - memoryBefore;
+        assertThat(index.size()).isEqualTo(PRODUCTS);
+
+        // 워밍업
+        for (int round = 0; round < 3; round++) {
+            QUERIES.forEach(index::search);
+        }
+        long[] indexLatencies = new long[QUERIES.size() * INDEX_ROUNDS];
+        long indexHits = 0;
+        int n = 0;
+        for (int round = 0; round < INDEX_ROUNDS; round++) {
+            for (Query query : QUERIES) {
+                long start = System.nanoTime();
+                ProductSearchIndex.Result result = index.search(query);
+                indexLatencies[n++] = System.nanoTime() - start;
+                if (round == 0) {
+                    indexHits += result.totalHits();
+                }
+            }
+        }
+
+        long[] scanLatencies = new long[QUERIES.size() * SCAN_ROUNDS];
+        long scanHits = 0;
+        n = 0;
+        for (int round = 0; round < SCAN_ROUNDS; round++) {
+            for (Query query : QUERIES) {
+                long start = System.nanoTime();
+                int hits = scan(query, texts, categoryIds, brandIds, prices);
+                scanLatencies[n++] = System.nanoTime() - start;
+                if (round == 0) {
+                    scanHits += hits;
+                }
+            }
+        }
+
+        // 증분 반영 (수정 = 기존 문서 삭제 + 추가)
+        Random updates = new Random(7);
+        long updateStart = System.nanoTime();
+        for (int i = 0; i < UPDATES; i++) {
+            index.upsert(document(1 + updates.nextInt(PRODUCTS), updates));
+        }
+        double updateMicros = (System.nanoTime() - updateStart) / 1_000.0 / UPDATES;
+
+        Arrays.sort(indexLatencies);
+        Arrays.sort(scanLatencies);
+        System.out.printf("=== 상품 검색 (상품 %,d개, 검색어 %d종) ===%n", PRODUCTS, QUERIES.size());
+        System.out.printf("색인 생성 %,d ms / 색인 메모리 약 %,d MB / 수정 반영 %.1f us/건%n",
+                buildMillis, indexBytes / (1024 * 1024), updateMicros);
+        System.out.printf("%-14s | %10s | %10s | %10s | %12s%n", "방식", "p50 ms", "p99 ms", "max ms", "일치 합계");
+        print("전체 스캔", scanLatencies, scanHits);
+        print("역색인", indexLatencies, indexHits);
+
+        // 2-gram AND 는 단어 단위 contains 보다 넓게 잡을 수는 있어도 놓치지는 않는다.
+        assertThat(indexHits).isGreaterThanOrEqualTo(scanHits);
+        assertThat(percentile(indexLatencies, 99)).isLessThan(percentile(scanLatencies, 50));
+    }
+
+    // 기존 방식: 모든 단어를 contains 하는 상품을 전부 훑으면서 필터 + 패싯 집계
+    private int scan(Query query, String[] texts, int[] categoryIds, int[] brandIds, int[] prices) {
+        String[] words = query.keyword().toLowerCase(Locale.ROOT).split("\\s+");
+        int[] categoryCounts = new int[CATEGORIES + 1];
+        int[] brandCounts = new int[BRANDS + 1];
+        int hits = 0;
+        for (int i = 0; i < texts.length; i++) {
+            boolean matched = true;
+            for (String word : words) {
+                if (!word.isEmpty() && !texts[i].contains(word)) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (!matched) {
+                continue;
+            }
+            boolean categoryOk = query.categoryId() == null || categoryIds[i] == query.categoryId();
+            boolean brandOk = query.brandId() == null || brandIds[i] == query.brandId();
+            boolean priceOk = (query.minPrice() == null || prices[i] >= query.minPrice())
+                    && (query.maxPrice() == null || prices[i] <= query.maxPrice());
+            if (brandOk && priceOk) {
+                categoryCounts[categoryIds[i]]++;
+            }
+            if (categoryOk && priceOk) {
+                brandCounts[brandIds[i]]++;
+            }
+            if (categoryOk && brandOk && priceOk) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    // 이름 예: "삼성 비스포크 저소음 냉장고 870" / 모델명 예: "AB-12345" / 설명 예: "대용량 인버터 냉장고 2024년형"
+    private Document document(int productId, Random random) {
+        int type = random.nextInt(TYPES.length);
+        String name = pick(MAKERS, random) + " " + pick(SERIES, random) + " " + pick(FEATURES, random)
+                + " " + TYPES[type] + " " + (100 + random.nextInt(900));
+        String modelName = (char) ('A' + random.nextInt(26)) + "" + (char) ('A' + random.nextInt(26))
+                + "-" + (10_000 + random.nextInt(90_000));
+        String description = pick(FEATURES, random) + " " + pick(FEATURES, random) + " " + TYPES[type]
+                + " " + (2020 + random.nextInt(6)) + "년형";
+        return new Document(productId, type + 1, 1 + random.nextInt(BRANDS),
+                10_000 * (1 + random.nextInt(500)), name, modelName, description);
+    }
+
+    private String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private void print(String label, long[] sorted, long hits) {
+        System.out.printf("%-14s | %10.2f | %10.2f | %10.2f | %,12d%n", label,
+                percentile(sorted, 50) / 1_000_000.0, percentile(sorted, 99) / 1_000_000.0,
+                sorted[sorted.length - 1] / 1_000_000.0, hits);
+    }
+
+    private long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,272 @@
+package com.sesac.fmmall.Benchmark;
+
+import com.sesac.fmmall.Constant.RefundStatus;
+import com.sesac.fmmall.Constant.RefundType;
+import com.sesac.fmmall.Constant.YesNo;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Refund.RefundResponse;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Service.OrderService;
+import com.sesac.fmmall.Service.RefundService;
+import com.sesac.fmmall.Support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * "내가 산 상품 X 의 주문 / 환불 내역" 조회 벤치마크 (인기 상품 기준)
+ * - 이전: 상품의 전체 주문상품을 읽고 Java 에서 사용자 필터 → 주문상품 수만큼 주문을 지연 로딩 (N+1)
+ * - 현재: 사용자 + 상품 조건을 SQL 에서 같이 걸어 내 주문 / 환불만 읽는다.
+ * - 다른 사용자 FILLER_USERS x ORDERS_PER_FILLER 건이 같은 상품을 산 상태에서 측정
+ * - 실행: ./gradlew test -Pbenchmark --tests "*PurchaseByProductBenchmarkTest"
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PurchaseByProductBenchmarkTest {
+
+    private static final int FILLER_USERS = 20;
+    private static final int ORDERS_PER_FILLER = 500;
+    private static final int MY_ORDERS = 10;
+    private static final int MY_REFUNDS = 3;
+    private static final int CHUNK = 500;
+
+    private static final int LEGACY_CALLS = 3;
+    private static final int DIRECT_CALLS = 50;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private RefundService refundService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private RefundItemRepository refundItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private User me;
+    private Brand brand;
+    private Category category;
+    private Product bestSeller;
+
+    @BeforeEach
+    void setUp() {
+        brand = fixtures.saveBrand("BENCH 브랜드");
+        category = fixtures.saveCategory("BENCH 카테고리");
+        bestSeller = fixtures.saveProduct(brand, category, "BENCH 인기 상품", 10_000, 1_000_000);
+
+        me = fixtures.saveUser("bench-me");
+        for (int u = 0; u < FILLER_USERS; u++) {
+            User filler = fixtures.saveUser("bench-f" + u);
+            for (int from = 0; from < ORDERS_PER_FILLER; from += CHUNK) {
+                int count = Math.min(CHUNK, ORDERS_PER_FILLER - from);
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (int i = 0; i < count; i++) {
+                        saveOrder(filler);
+                    }
+                });
+                entityManager.clear();
+            }
+        }
+
+        // 내 주문 + 일부 부분 환불
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < MY_ORDERS; i++) {
+                Order order = saveOrder(me);
+                if (i < MY_REFUNDS) {
+                    saveRefund(order);
+                }
+            }
+        });
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.deleteCommitted();
+    }
+
+    @Test
+    @DisplayName("인기 상품 기준 내 주문 / 환불 조회 - 이전 방식 vs 사용자+상품 직접 조회")
+    void lookupByUserAndProduct() {
+        int userId = me.getUserId();
+        int productId = bestSeller.getProductId();
+
+        List<OrderResponse> legacyOrders = transactionTemplate.execute(status -> legacyOrders(userId, productId));
+        List<OrderResponse> directOrders = orderService.getOrdersByUserAndProduct(userId, productId);
+        assertThat(directOrders).extracting(OrderResponse::getOrderId)
+                .containsExactlyInAnyOrderElementsOf(legacyOrders.stream().map(OrderResponse::getOrderId).toList());
+        assertThat(directOrders).hasSize(MY_ORDERS);
+
+        List<RefundResponse> legacyRefunds = transactionTemplate.execute(status -> legacyRefunds(userId, productId));
+        List<RefundResponse> directRefunds = refundService.getRefundsByUserAndProduct(userId, productId);
+        assertThat(directRefunds).extracting(RefundResponse::getRefundId)
+                .containsExactlyInAnyOrderElementsOf(legacyRefunds.stream().map(RefundResponse::getRefundId).toList());
+        assertThat(directRefunds).hasSize(MY_REFUNDS);
+
+        System.out.printf("=== 상품 기준 조회 (같은 상품 주문상품 %d건 중 내 주문 %d건) ===%n",
+                FILLER_USERS * ORDERS_PER_FILLER + MY_ORDERS, MY_ORDERS);
+        System.out.printf("%-16s | %12s | %10s | %12s%n", "방식", "호출당 ms", "SQL 수", "로딩 엔티티");
+
+        Measure legacyOrder = measure(LEGACY_CALLS,
+                () -> transactionTemplate.execute(status -> legacyOrders(userId, productId)));
+        Measure directOrder = measure(DIRECT_CALLS,
+                () -> orderService.getOrdersByUserAndProduct(userId, productId));
+        Measure legacyRefund = measure(LEGACY_CALLS,
+                () -> transactionTemplate.execute(status -> legacyRefunds(userId, productId)));
+        Measure directRefund = measure(DIRECT_CALLS,
+                () -> refundService.getRefundsByUserAndProduct(userId, productId));
+
+        print("주문 - 이전", legacyOrder);
+        print("주문 - 직접 조회", directOrder);
+        print("환불 - 이전", legacyRefund);
+        print("환불 - 직접 조회", directRefund);
+
+        // 다른 사용자 주문 수와 관계없이 고정된 SQL 수 / 내 데이터만 로딩
+        assertThat(directOrder.statements()).isEqualTo(2);
+        assertThat(directRefund.statements()).isEqualTo(1);
+        assertThat(directOrder.millis()).isLessThan(legacyOrder.millis());
+        assertThat(directRefund.millis()).isLessThan(legacyRefund.millis());
+    }
+
+    // ===================== 이전 구현 (비교용) ===================== //
+
+    private List<OrderResponse> legacyOrders(int userId, int productId) {
+        Map<Integer, Order> uniqueOrders = new LinkedHashMap<>();
+        for (OrderItem item : orderItemRepository.findByProduct_ProductId(productId)) {
+            Order order = item.getOrder();
+            if (order.getUser().getUserId() == userId) {
+                uniqueOrders.putIfAbsent(order.getOrderId(), order);
+            }
+        }
+        return uniqueOrders.values().stream().map(OrderResponse::from).toList();
+    }
+
+    private List<RefundResponse> legacyRefunds(int userId, int productId) {
+        Set<Integer> refundIds = new LinkedHashSet<>();
+        List<Refund> refunds = new ArrayList<>();
+        for (OrderItem orderItem : orderItemRepository.findByProduct_ProductId(productId)) {
+            if (orderItem.getOrder().getUser().getUserId() != userId) {
+                continue;
+            }
+            for (RefundItem refundItem : refundItemRepository.findByOrderItem(orderItem)) {
+                Refund refund = refundItem.getRefund();
+                if (refundIds.add(refund.getRefundId())) {
+                    refunds.add(refund);
+                }
+            }
+        }
+        return refunds.stream().map(RefundResponse::from).toList();
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private Measure measure(int calls, Supplier<?> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        call.get();   // 워밍업
+        statistics.clear();
+        long begin = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            call.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        return new Measure(elapsed / 1_000_000.0 / calls,
+                statistics.getPrepareStatementCount() / calls,
+                statistics.getEntityLoadCount() / calls);
+    }
+
+    private void print(String label, Measure measure) {
+        System.out.printf("%-16s | %12.3f | %10d | %12d%n",
+                label, measure.millis(), measure.statements(), measure.entities());
+    }
+
+    // 인기 상품 2개짜리 주문 + 결제 (트랜잭션 안에서 호출)
+    private Order saveOrder(User user) {
+        Order order = Order.builder()
+                .receiverName("BENCH 수령인")
+                .receiverPhone("010-0000-0000")
+                .zipcode("12345")
+                .address1("서울시 벤치구")
+                .address2("1층")
+                .totalPrice(bestSeller.getPrice() * 2)
+                .createdAt(LocalDateTime.now())
+                .user(entityManager.getReference(User.class, user.getUserId()))
+                .build();
+        order.addOrderItem(OrderItem.builder()
+                .product(entityManager.getReference(Product.class, bestSeller.getProductId()))
+                .productName(bestSeller.getName())
+                .unitPrice(bestSeller.getPrice())
+                .quantity(2)
+                .build());
+        entityManager.persist(order);
+
+        Payment payment = Payment.builder()
+                .paymentMethodType("BENCH")
+                .paidAt(LocalDateTime.now())
+                .order(order)
+                .build();
+        entityManager.persist(payment);
+        order.setPayment(payment);
+        return order;
+    }
+
+    private void saveRefund(Order order) {
+        OrderItem orderItem = order.getOrderItems().get(0);
+        Refund refund = Refund.builder()
+                .reasonCode("CHANGE")
+                .reasonDetail("BENCH 환불")
+                .totalAmount(bestSeller.getPrice())
+                .refundType(RefundType.PARTIAL)
+                .isTrue(YesNo.N)
+                .order(order)
+                .payment(order.getPayment())
+                .build();
+        refund.addRefundItem(RefundItem.builder()
+                .refundQuantity(1)
+                .refundPrice(bestSeller.getPrice())
+                .refundStatus(RefundStatus.REQUESTED)
+                .orderItem(orderItem)
+                .build());
+        entityManager.persist(refund);
+    }
+
+    private record Measure(double millis, long statements, long entities) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.sesac.fmmall.Config;
+
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class IdBlockAllocatorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 500;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    @Test
+    @DisplayName("새로 발급한 ID 는 기존 IDENTITY 로 저장된 행의 최대 ID 보다 크다.")
+    void nextId_startsAboveExistingRows() {
+        Integer maxOrderId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(order_id), 0) FROM orders", Integer.class);
+
+        int id = idBlockAllocator.nextId("orders", "order_id");
+
+        assertThat(id).isGreaterThan(maxOrderId);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 ID 를 받아도 블록 경계를 넘나들며 중복 없이 발급된다.")
+    void nextId_concurrent_unique() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Integer>>> futures = new ArrayList<>();
+
+        Callable<List<Integer>> task = () -> {
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < IDS_PER_THREAD; i++) {
+                ids.add(idBlockAllocator.nextId("order_item", "order_item_id"));
+            }
+            return ids;
+        };
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(task));
+        }
+
+        Set<Integer> unique = new HashSet<>();
+        for (Future<List<Integer>> future : futures) {
+            unique.addAll(future.get());
+        }
+        executor.shutdown();
+
+        // 8 * 500 = 4,000 개 → 블록(50개)을 80번 넘게 새로 예약
+        assertThat(unique).hasSize(THREADS * IDS_PER_THREAD);
+    }
+}
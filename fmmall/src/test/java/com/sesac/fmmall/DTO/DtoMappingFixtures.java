@@ -0,0 +1,230 @@
+package com.sesac.fmmall.DTO;
+
+import com.sesac.fmmall.Config.BeanConfig;
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.RefundStatus;
+import com.sesac.fmmall.Constant.RefundType;
+import com.sesac.fmmall.Constant.YesNo;
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
+import com.sesac.fmmall.DTO.Order.OrderItemResponse;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Refund.RefundItemResponse;
+import com.sesac.fmmall.DTO.Refund.RefundResponse;
+import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
+import com.sesac.fmmall.DTO.Settlement.PaymentSummaryResponse;
+import com.sesac.fmmall.Entity.*;
+import org.modelmapper.ModelMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DTO 매핑 테스트/벤치마크 공용 픽스처
+ * - 엔티티 샘플 생성
+ * - 기존 ModelMapper 기반 매핑 (서비스에 있던 코드 그대로) → 새 from() 매핑과 결과 비교용
+ */
+public final class DtoMappingFixtures {
+
+    private static final ModelMapper MODEL_MAPPER = new BeanConfig().modelMapper();
+
+    private DtoMappingFixtures() {
+    }
+
+    // ===================== 엔티티 샘플 ===================== //
+
+    public static Product product(int productId) {
+        Brand brand = Brand.builder().brandId(3).name("테스트 브랜드").build();
+        Category category = Category.builder().categoryId(4).name("TV/가전").build();
+        RowCategory rowCategory = RowCategory.builder().rowCategoryId(5).name("OLED TV").category(category).build();
+
+        return Product.builder()
+                .productId(productId)
+                .name("테스트 TV " + productId)
+                .price(1_000_000 + productId)
+                .stockQuantity(10)
+                .capacity("75인치")
+                .sizeInch(BigDecimal.valueOf(75.5))
+                .description("테스트용 TV 입니다.")
+                .isInstallationRequired("Y")
+                .productStatus(ProductStatus.ACTIVE)
+                .modelName("TV-" + productId)
+                .createdAt(LocalDateTime.of(2025, 1, 2, 3, 4, 5))
+                .updatedAt(LocalDateTime.of(2025, 2, 3, 4, 5, 6))
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build();
+    }
+
+    // 선택 값이 모두 비어 있는 상품
+    public static Product sparseProduct() {
+        return Product.builder()
+                .productId(99)
+                .name("빈 상품")
+                .price(500)
+                .stockQuantity(0)
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.LOW_STOCK)
+                .brand(Brand.builder().brandId(1).build())
+                .category(Category.builder().categoryId(2).build())
+                .build();
+    }
+
+    public static CartItem cartItem(int cartItemId, Product product, int quantity) {
+        CartItem cartItem = CartItem.createCartItem(product, quantity);
+        ReflectionTestUtils.setField(cartItem, "cartItemId", cartItemId);
+        ReflectionTestUtils.setField(cartItem, "addDate", LocalDateTime.of(2025, 3, 4, 5, 6, 7));
+        return cartItem;
+    }
+
+    public static Order order(int itemCount) {
+        User user = User.builder().userId(7).loginId("tester").userName("테스터").build();
+
+        Order order = Order.builder()
+                .orderId(21)
+                .receiverName("테스트 수령인")
+                .receiverPhone("010-9999-8888")
+                .zipcode("12345")
+                .address1("서울시 강남구 테헤란로 123")
+                .address2("101동 1001호")
+                .deliveryTrackingNumber("TRK-1")
+                .createdAt(LocalDateTime.of(2025, 4, 5, 6, 7, 8))
+                .user(user)
+                .build();
+
+        for (int i = 0; i < itemCount; i++) {
+            order.addOrderItem(OrderItem.builder()
+                    .orderItemId(100 + i)
+                    .quantity(1 + i % 3)
+                    .deliveryDate(i % 2 == 0 ? LocalDate.of(2025, 4, 10) : null)
+                    .product(product(200 + i))
+                    .build());
+        }
+        order.setTotalPrice(order.calculateTotalPrice());
+
+        order.setPayment(Payment.builder()
+                .paymentId(41)
+                .paymentMethodType("신한카드")
+                .paidAt(LocalDateTime.of(2025, 4, 5, 6, 7, 9))
+                .order(order)
+                .build());
+
+        if (itemCount > 0) {
+            order.addRefund(refund(order));
+        }
+        return order;
+    }
+
+    public static Refund refund(Order order) {
+        Refund refund = Refund.builder()
+                .refundId(51)
+                .reasonCode("CHANGE_OF_MIND")
+                .reasonDetail("단순 변심")
+                .refundType(RefundType.PARTIAL)
+                .isTrue(YesNo.N)
+                .payment(order.getPayment())
+                .build();
+        refund.setOrder(order);
+
+        OrderItem first = order.getOrderItems().get(0);
+        refund.addRefundItem(RefundItem.builder()
+                .refundItemId(61)
+                .refundQuantity(1)
+                .refundPrice(first.getProduct().getPrice())
+                .refundStatus(RefundStatus.REQUESTED)
+                .orderItem(first)
+                .build());
+        refund.setTotalAmount(refund.calculateTotalAmount());
+        return refund;
+    }
+
+    // ===================== 기존 ModelMapper 매핑 ===================== //
+
+    public static ProductResponseDTO legacyProduct(Product product) {
+        return MODEL_MAPPER.map(product, ProductResponseDTO.class);
+    }
+
+    public static CartItemResponseDTO legacyCartItem(CartItem cartItem) {
+        CartItemResponseDTO dto = MODEL_MAPPER.map(cartItem, CartItemResponseDTO.class);
+        Product product = cartItem.getProduct();
+
+        dto.setProductId(product.getProductId());
+        dto.setProductName(product.getName());
+        dto.setProductPrice(product.getPrice());
+        dto.setTotalPrice(product.getPrice() * cartItem.getCartItemQuantity());
+        return dto;
+    }
+
+    public static OrderResponse legacyOrder(Order order) {
+        OrderResponse dto = MODEL_MAPPER.map(order, OrderResponse.class);
+
+        dto.setOrderId(order.getOrderId());
+        dto.setUserId(order.getUser().getUserId());
+        dto.setItems(order.getOrderItems().stream()
+                .map(DtoMappingFixtures::legacyOrderItem)
+                .collect(Collectors.toList()));
+
+        PaymentSummaryResponse paymentDto = null;
+        if (order.getPayment() != null) {
+            paymentDto = MODEL_MAPPER.map(order.getPayment(), PaymentSummaryResponse.class);
+            paymentDto.setPaymentId(order.getPayment().getPaymentId());
+        }
+        dto.setPayment(paymentDto);
+
+        dto.setRefunds(order.getRefunds().stream()
+                .map(refund -> RefundSummaryResponse.builder()
+                        .refundId(refund.getRefundId())
+                        .refundType(refund.getRefundType().name())
+                        .totalAmount(refund.getTotalAmount())
+                        .isTrue(refund.getIsTrue().name())
+                        .build())
+                .collect(Collectors.toList()));
+        return dto;
+    }
+
+    public static OrderItemResponse legacyOrderItem(OrderItem item) {
+        OrderItemResponse dto = MODEL_MAPPER.map(item, OrderItemResponse.class);
+
+        dto.setOrderItemId(item.getOrderItemId());
+        dto.setProductId(item.getProduct().getProductId());
+        dto.setProductName(item.getProduct().getName());
+        dto.setProductPrice(item.getProduct().getPrice());
+        dto.setLineTotalPrice(item.calculateLineTotalPrice());
+        return dto;
+    }
+
+    public static RefundResponse legacyRefund(Refund refund) {
+        RefundResponse dto = MODEL_MAPPER.map(refund, RefundResponse.class);
+
+        dto.setRefundId(refund.getRefundId());
+        dto.setReasonCode(refund.getReasonCode());
+        dto.setReasonDetail(refund.getReasonDetail());
+        dto.setTotalAmount(refund.getTotalAmount());
+        dto.setRefundType(refund.getRefundType().name());
+        dto.setIsTrue(refund.getIsTrue().name());
+        dto.setOrderId(refund.getOrder().getOrderId());
+        dto.setPaymentId(refund.getPayment().getPaymentId());
+
+        List<RefundItemResponse> itemDtos = refund.getRefundItems().stream()
+                .map(DtoMappingFixtures::legacyRefundItem)
+                .collect(Collectors.toList());
+        dto.setItems(itemDtos);
+        return dto;
+    }
+
+    public static RefundItemResponse legacyRefundItem(RefundItem item) {
+        RefundItemResponse dto = MODEL_MAPPER.map(item, RefundItemResponse.class);
+
+        dto.setRefundItemId(item.getRefundItemId());
+        dto.setOrderItemId(item.getOrderItem().getOrderItemId());
+        dto.setRefundQuantity(item.getRefundQuantity());
+        dto.setRefundPrice(item.getRefundPrice());
+        dto.setRefundStatus(item.getRefundStatus().name());
+        return dto;
+    }
+}
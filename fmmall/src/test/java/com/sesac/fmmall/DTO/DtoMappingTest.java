@@ -0,0 +1,70 @@
+package com.sesac.fmmall.DTO;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
+import com.sesac.fmmall.DTO.Order.OrderItemResponse;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Refund.RefundItemResponse;
+import com.sesac.fmmall.DTO.Refund.RefundResponse;
+import com.sesac.fmmall.Entity.CartItem;
+import com.sesac.fmmall.Entity.Order;
+import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Entity.Refund;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static com.sesac.fmmall.DTO.DtoMappingFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 직접 작성한 from() 매핑이 기존 ModelMapper 매핑과 같은 JSON 을 만드는지 확인
+ * - 스프링 MVC 와 같은 설정의 ObjectMapper 로 직렬화해서 비교
+ */
+class DtoMappingTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("상품 DTO - 기존 ModelMapper 와 같은 JSON")
+    void product_sameJson() throws Exception {
+        Product product = product(11);
+        Product sparse = sparseProduct();
+
+        assertSameJson(legacyProduct(product), ProductResponseDTO.from(product));
+        assertSameJson(legacyProduct(sparse), ProductResponseDTO.from(sparse));
+    }
+
+    @Test
+    @DisplayName("장바구니 상품 DTO - 기존 ModelMapper 와 같은 JSON")
+    void cartItem_sameJson() throws Exception {
+        CartItem cartItem = cartItem(31, product(11), 3);
+
+        assertSameJson(legacyCartItem(cartItem), CartItemResponseDTO.from(cartItem));
+    }
+
+    @Test
+    @DisplayName("주문 / 주문상품 DTO - 기존 ModelMapper 와 같은 JSON (결제/환불 요약 포함)")
+    void order_sameJson() throws Exception {
+        Order order = order(5);
+        Order empty = order(0);
+
+        assertSameJson(legacyOrder(order), OrderResponse.from(order));
+        assertSameJson(legacyOrder(empty), OrderResponse.from(empty));
+        assertSameJson(legacyOrderItem(order.getOrderItems().get(1)), OrderItemResponse.from(order.getOrderItems().get(1)));
+    }
+
+    @Test
+    @DisplayName("환불 / 환불상품 DTO - 기존 ModelMapper 와 같은 JSON")
+    void refund_sameJson() throws Exception {
+        Refund refund = order(3).getRefunds().get(0);
+
+        assertSameJson(legacyRefund(refund), RefundResponse.from(refund));
+        assertSameJson(legacyRefundItem(refund.getRefundItems().get(0)), RefundItemResponse.from(refund.getRefundItems().get(0)));
+    }
+
+    private void assertSameJson(Object legacy, Object mapped) throws Exception {
+        assertThat(objectMapper.writeValueAsString(mapped)).isEqualTo(objectMapper.writeValueAsString(legacy));
+    }
+}
@@ -0,0 +1,68 @@
+package com.sesac.fmmall.Security;
+
+import com.sesac.fmmall.Security.CheckoutTokenProvider.CheckoutContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckoutTokenProviderTest {
+
+    private static final String SECRET = "c3c1bb17a4e44793b49f8230dd9e2c93cbf02a0137b045fb";
+
+    @Test
+    @DisplayName("발급한 체크아웃 토큰을 같은 사용자로 검증하면 주문서 정보를 그대로 돌려준다.")
+    void parse_roundTrip() {
+        CheckoutTokenProvider provider = provider();
+        CheckoutContext context = new CheckoutContext(7, List.of(11, 12), 3, 5, Map.of(5, "HyundaiCard", 6, "KB"));
+
+        CheckoutContext parsed = provider.parse(provider.createToken(context, inSeconds(60)), 7);
+
+        assertThat(parsed).isEqualTo(context);
+    }
+
+    @Test
+    @DisplayName("다른 사용자, 만료, 위조된 체크아웃 토큰은 null 이다.")
+    void parse_rejectsInvalidTokens() {
+        CheckoutTokenProvider provider = provider();
+        CheckoutContext context = new CheckoutContext(7, List.of(11), null, null, Map.of());
+        String token = provider.createToken(context, inSeconds(60));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(provider.parse(token, 8)).isNull();
+        assertThat(provider.parse(provider.createToken(context, inSeconds(-1)), 7)).isNull();
+        assertThat(provider.parse(tampered, 7)).isNull();
+        assertThat(provider.parse(null, 7)).isNull();
+    }
+
+    @Test
+    @DisplayName("체크아웃 토큰과 로그인 토큰은 서로 다른 키로 서명되어 바꿔 쓸 수 없다.")
+    void parse_notInterchangeableWithLoginToken() {
+        CheckoutTokenProvider checkoutProvider = provider();
+        JwtTokenProvider loginProvider = JwtTokenProviderTest.provider(3600, 100);
+
+        String loginToken = loginProvider.createToken(JwtTokenProviderTest.user(7));
+        String checkoutToken = checkoutProvider.createToken(
+                new CheckoutContext(7, List.of(), null, null, Map.of()), inSeconds(60));
+
+        assertThat(checkoutProvider.parse(loginToken, 7)).isNull();
+        assertThat(loginProvider.validateToken(checkoutToken)).isFalse();
+    }
+
+    private static CheckoutTokenProvider provider() {
+        CheckoutTokenProvider provider = new CheckoutTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKeyPlain", SECRET);
+        ReflectionTestUtils.setField(provider, "tokenValidityInSeconds", 300L);
+        provider.init();
+        return provider;
+    }
+
+    private static Date inSeconds(long seconds) {
+        return new Date(System.currentTimeMillis() + seconds * 1000);
+    }
+}
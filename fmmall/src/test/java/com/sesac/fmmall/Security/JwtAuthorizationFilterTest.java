@@ -0,0 +1,151 @@
+package com.sesac.fmmall.Security;
+
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.Entity.User;
+import com.sesac.fmmall.Repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JwtAuthorizationFilterTest {
+
+    @Autowired
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SecurityConfig 때문에 필요한 MockBean
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .loginId("jwt-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("encoded-password")
+                .userName("토큰 테스트")
+                .userPhone("010-0000-0000")
+                .role(UserRole.ADMIN)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        userRepository.deleteById(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("stateless 모드에서는 DB 조회 없이 토큰 클레임만으로 인증 정보를 만든다.")
+    void stateless_buildsPrincipalFromClaims_withoutQuery() throws Exception {
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        Authentication authentication = filter(jwtAuthorizationFilter, jwtTokenProvider.createToken(user));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(authentication.getPrincipal()).isInstanceOf(JwtUserPrincipal.class);
+
+        JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(user.getUserId());
+        assertThat(principal.getLoginId()).isEqualTo(user.getLoginId());
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("DB 모드에서는 첫 요청만 사용자를 조회하고 이후 요청은 캐시를 사용한다.")
+    void database_usesUserCache() throws Exception {
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(userRepository, 100, 60);
+        JwtAuthorizationFilter databaseFilter = new JwtAuthorizationFilter(jwtTokenProvider, cache, false);
+        String token = jwtTokenProvider.createToken(user);
+
+        Authentication first = filter(databaseFilter, token);
+        Authentication second = filter(databaseFilter, token);
+
+        assertThat(first.getPrincipal()).isInstanceOf(CustomUserDetails.class);
+        assertThat(((CustomUserDetails) second.getPrincipal()).getUser().getUserId()).isEqualTo(user.getUserId());
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+
+        // 회원 정보 변경 시 evict → 다음 요청은 다시 조회
+        cache.evict(user.getUserId());
+        filter(databaseFilter, token);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자 캐시는 최대 크기를 넘으면 가장 오래 안 쓴 사용자부터 제거한다.")
+    void userCache_isBounded() {
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(userRepository, 1, 60);
+        User other = userRepository.save(User.builder()
+                .loginId("jwt-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("encoded-password")
+                .userName("다른 사용자")
+                .userPhone("010-0000-0001")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        cache.get(user.getUserId());
+        cache.get(other.getUserId());
+        cache.get(user.getUserId());
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(3);
+
+        userRepository.deleteById(other.getUserId());
+    }
+
+    @Test
+    @DisplayName("위조된 토큰은 인증하지 않는다.")
+    void invalidToken_notAuthenticated() throws Exception {
+        String token = jwtTokenProvider.createToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(filter(jwtAuthorizationFilter, tampered)).isNull();
+    }
+
+    private Authentication filter(JwtAuthorizationFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/Order/findAll");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
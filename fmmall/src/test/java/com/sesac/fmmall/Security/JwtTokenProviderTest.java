@@ -0,0 +1,92 @@
+package com.sesac.fmmall.Security;
+
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.Entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "c3c1bb17a4e44793b49f8230dd9e2c93cbf02a0137b045fb";
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 클레임을 그대로 돌려준다.")
+    void getValidClaims_cachedUntilExpiry() {
+        JwtTokenProvider provider = provider(3600, 100);
+        String token = provider.createToken(user(7));
+
+        TokenClaims first = provider.getValidClaims(token);
+        TokenClaims second = provider.getValidClaims(token);
+
+        assertThat(first.userId()).isEqualTo(7);
+        assertThat(first.loginId()).isEqualTo("user7");
+        assertThat(second).isSameAs(first);
+        assertThat(provider.getUserId(token)).isEqualTo(7);
+        assertThat(provider.getRole(token)).isEqualTo("USER");
+    }
+
+    @Test
+    @DisplayName("캐시에 있던 토큰도 만료 시각이 지나면 유효하지 않다.")
+    void getValidClaims_expiredTokenNotServedFromCache() throws InterruptedException {
+        JwtTokenProvider provider = provider(1, 100);
+        String token = provider.createToken(user(7));
+        assertThat(provider.validateToken(token)).isTrue();
+
+        Thread.sleep(1_100);
+
+        assertThat(provider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 캐시와 관계없이 거부한다.")
+    void getValidClaims_tamperedToken() {
+        JwtTokenProvider provider = provider(3600, 100);
+        String token = provider.createToken(user(7));
+        provider.getValidClaims(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(provider.getValidClaims(tampered)).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 일부를 지우고 새 토큰을 캐시한다. 캐시 크기는 max-size 를 넘지 않는다.")
+    void getValidClaims_cacheFull_staysBounded() {
+        JwtTokenProvider provider = provider(3600, 4);
+
+        for (int userId = 1; userId <= 20; userId++) {
+            String token = provider.createToken(user(userId));
+            assertThat(provider.getValidClaims(token).userId()).isEqualTo(userId);
+            assertThat(cacheSize(provider)).isLessThanOrEqualTo(4);
+        }
+
+        // 캐시에서 빠진 토큰도 다시 검증하면 그대로 유효하다.
+        assertThat(provider.getUserId(provider.createToken(user(1)))).isEqualTo(1);
+    }
+
+    static int cacheSize(JwtTokenProvider provider) {
+        return ((Map<?, ?>) ReflectionTestUtils.getField(provider, "verifiedClaimsCache")).size();
+    }
+
+    static JwtTokenProvider provider(long validitySeconds, int cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKeyPlain", SECRET);
+        ReflectionTestUtils.setField(provider, "tokenValidityInSeconds", validitySeconds);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", cacheSize);
+        provider.init();
+        return provider;
+    }
+
+    static User user(int userId) {
+        return User.builder()
+                .userId(userId)
+                .loginId("user" + userId)
+                .role(UserRole.USER)
+                .build();
+    }
+}
@@ -0,0 +1,209 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.OrderRequestStatus;
+import com.sesac.fmmall.DTO.Order.AsyncOrderResponse;
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비동기 주문 접수 테스트
+ * - 워커 스레드가 주문을 만들므로 트랜잭션 없이 실행한다. (커밋된 데이터는 TestFixtures 가 정리)
+ */
+@SpringBootTest(properties = "order.async.enabled=true")
+class AsyncOrderServiceTest {
+
+    private static final int BUYERS = 30;
+    private static final int STOCK = 20;
+    private static final long WAIT_MILLIS = 30_000;
+
+    @Autowired
+    private AsyncOrderService asyncOrderService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = fixtures.saveBuyer("async");
+        brand = fixtures.saveBrand("비동기 주문 테스트 브랜드");
+        category = fixtures.saveCategory("비동기 주문 테스트 카테고리");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteCommitted();
+    }
+
+    @Test
+    @DisplayName("재고 20개에 30건이 동시에 접수되면 20건은 주문이 생성되고 10건은 재고 부족으로 실패한다.")
+    void concurrentEnqueue_completesUpToStock_failsRest() throws InterruptedException {
+        Product product = fixtures.saveProduct(brand, category, "비동기 주문 TV", 100_000, STOCK);
+        OrderCreateRequest request = orderOf(product, 1);
+        Map<Integer, String> tokens = new ConcurrentHashMap<>();
+
+        runConcurrently(BUYERS, i -> tokens.put(i, asyncOrderService.enqueueOrder(user.getUserId(), request).getToken()));
+
+        List<AsyncOrderResponse> results = new ArrayList<>();
+        for (String token : tokens.values()) {
+            results.add(awaitDone(token));
+        }
+        Map<OrderRequestStatus, List<AsyncOrderResponse>> byStatus = results.stream()
+                .collect(Collectors.groupingBy(AsyncOrderResponse::getStatus));
+
+        assertThat(byStatus.get(OrderRequestStatus.COMPLETED)).hasSize(STOCK);
+        assertThat(byStatus.get(OrderRequestStatus.COMPLETED))
+                .allSatisfy(result -> assertThat(result.getOrderId()).isNotNull());
+        assertThat(byStatus.get(OrderRequestStatus.FAILED)).hasSize(BUYERS - STOCK);
+        assertThat(byStatus.get(OrderRequestStatus.FAILED))
+                .allSatisfy(result -> assertThat(result.getFailureMessage()).contains("재고"));
+        assertThat(orderCount()).isEqualTo(STOCK);
+        assertThat(stockOf(product)).isZero();
+    }
+
+    @Test
+    @DisplayName("접수 응답은 PENDING 이고, 다른 사용자의 token 으로는 상태를 조회할 수 없다.")
+    void enqueue_returnsPendingToken_ownerOnly() {
+        Product product = fixtures.saveProduct(brand, category, "비동기 주문 냉장고", 100_000, 5);
+
+        AsyncOrderResponse accepted = asyncOrderService.enqueueOrder(user.getUserId(), orderOf(product, 2));
+
+        assertThat(accepted.getStatus()).isEqualTo(OrderRequestStatus.PENDING);
+        assertThat(accepted.getOrderId()).isNull();
+        assertThatThrownBy(() -> asyncOrderService.getStatus(user.getUserId() + 1, accepted.getToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        AsyncOrderResponse done = awaitDone(accepted.getToken());
+        assertThat(done.getStatus()).isEqualTo(OrderRequestStatus.COMPLETED);
+        assertThat(stockOf(product)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("수량이 잘못된 요청은 접수하지 않는다.")
+    void enqueue_invalidQuantity_rejected() {
+        Product product = fixtures.saveProduct(brand, category, "비동기 주문 세탁기", 100_000, 5);
+
+        assertThatThrownBy(() -> asyncOrderService.enqueueOrder(user.getUserId(), orderOf(product, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(requestCount()).isZero();
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    // COMPLETED / FAILED 가 될 때까지 상태를 조회한다.
+    private AsyncOrderResponse awaitDone(String token) {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (true) {
+            AsyncOrderResponse status = asyncOrderService.getStatus(user.getUserId(), token);
+            if (status.getStatus() == OrderRequestStatus.COMPLETED || status.getStatus() == OrderRequestStatus.FAILED) {
+                return status;
+            }
+            assertThat(System.currentTimeMillis()).as("비동기 주문 처리 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private OrderCreateRequest orderOf(Product product, int quantity) {
+        return OrderCreateRequest.builder()
+                .items(List.of(OrderItemCreateRequest.builder()
+                        .productId(product.getProductId())
+                        .quantity(quantity)
+                        .build()))
+                .build();
+    }
+
+    private int stockOf(Product product) {
+        return productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity();
+    }
+
+    private int orderCount() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ?",
+                Integer.class, user.getUserId());
+        return count != null ? count : 0;
+    }
+
+    private int requestCount() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_request WHERE user_id = ?",
+                Integer.class, user.getUserId());
+        return count != null ? count : 0;
+    }
+
+    private interface Buyer {
+        void buy(int index);
+    }
+
+    // 모든 스레드를 동시에 출발시키고 전부 끝날 때까지 기다린다.
+    private void runConcurrently(int threads, Buyer buyer) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    buyer.buy(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+}
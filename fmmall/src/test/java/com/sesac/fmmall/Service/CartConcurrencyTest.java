@@ -0,0 +1,158 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 담기 동시성 테스트 (같은 상품 "담기" 버튼 연타)
+ * - 클릭마다 다른 스레드의 트랜잭션이 커밋된 장바구니를 봐야 하므로 트랜잭션 없이 실행한다. (커밋된 데이터는 TestFixtures 가 정리)
+ */
+@SpringBootTest
+class CartConcurrencyTest {
+
+    private static final int CLICKS = 8;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = fixtures.saveUser("cart");
+        brand = fixtures.saveBrand("장바구니 동시성 테스트 브랜드");
+        category = fixtures.saveCategory("장바구니 동시성 테스트 카테고리");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteCommitted();
+    }
+
+    @Test
+    @DisplayName("장바구니가 없는 사용자가 같은 상품을 연타해도 장바구니 1개, 항목 1줄에 수량이 모두 합쳐진다.")
+    void doubleClick_firstAdd_mergedIntoOneLine() throws InterruptedException {
+        Product product = fixtures.saveProduct(brand, category, "장바구니 동시성 테스트 상품", 10_000, 100);
+        AtomicInteger failures = new AtomicInteger();
+
+        runConcurrently(CLICKS, index -> {
+            try {
+                cartService.createCartItem(user.getUserId(), add(product, 1));
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+            }
+        });
+
+        assertThat(failures.get()).isZero();
+        assertThat(count("SELECT COUNT(*) FROM cart WHERE user_id = ?", user.getUserId())).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM cart_item WHERE product_id = ?", product.getProductId())).isEqualTo(1);
+        assertThat(count("SELECT cart_item_quantity FROM cart_item WHERE product_id = ?", product.getProductId()))
+                .isEqualTo(CLICKS);
+    }
+
+    @Test
+    @DisplayName("합친 수량이 재고를 넘는 담기는 실패하고, 성공한 만큼만 수량에 남는다.")
+    void doubleClick_overStock_rejected() throws InterruptedException {
+        int stock = 5;
+        Product product = fixtures.saveProduct(brand, category, "장바구니 동시성 테스트 상품", 10_000, stock);
+        // 장바구니는 미리 만들어 둔다. (다른 상품 1개)
+        cartService.createCartItem(user.getUserId(), add(fixtures.saveProduct(brand, category, "장바구니 동시성 테스트 상품", 10_000, 100), 1));
+
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger stockFailures = new AtomicInteger();
+
+        runConcurrently(CLICKS, index -> {
+            try {
+                cartService.createCartItem(user.getUserId(), add(product, 1));
+                successes.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                stockFailures.incrementAndGet();
+            }
+        });
+
+        assertThat(successes.get()).isEqualTo(stock);
+        assertThat(stockFailures.get()).isEqualTo(CLICKS - stock);
+        assertThat(count("SELECT cart_item_quantity FROM cart_item WHERE product_id = ?", product.getProductId()))
+                .isEqualTo(stock);
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private int count(String sql, int id) {
+        Integer value = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return value != null ? value : 0;
+    }
+
+    private CartItemCreateRequestDTO add(Product product, int quantity) {
+        CartItemCreateRequestDTO request = new CartItemCreateRequestDTO();
+        request.setProductId(product.getProductId());
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    private interface Clicker {
+        void click(int index);
+    }
+
+    // 모든 스레드를 동시에 출발시키고 전부 끝날 때까지 기다린다.
+    private void runConcurrently(int threads, Clicker clicker) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    clicker.click(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,303 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.CartOperationType;
+import com.sesac.fmmall.DTO.CartChangeResponseDTO;
+import com.sesac.fmmall.DTO.CartItem.CartBatchOperationDTO;
+import com.sesac.fmmall.DTO.CartItem.CartBatchRequestDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemUpdateRequestDTO;
+import com.sesac.fmmall.DTO.CartResponseDTO;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.QueryCounter;
+import com.sesac.fmmall.Support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 장바구니 쿼리 수 테스트
+ * - 전체 조회: 장바구니 + 항목 + 상품 (1)
+ * - 수량 변경: 항목 + 장바구니 + 상품 (1) → UPDATE (1) → 합계 집계 (1)
+ * - 상품 추가: 상품 (1) → 장바구니 (1) → 같은 상품 항목 (1) → INSERT/UPDATE (1) → 합계 집계 (1)
+ * - 일괄 변경: 장바구니 (1) → 항목 잠금 조회 (1) → 상품 (1) → INSERT / UPDATE / DELETE 배치 (각 1)
+ * - 장바구니에 담긴 항목 수 / 일괄 변경 작업 수와 관계없이 위 SQL 수로 끝나야 한다.
+ */
+@SpringBootTest
+@Transactional
+class CartQueryCountTest {
+
+    private static final long VIEW_STATEMENTS = 1;
+    private static final long UPDATE_STATEMENTS = 3;
+    private static final long ADD_STATEMENTS = 5;
+    private static final long BATCH_STATEMENTS = 6;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private QueryCounter queryCounter;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager, entityManagerFactory);
+        brand = fixtures.saveBrand("장바구니 쿼리 테스트 브랜드");
+        category = fixtures.saveCategory("장바구니 쿼리 테스트 카테고리");
+    }
+
+    @Test
+    @DisplayName("장바구니 전체 조회는 항목 수와 관계없이 SQL 1번으로 끝난다.")
+    void findAllCartItems_singleStatement() {
+        User small = fixtures.saveUser("cart");
+        User large = fixtures.saveUser("cart");
+        fillCart(small, 1);
+        fillCart(large, 20);
+
+        AtomicReference<CartResponseDTO> view = new AtomicReference<>();
+        queryCounter.assertStatements(VIEW_STATEMENTS, () -> cartService.findAllCartItems(small.getUserId()));
+        QueryCounter.Result result = queryCounter.assertStatements(VIEW_STATEMENTS, () ->
+                view.set(cartService.findAllCartItems(large.getUserId())));
+
+        assertThat(result.lazyLoads()).isZero();
+        assertThat(view.get().getItemList()).hasSize(20);
+        assertThat(view.get().getTotalItemCount()).isEqualTo(20);
+        // 상품 i 의 가격 10,000 + i, 수량 1
+        assertThat(view.get().getTotalPrice()).isEqualTo(20 * 10_000 + 190);
+    }
+
+    @Test
+    @DisplayName("수량 변경은 바뀐 항목과 새 합계만 돌려주고, SQL 수가 장바구니 크기에 따라 늘지 않는다.")
+    void updateCartItemQuantity_constantStatements() {
+        User small = fixtures.saveUser("cart");
+        User large = fixtures.saveUser("cart");
+        int smallItemId = fillCart(small, 1).getChangedItem().getCartItemId();
+        int largeItemId = fillCart(large, 20).getChangedItem().getCartItemId();
+
+        queryCounter.assertStatements(UPDATE_STATEMENTS, () ->
+                cartService.updateCartItemQuantity(small.getUserId(), smallItemId, quantity(2)));
+
+        AtomicReference<CartChangeResponseDTO> change = new AtomicReference<>();
+        QueryCounter.Result result = queryCounter.assertStatements(UPDATE_STATEMENTS, () ->
+                change.set(cartService.updateCartItemQuantity(large.getUserId(), largeItemId, quantity(3))));
+
+        assertThat(result.lazyLoads()).isZero();
+        // 마지막에 담은 상품 19 (10,019원) 의 수량만 1 → 3
+        assertThat(change.get().getChangedItem().getCartItemQuantity()).isEqualTo(3);
+        assertThat(change.get().getChangedItem().getTotalPrice()).isEqualTo(3 * 10_019);
+        assertThat(change.get().getTotalItemCount()).isEqualTo(20);
+        assertThat(change.get().getTotalPrice()).isEqualTo(20 * 10_000 + 190 + 2 * 10_019);
+    }
+
+    @Test
+    @DisplayName("상품 추가/삭제도 장바구니 크기와 관계없이 같은 SQL 수로 끝나고 새 합계를 돌려준다.")
+    void addAndRemove_constantStatements() {
+        User small = fixtures.saveUser("cart");
+        User large = fixtures.saveUser("cart");
+        fillCart(small, 1);
+        fillCart(large, 20);
+        Product extra = saveProduct(50_000);
+
+        queryCounter.assertStatements(ADD_STATEMENTS, () -> cartService.createCartItem(small.getUserId(), add(extra, 1)));
+
+        AtomicReference<CartChangeResponseDTO> added = new AtomicReference<>();
+        queryCounter.assertStatements(ADD_STATEMENTS, () -> added.set(cartService.createCartItem(large.getUserId(), add(extra, 1))));
+        assertThat(added.get().getTotalItemCount()).isEqualTo(21);
+
+        // 이미 담긴 상품을 또 담으면 같은 항목의 수량이 늘어난다.
+        AtomicReference<CartChangeResponseDTO> increased = new AtomicReference<>();
+        queryCounter.assertStatements(ADD_STATEMENTS, () -> increased.set(cartService.createCartItem(large.getUserId(), add(extra, 2))));
+        assertThat(increased.get().getChangedItem().getCartItemId()).isEqualTo(added.get().getChangedItem().getCartItemId());
+        assertThat(increased.get().getChangedItem().getCartItemQuantity()).isEqualTo(3);
+        assertThat(increased.get().getTotalItemCount()).isEqualTo(21);
+
+        int extraItemId = increased.get().getChangedItem().getCartItemId();
+        AtomicReference<CartChangeResponseDTO> removed = new AtomicReference<>();
+        queryCounter.count(() -> removed.set(cartService.removeCartItem(large.getUserId(), extraItemId)));
+        assertThat(removed.get().getRemovedCartItemId()).isEqualTo(extraItemId);
+        assertThat(removed.get().getChangedItem()).isNull();
+        assertThat(removed.get().getTotalItemCount()).isEqualTo(20);
+        assertThat(removed.get().getTotalPrice()).isEqualTo(20 * 10_000 + 190);
+    }
+
+    @Test
+    @DisplayName("일괄 변경은 작업 수와 관계없이 같은 SQL 수로 끝나고, 변경 후 장바구니 전체를 돌려준다.")
+    void applyCartBatch_constantStatements() {
+        User small = fixtures.saveUser("cart");
+        User large = fixtures.saveUser("cart");
+        fillCart(small, 3);
+        fillCart(large, 20);
+
+        CartBatchRequestDTO smallBatch = batchOf(small, 1, 1, 1);
+        CartBatchRequestDTO largeBatch = batchOf(large, 5, 5, 5);
+
+        queryCounter.assertStatements(BATCH_STATEMENTS, () -> cartService.applyCartBatch(small.getUserId(), smallBatch));
+
+        AtomicReference<CartResponseDTO> cart = new AtomicReference<>();
+        QueryCounter.Result result = queryCounter.assertStatements(BATCH_STATEMENTS, () ->
+                cart.set(cartService.applyCartBatch(large.getUserId(), largeBatch)));
+
+        assertThat(result.lazyLoads()).isZero();
+        // 20 - 삭제 5 + 새 상품 5
+        assertThat(cart.get().getItemList()).hasSize(20);
+        assertThat(cart.get().getTotalItemCount()).isEqualTo(20);
+        assertThat(cart.get().getItemList()).allSatisfy(item -> assertThat(item.getCartItemId()).isPositive());
+        // 수량을 2 로 바꾼 5개 (상품 5 ~ 9) + 그대로 10개 (상품 10 ~ 19) + 새 상품 5개 (50,000원, 1개씩)
+        assertThat(cart.get().getTotalPrice()).isEqualTo(
+                2 * (5 * 10_000 + 35) + (10 * 10_000 + 145) + 5 * 50_000);
+    }
+
+    @Test
+    @DisplayName("일괄 변경 중 하나라도 재고가 부족하면 아무것도 바뀌지 않는다.")
+    void applyCartBatch_allOrNothing() {
+        User user = fixtures.saveUser("cart");
+        int cartItemId = fillCart(user, 1).getChangedItem().getCartItemId();
+        Product scarce = saveProduct(30_000);
+
+        CartBatchRequestDTO request = CartBatchRequestDTO.builder()
+                .operations(List.of(
+                        CartBatchOperationDTO.builder().type(CartOperationType.UPDATE).cartItemId(cartItemId).quantity(5).build(),
+                        CartBatchOperationDTO.builder().type(CartOperationType.ADD).productId(scarce.getProductId()).quantity(101).build()))
+                .build();
+
+        assertThatThrownBy(() -> cartService.applyCartBatch(user.getUserId(), request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(scarce.getProductId()));
+
+        entityManager.clear();
+        CartResponseDTO cart = cartService.findAllCartItems(user.getUserId());
+        assertThat(cart.getItemList()).singleElement()
+                .satisfies(item -> assertThat(item.getCartItemQuantity()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("일괄 변경은 새로 담거나 늘린 상품의 재고만 확인하고, 손대지 않은 품절 항목 때문에 실패하지 않는다.")
+    void applyCartBatch_checksOnlyIncreasedProducts() {
+        User user = fixtures.saveUser("cart");
+        int soldOutItemId = fillCart(user, 1).getChangedItem().getCartItemId();
+        int reducedItemId = cartService.createCartItem(user.getUserId(), add(saveProduct(20_000), 3))
+                .getChangedItem().getCartItemId();
+        Product extra = saveProduct(30_000);
+
+        // 담아 둔 뒤 두 상품 모두 품절
+        entityManager.flush();
+        entityManager.createQuery("UPDATE Product p SET p.stockQuantity = 0 WHERE p.brand = :brand AND p.productId <> :extraId")
+                .setParameter("brand", brand)
+                .setParameter("extraId", extra.getProductId())
+                .executeUpdate();
+        entityManager.clear();
+
+        CartBatchRequestDTO request = CartBatchRequestDTO.builder()
+                .operations(List.of(
+                        CartBatchOperationDTO.builder().type(CartOperationType.UPDATE).cartItemId(reducedItemId).quantity(1).build(),
+                        CartBatchOperationDTO.builder().type(CartOperationType.ADD).productId(extra.getProductId()).quantity(1).build()))
+                .build();
+
+        CartResponseDTO cart = cartService.applyCartBatch(user.getUserId(), request);
+
+        assertThat(cart.getItemList()).hasSize(3);
+        assertThat(cart.getItemList())
+                .filteredOn(item -> item.getCartItemId() == soldOutItemId)
+                .singleElement()
+                .satisfies(item -> assertThat(item.getCartItemQuantity()).isEqualTo(1));
+        assertThat(cart.getItemList())
+                .filteredOn(item -> item.getCartItemId() == reducedItemId)
+                .singleElement()
+                .satisfies(item -> assertThat(item.getCartItemQuantity()).isEqualTo(1));
+
+        // 품절 상품의 수량을 늘리면 실패
+        CartBatchRequestDTO increase = CartBatchRequestDTO.builder()
+                .operations(List.of(
+                        CartBatchOperationDTO.builder().type(CartOperationType.UPDATE).cartItemId(soldOutItemId).quantity(2).build()))
+                .build();
+        assertThatThrownBy(() -> cartService.applyCartBatch(user.getUserId(), increase))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("재고");
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    // 담긴 순서대로 앞의 removes 개 삭제, 다음 updates 개 수량 2 로 변경, 새 상품 adds 개 추가
+    private CartBatchRequestDTO batchOf(User user, int removes, int updates, int adds) {
+        List<CartItemResponseDTO> items = cartService.findAllCartItems(user.getUserId()).getItemList();
+        List<CartBatchOperationDTO> operations = new ArrayList<>();
+        for (int i = 0; i < removes; i++) {
+            operations.add(CartBatchOperationDTO.builder()
+                    .type(CartOperationType.REMOVE)
+                    .cartItemId(items.get(i).getCartItemId())
+                    .build());
+        }
+        for (int i = removes; i < removes + updates; i++) {
+            operations.add(CartBatchOperationDTO.builder()
+                    .type(CartOperationType.UPDATE)
+                    .cartItemId(items.get(i).getCartItemId())
+                    .quantity(2)
+                    .build());
+        }
+        for (int i = 0; i < adds; i++) {
+            operations.add(CartBatchOperationDTO.builder()
+                    .type(CartOperationType.ADD)
+                    .productId(saveProduct(50_000).getProductId())
+                    .quantity(1)
+                    .build());
+        }
+        return CartBatchRequestDTO.builder().operations(operations).build();
+    }
+
+    // 가격이 10,000 + i 인 상품 count 개를 1개씩 담고, 마지막 추가 응답을 돌려준다.
+    private CartChangeResponseDTO fillCart(User user, int count) {
+        CartChangeResponseDTO last = null;
+        for (int i = 0; i < count; i++) {
+            last = cartService.createCartItem(user.getUserId(), add(saveProduct(10_000 + i), 1));
+        }
+        return last;
+    }
+
+    private CartItemCreateRequestDTO add(Product product, int quantity) {
+        CartItemCreateRequestDTO request = new CartItemCreateRequestDTO();
+        request.setProductId(product.getProductId());
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    private CartItemUpdateRequestDTO quantity(int quantity) {
+        CartItemUpdateRequestDTO request = new CartItemUpdateRequestDTO();
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    private Product saveProduct(int price) {
+        return fixtures.saveProduct(brand, category, "장바구니 쿼리 테스트 상품 " + price, price, 100);
+    }
+}
@@ -0,0 +1,233 @@
+package com.sesac.fmmall.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sesac.fmmall.DTO.BrandDTO;
+import com.sesac.fmmall.DTO.Cache.CacheStatsResponse;
+import com.sesac.fmmall.DTO.CategoryDTO;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.CategoryRepository;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카테고리 / 브랜드 목록 캐시 테스트
+ * - 두 번째 조회부터는 DB 를 읽지 않는다.
+ * - 관리자 등록/수정/삭제는 커밋된 뒤에 캐시를 비운다. (롤백되면 그대로)
+ * - ETag 가 같으면 304, 데이터가 바뀌면 새 ETag
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class CatalogCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private QueryCounter queryCounter;
+    private final List<Integer> createdCategoryIds = new ArrayList<>();
+    private final List<Integer> createdBrandIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager, entityManagerFactory);
+        catalogCache.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        createdCategoryIds.stream().filter(categoryRepository::existsById).forEach(categoryRepository::deleteById);
+        createdBrandIds.stream().filter(brandRepository::existsById).forEach(brandRepository::deleteById);
+        catalogCache.clear();
+    }
+
+    @Test
+    @DisplayName("두 번째 목록 조회부터는 SQL 없이 캐시에서 돌려준다.")
+    void findAll_secondCallHitsCache() {
+        long hitsBefore = catalogCache.stats().getHitCount();
+
+        queryCounter.count(() -> categoryService.findAllCategories());
+        queryCounter.count(() -> brandService.findAllBrands());
+
+        queryCounter.assertStatements(0, () -> categoryService.findAllCategories());
+        queryCounter.assertStatements(0, () -> brandService.findAllBrands());
+        assertThat(catalogCache.stats().getHitCount()).isEqualTo(hitsBefore + 2);
+    }
+
+    @Test
+    @DisplayName("관리자 등록/수정/삭제가 커밋되면 목록과 ETag 가 바로 바뀐다.")
+    void adminChange_invalidatesAfterCommit() {
+        String before = categoryService.findCategoryCatalog().etag();
+
+        CategoryDTO saved = categoryService.insertCategory(CategoryDTO.builder().categoryName("캐시 테스트 카테고리").build());
+        createdCategoryIds.add(saved.getCategoryId());
+
+        CatalogCache.Snapshot<CategoryDTO> inserted = categoryService.findCategoryCatalog();
+        assertThat(inserted.etag()).isNotEqualTo(before);
+        assertThat(inserted.items()).extracting(CategoryDTO::getCategoryId).contains(saved.getCategoryId());
+
+        categoryService.modifyCategory(saved.getCategoryId(), CategoryDTO.builder().categoryName("이름 변경").build());
+        CatalogCache.Snapshot<CategoryDTO> modified = categoryService.findCategoryCatalog();
+        assertThat(modified.etag()).isNotEqualTo(inserted.etag());
+
+        categoryService.deleteCategory(saved.getCategoryId());
+        assertThat(categoryService.findCategoryCatalog().items())
+                .extracting(CategoryDTO::getCategoryId).doesNotContain(saved.getCategoryId());
+    }
+
+    @Test
+    @DisplayName("변경 트랜잭션이 롤백되면 캐시는 그대로 유지된다.")
+    void rolledBackChange_keepsCache() {
+        CatalogCache.Snapshot<BrandDTO> before = brandService.findBrandCatalog();
+        long invalidations = catalogCache.stats().getInvalidationCount();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            brandService.insertBrand(BrandDTO.builder().name("롤백될 브랜드").build());
+            status.setRollbackOnly();
+        });
+
+        long hits = catalogCache.stats().getHitCount();
+        assertThat(catalogCache.stats().getInvalidationCount()).isEqualTo(invalidations);
+        assertThat(brandService.findBrandCatalog().etag()).isEqualTo(before.etag());
+        assertThat(catalogCache.stats().getHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 304, 브랜드가 추가되면 200 + 새 ETag")
+    void conditionalGet_returnsNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get("/Brand/findAll"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult notModified = mockMvc.perform(get("/Brand/findAll").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+
+        BrandDTO saved = brandService.insertBrand(BrandDTO.builder().name("ETag 테스트 브랜드").build());
+        createdBrandIds.add(saved.getBrandId());
+
+        MvcResult changed = mockMvc.perform(get("/Brand/findAll").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(changed.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("ETag 테스트 브랜드");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 안 쓴 목록부터 제거된다.")
+    void maxEntries_evictsLeastRecentlyUsed() {
+        CatalogCache cache = new CatalogCache(new ObjectMapper(), 2, 600);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.rowCategories(1, () -> load(loads, "1"), UnaryOperator.identity());
+        cache.rowCategories(2, () -> load(loads, "2"), UnaryOperator.identity());
+        cache.rowCategories(1, () -> load(loads, "1"), UnaryOperator.identity());   // 1 을 최근 사용으로
+        cache.rowCategories(3, () -> load(loads, "3"), UnaryOperator.identity());   // 2 가 밀려남
+
+        CacheStatsResponse stats = cache.stats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getEvictionCount()).isEqualTo(1);
+
+        int loadsBefore = loads.get();
+        cache.rowCategories(1, () -> load(loads, "1"), UnaryOperator.identity());
+        assertThat(loads.get()).isEqualTo(loadsBefore);
+        cache.rowCategories(2, () -> load(loads, "2"), UnaryOperator.identity());
+        assertThat(loads.get()).isEqualTo(loadsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("조회 도중에 무효화되면 읽어온 이전 값은 캐시에 넣지 않는다.")
+    void invalidatedDuringLoad_notCached() {
+        CatalogCache cache = new CatalogCache(new ObjectMapper(), 10, 600);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.brands(() -> {
+            cache.invalidateBrands();   // 읽는 사이에 관리자가 변경
+            return load(loads, "이전 값");
+        }, UnaryOperator.identity());
+        cache.brands(() -> load(loads, "새 값"), UnaryOperator.identity());
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.brands(() -> load(loads, "호출되면 안 됨"), UnaryOperator.identity()).items()).containsExactly("새 값");
+    }
+
+    @Test
+    @DisplayName("꺼낸 목록의 DTO 를 고쳐도 캐시된 값은 그대로다.")
+    void returnedItems_areCopies() {
+        CatalogCache cache = new CatalogCache(new ObjectMapper(), 10, 600);
+        UnaryOperator<BrandDTO> copier = brand -> brand.toBuilder().build();
+
+        CatalogCache.Snapshot<BrandDTO> loaded = cache.brands(
+                () -> List.of(BrandDTO.builder().brandId(1).name("원래 이름").build()), copier);
+        loaded.items().get(0).setName("처음 꺼낸 쪽이 고침");
+
+        CatalogCache.Snapshot<BrandDTO> cached = cache.brands(List::of, copier);
+        cached.items().get(0).setName("캐시에서 꺼낸 쪽이 고침");
+
+        assertThat(cache.brands(List::of, copier).items())
+                .extracting(BrandDTO::getName).containsExactly("원래 이름");
+    }
+
+    private List<String> load(AtomicInteger loads, String value) {
+        loads.incrementAndGet();
+        return List.of(value);
+    }
+}
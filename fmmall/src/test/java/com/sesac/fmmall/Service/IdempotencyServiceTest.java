@@ -0,0 +1,229 @@
+package com.sesac.fmmall.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 생성 Idempotency-Key 테스트 (타임아웃 후 재시도 / 결제 버튼 연타)
+ * - 같은 키의 재요청을 여러 스레드 / 다른 서버 인스턴스로 보내므로 트랜잭션 없이 실행한다. (커밋된 데이터는 TestFixtures 가 정리)
+ */
+@SpringBootTest
+class IdempotencyServiceTest {
+
+    private static final int RETRIES = 16;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = fixtures.saveBuyer("idem");
+        brand = fixtures.saveBrand("멱등 키 테스트 브랜드");
+        category = fixtures.saveCategory("멱등 키 테스트 카테고리");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteCommitted();
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 16번 보내도 주문은 1건만 생성되고 재고도 한 번만 차감되며, 모두 같은 주문을 돌려받는다.")
+    void concurrentRetries_sameKey_orderedOnce() throws InterruptedException {
+        Product product = fixtures.saveProduct(brand, category, "멱등 키 TV", 100_000, 10);
+        OrderCreateRequest request = orderOf(List.of(line(product, 2)));
+        String key = UUID.randomUUID().toString();
+        Set<Integer> orderIds = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(RETRIES, i -> orderIds.add(placeOrder(idempotencyService, key, request).getOrderId()));
+
+        assertThat(orderIds).hasSize(1);
+        assertThat(orderCount()).isEqualTo(1);
+        assertThat(stockOf(product)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("메모리 캐시가 없는 다른 서버로 재요청이 가도 DB 에 저장된 응답을 돌려주고 주문은 다시 만들지 않는다.")
+    void retryOnOtherServer_replaysStoredResponse() {
+        Product product = fixtures.saveProduct(brand, category, "멱등 키 냉장고", 100_000, 10);
+        OrderCreateRequest request = orderOf(List.of(line(product, 1)));
+        String key = UUID.randomUUID().toString();
+
+        OrderResponse first = placeOrder(idempotencyService, key, request);
+
+        IdempotencyService otherServer = new IdempotencyService(jdbcTemplate, objectMapper, transactionManager, 100, 600, 24);
+        OrderResponse replayed = placeOrder(otherServer, key, request);
+
+        assertThat(replayed.getOrderId()).isEqualTo(first.getOrderId());
+        assertThat(replayed.getTotalPrice()).isEqualTo(first.getTotalPrice());
+        assertThat(orderCount()).isEqualTo(1);
+        assertThat(stockOf(product)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 예외가 발생하고, 실패한 요청의 키는 저장되지 않아 다시 쓸 수 있다.")
+    void sameKey_differentRequest_rejected() {
+        Product product = fixtures.saveProduct(brand, category, "멱등 키 세탁기", 100_000, 3);
+        String failedKey = UUID.randomUUID().toString();
+
+        // 재고 부족으로 실패 → 키도 같이 롤백
+        assertThatThrownBy(() -> placeOrder(idempotencyService, failedKey, orderOf(List.of(line(product, 5)))))
+                .isInstanceOf(IllegalArgumentException.class);
+        placeOrder(idempotencyService, failedKey, orderOf(List.of(line(product, 1))));
+
+        assertThatThrownBy(() -> placeOrder(idempotencyService, failedKey, orderOf(List.of(line(product, 2)))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Idempotency-Key");
+        assertThat(orderCount()).isEqualTo(1);
+        assertThat(stockOf(product)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 키 행만 지워지고, 지워진 키는 새 요청으로 다시 쓸 수 있다.")
+    void purgeExpired_deletesOnlyOldKeys() {
+        Product product = fixtures.saveProduct(brand, category, "멱등 키 건조기", 100_000, 10);
+        String oldKey = UUID.randomUUID().toString();
+        String recentKey = UUID.randomUUID().toString();
+        OrderCreateRequest request = orderOf(List.of(line(product, 1)));
+
+        placeOrder(idempotencyService, oldKey, request);
+        placeOrder(idempotencyService, recentKey, request);
+        jdbcTemplate.update("UPDATE idempotency_key SET created_at = NOW() - INTERVAL 25 HOUR WHERE user_id = ? AND idem_key = ?",
+                user.getUserId(), oldKey);
+
+        assertThat(idempotencyService.purgeExpired()).isGreaterThanOrEqualTo(1);
+
+        assertThat(keyCount(oldKey)).isZero();
+        assertThat(keyCount(recentKey)).isEqualTo(1);
+
+        // 메모리 캐시가 없는 서버에서는 지워진 키가 새 요청으로 처리된다.
+        IdempotencyService otherServer = new IdempotencyService(jdbcTemplate, objectMapper, transactionManager, 100, 600, 24);
+        placeOrder(otherServer, oldKey, request);
+        assertThat(orderCount()).isEqualTo(3);
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private OrderResponse placeOrder(IdempotencyService service, String key, OrderCreateRequest request) {
+        return service.execute(user.getUserId(), IdempotencyService.SCOPE_ORDER, key, request, OrderResponse.class,
+                () -> orderService.createOrder(user.getUserId(), request));
+    }
+
+    private OrderItemCreateRequest line(Product product, int quantity) {
+        return OrderItemCreateRequest.builder()
+                .productId(product.getProductId())
+                .quantity(quantity)
+                .build();
+    }
+
+    private OrderCreateRequest orderOf(List<OrderItemCreateRequest> lines) {
+        return OrderCreateRequest.builder()
+                .items(lines)
+                .build();
+    }
+
+    private int stockOf(Product product) {
+        return productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity();
+    }
+
+    private int orderCount() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ?",
+                Integer.class, user.getUserId());
+        return count != null ? count : 0;
+    }
+
+    private int keyCount(String key) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_key WHERE user_id = ? AND idem_key = ?",
+                Integer.class, user.getUserId(), key);
+        return count != null ? count : 0;
+    }
+
+    private interface Buyer {
+        void buy(int index);
+    }
+
+    // 모든 스레드를 동시에 출발시키고 전부 끝날 때까지 기다린다.
+    private void runConcurrently(int threads, Buyer buyer) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    buyer.buy(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,51 @@
+package com.sesac.fmmall.Service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("날짜 / 정수 정렬키 커서를 만들고 다시 읽으면 같은 (정렬키, id) 이다.")
+    void encodeDecode_roundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2031, 3, 10, 12, 0, 5, 123_000_000);
+
+        KeysetCursor byDate = KeysetCursor.decode(KeysetCursor.encode(createdAt, 42));
+        KeysetCursor byPrice = KeysetCursor.decode(KeysetCursor.encode(15_000, 7));
+
+        assertThat(byDate.dateTimeKey()).isEqualTo(createdAt);
+        assertThat(byDate.id()).isEqualTo(42);
+        assertThat(byPrice.intKey("정렬 불일치")).isEqualTo(15_000);
+        assertThat(byPrice.id()).isEqualTo(7);
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 틀린 커서는 IllegalArgumentException, 정렬키 타입이 다르면 지정한 메시지로 예외")
+    void decode_rejectsMalformed() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64 !"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(KeysetCursor.INVALID_CURSOR);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("2031-03-10T12:00")))
+                .hasMessage(KeysetCursor.INVALID_CURSOR);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("2031-03-10T12:00|abc")))
+                .hasMessage(KeysetCursor.INVALID_CURSOR);
+
+        KeysetCursor price = KeysetCursor.decode(KeysetCursor.encode(15_000, 7));
+        assertThatThrownBy(() -> price.dateTimeKey("정렬 불일치"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("정렬 불일치");
+    }
+
+    private String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,175 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Order.OrderSummaryResponse;
+import com.sesac.fmmall.DTO.Order.OrderSummarySliceResponse;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.QueryCounter;
+import com.sesac.fmmall.Support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 기반 주문 내역 조회 테스트
+ * - 최신순 (createdAt DESC, orderId DESC), 같은 시각의 주문도 빠짐/중복 없이 이어서 조회
+ * - 총 수량 / 상품명은 DB 에서 계산, 페이지당 쿼리 수는 주문 건수와 무관하게 2번
+ */
+@SpringBootTest
+@Transactional
+class OrderHistoryTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private QueryCounter queryCounter;
+    private User user;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager, entityManagerFactory);
+
+        user = fixtures.saveBuyer("history");
+        brand = fixtures.saveBrand("내역 테스트 브랜드");
+        category = fixtures.saveCategory("내역 테스트 카테고리");
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 모든 주문이 최신순으로 한 번씩만 조회된다. (같은 시각은 주문 번호 역순)")
+    void getOrderHistory_walksAllPagesInOrder() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // 0~3 은 같은 시각, 4~6 은 1분씩 뒤
+            LocalDateTime createdAt = i < 4 ? base : base.plusMinutes(i);
+            expected.add(placeOrder(createdAt, 2, 1));
+        }
+        expected.sort(Comparator
+                .comparing((Integer id) -> orderRepository.findById(id).orElseThrow().getCreatedAt())
+                .thenComparing(id -> id)
+                .reversed());
+
+        List<Integer> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            OrderSummarySliceResponse slice = orderService.getOrderHistory(user.getUserId(), cursor, 3);
+            slice.getOrders().forEach(order -> walked.add(order.getOrderId()));
+            cursor = slice.getNextCursor();
+            assertThat(slice.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("총 수량과 상품명(중복 제거, 주문상품 순서)은 기존 주문 목록과 같은 값을 돌려준다.")
+    void getOrderHistory_matchesLegacySummary() {
+        placeOrder(LocalDateTime.now(), 3, 2);
+        placeOrder(LocalDateTime.now(), 1, 5);
+
+        List<OrderSummaryResponse> legacy = orderService.getOrdersByUser(user.getUserId());
+        List<OrderSummaryResponse> history = orderService.getOrderHistory(user.getUserId(), null, null).getOrders();
+
+        assertThat(history).hasSize(legacy.size());
+        for (OrderSummaryResponse summary : history) {
+            OrderSummaryResponse same = legacy.stream()
+                    .filter(l -> l.getOrderId() == summary.getOrderId())
+                    .findFirst().orElseThrow();
+            assertThat(summary.getTotalPrice()).isEqualTo(same.getTotalPrice());
+            assertThat(summary.getTotalQuantity()).isEqualTo(same.getTotalQuantity());
+            assertThat(summary.getProductNames()).containsExactlyElementsOf(same.getProductNames());
+        }
+    }
+
+    @Test
+    @DisplayName("한 페이지 조회는 주문 건수/주문상품 수와 관계없이 SQL 2번으로 끝난다.")
+    void getOrderHistory_constantStatementsPerPage() {
+        for (int i = 0; i < 30; i++) {
+            placeOrder(LocalDateTime.now(), 4, 1);
+        }
+
+        AtomicReference<OrderSummarySliceResponse> slice = new AtomicReference<>();
+        queryCounter.assertStatements(2, () ->
+                slice.set(orderService.getOrderHistory(user.getUserId(), null, 20)));
+        assertThat(slice.get().getOrders()).hasSize(20);
+
+        queryCounter.assertStatements(2, () ->
+                slice.set(orderService.getOrderHistory(user.getUserId(), slice.get().getNextCursor(), 20)));
+        assertThat(slice.get().getOrders()).hasSize(10);
+        assertThat(slice.get().isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 범위를 벗어난 조회 개수는 IllegalArgumentException")
+    void getOrderHistory_invalidInput() {
+        assertThatThrownBy(() -> orderService.getOrderHistory(user.getUserId(), "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderService.getOrderHistory(user.getUserId(), null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderService.getOrderHistory(user.getUserId(), null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private int placeOrder(LocalDateTime createdAt, int lineCount, int quantity) {
+        List<OrderItemCreateRequest> lines = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(OrderItemCreateRequest.builder()
+                    .productId(fixtures.saveProduct(brand, category, "내역 상품 " + i, 10_000, 100).getProductId())
+                    .quantity(quantity)
+                    .build());
+        }
+        OrderResponse response = orderService.createOrder(user.getUserId(), OrderCreateRequest.builder()
+                .items(lines)
+                .build());
+
+        Order order = orderRepository.findById(response.getOrderId()).orElseThrow();
+        order.setCreatedAt(createdAt.withNano(0));
+        return order.getOrderId();
+    }
+}
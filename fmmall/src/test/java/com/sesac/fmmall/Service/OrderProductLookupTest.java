@@ -0,0 +1,190 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.CartItem.CartItemCheckRequestDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
+import com.sesac.fmmall.DTO.Order.CartOrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.QueryCounter;
+import com.sesac.fmmall.Support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 생성 시 상품 조회 round trip 테스트
+ * - 주문 상품이 1개든 30개든 조회 쿼리 수가 같아야 한다. (상품별 findById / 지연 로딩 금지)
+ * - round trip 수는 QueryCounter(Hibernate Statistics)로 센다.
+ */
+@SpringBootTest
+@Transactional
+class OrderProductLookupTest {
+
+    private static final int MANY = 30;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private QueryCounter queryCounter;
+    private User user;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager, entityManagerFactory);
+
+        user = fixtures.saveBuyer("lookup");
+        brand = fixtures.saveBrand("조회 테스트 브랜드");
+        category = fixtures.saveCategory("조회 테스트 카테고리");
+    }
+
+    @Test
+    @DisplayName("직접 주문 시 주문 상품 수와 관계없이 상품 조회는 IN 쿼리 1번으로 끝난다.")
+    void createOrder_roundTripsDoNotGrowWithLines() {
+        List<OrderItemCreateRequest> oneLine = List.of(line(fixtures.saveProduct(brand, category, "단건 상품", 10_000, 100), 1));
+        List<OrderItemCreateRequest> manyLines = new ArrayList<>();
+        for (int i = 0; i < MANY; i++) {
+            manyLines.add(line(fixtures.saveProduct(brand, category, "다건 상품 " + i, 10_000, 100), 1));
+        }
+
+        long single = measureRoundTrips(() -> orderService.createOrder(user.getUserId(), orderOf(oneLine)));
+        long many = measureRoundTrips(() -> orderService.createOrder(user.getUserId(), orderOf(manyLines)));
+
+        System.out.printf("=== 직접 주문 조회 round trip: 1개 상품 %d회 / %d개 상품 %d회 ===%n", single, MANY, many);
+
+        assertThat(many).isEqualTo(single);
+        assertThat(statistics().getEntityStatistics(Product.class.getName()).getFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 상품이 여러 줄에 있어도 한 번만 조회하고 재고는 합산 수량만큼 한 번에 차감된다.")
+    void createOrder_duplicateLines_collapsed() {
+        Product product = fixtures.saveProduct(brand, category, "중복 상품", 10_000, 100);
+
+        OrderResponse response = orderService.createOrder(user.getUserId(),
+                orderOf(List.of(line(product, 2), line(product, 3))));
+
+        assertThat(response.getItems()).hasSize(2);
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(100 - 5);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이 섞여 있으면 누락된 상품 ID 를 모두 담아 바로 실패한다.")
+    void createOrder_missingProducts_failFast() {
+        Product product = fixtures.saveProduct(brand, category, "있는 상품", 10_000, 100);
+        int missingA = product.getProductId() + 10_000;
+        int missingB = product.getProductId() + 20_000;
+
+        assertThatThrownBy(() -> orderService.createOrder(user.getUserId(), orderOf(List.of(
+                line(product, 1),
+                OrderItemCreateRequest.builder().productId(missingA).quantity(1).build(),
+                OrderItemCreateRequest.builder().productId(missingB).quantity(1).build()))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(missingA))
+                .hasMessageContaining(String.valueOf(missingB));
+
+        // 실패한 주문은 재고를 건드리지 않는다.
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("장바구니 주문 시 장바구니 상품 수와 관계없이 상품을 지연 로딩하지 않는다.")
+    void createOrderFromCart_roundTripsDoNotGrowWithItems() {
+        fillCart(1);
+        long single = measureRoundTrips(() ->
+                orderService.createOrderFromCart(user.getUserId(), new CartOrderCreateRequest()));
+
+        fillCart(MANY);
+        long many = measureRoundTrips(() ->
+                orderService.createOrderFromCart(user.getUserId(), new CartOrderCreateRequest()));
+
+        System.out.printf("=== 장바구니 주문 조회 round trip: 1개 상품 %d회 / %d개 상품 %d회 ===%n", single, MANY, many);
+
+        assertThat(many).isEqualTo(single);
+        assertThat(statistics().getEntityStatistics(Product.class.getName()).getFetchCount()).isZero();
+        assertThat(statistics().getCollectionFetchCount()).isZero();
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private long measureRoundTrips(Runnable action) {
+        return queryCounter.count(action).reads();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void fillCart(int itemCount) {
+        entityManager.flush();
+        entityManager.clear();
+
+        CartItemCheckRequestDTO checked = new CartItemCheckRequestDTO();
+        checked.setCheckStatus("Y");   // 선택된 항목만 주문된다.
+
+        for (int i = 0; i < itemCount; i++) {
+            CartItemCreateRequestDTO request = new CartItemCreateRequestDTO();
+            request.setProductId(fixtures.saveProduct(brand, category, "장바구니 상품 " + i, 10_000, 100).getProductId());
+            request.setQuantity(1);
+            int cartItemId = cartService.createCartItem(user.getUserId(), request).getChangedItem().getCartItemId();
+            cartService.updateCheckStatus(user.getUserId(), cartItemId, checked);
+        }
+    }
+
+    private OrderItemCreateRequest line(Product product, int quantity) {
+        return OrderItemCreateRequest.builder()
+                .productId(product.getProductId())
+                .quantity(quantity)
+                .build();
+    }
+
+    private OrderCreateRequest orderOf(List<OrderItemCreateRequest> lines) {
+        return OrderCreateRequest.builder()
+                .items(lines)
+                .build();
+    }
+}
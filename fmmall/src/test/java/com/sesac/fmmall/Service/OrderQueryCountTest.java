@@ -0,0 +1,195 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
+import com.sesac.fmmall.DTO.Order.CheckoutContextResponse;
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Order.OrderSummaryResponse;
+import com.sesac.fmmall.DTO.Refund.RefundCreateRequest;
+import com.sesac.fmmall.DTO.Refund.RefundItemCreateRequest;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.QueryCounter;
+import com.sesac.fmmall.Support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 조회 쿼리 수 테스트
+ * - 주문 상세 / 주문 목록은 주문상품·환불·주문 건수와 관계없이 고정된 SQL 수로 끝나야 한다. (N+1 금지)
+ * - 주문 상세: 주문 + 결제 + 주문상품 (1) → 환불 (1)
+ * - 주문 목록: 주문 + 결제 + 주문상품 (1)
+ * - 주문서 정보: 장바구니 항목 + 상품 (1) → 배송지 (1) → 결제수단 (1)
+ * - 상품명/단가는 주문상품의 주문 당시 스냅샷이라 상품은 읽지 않는다.
+ */
+@SpringBootTest
+@Transactional
+class OrderQueryCountTest {
+
+    private static final long DETAIL_STATEMENTS = 2;
+    private static final long HISTORY_STATEMENTS = 1;
+    private static final long CHECKOUT_CONTEXT_STATEMENTS = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private RefundService refundService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private QueryCounter queryCounter;
+    private User user;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager, entityManagerFactory);
+
+        user = fixtures.saveBuyer("query");
+        brand = fixtures.saveBrand("쿼리 테스트 브랜드");
+        category = fixtures.saveCategory("쿼리 테스트 카테고리");
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회는 주문상품/환불 수와 관계없이 SQL 2번으로 끝난다.")
+    void getOrderDetail_constantStatements() {
+        OrderResponse small = placeOrder(1);
+        OrderResponse large = placeOrder(10);
+        refund(large, 0);
+        refund(large, 1);
+        refund(large, 2);
+
+        AtomicReference<OrderResponse> smallDetail = new AtomicReference<>();
+        AtomicReference<OrderResponse> largeDetail = new AtomicReference<>();
+
+        queryCounter.assertStatements(DETAIL_STATEMENTS, () ->
+                smallDetail.set(orderService.getOrderDetail(small.getOrderId(), user.getUserId())));
+        QueryCounter.Result result = queryCounter.assertStatements(DETAIL_STATEMENTS, () ->
+                largeDetail.set(orderService.getOrderDetail(large.getOrderId(), user.getUserId())));
+
+        assertThat(result.lazyLoads()).isZero();
+        assertThat(smallDetail.get().getItems()).hasSize(1);
+        assertThat(largeDetail.get().getItems()).hasSize(10);
+        assertThat(largeDetail.get().getRefunds()).hasSize(3);
+        assertThat(largeDetail.get().getPayment()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회는 주문 건수와 관계없이 SQL 1번으로 끝난다.")
+    void getOrdersByUser_constantStatements() {
+        placeOrder(3);
+
+        QueryCounter.Result single = queryCounter.assertStatements(HISTORY_STATEMENTS, () ->
+                assertThat(orderService.getOrdersByUser(user.getUserId())).hasSize(1));
+
+        for (int i = 0; i < 9; i++) {
+            placeOrder(3);
+        }
+
+        AtomicReference<List<OrderSummaryResponse>> history = new AtomicReference<>();
+        QueryCounter.Result many = queryCounter.assertStatements(HISTORY_STATEMENTS, () ->
+                history.set(orderService.getOrdersByUser(user.getUserId())));
+
+        assertThat(many.lazyLoads()).isEqualTo(single.lazyLoads()).isZero();
+        assertThat(history.get()).hasSize(10);
+        assertThat(history.get()).allSatisfy(summary -> {
+            assertThat(summary.getTotalQuantity()).isEqualTo(3);
+            assertThat(summary.getProductNames()).hasSize(3);
+        });
+    }
+
+    @Test
+    @DisplayName("주문서 정보 조회는 장바구니 항목 수와 관계없이 SQL 3번으로 끝난다.")
+    void getCheckoutContext_constantStatements() {
+        List<Integer> cartItemIds = new ArrayList<>();
+        cartItemIds.add(addToCart("주문서 상품 0"));
+
+        QueryCounter.Result single = queryCounter.assertStatements(CHECKOUT_CONTEXT_STATEMENTS, () ->
+                assertThat(orderService.getCheckoutContext(user.getUserId(), cartItemIds).getItems()).hasSize(1));
+
+        for (int i = 1; i < 10; i++) {
+            cartItemIds.add(addToCart("주문서 상품 " + i));
+        }
+
+        AtomicReference<CheckoutContextResponse> context = new AtomicReference<>();
+        QueryCounter.Result many = queryCounter.assertStatements(CHECKOUT_CONTEXT_STATEMENTS, () ->
+                context.set(orderService.getCheckoutContext(user.getUserId(), cartItemIds)));
+
+        assertThat(many.lazyLoads()).isEqualTo(single.lazyLoads()).isZero();
+        assertThat(context.get().getItems()).hasSize(10);
+        assertThat(context.get().getTotalPrice()).isEqualTo(10 * 10_000);
+        assertThat(context.get().getDefaultAddressId()).isNotNull();
+        assertThat(context.get().getDefaultPaymentMethodId()).isNotNull();
+        assertThat(context.get().getCheckoutToken()).isNotBlank();
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private int addToCart(String productName) {
+        CartItemCreateRequestDTO request = new CartItemCreateRequestDTO();
+        request.setProductId(fixtures.saveProduct(brand, category, productName, 10_000, 100).getProductId());
+        request.setQuantity(1);
+        return cartService.createCartItem(user.getUserId(), request).getChangedItem().getCartItemId();
+    }
+
+    private OrderResponse placeOrder(int lineCount) {
+        List<OrderItemCreateRequest> lines = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(OrderItemCreateRequest.builder()
+                    .productId(fixtures.saveProduct(brand, category, "쿼리 테스트 상품 " + i, 10_000, 100).getProductId())
+                    .quantity(1)
+                    .build());
+        }
+        return orderService.createOrder(user.getUserId(), OrderCreateRequest.builder()
+                .items(lines)
+                .build());
+    }
+
+    private void refund(OrderResponse order, int itemIndex) {
+        refundService.createRefund(user.getUserId(), RefundCreateRequest.builder()
+                .orderId(order.getOrderId())
+                .paymentId(order.getPayment().getPaymentId())
+                .reasonCode("CHANGE")
+                .reasonDetail("단순 변심")
+                .refundType("PARTIAL")
+                .items(List.of(RefundItemCreateRequest.builder()
+                        .orderItemId(order.getItems().get(itemIndex).getOrderItemId())
+                        .refundQuantity(1)
+                        .build()))
+                .build());
+    }
+}
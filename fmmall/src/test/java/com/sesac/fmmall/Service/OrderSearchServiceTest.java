@@ -0,0 +1,263 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.Order.AdminOrderSearchRequest;
+import com.sesac.fmmall.DTO.Order.AdminOrderSliceResponse;
+import com.sesac.fmmall.DTO.Order.AdminOrderSummaryResponse;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Service.OrderSearchService.Path;
+import com.sesac.fmmall.Service.OrderSearchService.SearchQuery;
+import com.sesac.fmmall.Support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 관리자 주문 검색 테스트
+ * - 조건별 결과 / 최신순 커서 페이지가 빠짐·중복 없이 이어지는지
+ * - 실행 계획: 조건마다 고른 인덱스에서 출발하고, 페이지를 고르는 쿼리가 정렬(filesort) 없이 인덱스 순서대로 읽는지
+ */
+@SpringBootTest
+@Transactional
+class OrderSearchServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2031, 3, 10, 12, 0);
+
+    @Autowired
+    private OrderSearchService orderSearchService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User buyer;
+    private User other;
+    private Product tv;
+    private Product fridge;
+    private String phone;
+
+    @BeforeEach
+    void setUp() {
+        buyer = fixtures.saveUser("search-buyer");
+        other = fixtures.saveUser("search-other");
+
+        Brand brand = fixtures.saveBrand("주문 검색 테스트 브랜드");
+        Category category = fixtures.saveCategory("주문 검색 테스트 카테고리");
+        tv = fixtures.saveProduct(brand, category, "주문 검색 TV", 10_000, 100);
+        fridge = fixtures.saveProduct(brand, category, "주문 검색 냉장고", 10_000, 100);
+
+        phone = "010-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("기간 / 주문자 / 상품 / 연락처 / 금액 / 송장 조건에 맞는 주문만 최신순으로 돌려준다.")
+    void search_filters() {
+        Order o1 = saveOrder(buyer, BASE, phone, null, tv, 1);             // 10,000
+        Order o2 = saveOrder(buyer, BASE.plusDays(1), phone, "TRK-1", fridge, 3); // 30,000
+        Order o3 = saveOrder(other, BASE.plusDays(2), "010-0000-0000", null, tv, 5); // 50,000
+        Order o4 = saveOrder(buyer, BASE.plusDays(3), phone, "TRK-2", tv, 2);      // 20,000
+        LocalDate from = BASE.toLocalDate();
+        LocalDate to = BASE.plusDays(3).toLocalDate();
+
+        assertThat(ids(search(condition(from, to).userId(buyer.getUserId()))))
+                .containsExactly(o4.getOrderId(), o2.getOrderId(), o1.getOrderId());
+        assertThat(ids(search(condition(from, to).receiverPhone(phone).hasTrackingNumber(false))))
+                .containsExactly(o1.getOrderId());
+        assertThat(ids(search(condition(from, to).productId(tv.getProductId()))))
+                .containsExactly(o4.getOrderId(), o3.getOrderId(), o1.getOrderId());
+        assertThat(ids(search(condition(from, to).userId(buyer.getUserId()).productId(tv.getProductId()))))
+                .containsExactly(o4.getOrderId(), o1.getOrderId());
+        assertThat(ids(search(condition(from, to).minTotalPrice(20_000).maxTotalPrice(30_000).hasTrackingNumber(true))))
+                .containsExactly(o4.getOrderId(), o2.getOrderId());
+        assertThat(ids(search(condition(from.plusDays(1), to.minusDays(1)))))
+                .containsExactly(o3.getOrderId(), o2.getOrderId());
+    }
+
+    @Test
+    @DisplayName("nextCursor 로 이어서 조회하면 같은 시각의 주문도 빠짐/중복 없이 최신순으로 이어진다.")
+    void search_keysetPagination() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // 2건씩 같은 시각
+            expected.add(saveOrder(buyer, BASE.plusMinutes(i / 2), phone, null, tv, 1).getOrderId());
+        }
+
+        List<AdminOrderSummaryResponse> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            AdminOrderSliceResponse slice = search(AdminOrderSearchRequest.builder()
+                    .userId(buyer.getUserId())
+                    .cursor(cursor)
+                    .size(2));
+            all.addAll(slice.getOrders());
+            cursor = slice.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids(all)).containsExactlyInAnyOrderElementsOf(expected);
+        for (int i = 1; i < all.size(); i++) {
+            AdminOrderSummaryResponse prev = all.get(i - 1);
+            AdminOrderSummaryResponse cur = all.get(i);
+            boolean descending = prev.getCreatedAt().isAfter(cur.getCreatedAt())
+                    || (prev.getCreatedAt().isEqual(cur.getCreatedAt()) && prev.getOrderId() > cur.getOrderId());
+            assertThat(descending).as("최신순 정렬").isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 조회 개수 / 기간 / 금액 범위 / 커서는 거절한다.")
+    void search_invalidRequest() {
+        assertThatThrownBy(() -> search(AdminOrderSearchRequest.builder().size(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> search(condition(BASE.toLocalDate(), BASE.toLocalDate().minusDays(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> search(AdminOrderSearchRequest.builder().minTotalPrice(2).maxTotalPrice(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> search(AdminOrderSearchRequest.builder().cursor("not-a-cursor")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("실행 계획 - 조건마다 고른 인덱스에서 출발하고, 페이지 선택은 정렬 없이 인덱스 순서로 읽는다.")
+    void searchPlan_usesChosenIndexWithoutFilesort() {
+        saveOrder(buyer, BASE, phone, null, tv, 1);
+        LocalDate from = BASE.toLocalDate();
+        LocalDate to = from.plusDays(30);
+
+        // 기간 / 금액 / 송장만 → 커버링 인덱스만 읽는다.
+        List<Map<String, Object>> created = explain(condition(from, to)
+                .minTotalPrice(1_000).hasTrackingNumber(false).build(), Path.CREATED);
+        assertThat(pageRow(created, "o").get("key")).isEqualTo("idx_orders_created_search");
+        assertThat(extra(pageRow(created, "o"))).contains("Using index").doesNotContain("filesort");
+
+        // 기간 + 상품 (많이 팔린 상품) → 최신순 인덱스를 읽으면서 주문마다 order_item 인덱스로 확인
+        List<Map<String, Object>> createdWithProduct = explain(condition(from, to)
+                .productId(tv.getProductId()).build(), Path.CREATED);
+        assertThat(pageRow(createdWithProduct, "o").get("key")).isEqualTo("idx_orders_created_search");
+        assertThat(extra(pageRow(createdWithProduct, "o"))).doesNotContain("filesort");
+        assertThat(row(createdWithProduct, "oi").get("select_type")).isEqualTo("DEPENDENT SUBQUERY");
+        assertThat(row(createdWithProduct, "oi").get("key"))
+                .isIn("idx_order_item_order_product", "idx_order_item_product_order");
+
+        // 주문자 / 연락처 → 해당 인덱스의 범위를 최신순으로
+        List<Map<String, Object>> user = explain(AdminOrderSearchRequest.builder()
+                .userId(buyer.getUserId()).build(), Path.USER);
+        assertThat(pageRow(user, "o").get("key")).isEqualTo("idx_orders_user_created_id");
+        assertThat(extra(pageRow(user, "o"))).doesNotContain("filesort");
+
+        List<Map<String, Object>> byPhone = explain(AdminOrderSearchRequest.builder()
+                .receiverPhone(phone).build(), Path.PHONE);
+        assertThat(pageRow(byPhone, "o").get("key")).isEqualTo("idx_orders_phone_created_id");
+        assertThat(extra(pageRow(byPhone, "o"))).doesNotContain("filesort");
+
+        // 적게 팔린 상품 → 상품의 주문 ID 목록에서 출발, 주문은 PK 로
+        List<Map<String, Object>> product = explain(AdminOrderSearchRequest.builder()
+                .productId(tv.getProductId()).build(), Path.PRODUCT);
+        assertThat(pageRow(product, "oi").get("key")).isEqualTo("idx_order_item_product_order");
+        assertThat(pageRow(product, "o").get("key")).isEqualTo("PRIMARY");
+
+        // 집계상 주문이 없는 상품은 상품에서 출발한다.
+        assertThat(orderSearchService.choosePath(AdminOrderSearchRequest.builder()
+                .productId(fridge.getProductId()).build())).isEqualTo(Path.PRODUCT);
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private AdminOrderSliceResponse search(AdminOrderSearchRequest.AdminOrderSearchRequestBuilder builder) {
+        return orderSearchService.search(builder.build());
+    }
+
+    private AdminOrderSearchRequest.AdminOrderSearchRequestBuilder condition(LocalDate from, LocalDate to) {
+        return AdminOrderSearchRequest.builder().from(from).to(to);
+    }
+
+    private List<Integer> ids(AdminOrderSliceResponse slice) {
+        return ids(slice.getOrders());
+    }
+
+    private List<Integer> ids(List<AdminOrderSummaryResponse> orders) {
+        return orders.stream().map(AdminOrderSummaryResponse::getOrderId).toList();
+    }
+
+    private List<Map<String, Object>> explain(AdminOrderSearchRequest request, Path path) {
+        SearchQuery query = orderSearchService.buildQuery(request, path, BASE, Integer.MAX_VALUE, 21);
+        return jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.args().toArray());
+    }
+
+    // 페이지 주문 ID 를 고르는 파생 테이블(DERIVED) 안의 테이블 행
+    private Map<String, Object> pageRow(List<Map<String, Object>> plan, String table) {
+        return plan.stream()
+                .filter(row -> table.equals(row.get("table")) && "DERIVED".equals(row.get("select_type")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("실행 계획에 " + table + " 가 없습니다. " + plan));
+    }
+
+    private Map<String, Object> row(List<Map<String, Object>> plan, String table) {
+        return plan.stream()
+                .filter(row -> table.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("실행 계획에 " + table + " 가 없습니다. " + plan));
+    }
+
+    private String extra(Map<String, Object> row) {
+        Object extra = row.get("Extra");
+        return extra != null ? extra.toString() : "";
+    }
+
+    // 검색은 JdbcTemplate 으로 읽으므로 저장 후 바로 flush 한다.
+    private Order saveOrder(User user, LocalDateTime createdAt, String receiverPhone, String trackingNumber,
+                            Product product, int quantity) {
+        Order order = Order.builder()
+                .receiverName("수령인")
+                .receiverPhone(receiverPhone)
+                .zipcode("12345")
+                .address1("서울시 테스트구")
+                .address2("1층")
+                .totalPrice(0)
+                .deliveryTrackingNumber(trackingNumber)
+                .createdAt(createdAt)
+                .user(user)
+                .build();
+        order.addOrderItem(OrderItem.builder()
+                .product(product)
+                .productName(product.getName())
+                .unitPrice(product.getPrice())
+                .quantity(quantity)
+                .build());
+        order.setTotalPrice(order.calculateTotalPrice());
+        entityManager.persist(order);
+        entityManager.flush();
+        return order;
+    }
+}
@@ -1,20 +1,26 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.OrderStatus;
 import com.sesac.fmmall.Constant.ProductStatus;
 import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
 import com.sesac.fmmall.DTO.Order.CartOrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.CheckoutContextResponse;
 import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
 import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
 import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Review.ReviewRequestDTO;
 import com.sesac.fmmall.Entity.*;
 import com.sesac.fmmall.Repository.*;
 import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +29,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 class OrderServiceTest {
@@ -30,6 +37,12 @@ class OrderServiceTest {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CartService cartService;
+
     // ==== Repositories ====
     @Autowired
     private UserRepository userRepository;
@@ -47,7 +60,7 @@ class OrderServiceTest {
     private ProductRepository productRepository;
 
     @Autowired
-    private CartRepository cartRepository;
+    private CartItemRepository cartItemRepository;
 
     @Autowired
     private PaymentMethodRepository paymentMethodRepository;
@@ -58,6 +71,15 @@ class OrderServiceTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderItemSnapshotBackfill orderItemSnapshotBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
     // SecurityConfig 때문에 필요한 MockBean 들
     @MockBean
     private PasswordEncoder passwordEncoder;
@@ -68,7 +90,6 @@ class OrderServiceTest {
     // ==== 테스트에서 공통으로 사용할 엔티티들 ====
     private User user;
     private Product product;
-    private Cart cart;
     private CartItem cartItem;
     private PaymentMethod paymentMethod;
     private Address address;
@@ -132,13 +153,8 @@ class OrderServiceTest {
                 .build();
         address = addressRepository.save(address);
 
-        // 5) 장바구니 + 장바구니 아이템
-        cart = new Cart(user);      // Cart(User user) 생성자 사용
-        cart = cartRepository.save(cart);
-
-        cartItem = CartItem.createCartItem(product, 2);  // 수량 2개
-        cart.addCartItem(cartItem);                      // 양방향 연관관계 편의 메서드
-        cart = cartRepository.save(cart);                // cascade 로 cartItem 함께 저장
+        // 5) 장바구니 + 장바구니 아이템 (CartService 로 담는다. 장바구니는 첫 담기 때 생성)
+        cartItem = cartItemRepository.findById(addToCart(product, 2)).orElseThrow();  // 수량 2개
 
         // 6) 결제수단(PaymentMethod)
         paymentMethod = PaymentMethod.builder()
@@ -164,6 +180,7 @@ class OrderServiceTest {
         CartOrderCreateRequest request = CartOrderCreateRequest.builder()
                 .addressId(address.getAddressId())
                 .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .cartItemIds(List.of(cartItem.getCartItemId()))
                 .build();
 
         // 2) 서비스 호출
@@ -195,6 +212,132 @@ class OrderServiceTest {
 
         assertThat(updatedProduct.getStockQuantity())
                 .isEqualTo(beforeStock - cartItem.getCartItemQuantity());
+
+        // 6) 주문한 장바구니 항목은 삭제
+        assertThat(cartItemRepository.existsById(cartItem.getCartItemId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("장바구니 기반 주문 - cartItemIds 가 없으면 선택(Y)된 항목만 주문하고 나머지는 장바구니에 남는다")
+    @Transactional
+    void createOrderFromCart_checkedItemsOnly() {
+
+        // 선택 안 된 항목 하나 더 (다른 상품)
+        Product otherProduct = productRepository.save(Product.builder()
+                .name("선택 안 한 상품")
+                .price(5_000)
+                .stockQuantity(10)
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .brand(product.getBrand())
+                .category(product.getCategory())
+                .build());
+        CartItem uncheckedItem = cartItemRepository.findById(addToCart(otherProduct, 1)).orElseThrow();
+
+        cartItem = cartItemRepository.findById(cartItem.getCartItemId()).orElseThrow();
+        cartItem.updateCheckStatus("Y", user.getUserId());
+
+        OrderResponse response = orderService.createOrderFromCart(user.getUserId(), CartOrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .build());
+
+        assertThat(response.getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getProductId()).isEqualTo(product.getProductId()));
+        assertThat(cartItemRepository.existsById(cartItem.getCartItemId())).isFalse();
+        assertThat(cartItemRepository.existsById(uncheckedItem.getCartItemId())).isTrue();
+        assertThat(productRepository.findById(otherProduct.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("장바구니 기반 주문 - 재고가 부족한 항목이 있으면 부족한 상품을 알려주고 아무것도 차감하지 않는다")
+    @Transactional
+    void createOrderFromCart_insufficientStock() {
+
+        CartOrderCreateRequest request = CartOrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .cartItemIds(List.of(cartItem.getCartItemId()))
+                .build();
+        productRepository.findById(product.getProductId()).orElseThrow().setStockQuantity(1);
+
+        assertThatThrownBy(() -> orderService.createOrderFromCart(user.getUserId(), request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(product.getProductId()));
+        assertThat(cartItemRepository.existsById(cartItem.getCartItemId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("장바구니 기반 주문 - 주문서의 checkoutToken 으로 주문하면 주문서에 보여준 항목/기본 배송지/기본 결제수단으로 주문된다")
+    @Transactional
+    void createOrderFromCart_withCheckoutToken() {
+
+        CheckoutContextResponse context = orderService.getCheckoutContext(user.getUserId(),
+                List.of(cartItem.getCartItemId()));
+
+        assertThat(context.getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getCartItemId()).isEqualTo(cartItem.getCartItemId()));
+        assertThat(context.getDefaultAddressId()).isEqualTo(address.getAddressId());
+        assertThat(context.getDefaultPaymentMethodId()).isEqualTo(paymentMethod.getPaymentMethodId());
+
+        // 항목/배송지/결제수단을 따로 보내지 않아도 토큰에 서명된 값으로 주문된다.
+        OrderResponse response = orderService.createOrderFromCart(user.getUserId(), CartOrderCreateRequest.builder()
+                .checkoutToken(context.getCheckoutToken())
+                .build());
+
+        assertThat(response.getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getQuantity()).isEqualTo(2));
+        assertThat(response.getReceiverName()).isEqualTo(address.getReceiverName());
+        assertThat(response.getPayment().getPaymentMethodType()).isEqualTo(paymentMethod.getCardCompany());
+        assertThat(cartItemRepository.existsById(cartItem.getCartItemId())).isFalse();
+
+        // 다른 사용자의 토큰은 거절된다.
+        assertThatThrownBy(() -> orderService.createOrderFromCart(user.getUserId() + 1, CartOrderCreateRequest.builder()
+                .checkoutToken(context.getCheckoutToken())
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("주문서를 다시 불러와주세요");
+    }
+
+    @Test
+    @DisplayName("장바구니 기반 주문 - 만료/위조된 checkoutToken 이면 선택된 항목으로 대신 주문하지 않고 거절한다")
+    @Transactional
+    void createOrderFromCart_withInvalidCheckoutToken_rejected() {
+
+        CheckoutContextResponse context = orderService.getCheckoutContext(user.getUserId(),
+                List.of(cartItem.getCartItemId()));
+        String token = context.getCheckoutToken();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // 선택(Y)된 항목이 있어도 그 항목으로 주문되지 않는다.
+        cartItem = cartItemRepository.findById(cartItem.getCartItemId()).orElseThrow();
+        cartItem.updateCheckStatus("Y", user.getUserId());
+
+        assertThatThrownBy(() -> orderService.createOrderFromCart(user.getUserId(), CartOrderCreateRequest.builder()
+                .checkoutToken(tampered)
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("주문서를 다시 불러와주세요");
+        assertThat(cartItemRepository.existsById(cartItem.getCartItemId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("장바구니 기반 주문 - 주문서를 연 뒤 결제수단이 삭제되었으면 checkoutToken 으로도 주문할 수 없다")
+    @Transactional
+    void createOrderFromCart_withCheckoutToken_rejectsDeletedPaymentMethod() {
+
+        CheckoutContextResponse context = orderService.getCheckoutContext(user.getUserId(),
+                List.of(cartItem.getCartItemId()));
+
+        paymentMethodRepository.delete(paymentMethod);
+        paymentMethodRepository.flush();
+
+        assertThatThrownBy(() -> orderService.createOrderFromCart(user.getUserId(), CartOrderCreateRequest.builder()
+                .checkoutToken(context.getCheckoutToken())
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("결제수단");
     }
 
     // ========================================================================
@@ -255,4 +398,120 @@ class OrderServiceTest {
         assertThat(updatedProduct.getStockQuantity())
                 .isEqualTo(beforeStock - orderQuantity);
     }
+
+    // ========================================================================
+    // ③ 주문 당시 상품명/단가 스냅샷
+    // ========================================================================
+    @Test
+    @DisplayName("주문 후 상품 이름/가격이 바뀌어도 주문 상세와 금액은 주문 당시 값으로 보인다")
+    @Transactional
+    void orderDetail_usesSnapshotAfterProductChange() {
+
+        OrderResponse created = orderService.createOrder(user.getUserId(), OrderCreateRequest.builder()
+                .items(List.of(OrderItemCreateRequest.builder()
+                        .productId(product.getProductId())
+                        .quantity(2)
+                        .build()))
+                .build());
+        entityManager.flush();
+
+        jdbcTemplate.update("UPDATE product SET product_name = ?, product_price = ? WHERE product_id = ?",
+                "이름이 바뀐 TV", 1_500_000, product.getProductId());
+        entityManager.clear();
+
+        OrderResponse detail = orderService.getOrderDetail(created.getOrderId(), user.getUserId());
+
+        assertThat(detail.getItems().get(0).getProductName()).isEqualTo("테스트 TV");
+        assertThat(detail.getItems().get(0).getProductPrice()).isEqualTo(1_000_000);
+        assertThat(detail.getItems().get(0).getLineTotalPrice()).isEqualTo(2_000_000);
+        assertThat(detail.getTotalPrice()).isEqualTo(2_000_000);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 비어 있는 옛 주문상품은 백필 작업이 상품 정보로 채운다")
+    @Transactional
+    void backfill_fillsMissingSnapshot() {
+
+        OrderResponse created = orderService.createOrder(user.getUserId(), OrderCreateRequest.builder()
+                .items(List.of(OrderItemCreateRequest.builder()
+                        .productId(product.getProductId())
+                        .quantity(1)
+                        .build()))
+                .build());
+        int orderItemId = created.getItems().get(0).getOrderItemId();
+        entityManager.flush();
+
+        // 컬럼 추가 전에 만들어진 주문상품처럼 비워 둔다.
+        jdbcTemplate.update("UPDATE order_item SET product_name = NULL, unit_price = NULL WHERE order_item_id = ?", orderItemId);
+
+        assertThat(orderItemSnapshotBackfill.backfill()).isGreaterThanOrEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT product_name FROM order_item WHERE order_item_id = ?",
+                String.class, orderItemId)).isEqualTo("테스트 TV");
+        assertThat(jdbcTemplate.queryForObject("SELECT unit_price FROM order_item WHERE order_item_id = ?",
+                Integer.class, orderItemId)).isEqualTo(1_000_000);
+    }
+
+    // ========================================================================
+    // ④ 주문 취소 - 행을 지우지 않고 상태만 바꾼다
+    // ========================================================================
+    @Test
+    @DisplayName("주문 취소 시 재고가 복구되고, 주문/결제는 CANCELLED 상태로 남으며 두 번 취소할 수 없다")
+    @Transactional
+    void cancelOrder_keepsOrderAsCancelled() {
+
+        OrderResponse created = orderService.createOrder(user.getUserId(), OrderCreateRequest.builder()
+                .items(List.of(OrderItemCreateRequest.builder()
+                        .productId(product.getProductId())
+                        .quantity(4)
+                        .build()))
+                .build());
+
+        orderService.cancelOrder(created.getOrderId(), user.getUserId());
+        entityManager.clear();
+
+        OrderResponse detail = orderService.getOrderDetail(created.getOrderId(), user.getUserId());
+        assertThat(detail.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(detail.getCancelledAt()).isNotNull();
+        assertThat(detail.getItems()).hasSize(1);
+        assertThat(detail.getPayment()).isNotNull();
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(10);
+
+        assertThatThrownBy(() -> orderService.cancelOrder(created.getOrderId(), user.getUserId()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("취소된 주문의 상품에는 리뷰를 작성할 수 없다")
+    @Transactional
+    void insertReview_rejectsCancelledOrder() {
+
+        OrderResponse created = orderService.createOrder(user.getUserId(), OrderCreateRequest.builder()
+                .items(List.of(OrderItemCreateRequest.builder()
+                        .productId(product.getProductId())
+                        .quantity(1)
+                        .build()))
+                .build());
+        orderService.cancelOrder(created.getOrderId(), user.getUserId());
+        entityManager.clear();
+
+        ReviewRequestDTO request = new ReviewRequestDTO();
+        request.setOrderItemId(created.getItems().get(0).getOrderItemId());
+        request.setReviewRating(5.0);
+        request.setReviewContent("취소한 주문 리뷰");
+
+        assertThatThrownBy(() -> reviewService.insertReview(user.getUserId(), request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("취소된 주문");
+    }
+
+    private int addToCart(Product product, int quantity) {
+        CartItemCreateRequestDTO request = new CartItemCreateRequestDTO();
+        request.setProductId(product.getProductId());
+        request.setQuantity(quantity);
+        return cartService.createCartItem(user.getUserId(), request).getChangedItem().getCartItemId();
+    }
 }
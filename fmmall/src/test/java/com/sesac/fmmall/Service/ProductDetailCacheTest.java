@@ -0,0 +1,227 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.DTO.Cache.CacheStatsResponse;
+import com.sesac.fmmall.DTO.Product.ProductRequestDTO;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.Entity.Brand;
+import com.sesac.fmmall.Entity.Category;
+import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Entity.RowCategory;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.CategoryRepository;
+import com.sesac.fmmall.Repository.ProductRepository;
+import com.sesac.fmmall.Repository.RowCategoryRepository;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 상세 캐시 테스트
+ * - 두 번째 조회부터는 DB 를 읽지 않는다.
+ * - 상품 수정/삭제, 재고 차감/복구가 커밋되면 바로 최신 값을 돌려준다. (롤백되면 캐시 유지)
+ */
+@SpringBootTest
+class ProductDetailCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private ProductDetailCache productDetailCache;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private QueryCounter queryCounter;
+    private Brand brand;
+    private Category category;
+    private RowCategory rowCategory;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager, entityManagerFactory);
+        productDetailCache.clear();
+
+        brand = brandRepository.save(Brand.builder().name("상세 캐시 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("상세 캐시 카테고리").build());
+        rowCategory = rowCategoryRepository.save(RowCategory.builder().name("상세 캐시 하위 카테고리").category(category).build());
+        product = productRepository.save(Product.builder()
+                .name("상세 캐시 상품")
+                .price(10_000)
+                .stockQuantity(100)
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (productRepository.existsById(product.getProductId())) {
+            productRepository.deleteById(product.getProductId());
+        }
+        rowCategoryRepository.deleteById(rowCategory.getRowCategoryId());
+        categoryRepository.deleteById(category.getCategoryId());
+        brandRepository.deleteById(brand.getBrandId());
+        productDetailCache.clear();
+    }
+
+    @Test
+    @DisplayName("두 번째 상세 조회부터는 SQL 없이 캐시에서 돌려준다.")
+    void findProduct_secondCallHitsCache() {
+        long hitsBefore = productDetailCache.stats().getHitCount();
+
+        queryCounter.assertStatements(1, () -> productService.findProductByProductId(product.getProductId()));
+        queryCounter.assertStatements(0, () -> productService.findProductByProductId(product.getProductId()));
+
+        assertThat(productDetailCache.stats().getHitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("상품 수정이 커밋되면 다음 조회는 수정된 값을 돌려준다.")
+    void modifyProduct_invalidates() {
+        productService.findProductByProductId(product.getProductId());
+
+        productService.modifyProduct(product.getProductId(), ProductRequestDTO.builder()
+                .productName("이름 변경")
+                .productPrice(12_000)
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ON_SALE)
+                .brandId(brand.getBrandId())
+                .categoryId(category.getCategoryId())
+                .rowCategoryId(rowCategory.getRowCategoryId())
+                .build());
+
+        ProductResponseDTO found = productService.findProductByProductId(product.getProductId());
+        assertThat(found.getProductName()).isEqualTo("이름 변경");
+        assertThat(found.getProductPrice()).isEqualTo(12_000);
+    }
+
+    @Test
+    @DisplayName("상품이 삭제되면 캐시에 남아 있지 않고 없는 상품으로 처리된다.")
+    void deleteProduct_invalidates() {
+        productService.findProductByProductId(product.getProductId());
+
+        productService.deleteProduct(product.getProductId());
+
+        assertThatThrownBy(() -> productService.findProductByProductId(product.getProductId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("재고 차감/복구가 커밋되면 상세 조회 재고가 바로 바뀌고, 롤백되면 캐시는 그대로다.")
+    void stockChange_invalidatesAfterCommit() {
+        int productId = product.getProductId();
+        assertThat(productService.findProductByProductId(productId).getStockQuantity()).isEqualTo(100);
+
+        transactionTemplate.executeWithoutResult(status -> stockReservationService.reserve(Map.of(productId, 7)));
+        assertThat(productService.findProductByProductId(productId).getStockQuantity()).isEqualTo(93);
+
+        transactionTemplate.executeWithoutResult(status -> stockReservationService.restock(Map.of(productId, 2)));
+        assertThat(productService.findProductByProductId(productId).getStockQuantity()).isEqualTo(95);
+
+        long invalidations = productDetailCache.stats().getInvalidationCount();
+        transactionTemplate.executeWithoutResult(status -> {
+            stockReservationService.reserve(Map.of(productId, 5));
+            status.setRollbackOnly();
+        });
+        assertThat(productDetailCache.stats().getInvalidationCount()).isEqualTo(invalidations);
+        queryCounter.assertStatements(0, () ->
+                assertThat(productService.findProductByProductId(productId).getStockQuantity()).isEqualTo(95));
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 안 쓴 상품부터 제거되고, 조회 도중 무효화된 값은 넣지 않는다.")
+    void boundedAndRaceSafe() {
+        ProductDetailCache cache = new ProductDetailCache(2, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, () -> load(loads, 1));
+        cache.get(2, () -> load(loads, 2));
+        cache.get(1, () -> load(loads, 1));
+        cache.get(3, () -> load(loads, 3));   // 2 가 밀려남
+
+        CacheStatsResponse stats = cache.stats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getEvictionCount()).isEqualTo(1);
+
+        cache.get(4, () -> {
+            cache.invalidate(4);   // 읽는 사이에 재고 변경 커밋
+            return load(loads, 4);
+        });
+        int loadsBefore = loads.get();
+        cache.get(4, () -> load(loads, 4));
+        assertThat(loads.get()).isEqualTo(loadsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("조회한 DTO 를 고쳐도 캐시된 값은 바뀌지 않는다.")
+    void returnedDto_isCopy() {
+        ProductDetailCache cache = new ProductDetailCache(10, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        ProductResponseDTO loaded = cache.get(1, () -> load(loads, 1));
+        loaded.setProductName("호출한 쪽에서 변경");
+        ProductResponseDTO first = cache.get(1, () -> load(loads, 1));
+        first.setStockQuantity(-1);
+        ProductResponseDTO second = cache.get(1, () -> load(loads, 1));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getProductName()).isNull();
+        assertThat(second.getStockQuantity()).isZero();
+    }
+
+    private ProductResponseDTO load(AtomicInteger loads, int productId) {
+        loads.incrementAndGet();
+        return ProductResponseDTO.builder().productId(productId).build();
+    }
+}
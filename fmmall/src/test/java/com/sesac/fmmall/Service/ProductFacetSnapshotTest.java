@@ -0,0 +1,87 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Service.ProductFacetSnapshot.Counts;
+import com.sesac.fmmall.Service.ProductFacetSnapshot.Filter;
+import com.sesac.fmmall.Service.ProductFacetSnapshot.Row;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 패싯 스냅샷 단위 테스트 (스프링 없이 스냅샷만)
+ * - 각 패싯은 자기 필터만 빼고 세고, 상위 카테고리는 모든 패싯에 적용된다.
+ * - 등록/수정/삭제와 재적재 도중 변경이 반영된다.
+ */
+class ProductFacetSnapshotTest {
+
+    private ProductFacetSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ProductFacetSnapshot();
+        snapshot.rebuild(sink -> {
+            // 상품 ID, 상위 카테고리, 하위 카테고리, 브랜드, 가격
+            sink.accept(new Row(1, 1, 11, 100, 50_000));
+            sink.accept(new Row(2, 1, 11, 200, 450_000));
+            sink.accept(new Row(3, 1, 12, 100, 1_200_000));
+            sink.accept(new Row(4, 1, 0, 200, 3_500_000));
+            sink.accept(new Row(5, 2, 21, 100, 700_000));
+        });
+    }
+
+    @Test
+    @DisplayName("필터가 없으면 전체 상품을 브랜드 / 하위 카테고리 / 가격대별로 센다.")
+    void count_withoutFilter() {
+        Counts counts = snapshot.count(new Filter(null, null, null, null, null));
+
+        assertThat(counts.total()).isEqualTo(5);
+        assertThat(counts.brandCounts()).containsExactly(entry(100, 3), entry(200, 2));
+        // 하위 카테고리가 없는 상품(4)은 항목에서 빠진다.
+        assertThat(counts.rowCategoryCounts()).containsExactly(entry(11, 2), entry(12, 1), entry(21, 1));
+        assertThat(counts.priceRangeCounts()).containsExactly(1, 1, 1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("각 패싯은 자기 필터만 빼고 센다.")
+    void count_drillSideways() {
+        Counts counts = snapshot.count(new Filter(1, 11, 100, null, 1_000_000));
+
+        assertThat(counts.total()).isEqualTo(1);
+        // 브랜드 필터를 뺀 (카테고리 1, 하위 11, 100만원 이하) → 100 1개, 200 1개
+        assertThat(counts.brandCounts()).containsExactly(entry(100, 1), entry(200, 1));
+        // 하위 카테고리 필터를 뺀 (카테고리 1, 브랜드 100, 100만원 이하) → 11 만
+        assertThat(counts.rowCategoryCounts()).containsExactly(entry(11, 1));
+        // 가격 필터를 뺀 (카테고리 1, 하위 11, 브랜드 100) → 5만원 1개
+        assertThat(counts.priceRangeCounts()).containsExactly(1, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 바로 반영되고, 재적재 도중 들어온 변경도 새 스냅샷에 남는다.")
+    void putRemoveAndRebuild() {
+        snapshot.put(new Row(2, 1, 12, 100, 450_000));
+        snapshot.remove(3);
+
+        Counts counts = snapshot.count(new Filter(1, null, null, null, null));
+        assertThat(counts.total()).isEqualTo(3);
+        assertThat(counts.brandCounts()).containsExactly(entry(100, 2), entry(200, 1));
+        assertThat(counts.rowCategoryCounts()).containsExactly(entry(11, 1), entry(12, 1));
+
+        snapshot.rebuild(sink -> {
+            sink.accept(new Row(1, 1, 11, 100, 50_000));
+            snapshot.put(new Row(9, 1, 11, 300, 80_000));
+            snapshot.remove(1);
+        });
+
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.count(new Filter(null, null, null, null, null)).brandCounts())
+                .containsExactly(entry(300, 1));
+    }
+
+    private static Map.Entry<Integer, Integer> entry(int id, int count) {
+        return Map.entry(id, count);
+    }
+}
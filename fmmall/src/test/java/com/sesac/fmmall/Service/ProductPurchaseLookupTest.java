@@ -0,0 +1,166 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Refund.RefundCreateRequest;
+import com.sesac.fmmall.DTO.Refund.RefundItemCreateRequest;
+import com.sesac.fmmall.DTO.Refund.RefundResponse;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.QueryCounter;
+import com.sesac.fmmall.Support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 기준 주문 / 환불 내역 조회 테스트
+ * - 사용자 + 상품 조건을 SQL 에서 같이 걸어서 다른 사용자 주문은 아예 읽지 않는다.
+ * - 결과는 기존 동작과 같다. (해당 상품이 포함된 내 주문 전체 / 해당 상품이 포함된 내 환불)
+ */
+@SpringBootTest
+@Transactional
+class ProductPurchaseLookupTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private RefundService refundService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private QueryCounter queryCounter;
+    private Brand brand;
+    private Category category;
+
+    private User me;
+    private User other;
+    private Product target;
+    private Product another;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager, entityManagerFactory);
+
+        brand = fixtures.saveBrand("상품기준 테스트 브랜드");
+        category = fixtures.saveCategory("상품기준 테스트 카테고리");
+
+        me = fixtures.saveBuyer("me");
+        other = fixtures.saveBuyer("other");
+        target = fixtures.saveProduct(brand, category, "찾는 상품", 10_000, 100);
+        another = fixtures.saveProduct(brand, category, "다른 상품", 10_000, 100);
+    }
+
+    @Test
+    @DisplayName("상품 기준 주문 조회는 해당 상품이 포함된 내 주문만 주문상품 전체와 함께 SQL 2번으로 돌려준다.")
+    void getOrdersByUserAndProduct_onlyMyOrdersWithProduct() {
+        OrderResponse onlyTarget = placeOrder(me, target);
+        OrderResponse mixed = placeOrder(me, another, target);
+        placeOrder(me, another);
+        for (int i = 0; i < 5; i++) {
+            placeOrder(other, target);
+        }
+        refund(me, mixed, 1);
+
+        AtomicReference<List<OrderResponse>> result = new AtomicReference<>();
+        queryCounter.assertStatements(2, () ->
+                result.set(orderService.getOrdersByUserAndProduct(me.getUserId(), target.getProductId())));
+
+        assertThat(result.get())
+                .extracting(OrderResponse::getOrderId)
+                .containsExactly(onlyTarget.getOrderId(), mixed.getOrderId());
+        assertThat(result.get().get(1).getItems()).hasSize(2);
+        assertThat(result.get().get(1).getRefunds()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("상품 기준 환불 조회는 해당 상품이 포함된 내 환불만 환불상품과 함께 SQL 1번으로 돌려준다.")
+    void getRefundsByUserAndProduct_onlyMyRefundsWithProduct() {
+        OrderResponse mixed = placeOrder(me, another, target);
+        OrderResponse anotherOnly = placeOrder(me, another);
+        OrderResponse othersOrder = placeOrder(other, target);
+
+        RefundResponse targetRefund = refund(me, mixed, 1);
+        refund(me, mixed, 0);
+        refund(me, anotherOnly, 0);
+        refund(other, othersOrder, 0);
+
+        AtomicReference<List<RefundResponse>> result = new AtomicReference<>();
+        queryCounter.assertStatements(1, () ->
+                result.set(refundService.getRefundsByUserAndProduct(me.getUserId(), target.getProductId())));
+
+        assertThat(result.get())
+                .extracting(RefundResponse::getRefundId)
+                .containsExactly(targetRefund.getRefundId());
+        assertThat(result.get().get(0).getItems()).hasSize(1);
+        assertThat(result.get().get(0).getItems().get(0).getOrderItemId())
+                .isEqualTo(mixed.getItems().get(1).getOrderItemId());
+    }
+
+    @Test
+    @DisplayName("해당 상품을 산 적이 없으면 빈 목록")
+    void notPurchased_empty() {
+        placeOrder(other, target);
+
+        assertThat(orderService.getOrdersByUserAndProduct(me.getUserId(), target.getProductId())).isEmpty();
+        assertThat(refundService.getRefundsByUserAndProduct(me.getUserId(), target.getProductId())).isEmpty();
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private OrderResponse placeOrder(User user, Product... products) {
+        List<OrderItemCreateRequest> lines = new ArrayList<>();
+        for (Product product : products) {
+            lines.add(OrderItemCreateRequest.builder()
+                    .productId(product.getProductId())
+                    .quantity(2)   // 1개씩 부분 환불할 수 있도록 2개씩
+                    .build());
+        }
+        return orderService.createOrder(user.getUserId(), OrderCreateRequest.builder()
+                .items(lines)
+                .build());
+    }
+
+    private RefundResponse refund(User user, OrderResponse order, int itemIndex) {
+        return refundService.createRefund(user.getUserId(), RefundCreateRequest.builder()
+                .orderId(order.getOrderId())
+                .paymentId(order.getPayment().getPaymentId())
+                .reasonCode("CHANGE")
+                .reasonDetail("단순 변심")
+                .refundType("PARTIAL")
+                .items(List.of(RefundItemCreateRequest.builder()
+                        .orderItemId(order.getItems().get(itemIndex).getOrderItemId())
+                        .refundQuantity(1)
+                        .build()))
+                .build());
+    }
+}
@@ -0,0 +1,142 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Service.ProductSearchIndex.Document;
+import com.sesac.fmmall.Service.ProductSearchIndex.Hit;
+import com.sesac.fmmall.Service.ProductSearchIndex.Query;
+import com.sesac.fmmall.Service.ProductSearchIndex.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 검색 색인 단위 테스트 (스프링 없이 색인만)
+ * - 한글 2-gram 토큰화, AND 검색, 점수 순서, 필터/패싯, 증분 반영, 재색인 중 변경 반영
+ */
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.rebuild(sink -> {
+            sink.accept(new Document(1, 1, 10, 1_590_000, "삼성 갤럭시북4 Pro", "NT960XGK-K71A", "가벼운 노트북"));
+            sink.accept(new Document(2, 1, 20, 2_390_000, "LG 그램 16", "16Z90S-GA5CK", "갤럭시북과 비교해도 가벼운 노트북"));
+            sink.accept(new Document(3, 2, 10, 89_000, "갤럭시 버즈3", "SM-R530", "무선 이어폰"));
+            sink.accept(new Document(4, 3, 20, 3_490_000, "LG 디오스 냉장고", "M874GBB031", "오브제컬렉션 양문형 냉장고"));
+        });
+    }
+
+    @Test
+    @DisplayName("NFKC 정규화 + 소문자로 바꾼 뒤 단어를 2-gram 으로 자른다.")
+    void tokenize_bigrams() {
+        assertThat(ProductSearchIndex.tokenize("삼성 갤럭시북4 Pro"))
+                .containsExactly("삼성", "갤럭", "럭시", "시북", "북4", "pr", "ro");
+        assertThat(ProductSearchIndex.tokenize("ＬＧ-그램")).containsExactly("lg", "그램");
+        assertThat(ProductSearchIndex.tokenize("a 냉")).containsExactly("a", "냉");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없이 붙여 쓴 검색어도 찾고, 상품명에 있는 상품이 설명에만 있는 상품보다 앞선다.")
+    void search_partialWordAndRanking() {
+        Result result = index.search(query("갤럭시북"));
+
+        assertThat(productIds(result)).containsExactly(1, 2);
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.hits().get(0).score()).isGreaterThan(result.hits().get(1).score());
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰이 있어야 일치하고, 모델명 / 한 글자 검색어로도 찾는다.")
+    void search_andSemantics() {
+        assertThat(productIds(index.search(query("갤럭시 냉장고")))).isEmpty();
+        assertThat(productIds(index.search(query("lg 냉장고")))).containsExactly(4);
+        assertThat(productIds(index.search(query("sm-r530")))).containsExactly(3);
+        assertThat(productIds(index.search(query("폰")))).containsExactly(3);
+        assertThat(productIds(index.search(query("없는상품")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("필터는 결과에 적용되고, 각 패싯은 자기 필터만 빼고 센다.")
+    void search_filtersAndFacets() {
+        Result result = index.search(new Query("노트북", null, 20, null, null, 10));
+
+        assertThat(productIds(result)).containsExactly(2);
+        assertThat(result.totalHits()).isEqualTo(1);
+        // 브랜드 패싯은 브랜드 필터를 빼고 센다 → 10 번 브랜드 1개도 보인다.
+        assertThat(result.brandCounts()).containsEntry(10, 1).containsEntry(20, 1);
+        assertThat(result.categoryCounts()).containsOnlyKeys(1).containsEntry(1, 1);
+        // 1,000,000 ~ 3,000,000 구간
+        assertThat(result.priceRangeCounts()[3]).isEqualTo(1);
+
+        Result priced = index.search(new Query("", null, null, 100_000, 2_000_000, 10));
+        assertThat(productIds(priced)).containsExactly(1);
+        assertThat(priced.priceRangeCounts()).containsExactly(1, 0, 0, 2, 1);
+    }
+
+    @Test
+    @DisplayName("검색어 없이 필터만 주면 최신 상품(ID 큰 것) 순으로 size 개만 돌려준다.")
+    void search_filterOnly_topK() {
+        Result result = index.search(new Query(null, null, null, null, null, 2));
+
+        assertThat(productIds(result)).containsExactly(4, 3);
+        assertThat(result.totalHits()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 바로 반영되고, 죽은 문서가 쌓여 정리된 뒤에도 결과가 같다.")
+    void upsertAndRemove_withCompaction() {
+        index.upsert(new Document(3, 2, 10, 99_000, "갤럭시 버즈3 프로", "SM-R630", "노이즈 캔슬링 이어폰"));
+        index.remove(1);
+
+        assertThat(productIds(index.search(query("갤럭시북")))).containsExactly(2);
+        assertThat(productIds(index.search(query("캔슬링")))).containsExactly(3);
+        assertThat(productIds(index.search(query("무선")))).isEmpty();
+
+        for (int productId = 100; productId < 3_100; productId++) {
+            index.upsert(new Document(productId, 5, 30, 10_000, "임시 상품 " + productId, null, null));
+        }
+        for (int productId = 100; productId < 3_000; productId++) {
+            index.remove(productId);
+        }
+
+        assertThat(index.size()).isEqualTo(3 + 100);
+        assertThat(index.search(query("임시 상품")).totalHits()).isEqualTo(100);
+        assertThat(productIds(index.search(query("갤럭시북")))).containsExactly(2);
+        assertThat(productIds(index.search(query("캔슬링")))).containsExactly(3);
+        // 한 글자 검색어도 정리된 토큰 목록으로 찾는다.
+        assertThat(productIds(index.search(query("슬")))).containsExactly(3);
+        assertThat(productIds(index.search(query("폰")))).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("재색인 도중 들어온 등록/삭제는 새 색인에도 반영되고, 그동안 기존 색인으로 검색된다.")
+    void rebuild_appliesChangesMadeDuringRebuild() {
+        index.rebuild(sink -> {
+            sink.accept(new Document(1, 1, 10, 1_590_000, "삼성 갤럭시북4 Pro", null, null));
+            sink.accept(new Document(4, 3, 20, 3_490_000, "LG 디오스 냉장고", null, null));
+
+            // 재색인 도중: 기존 색인으로 검색, 변경은 양쪽에 반영
+            assertThat(productIds(index.search(query("버즈")))).containsExactly(3);
+            index.upsert(new Document(5, 2, 10, 59_000, "갤럭시 워치7", null, null));
+            index.remove(4);
+        });
+
+        assertThat(productIds(index.search(query("워치")))).containsExactly(5);
+        assertThat(productIds(index.search(query("냉장고")))).isEmpty();
+        assertThat(productIds(index.search(query("버즈")))).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private Query query(String keyword) {
+        return new Query(keyword, null, null, null, null, 10);
+    }
+
+    private List<Integer> productIds(Result result) {
+        return result.hits().stream().map(Hit::productId).toList();
+    }
+}
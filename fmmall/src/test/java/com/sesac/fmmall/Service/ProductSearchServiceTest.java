@@ -0,0 +1,270 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.DTO.Product.FacetCountDTO;
+import com.sesac.fmmall.DTO.Product.ProductFacetRequestDTO;
+import com.sesac.fmmall.DTO.Product.ProductFacetResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductRequestDTO;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchConditionDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchRequestDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchResponseDTO;
+import com.sesac.fmmall.Entity.Brand;
+import com.sesac.fmmall.Entity.Category;
+import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Entity.RowCategory;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.CategoryRepository;
+import com.sesac.fmmall.Repository.ProductRepository;
+import com.sesac.fmmall.Repository.RowCategoryRepository;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 검색 서비스 테스트
+ * - 재색인은 DB 의 상품을 모두 읽어 온다.
+ * - 상품 등록/수정/삭제가 커밋되면 바로 검색 결과와 목록 패싯 집계에 반영되고, 롤백되면 반영되지 않는다.
+ * (커밋 후 반영을 확인해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리)
+ */
+@SpringBootTest
+class ProductSearchServiceTest {
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private Brand brand;
+    private Category category;
+    private RowCategory rowCategory;
+    private final List<Integer> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        brand = brandRepository.save(Brand.builder().name("검색 테스트 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("검색 테스트 카테고리").build());
+        rowCategory = rowCategoryRepository.save(RowCategory.builder().name("검색 테스트 하위 카테고리").category(category).build());
+
+        // 색인 전에 DB 에만 있던 상품 → 재색인으로 들어와야 한다.
+        productIds.add(productRepository.save(Product.builder()
+                .name("검색테스트 올레드 모니터")
+                .price(450_000)
+                .stockQuantity(10)
+                .modelName("SRCH-OLED-27")
+                .description("검색테스트 27인치 게이밍 모니터")
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build()).getProductId());
+
+        productSearchService.rebuildIndex();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (int productId : productIds) {
+            if (productRepository.existsById(productId)) {
+                productService.deleteProduct(productId);
+            }
+        }
+        rowCategoryRepository.deleteById(rowCategory.getRowCategoryId());
+        categoryRepository.deleteById(category.getCategoryId());
+        brandRepository.deleteById(brand.getBrandId());
+    }
+
+    @Test
+    @DisplayName("재색인한 상품을 검색어로 찾고, 카테고리/브랜드/가격대 패싯을 함께 돌려준다.")
+    void search_afterRebuild() {
+        ProductSearchResponseDTO result = productSearchService.search(search("올레드 모니터"));
+
+        assertThat(result.getProducts()).extracting(ProductResponseDTO::getProductId)
+                .containsExactly(productIds.get(0));
+        assertThat(result.getTotalHits()).isEqualTo(1);
+        assertThat(result.getCategories()).singleElement()
+                .satisfies(facet -> assertThat(facet.getId()).isEqualTo(category.getCategoryId()));
+        assertThat(result.getBrands()).singleElement()
+                .satisfies(facet -> assertThat(facet.getId()).isEqualTo(brand.getBrandId()));
+        // 100,000 ~ 500,000 구간
+        assertThat(result.getPriceRanges()).hasSize(ProductSearchIndex.PRICE_RANGE_BOUNDS.length);
+        assertThat(result.getPriceRanges().get(1).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품 등록/수정/삭제가 커밋되면 바로 검색 결과에 반영된다.")
+    void createModifyDelete_reflectedAfterCommit() {
+        ProductResponseDTO created = productService.createProduct(request("검색테스트 미니 건조기", 890_000));
+        productIds.add(created.getProductId());
+        assertThat(searchIds("미니 건조기")).containsExactly(created.getProductId());
+
+        productService.modifyProduct(created.getProductId(), request("검색테스트 대용량 건조기", 1_290_000));
+        assertThat(searchIds("미니 건조기")).isEmpty();
+        assertThat(searchIds("대용량 건조기")).containsExactly(created.getProductId());
+
+        productService.deleteProduct(created.getProductId());
+        assertThat(searchIds("대용량 건조기")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("진열 중지 / 단종 상품은 검색 / 목록 / 패싯에서 빠지고, 다시 판매 상태로 바꾸면 나온다.")
+    void hiddenProduct_notSearchable() {
+        int productId = productIds.get(0);
+        ProductFacetRequestDTO inCategory = ProductFacetRequestDTO.builder()
+                .categoryId(category.getCategoryId())
+                .build();
+
+        ProductRequestDTO hidden = request("검색테스트 올레드 모니터", 450_000);
+        hidden.setProductStatus(ProductStatus.HIDDEN);
+        productService.modifyProduct(productId, hidden);
+        assertThat(searchIds("올레드 모니터")).isEmpty();
+        assertThat(productSearchService.countFacets(inCategory).getTotalCount()).isZero();
+        assertThat(listedIds()).isEmpty();
+
+        productSearchService.rebuildIndex();
+        assertThat(searchIds("올레드 모니터")).isEmpty();
+        assertThat(productSearchService.countFacets(inCategory).getTotalCount()).isZero();
+
+        productService.modifyProduct(productId, request("검색테스트 올레드 모니터", 450_000));
+        assertThat(searchIds("올레드 모니터")).containsExactly(productId);
+        assertThat(productSearchService.countFacets(inCategory).getTotalCount()).isEqualTo(1);
+        assertThat(listedIds()).containsExactly(productId);
+    }
+
+    @Test
+    @DisplayName("롤백된 상품 수정은 색인에 반영되지 않는다.")
+    void rolledBackChange_notIndexed() {
+        int productId = productIds.get(0);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.modifyProduct(productId, request("검색테스트 롤백 상품", 10_000));
+            status.setRollbackOnly();
+        });
+
+        assertThat(searchIds("롤백 상품")).isEmpty();
+        assertThat(searchIds("올레드 모니터")).containsExactly(productId);
+    }
+
+    @Test
+    @DisplayName("목록 패싯 집계는 DB 조회 없이 현재 필터 기준 브랜드 / 하위 카테고리 / 가격대별 상품 수를 돌려준다.")
+    void countFacets_reflectsWrites() {
+        ProductFacetRequestDTO inCategory = ProductFacetRequestDTO.builder()
+                .categoryId(category.getCategoryId())
+                .build();
+
+        ProductFacetResponseDTO before = productSearchService.countFacets(inCategory);
+        assertThat(before.getTotalCount()).isEqualTo(1);
+        assertThat(before.getBrands()).extracting(FacetCountDTO::getId).containsExactly(brand.getBrandId());
+        assertThat(before.getRowCategories()).extracting(FacetCountDTO::getId)
+                .containsExactly(rowCategory.getRowCategoryId());
+
+        ProductResponseDTO created = productService.createProduct(request("검색테스트 패싯 상품", 2_000_000));
+        productIds.add(created.getProductId());
+
+        ProductFacetResponseDTO afterCreate = productSearchService.countFacets(inCategory);
+        assertThat(afterCreate.getTotalCount()).isEqualTo(2);
+        assertThat(afterCreate.getBrands()).singleElement()
+                .satisfies(facet -> assertThat(facet.getCount()).isEqualTo(2));
+        // 100,000 ~ 500,000 구간 1개, 1,000,000 ~ 3,000,000 구간 1개
+        assertThat(afterCreate.getPriceRanges()).extracting(range -> range.getCount())
+                .containsExactly(0, 1, 0, 1, 0);
+
+        // 가격 필터는 가격대 패싯에는 적용하지 않는다.
+        ProductFacetResponseDTO priced = productSearchService.countFacets(ProductFacetRequestDTO.builder()
+                .categoryId(category.getCategoryId())
+                .minPrice(1_000_000)
+                .build());
+        assertThat(priced.getTotalCount()).isEqualTo(1);
+        assertThat(priced.getPriceRanges()).extracting(range -> range.getCount())
+                .containsExactly(0, 1, 0, 1, 0);
+
+        productService.deleteProduct(created.getProductId());
+        assertThat(productSearchService.countFacets(inCategory).getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 개수나 가격 범위가 잘못되면 예외가 발생한다.")
+    void search_invalidRequest() {
+        assertThatThrownBy(() -> productSearchService.search(ProductSearchRequestDTO.builder().size(0).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productSearchService.search(ProductSearchRequestDTO.builder()
+                .minPrice(10_000).maxPrice(1_000).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productSearchService.countFacets(ProductFacetRequestDTO.builder()
+                .minPrice(10_000).maxPrice(1_000).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Integer> listedIds() {
+        return productService.findProductSlice(ProductSearchConditionDTO.builder()
+                        .categoryId(category.getCategoryId())
+                        .build())
+                .getProducts().stream()
+                .map(ProductResponseDTO::getProductId)
+                .toList();
+    }
+
+    private List<Integer> searchIds(String keyword) {
+        return productSearchService.search(search(keyword)).getProducts().stream()
+                .map(ProductResponseDTO::getProductId)
+                .toList();
+    }
+
+    // 다른 테스트 데이터와 섞이지 않도록 이 테스트의 카테고리로 한정
+    private ProductSearchRequestDTO search(String keyword) {
+        return ProductSearchRequestDTO.builder()
+                .keyword("검색테스트 " + keyword)
+                .categoryId(category.getCategoryId())
+                .build();
+    }
+
+    private ProductRequestDTO request(String name, int price) {
+        return ProductRequestDTO.builder()
+                .productName(name)
+                .productPrice(price)
+                .stockQuantity(5)
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .brandId(brand.getBrandId())
+                .categoryId(category.getCategoryId())
+                .rowCategoryId(rowCategory.getRowCategoryId())
+                .build();
+    }
+}
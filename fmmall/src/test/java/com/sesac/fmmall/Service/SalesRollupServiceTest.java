@@ -0,0 +1,174 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.RefundReasonCode;
+import com.sesac.fmmall.Constant.RefundType;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Refund.RefundCreateRequest;
+import com.sesac.fmmall.DTO.Refund.RefundItemCreateRequest;
+import com.sesac.fmmall.DTO.Refund.RefundResponse;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매출 집계 테스트
+ * - 집계는 커밋된 뒤에 반영되므로 트랜잭션 없이 실행한다. (커밋된 데이터와 집계 행은 TestFixtures 가 정리)
+ * - 날짜 경계에 걸리지 않도록 상품/브랜드별로 날짜를 합쳐서 비교한다.
+ */
+@SpringBootTest
+class SalesRollupServiceTest {
+
+    private static final String TOTALS_SQL =
+            "SELECT COALESCE(SUM(order_count), 0) AS order_count, COALESCE(SUM(quantity), 0) AS quantity, " +
+            "       COALESCE(SUM(amount), 0) AS amount, COALESCE(SUM(cancelled_count), 0) AS cancelled_count, " +
+            "       COALESCE(SUM(cancelled_quantity), 0) AS cancelled_quantity, " +
+            "       COALESCE(SUM(cancelled_amount), 0) AS cancelled_amount, " +
+            "       COALESCE(SUM(refunded_quantity), 0) AS refunded_quantity, " +
+            "       COALESCE(SUM(refunded_amount), 0) AS refunded_amount " +
+            "FROM %s WHERE %s = ?";
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private RefundService refundService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private User admin;
+    private Brand brand;
+    private Category category;
+    private Category otherCategory;
+    private Product tv;
+    private Product fridge;
+
+    @BeforeEach
+    void setUp() {
+        user = fixtures.saveBuyer("sales");
+        admin = fixtures.saveUser("sales-admin", UserRole.ADMIN);
+
+        brand = fixtures.saveBrand("매출 집계 테스트 브랜드");
+        category = fixtures.saveCategory("매출 집계 테스트 카테고리");
+        otherCategory = fixtures.saveCategory("매출 집계 테스트 다른 카테고리");
+        tv = fixtures.saveProduct(brand, category, "매출 집계 TV", 10_000, 100);
+        fridge = fixtures.saveProduct(brand, category, "매출 집계 냉장고", 30_000, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteCommitted();
+    }
+
+    @Test
+    @DisplayName("주문 / 취소 / 환불 완료가 커밋되면 상품 / 카테고리 / 브랜드 집계에 더해지고, 재집계해도 같은 값이다.")
+    void orderCancelRefund_updatesRollups_rebuildMatches() {
+        // 주문 1 : TV 2 + 냉장고 1 (유지)
+        orderService.createOrder(user.getUserId(), orderOf(Map.of(tv, 2, fridge, 1)));
+
+        // 주문 2 : TV 1 → 취소
+        OrderResponse cancelled = orderService.createOrder(user.getUserId(), orderOf(Map.of(tv, 1)));
+        orderService.cancelOrder(cancelled.getOrderId(), user.getUserId());
+
+        // 주문 3 : 냉장고 2 → 1개 환불 완료 (완료 처리를 두 번 해도 한 번만 반영)
+        OrderResponse refunded = orderService.createOrder(user.getUserId(), orderOf(Map.of(fridge, 2)));
+        RefundResponse refund = refundService.createRefund(user.getUserId(), RefundCreateRequest.builder()
+                .orderId(refunded.getOrderId())
+                .paymentId(refunded.getPayment().getPaymentId())
+                .reasonCode(RefundReasonCode.CHANGE.name())
+                .reasonDetail("단순 변심")
+                .refundType(RefundType.PARTIAL.name())
+                .items(List.of(RefundItemCreateRequest.builder()
+                        .orderItemId(refunded.getItems().get(0).getOrderItemId())
+                        .refundQuantity(1)
+                        .build()))
+                .build());
+        refundService.approveRefund(refund.getRefundId(), admin.getUserId());
+        refundService.completeRefund(refund.getRefundId(), admin.getUserId());
+        refundService.completeRefund(refund.getRefundId(), admin.getUserId());
+
+        assertExpectedTotals();
+
+        salesRollupService.rebuild();
+
+        assertExpectedTotals();
+    }
+
+    @Test
+    @DisplayName("주문 뒤에 상품의 카테고리 / 가격이 바뀌어도 취소는 주문 당시 카테고리 / 금액 행에서 빠진다.")
+    void cancelAfterProductMoved_reversesOriginalRow() {
+        OrderResponse order = orderService.createOrder(user.getUserId(), orderOf(Map.of(tv, 1)));
+
+        jdbcTemplate.update("UPDATE product SET category_id = ?, product_price = ? WHERE product_id = ?",
+                otherCategory.getCategoryId(), 99_999, tv.getProductId());
+        orderService.cancelOrder(order.getOrderId(), user.getUserId());
+
+        assertThat(totals("sales_daily_category", "category_id", category.getCategoryId()))
+                .containsExactly(1L, 1L, 10_000L, 1L, 1L, 10_000L, 0L, 0L);
+        assertThat(totals("sales_daily_category", "category_id", otherCategory.getCategoryId()))
+                .containsExactly(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private void assertExpectedTotals() {
+        //                              주문 건수 수량 금액     취소 건수 수량 금액    환불 수량 금액
+        assertThat(totals("sales_daily_product", "product_id", tv.getProductId()))
+                .containsExactly(2L, 3L, 30_000L, 1L, 1L, 10_000L, 0L, 0L);
+        assertThat(totals("sales_daily_product", "product_id", fridge.getProductId()))
+                .containsExactly(2L, 3L, 90_000L, 0L, 0L, 0L, 1L, 30_000L);
+        assertThat(totals("sales_daily_category", "category_id", category.getCategoryId()))
+                .containsExactly(3L, 6L, 120_000L, 1L, 1L, 10_000L, 1L, 30_000L);
+        assertThat(totals("sales_daily_brand", "brand_id", brand.getBrandId()))
+                .containsExactly(3L, 6L, 120_000L, 1L, 1L, 10_000L, 1L, 30_000L);
+    }
+
+    private List<Long> totals(String table, String keyColumn, int key) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(String.format(TOTALS_SQL, table, keyColumn), key);
+        return row.values().stream()
+                .map(value -> ((Number) value).longValue())
+                .toList();
+    }
+
+    private OrderCreateRequest orderOf(Map<Product, Integer> quantities) {
+        return OrderCreateRequest.builder()
+                .items(quantities.entrySet().stream()
+                        .map(entry -> OrderItemCreateRequest.builder()
+                                .productId(entry.getKey().getProductId())
+                                .quantity(entry.getValue())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 예약 동시성 테스트
+ * - 구매자 스레드마다 주문 트랜잭션을 커밋해서 실제 행 잠금 경합을 만든다. (트랜잭션 없이 실행, 커밋된 데이터는 TestFixtures 가 정리)
+ */
+@SpringBootTest
+class StockReservationServiceTest {
+
+    private static final int BUYERS = 64;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = fixtures.saveBuyer("stock");
+        brand = fixtures.saveBrand("재고 테스트 브랜드");
+        category = fixtures.saveCategory("재고 테스트 카테고리");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteCommitted();
+    }
+
+    @Test
+    @DisplayName("한 상품에 64명이 동시에 주문해도 재고 수량만큼만 주문이 성공하고 초과 판매가 없다.")
+    void concurrentBuyers_singleSku_noOversell() throws InterruptedException {
+        int stock = 50;
+        Product product = fixtures.saveProduct(brand, category, "한정판 TV", 100_000, stock);
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        long elapsedNanos = runConcurrently(BUYERS, i -> {
+            try {
+                orderService.createOrder(user.getUserId(), orderOf(List.of(line(product, 1))));
+                success.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                soldOut.incrementAndGet();
+            }
+        });
+
+        Product after = productRepository.findById(product.getProductId()).orElseThrow();
+        Integer orderedQuantity = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM order_item WHERE product_id = ?",
+                Integer.class, product.getProductId());
+
+        System.out.printf("=== 동시 구매자 %d명 / 재고 %d개 ===%n", BUYERS, stock);
+        System.out.printf("성공 %d건, 품절 %d건, 남은 재고 %d개%n", success.get(), soldOut.get(), after.getStockQuantity());
+        System.out.printf("소요 %.1f ms, 처리량 %.1f 주문/초%n",
+                elapsedNanos / 1_000_000.0, BUYERS / (elapsedNanos / 1_000_000_000.0));
+
+        assertThat(success.get()).isEqualTo(stock);
+        assertThat(soldOut.get()).isEqualTo(BUYERS - stock);
+        assertThat(after.getStockQuantity()).isZero();
+        assertThat(orderedQuantity).isEqualTo(stock);
+    }
+
+    @Test
+    @DisplayName("두 상품을 서로 반대 순서로 담은 주문이 동시에 들어와도 교착상태 없이 모두 처리된다.")
+    void concurrentBuyers_reversedLineOrder_noDeadlock() throws InterruptedException {
+        Product tv = fixtures.saveProduct(brand, category, "TV", 100_000, 100);
+        Product soundbar = fixtures.saveProduct(brand, category, "사운드바", 100_000, 100);
+
+        AtomicInteger success = new AtomicInteger();
+
+        runConcurrently(BUYERS, i -> {
+            // 짝수 스레드는 (TV, 사운드바), 홀수 스레드는 (사운드바, TV) 순서로 주문
+            List<OrderItemCreateRequest> lines = (i % 2 == 0)
+                    ? List.of(line(tv, 1), line(soundbar, 1))
+                    : List.of(line(soundbar, 1), line(tv, 1));
+            orderService.createOrder(user.getUserId(), orderOf(lines));
+            success.incrementAndGet();
+        });
+
+        assertThat(success.get()).isEqualTo(BUYERS);
+        assertThat(productRepository.findById(tv.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(100 - BUYERS);
+        assertThat(productRepository.findById(soundbar.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(100 - BUYERS);
+    }
+
+    @Test
+    @DisplayName("주문 취소 시 차감했던 재고가 그대로 복구된다.")
+    void cancelOrder_restocks() {
+        Product product = fixtures.saveProduct(brand, category, "냉장고", 100_000, 10);
+
+        int orderId = orderService.createOrder(user.getUserId(),
+                orderOf(List.of(line(product, 2), line(product, 3)))).getOrderId();
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(5);
+
+        orderService.cancelOrder(orderId, user.getUserId());
+
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(10);
+    }
+
+    // ===================== 헬퍼 ===================== //
+
+    private OrderItemCreateRequest line(Product product, int quantity) {
+        return OrderItemCreateRequest.builder()
+                .productId(product.getProductId())
+                .quantity(quantity)
+                .build();
+    }
+
+    private OrderCreateRequest orderOf(List<OrderItemCreateRequest> lines) {
+        return OrderCreateRequest.builder()
+                .items(lines)
+                .build();
+    }
+
+    private interface Buyer {
+        void buy(int index);
+    }
+
+    // 모든 스레드를 동시에 출발시키고 전부 끝날 때까지의 시간을 반환
+    private long runConcurrently(int threads, Buyer buyer) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    buyer.buy(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return elapsed;
+    }
+}
@@ -0,0 +1,59 @@
+package com.sesac.fmmall.Support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate Statistics 로 SQL 실행 횟수를 세는 테스트 헬퍼
+ * - test application.yml 의 hibernate.generate_statistics = true 가 필요
+ * - 실행 전에 영속성 컨텍스트를 flush / clear 해서 1차 캐시가 아닌 실제 DB 조회를 센다.
+ *
+ * 사용 예)
+ *   queryCounter.assertStatements(2, () -> orderService.getOrderDetail(orderId, userId));
+ */
+public class QueryCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Result count(Runnable action) {
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+        entityManager.clear();
+        statistics.clear();
+
+        action.run();
+
+        return new Result(
+                statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount() + statistics.getEntityFetchCount() + statistics.getCollectionFetchCount(),
+                statistics.getEntityFetchCount() + statistics.getCollectionFetchCount());
+    }
+
+    // action 이 실행한 SQL 문 수가 정확히 expected 인지 확인
+    public Result assertStatements(long expected, Runnable action) {
+        Result result = count(action);
+        assertThat(result.statements())
+                .as("실행된 SQL 문 수 (지연 로딩 %d회 포함)", result.lazyLoads())
+                .isEqualTo(expected);
+        return result;
+    }
+
+    /**
+     * @param statements 실행된 SQL 문 수 (조회 + 변경, JDBC 배치는 1개로 계산)
+     * @param reads      조회 round trip 수 (JPQL/Criteria 쿼리 + 단건 fetch + 컬렉션 fetch)
+     * @param lazyLoads  지연 로딩으로 추가 발생한 조회 수 (N+1 의 "N")
+     */
+    public record Result(long statements, long reads, long lazyLoads) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.sesac.fmmall.Support;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서비스 테스트 공통 데이터 (사용자 / 배송지·결제수단 / 브랜드 / 카테고리 / 상품) 생성과 정리
+ * - 테스트 인스턴스마다 새로 주입된다. (prototype) 이 인스턴스로 만든 사용자 / 브랜드 / 카테고리를 기억해 둔다.
+ * - @Transactional 테스트는 롤백되므로 정리가 필요 없다.
+ * - 여러 스레드 / 워커 / 커밋 후 처리를 확인하는 테스트는 데이터를 커밋해야 다른 스레드에서 보이므로 @Transactional 없이 실행하고,
+ *   @AfterEach 에서 deleteCommitted() 로 그 사용자들의 주문 / 환불 / 장바구니 등과 함께 지운다.
+ *
+ * 사용 예)
+ *   @Autowired TestFixtures fixtures;
+ *   User buyer = fixtures.saveBuyer("order");
+ *   Product tv = fixtures.saveProduct(brand, category, "TV", 10_000, 100);
+ *   @AfterEach void tearDown() { fixtures.deleteCommitted(); }
+ */
+@Component
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+public class TestFixtures {
+
+    // 자식 테이블부터 지운다. (비어 있는 ID 목록은 없는 ID -1 로 채워서 IN () 이 되지 않게 한다)
+    private static final String ORDERS_OF_USERS = "SELECT order_id FROM orders WHERE user_id IN (:userIds)";
+    private static final String PRODUCTS_OF_FIXTURES =
+            "SELECT product_id FROM product WHERE brand_id IN (:brandIds) OR category_id IN (:categoryIds)";
+    private static final List<String> DELETE_COMMITTED_SQL = List.of(
+            "DELETE FROM order_request WHERE user_id IN (:userIds)",
+            "DELETE FROM idempotency_key WHERE user_id IN (:userIds)",
+            "DELETE FROM refund_item WHERE refund_id IN (SELECT refund_id FROM refund WHERE order_id IN (" + ORDERS_OF_USERS + "))",
+            "DELETE FROM refund WHERE order_id IN (" + ORDERS_OF_USERS + ")",
+            "DELETE FROM payment WHERE order_id IN (" + ORDERS_OF_USERS + ")",
+            "DELETE FROM order_item WHERE order_id IN (" + ORDERS_OF_USERS + ")",
+            "DELETE FROM orders WHERE user_id IN (:userIds)",
+            "DELETE FROM cart_item WHERE cart_id IN (SELECT cart_id FROM cart WHERE user_id IN (:userIds))",
+            "DELETE FROM cart WHERE user_id IN (:userIds)",
+            "DELETE FROM address WHERE user_id IN (:userIds)",
+            "DELETE FROM payment_method WHERE user_id IN (:userIds)",
+            "DELETE FROM sales_daily_product WHERE product_id IN (" + PRODUCTS_OF_FIXTURES + ")",
+            "DELETE FROM product WHERE brand_id IN (:brandIds) OR category_id IN (:categoryIds)",
+            "DELETE FROM sales_daily_brand WHERE brand_id IN (:brandIds)",
+            "DELETE FROM brand WHERE brand_id IN (:brandIds)",
+            "DELETE FROM sales_daily_category WHERE category_id IN (:categoryIds)",
+            "DELETE FROM category WHERE category_id IN (:categoryIds)",
+            "DELETE FROM `user` WHERE user_id IN (:userIds)"
+    );
+
+    private final UserRepository userRepository;
+    private final BrandRepository brandRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final AddressRepository addressRepository;
+    private final PaymentMethodRepository paymentMethodRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final List<Integer> userIds = new ArrayList<>();
+    private final List<Integer> brandIds = new ArrayList<>();
+    private final List<Integer> categoryIds = new ArrayList<>();
+
+    public TestFixtures(UserRepository userRepository,
+                        BrandRepository brandRepository,
+                        CategoryRepository categoryRepository,
+                        ProductRepository productRepository,
+                        AddressRepository addressRepository,
+                        PaymentMethodRepository paymentMethodRepository,
+                        NamedParameterJdbcTemplate jdbcTemplate) {
+        this.userRepository = userRepository;
+        this.brandRepository = brandRepository;
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+        this.addressRepository = addressRepository;
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // ===================== 생성 ===================== //
+
+    /** 일반 사용자 (loginId = prefix + 임의 8자리) */
+    public User saveUser(String loginPrefix) {
+        return saveUser(loginPrefix, UserRole.USER);
+    }
+
+    public User saveUser(String loginPrefix, UserRole role) {
+        User user = userRepository.save(User.builder()
+                .loginId(loginPrefix + "-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("encoded-password")
+                .userName("테스트 사용자")
+                .userPhone("010-0000-0000")
+                .role(role)
+                .createdAt(LocalDateTime.now())
+                .build());
+        userIds.add(user.getUserId());
+        return user;
+    }
+
+    /** 기본 배송지와 기본 결제수단이 있어서 바로 주문할 수 있는 사용자 */
+    public User saveBuyer(String loginPrefix) {
+        User user = saveUser(loginPrefix);
+        saveDefaultAddressAndCard(user);
+        return user;
+    }
+
+    public void saveDefaultAddressAndCard(User user) {
+        addressRepository.save(Address.builder()
+                .receiverName("수령인")
+                .receiverPhone("010-1234-5678")
+                .zipcode("12345")
+                .address1("서울시 테스트구")
+                .address2("1층")
+                .isDefault("Y")
+                .user(user)
+                .build());
+
+        paymentMethodRepository.save(PaymentMethod.builder()
+                .cardCompany("TestCard")
+                .maskedCardNumber("****-****-****-0000")
+                .isDefault(true)
+                .user(user)
+                .build());
+    }
+
+    public Brand saveBrand(String name) {
+        Brand brand = brandRepository.save(Brand.builder().name(name).build());
+        brandIds.add(brand.getBrandId());
+        return brand;
+    }
+
+    public Category saveCategory(String name) {
+        Category category = categoryRepository.save(Category.builder().name(name).build());
+        categoryIds.add(category.getCategoryId());
+        return category;
+    }
+
+    /** 판매 중(ACTIVE), 설치 불필요 상품 */
+    public Product saveProduct(Brand brand, Category category, String name, int price, int stock) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .price(price)
+                .stockQuantity(stock)
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .brand(brand)
+                .category(category)
+                .build());
+    }
+
+    // ===================== 정리 ===================== //
+
+    /**
+     * 이 인스턴스로 만든 사용자 / 브랜드 / 카테고리와 거기에 딸린 커밋된 데이터를 지운다.
+     * (사용자의 주문 요청 / Idempotency-Key / 환불 / 결제 / 주문 / 장바구니 / 배송지 / 결제수단,
+     *  브랜드·카테고리의 상품과 매출 집계 행)
+     */
+    public void deleteCommitted() {
+        Map<String, List<Integer>> params = Map.of(
+                "userIds", idsOrNone(userIds),
+                "brandIds", idsOrNone(brandIds),
+                "categoryIds", idsOrNone(categoryIds));
+        DELETE_COMMITTED_SQL.forEach(sql -> jdbcTemplate.update(sql, params));
+
+        userIds.clear();
+        brandIds.clear();
+        categoryIds.clear();
+    }
+
+    private static List<Integer> idsOrNone(List<Integer> ids) {
+        return ids.isEmpty() ? List.of(-1) : List.copyOf(ids);
+    }
+}
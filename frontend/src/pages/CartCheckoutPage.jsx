@@ -1,15 +1,22 @@
 import React, { useEffect, useState } from 'react';
-import { useNavigate } from 'react-router-dom';
-import { addressAPI, paymentAPI, orderAPI } from '../services/api';
+import { useLocation, useNavigate } from 'react-router-dom';
+import { orderAPI } from '../services/api';
 
 const CartCheckoutPage = () => {
     const [addresses, setAddresses] = useState([]);
     const [payments, setPayments] = useState([]);
     const [selectedAddressId, setSelectedAddressId] = useState(null);
     const [selectedPaymentId, setSelectedPaymentId] = useState(null);
+    const [orderSummary, setOrderSummary] = useState({ totalItemCount: 0, totalPrice: 0 });
+    // 주문서에서 확인한 값에 대한 서명 토큰 (주문 제출 시 서버가 다시 조회하지 않음, 만료되면 서버가 일반 주문처럼 처리)
+    const [checkoutToken, setCheckoutToken] = useState(null);
     const [loading, setLoading] = useState(true);
+    // 이 화면에서의 주문 시도 1건 = 키 1개 (응답을 못 받고 다시 눌러도 주문은 한 번만 생성)
+    const [idempotencyKey] = useState(() => crypto.randomUUID());
 
     const navigate = useNavigate();
+    // 장바구니 화면에서 넘겨준 주문 항목 (없으면 서버에서 선택된 항목만 주문)
+    const cartItemIds = useLocation().state?.cartItemIds;
 
     useEffect(() => {
         loadCheckoutData();
@@ -17,27 +24,25 @@ const CartCheckoutPage = () => {
 
     const loadCheckoutData = async () => {
         try {
-            const [addrRes, payRes] = await Promise.all([
-                addressAPI.getMyAddresses(),
-                paymentAPI.getMyPayments(),
-            ]);
+            // 주문 항목 / 배송지 / 결제수단을 요청 한 번으로
+            const { data } = await orderAPI.getCheckoutContext(cartItemIds);
 
-            const addrList = addrRes.data || [];
-            const payList = payRes.data || [];
+            const addrList = data.addresses || [];
+            const payList = data.paymentMethods || [];
 
             setAddresses(addrList);
             setPayments(payList);
+            setOrderSummary({ totalItemCount: data.totalItemCount, totalPrice: data.totalPrice });
+            setCheckoutToken(data.checkoutToken);
 
             // 기본 배송지 선택 (없으면 첫 번째)
             if (addrList.length > 0) {
-                const defaultAddr = addrList.find((a) => a.isDefault === 'Y') || addrList[0];
-                setSelectedAddressId(defaultAddr.id);
+                setSelectedAddressId(data.defaultAddressId ?? addrList[0].id);
             }
 
             // 기본 결제수단 선택 (없으면 첫 번째)
             if (payList.length > 0) {
-                const defaultPay = payList.find((p) => p.isDefault === true) || payList[0];
-                setSelectedPaymentId(defaultPay.id);
+                setSelectedPaymentId(data.defaultPaymentMethodId ?? payList[0].id);
             }
         } catch (error) {
             console.error('체크아웃 정보 로딩 실패:', error);
@@ -78,9 +83,11 @@ const CartCheckoutPage = () => {
             const requestBody = {
                 addressId: selectedAddressId,
                 paymentMethodId: selectedPaymentId,
+                cartItemIds,
+                checkoutToken,
             };
 
-            const response = await orderAPI.createOrderFromCart(requestBody);
+            const response = await orderAPI.createOrderFromCart(requestBody, idempotencyKey);
             const createdOrder = response.data;
 
             alert(`주문이 생성되었습니다.\n주문번호: ${createdOrder.orderId}`);
@@ -145,6 +152,7 @@ const CartCheckoutPage = () => {
                     <div>
                         <h1 className="order-header__title">주문/결제</h1>
                         <p className="order-header__subtitle">
+                            주문 상품 {orderSummary.totalItemCount}개 · {orderSummary.totalPrice.toLocaleString()}원 —
                             주문에 사용할 배송지와 결제수단을 선택해주세요.
                         </p>
                     </div>
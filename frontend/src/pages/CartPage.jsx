@@ -26,6 +26,23 @@ const CartPage = () => {
         }
     };
 
+    // 수정/삭제 응답(바뀐 항목 + 새 합계)만 현재 장바구니에 반영 (목록 전체를 다시 받지 않음)
+    const applyCartChange = (change) => {
+        setCartData((prev) => {
+            if (!prev) return prev;
+            const itemList = change.removedCartItemId != null
+                ? prev.itemList.filter((item) => item.cartItemId !== change.removedCartItemId)
+                : prev.itemList.map((item) =>
+                    item.cartItemId === change.changedItem.cartItemId ? change.changedItem : item);
+            return {
+                ...prev,
+                itemList,
+                totalItemCount: change.totalItemCount,
+                totalPrice: change.totalPrice
+            };
+        });
+    };
+
     const handleQuantityChange = async (cartItemId, newQuantity) => {
         if (newQuantity < 1) {
             alert('수량은 1개 이상이어야 합니다.');
@@ -33,8 +50,8 @@ const CartPage = () => {
         }
 
         try {
-            await cartAPI.updateCartItem(cartItemId, { quantity: newQuantity });
-            loadCart();
+            const response = await cartAPI.updateCartItem(cartItemId, { quantity: newQuantity });
+            applyCartChange(response.data);
         } catch (error) {
             console.error('수량 변경 실패:', error);
             alert('수량 변경에 실패했습니다.');
@@ -45,8 +62,8 @@ const CartPage = () => {
         if (!window.confirm('이 상품을 장바구니에서 삭제하시겠습니까?')) return;
 
         try {
-            await cartAPI.removeCartItem(cartItemId);
-            loadCart();
+            const response = await cartAPI.removeCartItem(cartItemId);
+            applyCartChange(response.data);
         } catch (error) {
             console.error('상품 삭제 실패:', error);
             alert('상품 삭제에 실패했습니다.');
@@ -70,8 +87,10 @@ const CartPage = () => {
             alert('장바구니가 비어있습니다.');
             return;
         }
-        // 👉 결제 페이지로 이동
-        navigate('/cart/checkout');
+        // 👉 결제 페이지로 이동 (화면에 보이는 항목을 주문)
+        navigate('/cart/checkout', {
+            state: { cartItemIds: cartData.itemList.map((item) => item.cartItemId) }
+        });
     };
 
     if (loading) {
@@ -63,6 +63,10 @@ export const authAPI = {
 export const productAPI = {
   getAllProducts: () => 
     apiClient.get('/Product/findAll'),
+
+  // 커서 기반 상품 목록 (params: categoryId, rowCategoryId, brandId, productStatus, minPrice, maxPrice, sort, cursor, size)
+  getProductSlice: (params) =>
+    apiClient.get('/Product/list', { params }),
   
   getProductById: (productId) => 
     apiClient.get(`/Product/findOne/${productId}`),
@@ -173,15 +177,25 @@ export const cartAPI = {
         apiClient.delete('/Cart/deleteAll'),
 };
 
+// 같은 주문/환불 요청을 재시도할 때 같은 키를 보내면 서버는 처음 결과를 그대로 돌려준다.
+const idempotencyHeader = (idempotencyKey) =>
+    idempotencyKey ? { headers: { 'Idempotency-Key': idempotencyKey } } : undefined;
+
 // 주문 관련 API
 export const orderAPI = {
-    // 즉시 주문 (단일 상품)
-    createOrder: (orderData) =>
-        apiClient.post('/Order/insert', orderData),
+    // 즉시 주문 (단일 상품) - idempotencyKey 를 넘기면 재시도해도 주문은 한 번만 생성
+    createOrder: (orderData, idempotencyKey) =>
+        apiClient.post('/Order/insert', orderData, idempotencyHeader(idempotencyKey)),
+
+    // 장바구니 주문서 정보 (주문 항목 + 배송지 + 결제수단 + checkoutToken 을 한 번에)
+    getCheckoutContext: (cartItemIds) =>
+        apiClient.get('/Order/checkout-context', {
+            params: cartItemIds?.length ? { cartItemIds: cartItemIds.join(',') } : {},
+        }),
 
     // 장바구니 주문
-    createOrderFromCart: (orderData) =>
-        apiClient.post('/Order/insertFromCart', orderData),
+    createOrderFromCart: (orderData, idempotencyKey) =>
+        apiClient.post('/Order/insertFromCart', orderData, idempotencyHeader(idempotencyKey)),
 
     // 내 주문 목록
     getMyOrders: () =>
@@ -222,8 +236,8 @@ export const wishlistAPI = {
 // 환불 관련 API
 export const refundAPI = {
     // 환불 신청
-    createRefund: (refundData) =>
-        apiClient.post('/Refund/insert', refundData),
+    createRefund: (refundData, idempotencyKey) =>
+        apiClient.post('/Refund/insert', refundData, idempotencyHeader(idempotencyKey)),
 
     // 내 환불 내역
     getMyRefunds: () =>